@@ -109,7 +109,7 @@ public class CentralityAlgorithmsEstimateBusinessFacade {
             graphNameOrConfiguration,
             configuration,
             configuration.relationshipWeightProperty(),
-            new PageRankMemoryEstimateDefinition()
+            new PageRankMemoryEstimateDefinition(configuration.residualPush())
         );
     }
 }
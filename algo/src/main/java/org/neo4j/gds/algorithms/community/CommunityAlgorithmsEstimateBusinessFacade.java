@@ -171,7 +171,7 @@ public class CommunityAlgorithmsEstimateBusinessFacade {
             graphNameOrConfiguration,
             configuration,
             Optional.empty(),
-            new SccMemoryEstimateDefinition()
+            new SccMemoryEstimateDefinition(configuration.algorithm())
         );
     }
 
@@ -22,10 +22,11 @@ package org.neo4j.gds.allshortestpaths;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.config.SourceNodesConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @Configuration
-public interface AllShortestPathsConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+public interface AllShortestPathsConfig extends AlgoBaseConfig, RelationshipWeightConfig, SourceNodesConfig {
 
     static AllShortestPathsConfig of(CypherMapWrapper userInput) {
         return new AllShortestPathsConfigImpl(userInput);
@@ -21,6 +21,7 @@ package org.neo4j.gds.allshortestpaths;
 
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.msbfs.BfsConsumer;
 import org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods;
 
 import java.util.concurrent.BlockingQueue;
@@ -32,6 +33,7 @@ import java.util.stream.Stream;
  * AllShortestPaths:
  * <p>
  * multi-source parallel shortest path between each pair of nodes.
+ * If source nodes are given, only paths starting at those nodes are computed.
  * <p>
  * Due to the high memory footprint the result set would have we emit each result into
  * a blocking queue. The result stream takes elements from the queue while the workers
@@ -41,6 +43,7 @@ public class MSBFSAllShortestPaths extends MSBFSASPAlgorithm {
     private final BlockingQueue<AllShortestPathsStreamResult> resultQueue = new LinkedBlockingQueue<>();
 
     private final Graph graph;
+    private final long[] sourceNodes; // empty if all nodes are start nodes
     private final int concurrency;
     private final ExecutorService executorService;
 
@@ -48,9 +51,22 @@ public class MSBFSAllShortestPaths extends MSBFSASPAlgorithm {
         Graph graph,
         int concurrency,
         ExecutorService executorService
+    ) {
+        this(graph, new long[0], concurrency, executorService);
+    }
+
+    /**
+     * @param sourceNodes mapped ids of the start nodes, all nodes are used if empty
+     */
+    public MSBFSAllShortestPaths(
+        Graph graph,
+        long[] sourceNodes,
+        int concurrency,
+        ExecutorService executorService
     ) {
         super(ProgressTracker.NULL_TRACKER);
         this.graph = graph;
+        this.sourceNodes = sourceNodes;
         this.concurrency = concurrency;
         this.executorService = executorService;
     }
@@ -87,28 +103,37 @@ public class MSBFSAllShortestPaths extends MSBFSASPAlgorithm {
 
         @Override
         public void run() {
-            MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
+            BfsConsumer consumer = (target, distance, sources) -> {
+                while (sources.hasNext()) {
+                    long source = sources.nextLong();
+                    var result = AllShortestPathsStreamResult.result(
+                        graph.toOriginalNodeId(source),
+                        graph.toOriginalNodeId(target),
+                        distance
+                    );
+                    try {
+                        resultQueue.put(result);
+                    } catch (InterruptedException e) {
+                        // notify JVM of the interrupt
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+                }
+                progressTracker.logProgress();
+            };
+            var msbfs = sourceNodes.length == 0
+                ? MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
                     graph.nodeCount(),
                     graph,
-                    (target, distance, sources) -> {
-                        while (sources.hasNext()) {
-                            long source = sources.nextLong();
-                            var result = AllShortestPathsStreamResult.result(
-                                graph.toOriginalNodeId(source),
-                                graph.toOriginalNodeId(target),
-                                distance
-                            );
-                            try {
-                                resultQueue.put(result);
-                            } catch (InterruptedException e) {
-                                // notify JVM of the interrupt
-                                Thread.currentThread().interrupt();
-                                throw new RuntimeException(e);
-                            }
-                        }
-                        progressTracker.logProgress();
-                    }
-            ).run(concurrency, executorService);
+                    consumer
+                )
+                : MultiSourceBFSAccessMethods.aggregatedNeighborProcessing(
+                    graph.nodeCount(),
+                    graph,
+                    consumer,
+                    sourceNodes
+                );
+            msbfs.run(concurrency, executorService);
 
             resultQueue.add(AllShortestPathsStreamResult.DONE);
         }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.allshortestpaths;
 
+import com.carrotsearch.hppc.IntArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -46,6 +47,10 @@ import static org.neo4j.gds.Converters.longToIntConsumer;
  * The {@link WeightedAllShortestPaths#concurrency} value determines the count of workers
  * that should be spawned.
  * <p>
+ * If source nodes are given, only those are used as start nodes, otherwise all nodes are.
+ * Each worker keeps its traversal state for all of its start nodes and only resets the
+ * entries that the previous traversal reached. Only reachable targets are emitted.
+ * <p>
  * Due to the high memory footprint the result set would have we emit each result into
  * a blocking queue. The result stream takes elements from the queue while the workers
  * add elements to it. The result stream is limited by N^2. If the stream gets closed
@@ -55,14 +60,29 @@ public class WeightedAllShortestPaths extends MSBFSASPAlgorithm {
     private final BlockingQueue<AllShortestPathsStreamResult> resultQueue = new LinkedBlockingQueue<>();
 
     private final int nodeCount;
+    private final long[] sourceNodes; // empty if all nodes are start nodes
+    private final int sourceCount;
     private final int concurrency; // maximum number of workers
     private final ExecutorService executorService;
     private final Graph graph;
-    private final AtomicInteger counter; // nodeId counter (init with nodeCount, counts down for each node)
+    private final AtomicInteger counter; // start node counter (counts up for each start node)
+    private final AtomicInteger runningTasks;
 
     private volatile boolean outputStreamOpen;
 
     public WeightedAllShortestPaths(Graph graph, ExecutorService executorService, int concurrency) {
+        this(graph, new long[0], executorService, concurrency);
+    }
+
+    /**
+     * @param sourceNodes mapped ids of the start nodes, all nodes are used if empty
+     */
+    public WeightedAllShortestPaths(
+        Graph graph,
+        long[] sourceNodes,
+        ExecutorService executorService,
+        int concurrency
+    ) {
         super(ProgressTracker.NULL_TRACKER);
         if (!graph.hasRelationshipProperty()) {
             throw new UnsupportedOperationException("WeightedAllShortestPaths is not supported on graphs without a weight property");
@@ -70,12 +90,15 @@ public class WeightedAllShortestPaths extends MSBFSASPAlgorithm {
 
         this.graph = graph;
         this.nodeCount = Math.toIntExact(graph.nodeCount());
+        this.sourceNodes = sourceNodes;
+        this.sourceCount = sourceNodes.length == 0 ? nodeCount : sourceNodes.length;
         this.executorService = executorService;
         if (concurrency < 1) {
             throw new IllegalArgumentException("concurrency must be >0");
         }
         this.concurrency = concurrency;
         this.counter = new AtomicInteger();
+        this.runningTasks = new AtomicInteger();
     }
 
     /**
@@ -91,60 +114,84 @@ public class WeightedAllShortestPaths extends MSBFSASPAlgorithm {
         counter.set(0);
         outputStreamOpen = true;
 
-        for (int i = 0; i < concurrency; i++) {
+        int taskCount = Math.max(1, Math.min(concurrency, sourceCount));
+        runningTasks.set(taskCount);
+        for (int i = 0; i < taskCount; i++) {
             executorService.submit(new ShortestPathTask());
         }
 
         return AllShortestPathsStream.stream(resultQueue, () -> {
             outputStreamOpen = false;
             progressTracker.endSubTask();
-        })
-            .limit((long) nodeCount * nodeCount)
-            .filter(result -> result.distance != Double.POSITIVE_INFINITY);
+        });
+    }
+
+    private int startNode(int index) {
+        return sourceNodes.length == 0 ? index : Math.toIntExact(sourceNodes[index]);
     }
 
     /**
      * Dijkstra Task. Takes one element of the counter at a time
      * and starts dijkstra on it. It starts emitting results to the
      * queue once all reachable nodes have been visited.
+     * The last finishing task closes the result stream.
      */
     private final class ShortestPathTask implements Runnable {
 
         private final IntPriorityQueue queue;
         private final double[] distance;
+        private final IntArrayList visited;
         private final RelationshipIterator threadLocalGraph;
 
         private ShortestPathTask() {
             distance = new double[nodeCount];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            visited = new IntArrayList();
             queue = IntPriorityQueue.min();
             this.threadLocalGraph = graph.concurrentCopy();
         }
 
         @Override
         public void run() {
-            int startNode;
-            while (outputStreamOpen && terminationFlag.running() && (startNode = counter.getAndIncrement()) < nodeCount) {
-                compute(startNode);
-                for (int i = 0; i < nodeCount; i++) {
-                    var result = AllShortestPathsStreamResult.result(
-                        graph.toOriginalNodeId(startNode),
-                        graph.toOriginalNodeId(i),
-                        distance[i]
-                    );
-                    try {
-                        resultQueue.put(result);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException(e);
-                    }
+            try {
+                int index;
+                while (outputStreamOpen && terminationFlag.running() && (index = counter.getAndIncrement()) < sourceCount) {
+                    int startNode = startNode(index);
+                    compute(startNode);
+                    emit(startNode);
+                    progressTracker.logProgress();
+                }
+            } finally {
+                if (runningTasks.decrementAndGet() == 0) {
+                    resultQueue.add(AllShortestPathsStreamResult.DONE);
                 }
-                progressTracker.logProgress();
             }
         }
 
+        private void emit(int startNode) {
+            long originalStartNode = graph.toOriginalNodeId(startNode);
+            var buffer = visited.buffer;
+            for (int i = 0; i < visited.size(); i++) {
+                int target = buffer[i];
+                var result = AllShortestPathsStreamResult.result(
+                    originalStartNode,
+                    graph.toOriginalNodeId(target),
+                    distance[target]
+                );
+                distance[target] = Double.POSITIVE_INFINITY;
+                try {
+                    resultQueue.put(result);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            visited.elementsCount = 0;
+        }
+
         void compute(int startNode) {
-            Arrays.fill(distance, Double.POSITIVE_INFINITY);
             distance[startNode] = 0D;
+            visited.add(startNode);
             queue.add(startNode, 0D);
             while (outputStreamOpen && !queue.isEmpty()) {
                 final int node = queue.pop();
@@ -156,6 +203,9 @@ public class WeightedAllShortestPaths extends MSBFSASPAlgorithm {
                             // relax
                             final double targetDistance = weight + sourceDistance;
                             if (targetDistance < distance[target]) {
+                                if (distance[target] == Double.POSITIVE_INFINITY) {
+                                    visited.add(target);
+                                }
                                 distance[target] = targetDistance;
                                 queue.set(target, targetDistance);
                             }
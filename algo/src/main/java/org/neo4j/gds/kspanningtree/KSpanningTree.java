@@ -25,11 +25,14 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
+import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmType;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.DoubleUnaryOperator;
 
 /**
@@ -47,6 +50,9 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
     private final DoubleUnaryOperator minMax;
     private final long startNodeId;
     private final long k;
+    private final SpanningTreeAlgorithmType spanningTreeAlgorithmType;
+    private final int concurrency;
+    private final ExecutorService executorService;
 
     public KSpanningTree(
         Graph graph,
@@ -54,6 +60,19 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         long startNodeId,
         long k,
         ProgressTracker progressTracker
+    ) {
+        this(graph, minMax, startNodeId, k, SpanningTreeAlgorithmType.PRIM, 1, DefaultPool.INSTANCE, progressTracker);
+    }
+
+    public KSpanningTree(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        long k,
+        SpanningTreeAlgorithmType spanningTreeAlgorithmType,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -61,26 +80,35 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         this.startNodeId = startNodeId;
 
         this.k = k;
+        this.spanningTreeAlgorithmType = spanningTreeAlgorithmType;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
     }
 
     @Override
     public SpanningTree compute() {
         progressTracker.beginSubTask();
-        Prim prim = new Prim(
-            graph,
-            minMax,
-            startNodeId,
-            progressTracker
-        );
+        var spanningTreeAlgorithm = spanningTreeAlgorithm();
 
-        prim.setTerminationFlag(getTerminationFlag());
-        SpanningTree spanningTree = prim.compute();
+        spanningTreeAlgorithm.setTerminationFlag(getTerminationFlag());
+        SpanningTree spanningTree = spanningTreeAlgorithm.compute();
 
         var outputTree = growApproach(spanningTree);
         progressTracker.endSubTask();
         return outputTree;
     }
 
+    private Algorithm<SpanningTree> spanningTreeAlgorithm() {
+        return spanningTreeAlgorithmType.create(
+            graph,
+            minMax,
+            startNodeId,
+            concurrency,
+            executorService,
+            progressTracker
+        );
+    }
+
     @NotNull
     private HugeLongPriorityQueue createPriorityQueue(long parentSize, boolean pruning) {
         boolean minQueue = minMax == Prim.MIN_OPERATOR;
@@ -28,6 +28,6 @@ public interface KSpanningTreeBaseConfig extends SpanningTreeBaseConfig {
 
     @Configuration.Ignore
     default KSpanningTreeParameters toKSpanningTreeParameters() {
-        return new KSpanningTreeParameters(objective(), sourceNode(), k());
+        return new KSpanningTreeParameters(objective(), sourceNode(), k(), algorithm(), concurrency());
     }
 }
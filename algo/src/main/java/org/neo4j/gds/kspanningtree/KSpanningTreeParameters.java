@@ -20,9 +20,16 @@
 package org.neo4j.gds.kspanningtree;
 
 import org.neo4j.gds.annotation.Parameters;
+import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmType;
 
 import java.util.function.DoubleUnaryOperator;
 
 @Parameters
-public record KSpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode, long k) {
+public record KSpanningTreeParameters(
+    DoubleUnaryOperator objective,
+    long sourceNode,
+    long k,
+    SpanningTreeAlgorithmType algorithm,
+    int concurrency
+) {
 }
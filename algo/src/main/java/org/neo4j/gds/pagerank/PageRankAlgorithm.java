@@ -34,11 +34,12 @@ import org.neo4j.gds.scaling.NoneScaler;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 
 public class PageRankAlgorithm extends Algorithm<PageRankResult> {
 
-    private final Pregel<PageRankConfig> pregelJob;
+    private final Function<TerminationFlag, PageRankResult> computation;
     private final Graph graph;
     private final PageRankAlgorithmFactory.Mode mode;
     private final PageRankConfig config;
@@ -51,34 +52,64 @@ public class PageRankAlgorithm extends Algorithm<PageRankResult> {
         PageRankAlgorithmFactory.Mode mode,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        this(
+            graph,
+            config,
+            pregelJob(Pregel.create(graph, config, pregelComputation, executorService, progressTracker)),
+            mode,
+            executorService,
+            progressTracker
+        );
+    }
+
+    PageRankAlgorithm(
+        Graph graph,
+        PageRankConfig config,
+        ResidualPushPageRank residualPushPageRank,
+        PageRankAlgorithmFactory.Mode mode,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, config, residualPushPageRank::compute, mode, executorService, progressTracker);
+    }
+
+    private PageRankAlgorithm(
+        Graph graph,
+        PageRankConfig config,
+        Function<TerminationFlag, PageRankResult> computation,
+        PageRankAlgorithmFactory.Mode mode,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
-        this.pregelJob = Pregel.create(graph, config, pregelComputation, executorService, progressTracker);
+        this.computation = computation;
         this.mode = mode;
         this.executorService = executorService;
         this.config = config;
         this.graph = graph;
     }
 
-    @Override
-    public void setTerminationFlag(TerminationFlag terminationFlag) {
-        super.setTerminationFlag(terminationFlag);
-        pregelJob.setTerminationFlag(terminationFlag);
+    private static Function<TerminationFlag, PageRankResult> pregelJob(Pregel<PageRankConfig> pregelJob) {
+        return terminationFlag -> {
+            pregelJob.setTerminationFlag(terminationFlag);
+            var pregelResult = pregelJob.run();
+
+            return new PageRankResult(
+                pregelResult.nodeValues().doubleProperties(PageRankComputation.PAGE_RANK),
+                pregelResult.ranIterations(),
+                pregelResult.didConverge()
+            );
+        };
     }
 
     @Override
     public PageRankResult compute() {
-        var pregelResult = pregelJob.run();
+        var result = computation.apply(terminationFlag);
 
-        var scores = pregelResult.nodeValues().doubleProperties(PageRankComputation.PAGE_RANK);
+        scaleScores(result.scores());
 
-        scaleScores(scores);
-
-        return new PageRankResult(
-            scores,
-            pregelResult.ranIterations(),
-            pregelResult.didConverge()
-        );
+        return result;
     }
 
     private void scaleScores(HugeDoubleArray scores) {
@@ -26,6 +26,7 @@ import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelComputation;
+import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -39,6 +40,7 @@ import java.util.function.LongToDoubleFunction;
 
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.ARTICLE_RANK;
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.EIGENVECTOR;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends GraphAlgorithmFactory<PageRankAlgorithm, CONFIG> {
 
@@ -91,6 +93,15 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
         CONFIG configuration,
         ProgressTracker progressTracker
     ) {
+        if (mode != Mode.PAGE_RANK) {
+            if (configuration.isIncremental()) {
+                throw unsupportedParameter(SeedConfig.SEED_PROPERTY_KEY);
+            }
+            if (configuration.residualPush()) {
+                throw unsupportedParameter("residualPush");
+            }
+        }
+
         PregelComputation<PageRankConfig> computation;
 
         var degreeFunction = degreeFunction(
@@ -117,6 +128,22 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
                 : (nodeId) -> 1;
 
             computation = new EigenvectorComputation(graph.nodeCount(), configuration, mappedSourceNodes, degreeFunction);
+        } else if (configuration.residualPush()) {
+            return new PageRankAlgorithm(
+                graph,
+                configuration,
+                new ResidualPushPageRank(
+                    graph,
+                    configuration,
+                    mappedSourceNodes,
+                    degreeFunction,
+                    DefaultPool.INSTANCE,
+                    progressTracker
+                ),
+                mode,
+                DefaultPool.INSTANCE,
+                progressTracker
+            );
         } else {
             computation = new PageRankComputation(configuration, mappedSourceNodes, degreeFunction);
         }
@@ -133,9 +160,20 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (mode == Mode.PAGE_RANK && config.residualPush()) {
+            return ResidualPushPageRank.progressTask(graph, config, taskName());
+        }
         return Pregel.progressTask(graph, config, taskName());
     }
 
+    private IllegalArgumentException unsupportedParameter(String parameter) {
+        return new IllegalArgumentException(formatWithLocale(
+            "The `%s` parameter is only supported for PageRank, not for %s.",
+            parameter,
+            mode.taskName()
+        ));
+    }
+
     @NotNull
     private LongToDoubleFunction degreeFunction(
         Graph graph,
@@ -157,6 +195,6 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
 
     @Override
     public MemoryEstimation memoryEstimation(PageRankConfig configuration) {
-        return new PageRankMemoryEstimateDefinition().memoryEstimation();
+        return new PageRankMemoryEstimateDefinition(configuration.residualPush()).memoryEstimation();
     }
 }
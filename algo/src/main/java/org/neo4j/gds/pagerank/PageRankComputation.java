@@ -20,6 +20,7 @@
 package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.MemoryEstimateDefinition;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Messages;
@@ -43,6 +44,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     private final double dampingFactor;
     private final double tolerance;
     private final double alpha;
+    private final @Nullable String seedProperty;
 
     PageRankComputation(
         PageRankConfig config,
@@ -55,6 +57,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.seedProperty = config.seedProperty();
     }
 
     @Override
@@ -68,7 +71,17 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     }
 
     private double initialValue(InitContext<PageRankConfig> context) {
-        if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
+        if (seedProperty != null) {
+            var seedValue = context.nodeProperties(seedProperty).doubleValue(context.nodeId());
+            if (!Double.isNaN(seedValue)) {
+                return seedValue;
+            }
+        }
+        return teleportValue(context.nodeId());
+    }
+
+    private double teleportValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
             return alpha;
         }
         return 0;
@@ -85,10 +98,16 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
                 sum += message;
             }
             delta = dampingFactor * sum;
+            if (seedProperty != null && context.superstep() == 1) {
+                // When warm-starting, the initial superstep propagates the seeded scores instead of
+                // the teleport value. The first delta is therefore the residual of the seeded score,
+                // which is close to zero for nodes that were not affected by graph updates.
+                delta = teleportValue(context.nodeId()) + delta - rank;
+            }
             context.setNodeValue(PAGE_RANK, rank + delta);
         }
 
-        if (delta > tolerance || context.isInitialSuperstep()) {
+        if (Math.abs(delta) > tolerance || context.isInitialSuperstep()) {
             var degree = degreeFunction.applyAsDouble(context.nodeId());
             if (degree > 0) {
                 context.sendToNeighbors(delta / degree);
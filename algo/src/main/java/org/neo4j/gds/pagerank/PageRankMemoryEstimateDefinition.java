@@ -22,13 +22,36 @@ package org.neo4j.gds.pagerank;
 import org.neo4j.gds.MemoryEstimateDefinition;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 
 import java.util.Map;
 
 public class PageRankMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final boolean residualPush;
+
+    public PageRankMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public PageRankMemoryEstimateDefinition(boolean residualPush) {
+        this.residualPush = residualPush;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (residualPush) {
+            return MemoryEstimations.builder(ResidualPushPageRank.class.getSimpleName())
+                .perNode("scores", HugeDoubleArray::memoryEstimation)
+                .perNode("residuals", HugeAtomicDoubleArray::memoryEstimation)
+                .perNode("frontier", HugeAtomicBitSet::memoryEstimation)
+                .perNode("next frontier", HugeAtomicBitSet::memoryEstimation)
+                .build();
+        }
         return Pregel.memoryEstimation(
             Map.of(PageRankComputation.PAGE_RANK, ValueType.DOUBLE),
             false,
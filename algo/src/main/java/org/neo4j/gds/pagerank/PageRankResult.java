@@ -39,6 +39,10 @@ public class PageRankResult implements CentralityAlgorithmResult {
         this.didConverge = didConverge;
     }
 
+    HugeDoubleArray scores() {
+        return scores;
+    }
+
     public int iterations() {
         return ranIterations;
     }
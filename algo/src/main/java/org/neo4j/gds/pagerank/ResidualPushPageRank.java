@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Computes PageRank by pushing per-node residuals instead of exchanging messages in synchronous supersteps.
+ * <p>
+ * Every node holds a score and a residual, the portion of its score that has not been propagated yet.
+ * In each iteration, only nodes with a residual above the tolerance are visited. They add the residual
+ * to their score and distribute the damped residual to their neighbours. Residuals pushed to nodes that
+ * are visited later in the same iteration are consumed right away, similar to Gauss-Seidel iteration.
+ * <p>
+ * The fixed point is the same as the one of {@link PageRankComputation}, but converged nodes stop
+ * traversing their relationships, which saves most of the work on graphs with skewed degree distributions.
+ */
+final class ResidualPushPageRank {
+
+    private final Graph graph;
+    private final LongSet sourceNodes;
+    private final LongToDoubleFunction degreeFunction;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+
+    private final int concurrency;
+    private final int maxIterations;
+    private final double dampingFactor;
+    private final double tolerance;
+    private final double alpha;
+    private final boolean hasSourceNodes;
+    private final boolean weighted;
+    private final Optional<String> seedProperty;
+
+    private final HugeDoubleArray scores;
+    private final HugeAtomicDoubleArray residuals;
+    // the nodes to visit in the current and in the next iteration, swapped and cleared after every iteration
+    private HugeAtomicBitSet frontier;
+    private HugeAtomicBitSet nextFrontier;
+    private final LongAdder nextFrontierSize;
+
+    ResidualPushPageRank(
+        Graph graph,
+        PageRankConfig config,
+        LongSet sourceNodes,
+        LongToDoubleFunction degreeFunction,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.sourceNodes = sourceNodes;
+        this.degreeFunction = degreeFunction;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.concurrency = config.concurrency();
+        this.maxIterations = config.maxIterations();
+        this.dampingFactor = config.dampingFactor();
+        this.tolerance = config.tolerance();
+        this.alpha = 1 - dampingFactor;
+        this.hasSourceNodes = !sourceNodes.isEmpty();
+        this.weighted = config.hasRelationshipWeightProperty();
+        this.seedProperty = Optional.ofNullable(config.seedProperty());
+        this.scores = HugeDoubleArray.newArray(graph.nodeCount());
+        this.residuals = HugeAtomicDoubleArray.of(
+            graph.nodeCount(),
+            ParallelDoublePageCreator.passThrough(concurrency)
+        );
+        this.frontier = HugeAtomicBitSet.create(graph.nodeCount());
+        this.nextFrontier = HugeAtomicBitSet.create(graph.nodeCount());
+        this.nextFrontierSize = new LongAdder();
+    }
+
+    static Task progressTask(Graph graph, PageRankConfig config, String taskName) {
+        return Tasks.task(
+            taskName,
+            Tasks.leaf("Initialize residuals", graph.nodeCount()),
+            Tasks.iterativeDynamic(
+                "Push residuals",
+                () -> List.of(Tasks.leaf("Push iteration")),
+                config.maxIterations()
+            )
+        );
+    }
+
+    PageRankResult compute(TerminationFlag terminationFlag) {
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask("Initialize residuals");
+        initialize(terminationFlag);
+        var frontierSize = swapFrontiers();
+        progressTracker.endSubTask("Initialize residuals");
+
+        progressTracker.beginSubTask("Push residuals");
+        int iterations = 0;
+        while (frontierSize > 0 && iterations < maxIterations) {
+            progressTracker.beginSubTask("Push iteration", frontierSize);
+            push(terminationFlag);
+            frontierSize = swapFrontiers();
+            progressTracker.endSubTask("Push iteration");
+            iterations++;
+        }
+        progressTracker.endSubTask("Push residuals");
+
+        progressTracker.endSubTask();
+
+        return new PageRankResult(scores, iterations, frontierSize == 0);
+    }
+
+    private void initialize(TerminationFlag terminationFlag) {
+        // A cold start begins with a zero score and the teleport value as residual.
+        // A warm start begins with the seeded score, so its residual is the difference
+        // between the seed and the score the seeds of all neighbours would imply.
+        runPartitioned(terminationFlag, partition -> {
+            var localGraph = graph.concurrentCopy();
+            var seedValues = seedProperty.map(graph::nodeProperties);
+            partition.consume(nodeId -> {
+                var teleport = teleportValue(nodeId);
+                var seedValue = seedValues.map(values -> values.doubleValue(nodeId)).orElse(Double.NaN);
+                if (Double.isNaN(seedValue)) {
+                    residuals.getAndAdd(nodeId, teleport);
+                } else {
+                    scores.set(nodeId, seedValue);
+                    residuals.getAndAdd(nodeId, teleport - seedValue);
+                    distribute(localGraph, nodeId, seedValue, false);
+                }
+            });
+            progressTracker.logProgress(partition.nodeCount());
+        });
+
+        runPartitioned(terminationFlag, partition -> partition.consume(nodeId -> {
+            if (Math.abs(residuals.get(nodeId)) > tolerance) {
+                addToNextFrontier(nodeId);
+            }
+        }));
+    }
+
+    private void push(TerminationFlag terminationFlag) {
+        runPartitioned(terminationFlag, partition -> {
+            var localGraph = graph.concurrentCopy();
+            long pushedNodes = 0;
+            long endNode = partition.startNode() + partition.nodeCount();
+            // only the set bits of the partition are visited, empty words of the frontier are skipped
+            for (
+                long nodeId = frontier.nextSetBit(partition.startNode());
+                nodeId != -1 && nodeId < endNode;
+                nodeId = frontier.nextSetBit(nodeId + 1)
+            ) {
+                // the residual might have been pushed already earlier in this iteration
+                if (Math.abs(residuals.get(nodeId)) <= tolerance) {
+                    continue;
+                }
+                var residual = residuals.getAndReplace(nodeId, 0);
+                scores.addTo(nodeId, residual);
+                distribute(localGraph, nodeId, residual, true);
+                pushedNodes++;
+            }
+            progressTracker.logProgress(pushedNodes);
+        });
+    }
+
+    /**
+     * Makes the next frontier the current one and clears the previous frontier for reuse.
+     *
+     * @return the number of nodes in the new frontier
+     */
+    private long swapFrontiers() {
+        var previousFrontier = frontier;
+        frontier = nextFrontier;
+        nextFrontier = previousFrontier;
+        nextFrontier.clear();
+        return nextFrontierSize.sumThenReset();
+    }
+
+    private void distribute(Graph localGraph, long nodeId, double value, boolean updateFrontier) {
+        var degree = degreeFunction.applyAsDouble(nodeId);
+        if (degree <= 0) {
+            return;
+        }
+        var delta = dampingFactor * value / degree;
+        if (weighted) {
+            localGraph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
+                addResidual(targetNodeId, delta * weight, updateFrontier);
+                return true;
+            });
+        } else {
+            localGraph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+                addResidual(targetNodeId, delta, updateFrontier);
+                return true;
+            });
+        }
+    }
+
+    private void addResidual(long nodeId, double delta, boolean updateFrontier) {
+        var residual = residuals.getAndAdd(nodeId, delta) + delta;
+        if (updateFrontier && Math.abs(residual) > tolerance) {
+            addToNextFrontier(nodeId);
+        }
+    }
+
+    private void addToNextFrontier(long nodeId) {
+        if (!nextFrontier.getAndSet(nodeId)) {
+            nextFrontierSize.increment();
+        }
+    }
+
+    private double teleportValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
+            return alpha;
+        }
+        return 0;
+    }
+
+    private void runPartitioned(TerminationFlag terminationFlag, Consumer<Partition> task) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> task.accept(partition),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+}
@@ -34,6 +34,7 @@ public class AStarMemoryEstimateDefinition implements MemoryEstimateDefinition {
         return MemoryEstimations.builder(AStar.class)
             .add("Dijkstra",
                 new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
+                    false,
                     false,
                     false
                 )).memoryEstimation()
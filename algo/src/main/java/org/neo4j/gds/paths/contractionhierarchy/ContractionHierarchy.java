@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.IntDoubleHashMap;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.allshortestpaths.IntPriorityQueue;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.collections.ArrayUtil;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds a contraction hierarchy for point-to-point shortest path queries.
+ * <p>
+ * Nodes are contracted one by one, in the order of their edge difference.
+ * Contracting a node removes it from the remaining graph and adds a shortcut between two of its neighbours
+ * whenever the path through the node is the only shortest path between them that a local witness search finds.
+ * Copying the graph into the remaining graph and computing the initial order run in parallel,
+ * the contraction itself is sequential, as every contraction changes the remaining graph.
+ * <p>
+ * The result is a single relationship type that stores every edge at its lower ranked end node,
+ * so that both searches of a query only follow outgoing relationships towards higher ranked nodes.
+ * Each relationship has three properties:
+ * <ul>
+ *     <li>{@value WEIGHT_PROPERTY}: the weight of the edge or shortcut,</li>
+ *     <li>{@value VIA_PROPERTY}: the contracted node a shortcut skips, or {@code -1} for original edges,</li>
+ *     <li>{@value REVERSED_PROPERTY}: {@code 1} if the edge points from the higher to the lower ranked node
+ *     and is stored reversed, {@code 0} otherwise.</li>
+ * </ul>
+ */
+public final class ContractionHierarchy extends Algorithm<ContractionHierarchyResult> {
+
+    public static final String WEIGHT_PROPERTY = "weight";
+    public static final String VIA_PROPERTY = "via";
+    public static final String REVERSED_PROPERTY = "reversed";
+    public static final List<String> PROPERTY_KEYS = List.of(WEIGHT_PROPERTY, VIA_PROPERTY, REVERSED_PROPERTY);
+
+    static final int NO_VIA = -1;
+
+    private final CSRGraph graph;
+    private final IdMap rootNodes;
+    private final RelationshipType hierarchyType;
+    private final int witnessSearchLimit;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final int nodeCount;
+
+    // the remaining graph, contracted nodes are removed from it
+    private final Edges[] outgoing;
+    private final Edges[] incoming;
+    private final int[] contractedNeighbours;
+
+    private long shortcutCount;
+
+    public ContractionHierarchy(
+        CSRGraph graph,
+        IdMap rootNodes,
+        RelationshipType hierarchyType,
+        int witnessSearchLimit,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (graph.nodeCount() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Contraction hierarchies support at most %d nodes, but the graph has %d nodes.",
+                Integer.MAX_VALUE,
+                graph.nodeCount()
+            ));
+        }
+        this.graph = graph;
+        this.rootNodes = rootNodes;
+        this.hierarchyType = hierarchyType;
+        this.witnessSearchLimit = witnessSearchLimit;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.nodeCount = (int) graph.nodeCount();
+        this.outgoing = new Edges[nodeCount];
+        this.incoming = new Edges[nodeCount];
+        this.contractedNeighbours = new int[nodeCount];
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public ContractionHierarchyResult compute() {
+        progressTracker.beginSubTask("ContractionHierarchy");
+
+        initializeRemainingGraph();
+
+        progressTracker.beginSubTask("Order nodes");
+        var priorities = new double[nodeCount];
+        runInParallel((start, end) -> {
+            var witnessSearch = new WitnessSearch();
+            for (int node = start; node < end; node++) {
+                priorities[node] = priority(node, witnessSearch);
+                progressTracker.logProgress();
+            }
+        });
+        var order = HugeLongPriorityQueue.min(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            order.add(node, priorities[node]);
+        }
+        progressTracker.endSubTask("Order nodes");
+
+        progressTracker.beginSubTask("Contract nodes");
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(rootNodes)
+            .relationshipType(hierarchyType)
+            .orientation(Orientation.NATURAL)
+            .addAllPropertyConfigs(PROPERTY_KEYS.stream()
+                .map(key -> GraphFactory.PropertyConfig.of(key, Aggregation.NONE, DefaultValue.of(0D)))
+                .collect(Collectors.toList()))
+            .build();
+
+        var witnessSearch = new WitnessSearch();
+        while (!order.isEmpty()) {
+            terminationFlag.assertRunning();
+            int node = (int) order.pop();
+            // lazy updates: the priority may have changed since the node was queued
+            double priority = priority(node, witnessSearch);
+            if (!order.isEmpty() && priority > order.cost(order.top())) {
+                order.add(node, priority);
+                continue;
+            }
+            contract(node, relationshipsBuilder, witnessSearch);
+            progressTracker.logProgress();
+        }
+        order.release();
+        progressTracker.endSubTask("Contract nodes");
+
+        var result = new ContractionHierarchyResult(
+            relationshipsBuilder.build(),
+            shortcutCount,
+            graph.relationshipTopologies().keySet()
+        );
+        progressTracker.endSubTask("ContractionHierarchy");
+        return result;
+    }
+
+    /**
+     * Copies the outgoing relationships of every node in parallel, keeping the cheapest of parallel relationships,
+     * and derives the incoming relationships from them.
+     */
+    private void initializeRemainingGraph() {
+        runInParallel((start, end) -> {
+            var localGraph = graph.concurrentCopy();
+            for (int node = start; node < end; node++) {
+                var edges = new Edges(localGraph.degree(node), true);
+                localGraph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    if (source != target) {
+                        edges.append((int) target, weight, NO_VIA);
+                    }
+                    return true;
+                });
+                edges.keepCheapestParallelEdges();
+                outgoing[node] = edges;
+            }
+        });
+
+        var inDegrees = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            var edges = outgoing[node];
+            for (int i = 0; i < edges.size; i++) {
+                inDegrees[edges.nodes[i]]++;
+            }
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            incoming[node] = new Edges(inDegrees[node], false);
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            var edges = outgoing[node];
+            for (int i = 0; i < edges.size; i++) {
+                incoming[edges.nodes[i]].append(node, edges.weights[i], NO_VIA);
+            }
+        }
+    }
+
+    /**
+     * Splits the nodes into ranges and processes them using the configured concurrency.
+     */
+    private void runInParallel(NodeRangeConsumer consumer) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> consumer.accept(
+                (int) partition.startNode(),
+                (int) (partition.startNode() + partition.nodeCount())
+            ),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    /**
+     * Adds the edge to the remaining graph, unless an edge with a lower weight already exists.
+     */
+    private boolean addEdge(int source, int target, double weight, int via) {
+        var sourceEdges = outgoing[source];
+        int index = sourceEdges.indexOf(target);
+        if (index == -1) {
+            sourceEdges.append(target, weight, via);
+            incoming[target].append(source, weight, NO_VIA);
+            return true;
+        }
+        if (sourceEdges.weights[index] <= weight) {
+            return false;
+        }
+        sourceEdges.set(index, weight, via);
+        var targetEdges = incoming[target];
+        targetEdges.set(targetEdges.indexOf(source), weight, NO_VIA);
+        return true;
+    }
+
+    /**
+     * The edge difference of contracting the node, plus the number of neighbours that are already contracted,
+     * which spreads the contraction uniformly over the graph.
+     */
+    private double priority(int node, WitnessSearch witnessSearch) {
+        witnessSearch.collectShortcuts(node);
+        int removedEdges = outgoing[node].size + incoming[node].size;
+        return witnessSearch.shortcutSources.size() - removedEdges + contractedNeighbours[node];
+    }
+
+    private void contract(int node, RelationshipsBuilder relationshipsBuilder, WitnessSearch witnessSearch) {
+        witnessSearch.collectShortcuts(node);
+
+        long rootNode = graph.toRootNodeId(node);
+        var nodeOutgoing = outgoing[node];
+        for (int i = 0; i < nodeOutgoing.size; i++) {
+            int target = nodeOutgoing.nodes[i];
+            add(relationshipsBuilder, rootNode, target, nodeOutgoing.weights[i], nodeOutgoing.via[i], 0);
+            incoming[target].remove(node);
+            contractedNeighbours[target]++;
+        }
+        var nodeIncoming = incoming[node];
+        for (int i = 0; i < nodeIncoming.size; i++) {
+            int source = nodeIncoming.nodes[i];
+            var sourceOutgoing = outgoing[source];
+            int index = sourceOutgoing.indexOf(node);
+            add(relationshipsBuilder, rootNode, source, nodeIncoming.weights[i], sourceOutgoing.via[index], 1);
+            sourceOutgoing.removeAt(index);
+            contractedNeighbours[source]++;
+        }
+
+        for (int i = 0; i < witnessSearch.shortcutSources.size(); i++) {
+            if (addEdge(
+                witnessSearch.shortcutSources.get(i),
+                witnessSearch.shortcutTargets.get(i),
+                witnessSearch.shortcutCosts.get(i),
+                node
+            )) {
+                shortcutCount++;
+            }
+        }
+
+        outgoing[node] = null;
+        incoming[node] = null;
+    }
+
+    private void add(
+        RelationshipsBuilder relationshipsBuilder,
+        long rootNode,
+        int neighbour,
+        double weight,
+        int via,
+        int reversed
+    ) {
+        long rootNeighbour = graph.toRootNodeId(neighbour);
+        double rootVia = via == NO_VIA ? NO_VIA : graph.toRootNodeId(via);
+        relationshipsBuilder.addFromInternal(rootNode, rootNeighbour, new double[]{weight, rootVia, reversed});
+    }
+
+    @FunctionalInterface
+    private interface NodeRangeConsumer {
+        void accept(int start, int end);
+    }
+
+    /**
+     * The edges of a node in the remaining graph, in no particular order.
+     * Only outgoing edges track the node a shortcut skips.
+     */
+    static final class Edges {
+        private int[] nodes;
+        private double[] weights;
+        // null for incoming edges
+        private int[] via;
+        private int size;
+
+        Edges(int capacity, boolean trackVia) {
+            this.nodes = new int[capacity];
+            this.weights = new double[capacity];
+            this.via = trackVia ? new int[capacity] : null;
+        }
+
+        int indexOf(int node) {
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void append(int node, double weight, int viaNode) {
+            if (size == nodes.length) {
+                int newCapacity = ArrayUtil.oversize(size + 1, Integer.BYTES);
+                nodes = Arrays.copyOf(nodes, newCapacity);
+                weights = Arrays.copyOf(weights, newCapacity);
+                if (via != null) {
+                    via = Arrays.copyOf(via, newCapacity);
+                }
+            }
+            nodes[size] = node;
+            set(size, weight, viaNode);
+            size++;
+        }
+
+        void set(int index, double weight, int viaNode) {
+            weights[index] = weight;
+            if (via != null) {
+                via[index] = viaNode;
+            }
+        }
+
+        void remove(int node) {
+            int index = indexOf(node);
+            if (index != -1) {
+                removeAt(index);
+            }
+        }
+
+        void removeAt(int index) {
+            size--;
+            nodes[index] = nodes[size];
+            weights[index] = weights[size];
+            if (via != null) {
+                via[index] = via[size];
+            }
+        }
+
+        /**
+         * Sorts the edges by node and drops all but the cheapest edge to each node.
+         */
+        void keepCheapestParallelEdges() {
+            if (size < 2) {
+                return;
+            }
+            var currentNodes = nodes;
+            var currentWeights = weights;
+            int[] order = IndirectSort.mergesort(
+                0,
+                size,
+                (a, b) -> Integer.compare(currentNodes[a], currentNodes[b])
+            );
+            var sortedNodes = new int[size];
+            var sortedWeights = new double[size];
+            int newSize = 0;
+            for (int index : order) {
+                if (newSize > 0 && sortedNodes[newSize - 1] == currentNodes[index]) {
+                    sortedWeights[newSize - 1] = Math.min(sortedWeights[newSize - 1], currentWeights[index]);
+                } else {
+                    sortedNodes[newSize] = currentNodes[index];
+                    sortedWeights[newSize] = currentWeights[index];
+                    newSize++;
+                }
+            }
+            // only original edges exist at this point
+            nodes = newSize == size ? sortedNodes : Arrays.copyOf(sortedNodes, newSize);
+            weights = newSize == size ? sortedWeights : Arrays.copyOf(sortedWeights, newSize);
+            if (via != null) {
+                via = new int[newSize];
+                Arrays.fill(via, NO_VIA);
+            }
+            size = newSize;
+        }
+    }
+
+    /**
+     * Finds the shortcuts required to contract a node. Each thread uses its own instance.
+     */
+    private final class WitnessSearch {
+        private final IntPriorityQueue queue = IntPriorityQueue.min();
+        private final IntDoubleHashMap distances = new IntDoubleHashMap();
+        private final IntArrayList shortcutSources = new IntArrayList();
+        private final IntArrayList shortcutTargets = new IntArrayList();
+        private final DoubleArrayList shortcutCosts = new DoubleArrayList();
+
+        /**
+         * Collects the shortcuts that contracting the node requires into the shortcut buffers.
+         */
+        void collectShortcuts(int node) {
+            shortcutSources.clear();
+            shortcutTargets.clear();
+            shortcutCosts.clear();
+
+            var nodeOutgoing = outgoing[node];
+            var nodeIncoming = incoming[node];
+
+            double maxOutgoingWeight = 0;
+            for (int i = 0; i < nodeOutgoing.size; i++) {
+                maxOutgoingWeight = Math.max(maxOutgoingWeight, nodeOutgoing.weights[i]);
+            }
+
+            for (int i = 0; i < nodeIncoming.size; i++) {
+                int source = nodeIncoming.nodes[i];
+                double incomingWeight = nodeIncoming.weights[i];
+                search(source, node, incomingWeight + maxOutgoingWeight);
+                for (int j = 0; j < nodeOutgoing.size; j++) {
+                    int target = nodeOutgoing.nodes[j];
+                    if (target == source) {
+                        continue;
+                    }
+                    double cost = incomingWeight + nodeOutgoing.weights[j];
+                    if (distances.getOrDefault(target, Double.POSITIVE_INFINITY) > cost) {
+                        shortcutSources.add(source);
+                        shortcutTargets.add(target);
+                        shortcutCosts.add(cost);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Dijkstra from the source in the remaining graph without the excluded node.
+         * Stops after the search limit or once all paths exceed the maximum cost.
+         */
+        private void search(int source, int excludedNode, double maxCost) {
+            queue.clear();
+            distances.clear();
+
+            distances.put(source, 0);
+            queue.add(source, 0);
+
+            int settled = 0;
+            while (!queue.isEmpty() && settled < witnessSearchLimit) {
+                int node = queue.pop();
+                double cost = distances.get(node);
+                if (cost > maxCost) {
+                    break;
+                }
+                settled++;
+                var nodeOutgoing = outgoing[node];
+                for (int i = 0; i < nodeOutgoing.size; i++) {
+                    int target = nodeOutgoing.nodes[i];
+                    if (target == excludedNode) {
+                        continue;
+                    }
+                    double newCost = cost + nodeOutgoing.weights[i];
+                    if (newCost < distances.getOrDefault(target, Double.POSITIVE_INFINITY)) {
+                        distances.put(target, newCost);
+                        queue.set(target, newCost);
+                    }
+                }
+            }
+        }
+    }
+}
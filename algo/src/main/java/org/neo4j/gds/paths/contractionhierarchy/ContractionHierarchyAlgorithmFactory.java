@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+public class ContractionHierarchyAlgorithmFactory extends GraphStoreAlgorithmFactory<ContractionHierarchy, ContractionHierarchyMutateConfig> {
+
+    @Override
+    public ContractionHierarchy build(
+        GraphStore graphStore,
+        ContractionHierarchyMutateConfig configuration,
+        ProgressTracker progressTracker
+    ) {
+        var graph = (CSRGraph) graphStore.getGraph(
+            configuration.nodeLabelIdentifiers(graphStore),
+            configuration.internalRelationshipTypes(graphStore),
+            configuration.relationshipWeightProperty()
+        );
+        return new ContractionHierarchy(
+            graph,
+            graphStore.nodes(),
+            RelationshipType.of(configuration.mutateRelationshipType()),
+            configuration.witnessSearchLimit(),
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(ContractionHierarchyMutateConfig configuration) {
+        return new ContractionHierarchyMemoryEstimateDefinition(configuration.witnessSearchLimit()).memoryEstimation();
+    }
+
+    @Override
+    public Task progressTask(GraphStore graphStore, ContractionHierarchyMutateConfig config) {
+        return Tasks.task(
+            taskName(),
+            Tasks.leaf("Order nodes", graphStore.nodeCount()),
+            Tasks.leaf("Contract nodes", graphStore.nodeCount())
+        );
+    }
+
+    @Override
+    public String taskName() {
+        return "ContractionHierarchy";
+    }
+}
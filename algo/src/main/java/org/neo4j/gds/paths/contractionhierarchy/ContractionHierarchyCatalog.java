@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps track of the relationship types each contraction hierarchy was built from.
+ * <p>
+ * For every relationship type a hierarchy was built from, the graph store holds a graph property
+ * with a fingerprint of the relationships of that type, including their properties.
+ * The fingerprint only depends on original node ids, so it survives rebuilding the graph store.
+ * A hierarchy is up to date as long as the fingerprints of its base relationship types did not change.
+ */
+public final class ContractionHierarchyCatalog {
+
+    static final String GRAPH_PROPERTY_PREFIX = "contractionHierarchy";
+
+    // Computing a fingerprint visits all relationships of a type. Adjacency lists are replaced
+    // whenever the relationships of a type change, so they are a safe key for caching them.
+    private static final Map<AdjacencyList, Long> FINGERPRINTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ContractionHierarchyCatalog() {}
+
+    /**
+     * Stores the fingerprints of the base relationship types of the hierarchy in the graph store,
+     * replacing the ones of an earlier hierarchy with the same relationship type.
+     */
+    public static void register(
+        GraphStore graphStore,
+        RelationshipType hierarchyType,
+        Collection<RelationshipType> baseTypes
+    ) {
+        baseTypeKeys(graphStore, hierarchyType).keySet().forEach(graphStore::removeGraphProperty);
+        for (var baseType : baseTypes) {
+            long fingerprint = fingerprint(graphStore, baseType);
+            graphStore.addGraphProperty(graphPropertyKey(hierarchyType, baseType), new LongGraphPropertyValues() {
+                @Override
+                public LongStream longValues() {
+                    return LongStream.of(fingerprint);
+                }
+
+                @Override
+                public long valueCount() {
+                    return 1;
+                }
+            });
+        }
+    }
+
+    /**
+     * Fails if the relationship type is not a contraction hierarchy or if any of the relationship types
+     * it was built from has been changed or removed since.
+     */
+    public static void validate(GraphStore graphStore, RelationshipType hierarchyType) {
+        if (!graphStore.hasRelationshipType(hierarchyType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Contraction hierarchy `%s` not found in the graph, available relationship types are %s.",
+                hierarchyType.name(),
+                graphStore.relationshipTypes()
+            ));
+        }
+
+        var baseTypeKeys = baseTypeKeys(graphStore, hierarchyType);
+        if (baseTypeKeys.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship type `%s` is not a contraction hierarchy.",
+                hierarchyType.name()
+            ));
+        }
+
+        baseTypeKeys.forEach((key, baseType) -> {
+            long expected = graphStore.graphPropertyValues(key).longValues().findFirst().orElseThrow();
+            if (!graphStore.hasRelationshipType(baseType) || fingerprint(graphStore, baseType) != expected) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Contraction hierarchy `%s` is outdated, relationship type `%s` has changed since it was built. " +
+                    "Drop the hierarchy and build it again.",
+                    hierarchyType.name(),
+                    baseType.name()
+                ));
+            }
+        });
+    }
+
+    static String graphPropertyKey(RelationshipType hierarchyType, RelationshipType baseType) {
+        return formatWithLocale("%s(%s).%s", GRAPH_PROPERTY_PREFIX, hierarchyType.name(), baseType.name());
+    }
+
+    private static Map<String, RelationshipType> baseTypeKeys(GraphStore graphStore, RelationshipType hierarchyType) {
+        var prefix = formatWithLocale("%s(%s).", GRAPH_PROPERTY_PREFIX, hierarchyType.name());
+        return graphStore.graphPropertyKeys().stream()
+            .filter(key -> key.startsWith(prefix))
+            .collect(Collectors.toMap(key -> key, key -> RelationshipType.of(key.substring(prefix.length()))));
+    }
+
+    private static long fingerprint(GraphStore graphStore, RelationshipType relationshipType) {
+        var adjacencyList = adjacencyList(graphStore, relationshipType);
+        if (adjacencyList.isEmpty()) {
+            return computeFingerprint(graphStore, relationshipType);
+        }
+        return FINGERPRINTS.computeIfAbsent(
+            adjacencyList.get(),
+            __ -> computeFingerprint(graphStore, relationshipType)
+        );
+    }
+
+    /**
+     * Combines a hash of every relationship and its properties by addition, which makes the fingerprint
+     * independent of the order in which relationships are stored.
+     */
+    private static long computeFingerprint(GraphStore graphStore, RelationshipType relationshipType) {
+        var propertyKeys = graphStore.relationshipPropertyKeys(relationshipType).stream()
+            .sorted()
+            .collect(Collectors.toList());
+        var iterator = graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys);
+        var nodes = graphStore.nodes();
+        var fingerprint = new MutableLong();
+        for (long node = 0; node < graphStore.nodeCount(); node++) {
+            iterator.forEachRelationship(node, (source, target, properties) -> {
+                long hash = mix(nodes.toOriginalNodeId(source));
+                hash = mix(hash ^ nodes.toOriginalNodeId(target));
+                for (double property : properties) {
+                    hash = mix(hash ^ Double.doubleToLongBits(property));
+                }
+                fingerprint.add(hash);
+                return true;
+            });
+        }
+        return fingerprint.longValue();
+    }
+
+    // finalizer of MurmurHash3
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static Optional<AdjacencyList> adjacencyList(GraphStore graphStore, RelationshipType relationshipType) {
+        var graph = graphStore.getGraph(relationshipType);
+        if (!(graph instanceof CSRGraph)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(((CSRGraph) graph).relationshipTopologies().get(relationshipType))
+            .map(Topology::adjacencyList);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.MemoryEstimateDefinition;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+public class ContractionHierarchyMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final int witnessSearchLimit;
+
+    public ContractionHierarchyMemoryEstimateDefinition(int witnessSearchLimit) {
+        this.witnessSearchLimit = witnessSearchLimit;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ContractionHierarchy.class)
+            .perNode("outgoing edges", ContractionHierarchyMemoryEstimateDefinition::edgeLists)
+            .perNode("incoming edges", ContractionHierarchyMemoryEstimateDefinition::edgeLists)
+            .perGraphDimension("remaining graph", (dimensions, concurrency) -> {
+                long relationshipCount = dimensions.relCountUpperBound();
+                // outgoing edges store target, weight and via node, incoming edges store source and weight
+                long outgoingEdges = relationshipCount * (Integer.BYTES + Double.BYTES + Integer.BYTES);
+                long incomingEdges = relationshipCount * (Integer.BYTES + Double.BYTES);
+                return MemoryRange.of(outgoingEdges + incomingEdges);
+            })
+            .perNode("contracted neighbours", MemoryUsage::sizeOfIntArray)
+            .perNode("initial priorities", MemoryUsage::sizeOfDoubleArray)
+            .add("node order", HugeLongPriorityQueue.memoryEstimation())
+            .perThread("witness search", witnessSearch(witnessSearchLimit))
+            .perGraphDimension("hierarchy relationships", (dimensions, concurrency) -> MemoryRange.of(
+                dimensions.relCountUpperBound() * (Long.BYTES + ContractionHierarchy.PROPERTY_KEYS.size() * Double.BYTES)
+            ))
+            .build();
+    }
+
+    private static long edgeLists(long nodeCount) {
+        return MemoryUsage.sizeOfObjectArray(nodeCount) + nodeCount * MemoryUsage.sizeOfInstance(ContractionHierarchy.Edges.class);
+    }
+
+    /**
+     * The search settles at most {@code witnessSearchLimit} nodes, which bounds the distances,
+     * the queue costs, the queue index and the heap.
+     */
+    private static long witnessSearch(int witnessSearchLimit) {
+        long slots = MemoryUsage.sizeOfOpenHashContainer(witnessSearchLimit);
+        long distances = MemoryUsage.sizeOfIntArray(slots) + MemoryUsage.sizeOfDoubleArray(slots);
+        long queueCosts = MemoryUsage.sizeOfIntArray(slots) + MemoryUsage.sizeOfDoubleArray(slots);
+        long queueIndex = MemoryUsage.sizeOfIntArray(slots) + MemoryUsage.sizeOfLongArray(slots);
+        long heap = MemoryUsage.sizeOfIntArray(witnessSearchLimit);
+        return distances + queueCosts + queueIndex + heap;
+    }
+}
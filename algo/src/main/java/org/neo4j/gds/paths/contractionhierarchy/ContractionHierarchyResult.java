@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+
+import java.util.Set;
+
+/**
+ * @param hierarchy      the upward edges of the hierarchy, including the shortcuts
+ * @param shortcutCount  the number of shortcuts added during contraction
+ * @param baseRelationshipTypes the relationship types the hierarchy was built from
+ */
+public record ContractionHierarchyResult(
+    SingleTypeRelationships hierarchy,
+    long shortcutCount,
+    Set<RelationshipType> baseRelationshipTypes
+) {
+}
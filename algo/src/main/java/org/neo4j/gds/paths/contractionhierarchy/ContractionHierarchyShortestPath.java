@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntDoubleHashMap;
+import com.carrotsearch.hppc.IntIntHashMap;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.allshortestpaths.IntPriorityQueue;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayDeque;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchy.NO_VIA;
+
+/**
+ * Point-to-point shortest path query on a {@link ContractionHierarchy}.
+ * <p>
+ * A forward search from the source and a backward search from the target both only move upwards in the hierarchy.
+ * The shortest path goes through the node with the lowest combined cost of both searches.
+ * Its shortcuts are unpacked into the original edges afterwards.
+ * <p>
+ * The search spaces are usually small, which is why all state is kept in hash maps
+ * instead of arrays sized by the node count.
+ */
+public final class ContractionHierarchyShortestPath extends Algorithm<PathFindingResult> {
+
+    private static final int NO_NODE = -1;
+
+    // indices into the relationship properties, see ContractionHierarchy.PROPERTY_KEYS
+    private static final int WEIGHT = 0;
+    private static final int VIA = 1;
+    private static final int REVERSED = 2;
+
+    private final CompositeRelationshipIterator hierarchy;
+    private final int sourceNode;
+    private final int targetNode;
+
+    private final Search forward;
+    private final Search backward;
+
+    private double bestCost;
+    private int meetingNode;
+
+    public ContractionHierarchyShortestPath(
+        CompositeRelationshipIterator hierarchy,
+        long sourceNode,
+        long targetNode,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.hierarchy = hierarchy;
+        this.sourceNode = Math.toIntExact(sourceNode);
+        this.targetNode = Math.toIntExact(targetNode);
+        this.forward = new Search(0);
+        this.backward = new Search(1);
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        bestCost = Double.POSITIVE_INFINITY;
+        meetingNode = NO_NODE;
+
+        forward.start(sourceNode);
+        backward.start(targetNode);
+        connect(sourceNode);
+
+        while (terminationFlag.running()) {
+            double forwardKey = forward.minCost();
+            double backwardKey = backward.minCost();
+            // unlike plain bidirectional Dijkstra, both searches have to exceed the best cost,
+            // as each one only sees the upward part of the shortest path
+            if (Math.min(forwardKey, backwardKey) >= bestCost) {
+                break;
+            }
+            if (forwardKey <= backwardKey) {
+                expand(forward, backward);
+            } else {
+                expand(backward, forward);
+            }
+        }
+
+        var path = meetingNode == NO_NODE ? Stream.<PathResult>empty() : Stream.of(pathResult());
+        return new PathFindingResult(path, progressTracker::endSubTask);
+    }
+
+    private void expand(Search search, Search other) {
+        int node = search.queue.pop();
+        double cost = search.distances.get(node);
+        hierarchy.forEachRelationship(node, (source, target, properties) -> {
+            if (properties[REVERSED] == search.reversed) {
+                int next = (int) target;
+                if (search.relax(node, next, cost + properties[WEIGHT], (int) properties[VIA])) {
+                    connect(next);
+                }
+            }
+            return true;
+        });
+    }
+
+    private void connect(int node) {
+        if (forward.distances.containsKey(node) && backward.distances.containsKey(node)) {
+            double cost = forward.distances.get(node) + backward.distances.get(node);
+            if (cost < bestCost) {
+                bestCost = cost;
+                meetingNode = node;
+            }
+        }
+    }
+
+    private PathResult pathResult() {
+        var nodeIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+
+        // edges from the source to the meeting node, collected backwards
+        var upwardEdges = new ArrayDeque<int[]>();
+        for (int node = meetingNode; node != sourceNode; node = forward.predecessors.get(node)) {
+            upwardEdges.push(new int[]{forward.predecessors.get(node), node, forward.vias.get(node)});
+        }
+
+        nodeIds.add(sourceNode);
+        costs.add(0.0D);
+        while (!upwardEdges.isEmpty()) {
+            var edge = upwardEdges.pop();
+            unpack(edge[0], edge[1], edge[2], nodeIds, costs);
+        }
+        for (int node = meetingNode; node != targetNode; node = backward.predecessors.get(node)) {
+            unpack(node, backward.predecessors.get(node), backward.vias.get(node), nodeIds, costs);
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(new long[0])
+            .costs(costs.toArray())
+            .build();
+    }
+
+    /**
+     * Appends the original edges the given edge or shortcut stands for.
+     */
+    private void unpack(int source, int target, int via, LongArrayList nodeIds, DoubleArrayList costs) {
+        var stack = new ArrayDeque<int[]>();
+        stack.push(new int[]{source, target, via});
+        while (!stack.isEmpty()) {
+            var edge = stack.pop();
+            if (edge[2] == NO_VIA) {
+                costs.add(costs.get(costs.size() - 1) + edgeWeight(edge[0], edge[1]));
+                nodeIds.add(edge[1]);
+            } else {
+                // the skipped node is ranked below both end nodes, so it stores both halves of the shortcut
+                int skipped = edge[2];
+                stack.push(new int[]{skipped, edge[1], storedVia(skipped, edge[1], 0)});
+                stack.push(new int[]{edge[0], skipped, storedVia(skipped, edge[0], 1)});
+            }
+        }
+    }
+
+    private double edgeWeight(int source, int target) {
+        var edge = findStored(source, target, 0);
+        return edge != null ? edge[WEIGHT] : findStored(target, source, 1)[WEIGHT];
+    }
+
+    private int storedVia(int lowerNode, int higherNode, int reversed) {
+        return (int) findStored(lowerNode, higherNode, reversed)[VIA];
+    }
+
+    /**
+     * Returns the properties of the relationship stored at the lower ranked node, or null if there is none.
+     * The adjacency is always consumed completely, stopping early leaves the shared property cursors behind.
+     */
+    private double[] findStored(int lowerNode, int higherNode, int reversed) {
+        var found = new double[][]{null};
+        hierarchy.forEachRelationship(lowerNode, (source, target, properties) -> {
+            if (target == higherNode && properties[REVERSED] == reversed) {
+                found[0] = properties.clone();
+            }
+            return true;
+        });
+        return found[0];
+    }
+
+    private static final class Search {
+        private final int reversed;
+        private final IntPriorityQueue queue;
+        private final IntDoubleHashMap distances;
+        private final IntIntHashMap predecessors;
+        private final IntIntHashMap vias;
+
+        Search(int reversed) {
+            this.reversed = reversed;
+            this.queue = IntPriorityQueue.min();
+            this.distances = new IntDoubleHashMap();
+            this.predecessors = new IntIntHashMap();
+            this.vias = new IntIntHashMap();
+        }
+
+        void start(int node) {
+            distances.put(node, 0.0D);
+            queue.add(node, 0.0D);
+        }
+
+        double minCost() {
+            return queue.isEmpty() ? Double.POSITIVE_INFINITY : distances.get(queue.top());
+        }
+
+        boolean relax(int node, int next, double cost, int via) {
+            if (cost >= distances.getOrDefault(next, Double.POSITIVE_INFINITY)) {
+                return false;
+            }
+            distances.put(next, cost);
+            predecessors.put(next, node);
+            vias.put(next, via);
+            queue.set(next, cost);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+public class ContractionHierarchyShortestPathFactory extends GraphStoreAlgorithmFactory<ContractionHierarchyShortestPath, ContractionHierarchyStreamConfig> {
+
+    @Override
+    public ContractionHierarchyShortestPath build(
+        GraphStore graphStore,
+        ContractionHierarchyStreamConfig configuration,
+        ProgressTracker progressTracker
+    ) {
+        var hierarchyType = RelationshipType.of(configuration.hierarchyRelationshipType());
+        var nodes = graphStore.nodes();
+        return new ContractionHierarchyShortestPath(
+            graphStore.getCompositeRelationshipIterator(hierarchyType, ContractionHierarchy.PROPERTY_KEYS),
+            nodes.toMappedNodeId(configuration.sourceNode()),
+            nodes.toMappedNodeId(configuration.targetNode()),
+            progressTracker,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+
+    @Override
+    public String taskName() {
+        return "ContractionHierarchyShortestPath";
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.SourceNodeConfig;
+import org.neo4j.gds.config.TargetNodeConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.Collection;
+
+@Configuration
+public interface ContractionHierarchyStreamConfig extends AlgoBaseConfig, SourceNodeConfig, TargetNodeConfig {
+
+    // The relationship type written by the contraction hierarchy mutate procedure
+    String hierarchyRelationshipType();
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateHierarchy(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        ContractionHierarchyCatalog.validate(graphStore, RelationshipType.of(hierarchyRelationshipType()));
+    }
+
+    static ContractionHierarchyStreamConfig of(CypherMapWrapper userInput) {
+        return new ContractionHierarchyStreamConfigImpl(userInput);
+    }
+}
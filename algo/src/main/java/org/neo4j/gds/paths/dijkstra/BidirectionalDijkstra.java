@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.stream.Stream;
+
+/**
+ * Computes a single source-target shortest path by searching forward from the source
+ * and backward from the target at the same time.
+ *
+ * Optionally, the search is goal directed by two heuristics, a lower bound for the distance
+ * from every node to the target and a lower bound for the distance from the source to every
+ * node. Both searches then use the average potential {@code (toTarget(v) - fromSource(v)) / 2}
+ * and its negation, which keeps them consistent with each other. Nodes for which a heuristic
+ * is infinite cannot be part of a path between source and target and are skipped.
+ *
+ * The backward search runs on the inverse relationships, which requires the graph to be
+ * undirected or inverse indexed.
+ */
+public final class BidirectionalDijkstra extends Algorithm<PathFindingResult> {
+
+    private static final long NO_NODE = -1L;
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final long targetNode;
+    private final Dijkstra.HeuristicFunction toTarget;
+    private final Dijkstra.HeuristicFunction fromSource;
+    private final boolean undirected;
+
+    private final HugeLongPriorityQueue forwardQueue;
+    private final HugeLongPriorityQueue backwardQueue;
+    private final HugeLongLongMap predecessors;
+    private final HugeLongLongMap successors;
+    private final BitSet forwardVisited;
+    private final BitSet backwardVisited;
+
+    private double bestCost;
+    private long meetingNode;
+
+    public BidirectionalDijkstra(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        Dijkstra.HeuristicFunction toTarget,
+        Dijkstra.HeuristicFunction fromSource,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "Bidirectional search requires an undirected graph or an inverse indexed relationship type."
+            );
+        }
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.toTarget = toTarget;
+        this.fromSource = fromSource;
+        this.undirected = graph.characteristics().isUndirected();
+        this.forwardQueue = potentialQueue(graph.nodeCount(), this::forwardPotential);
+        this.backwardQueue = potentialQueue(graph.nodeCount(), node -> -forwardPotential(node));
+        this.predecessors = new HugeLongLongMap();
+        this.successors = new HugeLongLongMap();
+        this.forwardVisited = new BitSet();
+        this.backwardVisited = new BitSet();
+        this.terminationFlag = terminationFlag;
+    }
+
+    /**
+     * Bidirectional search without heuristics.
+     */
+    public BidirectionalDijkstra(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this(graph, sourceNode, targetNode, node -> 0.0, node -> 0.0, progressTracker, terminationFlag);
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        bestCost = Double.POSITIVE_INFINITY;
+        meetingNode = sourceNode == targetNode ? sourceNode : NO_NODE;
+
+        if (meetingNode == NO_NODE && isCandidate(sourceNode) && isCandidate(targetNode)) {
+            forwardQueue.add(sourceNode, 0.0);
+            backwardQueue.add(targetNode, 0.0);
+        }
+
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty() && terminationFlag.running()) {
+            // Both keys include the potentials, which cancel out along any path from source to target.
+            double forwardKey = key(forwardQueue, forwardQueue.top(), 1);
+            double backwardKey = key(backwardQueue, backwardQueue.top(), -1);
+            if (forwardKey + backwardKey >= bestCost) {
+                break;
+            }
+            if (forwardQueue.size() <= backwardQueue.size()) {
+                expandForward();
+            } else {
+                expandBackward();
+            }
+        }
+
+        var path = meetingNode == NO_NODE ? Stream.<PathResult>empty() : Stream.of(pathResult());
+        return new PathFindingResult(path, progressTracker::endSubTask);
+    }
+
+    private double forwardPotential(long node) {
+        return (toTarget.applyAsDouble(node) - fromSource.applyAsDouble(node)) / 2;
+    }
+
+    private double key(HugeLongPriorityQueue queue, long node, int direction) {
+        return queue.cost(node) + direction * forwardPotential(node);
+    }
+
+    private boolean isCandidate(long node) {
+        return !Double.isInfinite(toTarget.applyAsDouble(node)) && !Double.isInfinite(fromSource.applyAsDouble(node));
+    }
+
+    private void expandForward() {
+        long node = forwardQueue.pop();
+        double cost = forwardQueue.cost(node);
+        forwardVisited.set(node);
+
+        progressTracker.logProgress(graph.degree(node));
+
+        graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+            if (isCandidate(target)) {
+                relax(forwardQueue, forwardVisited, predecessors, source, target, weight + cost);
+                if (backwardVisited.get(target) || backwardQueue.containsElement(target)) {
+                    connect(target);
+                }
+            }
+            return true;
+        });
+    }
+
+    private void expandBackward() {
+        long node = backwardQueue.pop();
+        double cost = backwardQueue.cost(node);
+        backwardVisited.set(node);
+
+        progressTracker.logProgress(graph.degree(node));
+
+        if (undirected) {
+            graph.forEachRelationship(
+                node,
+                1.0D,
+                (target, source, weight) -> relaxBackward(target, source, weight + cost)
+            );
+        } else {
+            graph.forEachInverseRelationship(
+                node,
+                1.0D,
+                (target, source, weight) -> relaxBackward(target, source, weight + cost)
+            );
+        }
+    }
+
+    private boolean relaxBackward(long target, long source, double newCost) {
+        if (isCandidate(source)) {
+            relax(backwardQueue, backwardVisited, successors, target, source, newCost);
+            if (forwardVisited.get(source) || forwardQueue.containsElement(source)) {
+                connect(source);
+            }
+        }
+        return true;
+    }
+
+    private static void relax(
+        HugeLongPriorityQueue queue,
+        BitSet visited,
+        HugeLongLongMap parents,
+        long from,
+        long to,
+        double newCost
+    ) {
+        if (visited.get(to)) {
+            return;
+        }
+        if (!queue.containsElement(to)) {
+            queue.add(to, newCost);
+            parents.put(to, from);
+        } else if (newCost < queue.cost(to)) {
+            queue.set(to, newCost);
+            parents.put(to, from);
+        }
+    }
+
+    private void connect(long node) {
+        double cost = forwardQueue.cost(node) + backwardQueue.cost(node);
+        if (cost < bestCost) {
+            bestCost = cost;
+            meetingNode = node;
+        }
+    }
+
+    private PathResult pathResult() {
+        var nodeIds = new LongArrayList();
+        for (long node = meetingNode; node != sourceNode; node = predecessors.getOrDefault(node, sourceNode)) {
+            nodeIds.add(node);
+        }
+        nodeIds.add(sourceNode);
+        var buffer = nodeIds.buffer;
+        for (int i = 0, j = nodeIds.size() - 1; i < j; i++, j--) {
+            long tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+        for (long node = meetingNode; node != targetNode; ) {
+            node = successors.getOrDefault(node, targetNode);
+            nodeIds.add(node);
+        }
+
+        // Costs are accumulated from the source, the same way Dijkstra computes them.
+        var costs = new double[nodeIds.size()];
+        var weight = new MutableDouble();
+        for (int i = 1; i < costs.length; i++) {
+            long next = nodeIds.get(i);
+            weight.setValue(Double.POSITIVE_INFINITY);
+            graph.forEachRelationship(nodeIds.get(i - 1), 1.0D, (source, target, w) -> {
+                if (target == next && w < weight.doubleValue()) {
+                    weight.setValue(w);
+                }
+                return true;
+            });
+            costs[i] = weight.doubleValue() + costs[i - 1];
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(new long[0])
+            .costs(costs)
+            .build();
+    }
+
+    private static HugeLongPriorityQueue potentialQueue(long capacity, Dijkstra.HeuristicFunction potential) {
+        return new HugeLongPriorityQueue(capacity) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return potential.applyAsDouble(a) + costValues.get(a) < potential.applyAsDouble(b) + costValues.get(b);
+            }
+        };
+    }
+}
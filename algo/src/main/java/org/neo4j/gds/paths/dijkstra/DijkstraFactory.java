@@ -20,6 +20,7 @@
 package org.neo4j.gds.paths.dijkstra;
 
 import org.jetbrains.annotations.NotNull;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -28,6 +29,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.paths.dijkstra.config.DijkstraBaseConfig;
 import org.neo4j.gds.paths.dijkstra.config.DijkstraSourceTargetsBaseConfig;
+import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Optional;
 
@@ -54,23 +56,40 @@ public abstract class DijkstraFactory<CONFIG extends DijkstraBaseConfig> extends
         return Tasks.leaf(taskName, graph.relationshipCount());
     }
 
+    /**
+     * Builds the search selected by {@link PointToPointShortestPath},
+     * which is a plain Dijkstra unless landmarks or a bidirectional search are configured.
+     */
     public static class SourceTargetDijkstraFactory<T extends DijkstraSourceTargetsBaseConfig> extends
-        DijkstraFactory<T> {
+        GraphAlgorithmFactory<Algorithm<PathFindingResult>, T> {
         @Override
-        public Dijkstra build(
+        public Algorithm<PathFindingResult> build(
             Graph graph,
             T configuration,
             ProgressTracker progressTracker
         ) {
-            return Dijkstra.sourceTarget(
+            return PointToPointShortestPath.sourceTarget(
                 graph,
-                configuration.sourceNode(),
-                configuration.targetsList(),
-                false,
-                Optional.empty(),
-                progressTracker
+                configuration,
+                progressTracker,
+                TerminationFlag.RUNNING_TRUE
             );
         }
+
+        @Override
+        public MemoryEstimation memoryEstimation(T configuration) {
+            return new DijkstraMemoryEstimateDefinition(configuration.toMemoryEstimateParameters()).memoryEstimation();
+        }
+
+        @Override
+        public String taskName() {
+            return "Dijkstra";
+        }
+
+        @Override
+        public Task progressTask(Graph graph, T config) {
+            return dijkstraProgressTask(taskName(), graph);
+        }
     }
 
     public static class AllShortestPathsDijkstraFactory<T extends DijkstraBaseConfig> extends DijkstraFactory<T> {
@@ -39,6 +39,17 @@ public class DijkstraMemoryEstimateDefinition implements MemoryEstimateDefinitio
         boolean trackRelationships = parameters.trackRelationships();
         boolean manyTargets = parameters.manyTargets();
 
+        if (parameters.bidirectional()) {
+            return MemoryEstimations.builder(BidirectionalDijkstra.class)
+                .add("forward priority queue", HugeLongPriorityQueue.memoryEstimation())
+                .add("backward priority queue", HugeLongPriorityQueue.memoryEstimation())
+                .add("predecessors", HugeLongLongMap.memoryEstimation())
+                .add("successors", HugeLongLongMap.memoryEstimation())
+                .perNode("forward visited set", MemoryUsage::sizeOfBitset)
+                .perNode("backward visited set", MemoryUsage::sizeOfBitset)
+                .build();
+        }
+
         var builder = MemoryEstimations.builder(Dijkstra.class)
             .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
             .add("reverse path", HugeLongLongMap.memoryEstimation());
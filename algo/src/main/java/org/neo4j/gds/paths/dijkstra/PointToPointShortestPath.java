@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.dijkstra.config.DijkstraSourceTargetsBaseConfig;
+import org.neo4j.gds.paths.landmarks.LandmarkHeuristic;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Selects the search for a single source-target shortest path:
+ * plain Dijkstra, A* using landmark distances (ALT) or a bidirectional search,
+ * which uses the landmark distances if they are available.
+ */
+public final class PointToPointShortestPath {
+
+    private PointToPointShortestPath() {}
+
+    public static boolean isAccelerated(DijkstraSourceTargetsBaseConfig configuration) {
+        return configuration.bidirectional() || configuration.landmarkProperty().isPresent();
+    }
+
+    public static Algorithm<PathFindingResult> sourceTarget(
+        Graph graph,
+        DijkstraSourceTargetsBaseConfig configuration,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        if (!isAccelerated(configuration)) {
+            return Dijkstra.sourceTarget(
+                graph,
+                configuration.sourceNode(),
+                configuration.targetsList(),
+                false,
+                Optional.empty(),
+                progressTracker,
+                terminationFlag
+            );
+        }
+
+        var sourceNode = graph.toMappedNodeId(configuration.sourceNode());
+        var targetNode = graph.toMappedNodeId(configuration.targetsList().get(0));
+
+        var landmarkProperty = configuration.landmarkProperty();
+        if (landmarkProperty.isPresent()) {
+            validateLandmarkProperty(graph, landmarkProperty.get());
+        }
+        var landmarkDistances = landmarkProperty.map(graph::nodeProperties);
+
+        if (configuration.bidirectional()) {
+            if (landmarkDistances.isEmpty()) {
+                return new BidirectionalDijkstra(graph, sourceNode, targetNode, progressTracker, terminationFlag);
+            }
+            return new BidirectionalDijkstra(
+                graph,
+                sourceNode,
+                targetNode,
+                LandmarkHeuristic.toTarget(landmarkDistances.get(), targetNode),
+                LandmarkHeuristic.fromSource(landmarkDistances.get(), sourceNode),
+                progressTracker,
+                terminationFlag
+            );
+        }
+
+        return new Dijkstra(
+            graph,
+            sourceNode,
+            new SingleTarget(targetNode),
+            false,
+            landmarkDistances.map(distances -> LandmarkHeuristic.toTarget(distances, targetNode)),
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    private static void validateLandmarkProperty(Graph graph, String landmarkProperty) {
+        if (!graph.availableNodeProperties().contains(landmarkProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded",
+                landmarkProperty
+            ));
+        }
+        var valueType = graph.nodeProperties(landmarkProperty).valueType();
+        if (valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` must hold landmark distances of type `%s`, but was `%s`",
+                landmarkProperty,
+                ValueType.DOUBLE_ARRAY.cypherName(),
+                valueType.cypherName()
+            ));
+        }
+    }
+}
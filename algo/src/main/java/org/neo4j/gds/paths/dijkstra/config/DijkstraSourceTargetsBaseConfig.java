@@ -19,15 +19,30 @@
  */
 package org.neo4j.gds.paths.dijkstra.config;
 
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.OptionalTargetNodeConfig;
 import org.neo4j.gds.config.TargetNodesConfig;
 import org.neo4j.gds.paths.dijkstra.DijkstraMemoryEstimateParameters;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfig, TargetNodesConfig, DijkstraBaseConfig {
 
+    // Node property with landmark distances, which turns the search into A* with ALT heuristics
+    Optional<String> landmarkProperty();
+
+    // Search from the source and the target at the same time
+    default boolean bidirectional() {
+        return false;
+    }
+
     @Configuration.Ignore
     default List<Long> targetsList() {
         var targetNode = targetNode();
@@ -49,12 +64,33 @@ public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfi
             throw new IllegalArgumentException(
                 "One of `targets` or `target` parameters must be specified");
         }
+        if ((landmarkProperty().isPresent() || bidirectional()) && targetsList().size() > 1) {
+            throw new IllegalArgumentException(
+                "The `landmarkProperty` and `bidirectional` parameters require a single `targetNode`");
+        }
+
+    }
 
+    @Configuration.GraphStoreValidationCheck
+    default void validateLandmarkProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        landmarkProperty().ifPresent(landmarkProperty -> {
+            if (!graphStore.hasNodeProperty(selectedLabels, landmarkProperty)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Landmark property `%s` not found in graph with node properties: %s",
+                    landmarkProperty,
+                    graphStore.nodePropertyKeys(selectedLabels)
+                ));
+            }
+        });
     }
 
     @Override
     @Configuration.Ignore
     default DijkstraMemoryEstimateParameters toMemoryEstimateParameters() {
-        return new DijkstraMemoryEstimateParameters(false, targetsList().size() > 1);
+        return new DijkstraMemoryEstimateParameters(false, targetsList().size() > 1, bidirectional());
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeLongDoubleMap;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+
+/**
+ * Lower bounds for shortest path distances derived from landmark distances (ALT).
+ *
+ * The landmark distances of a node are stored as a single double array property.
+ * For {@code k} landmarks, the first {@code k} entries are the distances from each
+ * landmark to the node and the last {@code k} entries are the distances from the node
+ * to each landmark. Unknown distances are stored as {@code NaN} and are ignored.
+ *
+ * By the triangle inequality, {@code d(u, v) >= d(L, v) - d(L, u)} and
+ * {@code d(u, v) >= d(u, L) - d(v, L)} hold for every landmark {@code L}.
+ */
+public final class LandmarkHeuristic implements Dijkstra.HeuristicFunction {
+
+    private static final double DEFAULT_DISTANCE = Double.NaN;
+
+    private final NodePropertyValues landmarkDistances;
+    private final double[] fixedNodeDistances;
+    private final boolean towardsFixedNode;
+    private final HugeLongDoubleMap distanceCache;
+
+    /**
+     * Estimates the distance from any node to the given target node.
+     */
+    public static LandmarkHeuristic toTarget(NodePropertyValues landmarkDistances, long targetNode) {
+        return new LandmarkHeuristic(landmarkDistances, targetNode, true);
+    }
+
+    /**
+     * Estimates the distance from the given source node to any node.
+     */
+    public static LandmarkHeuristic fromSource(NodePropertyValues landmarkDistances, long sourceNode) {
+        return new LandmarkHeuristic(landmarkDistances, sourceNode, false);
+    }
+
+    private LandmarkHeuristic(NodePropertyValues landmarkDistances, long fixedNode, boolean towardsFixedNode) {
+        this.landmarkDistances = landmarkDistances;
+        this.fixedNodeDistances = landmarkDistances.doubleArrayValue(fixedNode);
+        this.towardsFixedNode = towardsFixedNode;
+        this.distanceCache = new HugeLongDoubleMap();
+    }
+
+    @Override
+    public double applyAsDouble(long node) {
+        var distance = distanceCache.getOrDefault(node, DEFAULT_DISTANCE);
+
+        if (Double.isNaN(distance)) {
+            var nodeDistances = landmarkDistances.doubleArrayValue(node);
+            distance = towardsFixedNode
+                ? lowerBound(nodeDistances, fixedNodeDistances)
+                : lowerBound(fixedNodeDistances, nodeDistances);
+            distanceCache.addTo(node, distance);
+        }
+
+        return distance;
+    }
+
+    /**
+     * Returns a lower bound for the distance between the nodes with the given landmark distances.
+     * The result is positive infinity, if the landmarks prove that there is no path.
+     */
+    static double lowerBound(double[] fromDistances, double[] toDistances) {
+        int landmarkCount = fromDistances.length / 2;
+        double bound = 0.0;
+        for (int i = 0; i < landmarkCount; i++) {
+            // NaN for unknown distances or if both nodes are unreachable, neither fulfills the comparison
+            double forward = toDistances[i] - fromDistances[i];
+            if (forward > bound) {
+                bound = forward;
+            }
+            double backward = fromDistances[landmarkCount + i] - toDistances[landmarkCount + i];
+            if (backward > bound) {
+                bound = backward;
+            }
+        }
+        return bound;
+    }
+}
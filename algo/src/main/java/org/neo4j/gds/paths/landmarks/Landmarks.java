@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Selects landmarks and computes the shortest path distances between every node and each landmark.
+ *
+ * Landmarks are selected with the farthest-point heuristic: the first landmark is a random node,
+ * every further landmark is the node which is farthest away from all previously selected landmarks.
+ * Nodes that are not reachable from any selected landmark are preferred, so that every weakly
+ * connected component receives a landmark as long as there are landmarks left.
+ *
+ * Distances from a landmark are computed on the outgoing relationships. Distances to a landmark
+ * are computed on the inverse relationships if the graph is inverse indexed, they are identical
+ * to the distances from the landmark for undirected graphs and are unknown otherwise.
+ */
+public final class Landmarks extends Algorithm<LandmarksResult> {
+
+    private final Graph graph;
+    private final int landmarkCount;
+    private final int concurrency;
+    private final Optional<Long> randomSeed;
+    private final boolean undirected;
+    private final boolean inverseIndexed;
+
+    public Landmarks(
+        Graph graph,
+        int landmarkCount,
+        int concurrency,
+        Optional<Long> randomSeed,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.landmarkCount = (int) Math.min(landmarkCount, graph.nodeCount());
+        this.concurrency = concurrency;
+        this.randomSeed = randomSeed;
+        this.undirected = graph.characteristics().isUndirected();
+        this.inverseIndexed = graph.characteristics().isInverseIndexed();
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public LandmarksResult compute() {
+        progressTracker.beginSubTask("Landmarks");
+
+        long nodeCount = graph.nodeCount();
+        var distances = HugeObjectArray.newArray(double[].class, nodeCount);
+        var landmarks = new long[landmarkCount];
+
+        if (landmarkCount == 0) {
+            progressTracker.endSubTask("Landmarks");
+            return new LandmarksResult(landmarks, distances);
+        }
+
+        int columns = 2 * landmarkCount;
+        // distances to the landmarks remain unknown if they cannot be computed
+        double unknownBackwardDistance = undirected || inverseIndexed ? Double.POSITIVE_INFINITY : Double.NaN;
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            var nodeDistances = new double[columns];
+            Arrays.fill(nodeDistances, 0, landmarkCount, Double.POSITIVE_INFINITY);
+            Arrays.fill(nodeDistances, landmarkCount, columns, unknownBackwardDistance);
+            distances.set(nodeId, nodeDistances);
+        });
+
+        // distance to the closest selected landmark
+        var closestLandmarkDistance = HugeDoubleArray.newArray(nodeCount);
+        closestLandmarkDistance.fill(Double.POSITIVE_INFINITY);
+
+        var random = randomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        long landmark = random.nextLong(nodeCount);
+
+        for (int i = 0; i < landmarkCount; i++) {
+            terminationFlag.assertRunning();
+            landmarks[i] = landmark;
+
+            var tasks = new ArrayList<Runnable>();
+            tasks.add(new ShortestPathDistances(graph.concurrentCopy(), distances, landmark, i, false));
+            if (!undirected && inverseIndexed) {
+                tasks.add(new ShortestPathDistances(
+                    graph.concurrentCopy(),
+                    distances,
+                    landmark,
+                    landmarkCount + i,
+                    true
+                ));
+            }
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .terminationFlag(terminationFlag)
+                .executor(DefaultPool.INSTANCE)
+                .run();
+
+            if (undirected) {
+                int column = i;
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+                    var nodeDistances = distances.get(nodeId);
+                    nodeDistances[landmarkCount + column] = nodeDistances[column];
+                });
+            }
+
+            landmark = farthestNode(distances, closestLandmarkDistance, i);
+            progressTracker.logProgress();
+        }
+
+        progressTracker.endSubTask("Landmarks");
+        return new LandmarksResult(landmarks, distances);
+    }
+
+    private long farthestNode(
+        HugeObjectArray<double[]> distances,
+        HugeDoubleArray closestLandmarkDistance,
+        int column
+    ) {
+        long farthestNode = 0;
+        double farthestDistance = -1;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            var distance = Math.min(closestLandmarkDistance.get(nodeId), distances.get(nodeId)[column]);
+            closestLandmarkDistance.set(nodeId, distance);
+            if (distance > farthestDistance) {
+                farthestDistance = distance;
+                farthestNode = nodeId;
+            }
+        }
+        return farthestNode;
+    }
+
+    private static final class ShortestPathDistances implements Runnable {
+
+        private final Graph graph;
+        private final HugeObjectArray<double[]> distances;
+        private final long landmark;
+        private final int column;
+        private final boolean inverse;
+
+        ShortestPathDistances(
+            Graph graph,
+            HugeObjectArray<double[]> distances,
+            long landmark,
+            int column,
+            boolean inverse
+        ) {
+            this.graph = graph;
+            this.distances = distances;
+            this.landmark = landmark;
+            this.column = column;
+            this.inverse = inverse;
+        }
+
+        @Override
+        public void run() {
+            var queue = HugeLongPriorityQueue.min(graph.nodeCount());
+            var visited = new BitSet(graph.nodeCount());
+
+            queue.add(landmark, 0.0);
+            while (!queue.isEmpty()) {
+                long node = queue.pop();
+                double cost = queue.cost(node);
+                visited.set(node);
+                distances.get(node)[column] = cost;
+
+                if (inverse) {
+                    graph.forEachInverseRelationship(node, 1.0D, (source, target, weight) ->
+                        relax(queue, visited, target, cost + weight)
+                    );
+                } else {
+                    graph.forEachRelationship(node, 1.0D, (source, target, weight) ->
+                        relax(queue, visited, target, cost + weight)
+                    );
+                }
+            }
+            queue.release();
+        }
+
+        private static boolean relax(HugeLongPriorityQueue queue, BitSet visited, long node, double newCost) {
+            if (!visited.get(node)) {
+                if (!queue.containsElement(node)) {
+                    queue.add(node, newCost);
+                } else if (newCost < queue.cost(node)) {
+                    queue.set(node, newCost);
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+public class LandmarksAlgorithmFactory<CONFIG extends LandmarksBaseConfig> extends GraphAlgorithmFactory<Landmarks, CONFIG> {
+
+    @Override
+    public String taskName() {
+        return "Landmarks";
+    }
+
+    @Override
+    public Landmarks build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
+        return new Landmarks(
+            graph,
+            configuration.landmarkCount(),
+            configuration.concurrency(),
+            configuration.randomSeed(),
+            progressTracker,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+
+    @Override
+    public Task progressTask(Graph graph, CONFIG config) {
+        return landmarksProgressTask(graph, config.landmarkCount());
+    }
+
+    public static Task landmarksProgressTask(Graph graph, int landmarkCount) {
+        return Tasks.leaf("Landmarks", Math.min(landmarkCount, graph.nodeCount()));
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        return new LandmarksMemoryEstimateDefinition(configuration.landmarkCount()).memoryEstimation();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.MemoryEstimateDefinition;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+public class LandmarksMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final int landmarkCount;
+
+    public LandmarksMemoryEstimateDefinition(int landmarkCount) {
+        this.landmarkCount = landmarkCount;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        long distancesPerNode = MemoryUsage.sizeOfDoubleArray(2L * landmarkCount);
+        var shortestPaths = MemoryEstimations.builder("shortest path distances")
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .perNode("visited set", MemoryUsage::sizeOfBitset)
+            .build();
+
+        return MemoryEstimations.builder(Landmarks.class)
+            .fixed("landmarks", MemoryUsage.sizeOfLongArray(landmarkCount))
+            .perNode("distances", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, distancesPerNode))
+            .perNode("closest landmark distance", HugeDoubleArray::memoryEstimation)
+            // one search on the outgoing and one on the inverse relationships
+            .add("forward search", shortestPaths)
+            .add("backward search", shortestPaths)
+            .build();
+    }
+}
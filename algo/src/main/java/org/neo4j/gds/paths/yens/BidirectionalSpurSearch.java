@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.yens;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+
+import java.util.Optional;
+
+/**
+ * Bidirectional Dijkstra used by Yen's algorithm to compute spur paths.
+ *
+ * A forward search starts at the spur node, a backward search starts at the target node
+ * and runs on the inverse relationships. Both searches are expanded alternately, always
+ * growing the smaller frontier, and stop as soon as the sum of their smallest tentative
+ * costs cannot improve the best connection found so far.
+ *
+ * The relationship filter is only applied by the forward search, since it only restricts
+ * the relationships of the spur node. The backward search never steps onto the spur node,
+ * so every path through a filtered relationship has to be found by the forward search.
+ *
+ * The search only supports graphs without parallel relationships, as relationship ids
+ * are not tracked. An instance must only be used by a single thread.
+ */
+final class BidirectionalSpurSearch {
+
+    private static final long NO_NODE = -1L;
+
+    private final Graph graph;
+    private final long targetNode;
+    private final boolean undirected;
+
+    private final HugeLongPriorityQueue forwardQueue;
+    private final HugeLongPriorityQueue backwardQueue;
+    private final HugeLongLongMap predecessors;
+    private final HugeLongLongMap successors;
+    private final BitSet forwardVisited;
+    private final BitSet backwardVisited;
+    private final BitSet blocked;
+
+    private Dijkstra.RelationshipFilter relationshipFilter;
+
+    private long sourceNode;
+    private double bestCost;
+    private long meetingNode;
+
+    BidirectionalSpurSearch(Graph graph, long targetNode) {
+        this.graph = graph;
+        this.targetNode = targetNode;
+        this.undirected = graph.characteristics().isUndirected();
+        this.forwardQueue = HugeLongPriorityQueue.min(graph.nodeCount());
+        this.backwardQueue = HugeLongPriorityQueue.min(graph.nodeCount());
+        this.predecessors = new HugeLongLongMap();
+        this.successors = new HugeLongLongMap();
+        this.forwardVisited = new BitSet();
+        this.backwardVisited = new BitSet();
+        this.blocked = new BitSet();
+        this.relationshipFilter = (source, target, relationshipId) -> true;
+    }
+
+    /**
+     * Bidirectional search requires access to the incoming relationships of a node.
+     */
+    static boolean supports(Graph graph, boolean trackRelationships) {
+        return !trackRelationships &&
+            (graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed());
+    }
+
+    BidirectionalSpurSearch withRelationshipFilter(Dijkstra.RelationshipFilter relationshipFilter) {
+        this.relationshipFilter = relationshipFilter;
+        return this;
+    }
+
+    /**
+     * Excludes the given node from both searches.
+     */
+    void block(long node) {
+        blocked.set(node);
+    }
+
+    void reset() {
+        forwardQueue.clear();
+        backwardQueue.clear();
+        forwardVisited.clear();
+        backwardVisited.clear();
+        blocked.clear();
+    }
+
+    Optional<PathResult> compute(long sourceNode) {
+        this.sourceNode = sourceNode;
+        this.bestCost = Double.POSITIVE_INFINITY;
+        this.meetingNode = sourceNode == targetNode ? sourceNode : NO_NODE;
+
+        if (meetingNode == NO_NODE) {
+            forwardQueue.add(sourceNode, 0.0);
+            backwardQueue.add(targetNode, 0.0);
+        }
+
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            double lowerBound = forwardQueue.cost(forwardQueue.top()) + backwardQueue.cost(backwardQueue.top());
+            if (lowerBound >= bestCost) {
+                break;
+            }
+            if (forwardQueue.size() <= backwardQueue.size()) {
+                expandForward();
+            } else {
+                expandBackward();
+            }
+        }
+
+        if (meetingNode == NO_NODE) {
+            return Optional.empty();
+        }
+        return Optional.of(pathResult());
+    }
+
+    private void expandForward() {
+        long node = forwardQueue.pop();
+        double cost = forwardQueue.cost(node);
+        forwardVisited.set(node);
+
+        var relationshipId = new MutableInt();
+        graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+            if (!blocked.get(target) && relationshipFilter.test(source, target, relationshipId.longValue())) {
+                relax(forwardQueue, forwardVisited, predecessors, source, target, weight + cost);
+                if (isLabeled(backwardQueue, backwardVisited, target)) {
+                    connect(target);
+                }
+            }
+            relationshipId.increment();
+            return true;
+        });
+    }
+
+    private void expandBackward() {
+        long node = backwardQueue.pop();
+        double cost = backwardQueue.cost(node);
+        backwardVisited.set(node);
+
+        if (undirected) {
+            graph.forEachRelationship(
+                node,
+                1.0D,
+                (target, source, weight) -> relaxBackward(target, source, weight + cost)
+            );
+        } else {
+            graph.forEachInverseRelationship(
+                node,
+                1.0D,
+                (target, source, weight) -> relaxBackward(target, source, weight + cost)
+            );
+        }
+    }
+
+    private boolean relaxBackward(long target, long source, double newCost) {
+        // relationships of the spur node are subject to the filter and only traversed by the forward search
+        if (source != sourceNode && !blocked.get(source)) {
+            relax(backwardQueue, backwardVisited, successors, target, source, newCost);
+            if (isLabeled(forwardQueue, forwardVisited, source)) {
+                connect(source);
+            }
+        }
+        return true;
+    }
+
+    private static void relax(
+        HugeLongPriorityQueue queue,
+        BitSet visited,
+        HugeLongLongMap parents,
+        long from,
+        long to,
+        double newCost
+    ) {
+        if (visited.get(to)) {
+            return;
+        }
+        if (!queue.containsElement(to)) {
+            queue.add(to, newCost);
+            parents.put(to, from);
+        } else if (newCost < queue.cost(to)) {
+            queue.set(to, newCost);
+            parents.put(to, from);
+        }
+    }
+
+    private static boolean isLabeled(HugeLongPriorityQueue queue, BitSet visited, long node) {
+        return visited.get(node) || queue.containsElement(node);
+    }
+
+    private void connect(long node) {
+        double cost = forwardQueue.cost(node) + backwardQueue.cost(node);
+        if (cost < bestCost) {
+            bestCost = cost;
+            meetingNode = node;
+        }
+    }
+
+    private PathResult pathResult() {
+        var nodeIds = new LongArrayList();
+
+        // Parents are not cleared between searches, but every node on
+        // the path has been labeled and therefore updated by this search.
+        for (long node = meetingNode; node != sourceNode; node = predecessors.getOrDefault(node, sourceNode)) {
+            nodeIds.add(node);
+        }
+        nodeIds.add(sourceNode);
+        reverse(nodeIds);
+        for (long node = meetingNode; node != targetNode; ) {
+            node = successors.getOrDefault(node, targetNode);
+            nodeIds.add(node);
+        }
+
+        // Costs are accumulated from the spur node, the same way Dijkstra computes them.
+        var costs = new double[nodeIds.size()];
+        var weight = new MutableDouble();
+        for (int i = 1; i < costs.length; i++) {
+            long next = nodeIds.get(i);
+            weight.setValue(Double.POSITIVE_INFINITY);
+            graph.forEachRelationship(nodeIds.get(i - 1), 1.0D, (source, target, w) -> {
+                if (target == next && w < weight.doubleValue()) {
+                    weight.setValue(w);
+                }
+                return true;
+            });
+            costs[i] = weight.doubleValue() + costs[i - 1];
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(new long[0])
+            .costs(costs)
+            .build();
+    }
+
+    private static void reverse(LongArrayList list) {
+        var buffer = list.buffer;
+        for (int i = 0, j = list.size() - 1; i < j; i++, j--) {
+            long tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+}
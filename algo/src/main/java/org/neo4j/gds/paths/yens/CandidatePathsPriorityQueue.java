@@ -55,7 +55,9 @@ import java.util.concurrent.locks.ReentrantLock;
      private PriorityQueue<MutablePathResult> initCandidatesQueue() {
          return new PriorityQueue<>(Comparator
              .comparingDouble(MutablePathResult::totalCost)
-             .thenComparingInt(MutablePathResult::nodeCount));
+             .thenComparingInt(MutablePathResult::nodeCount)
+             // break remaining ties by the path itself, so that the order does not depend on the concurrency
+             .thenComparing(MutablePathResult::compareByIds));
      }
 
  }
@@ -216,6 +216,14 @@ final class MutablePathResult {
     }
 
 
+    /**
+     * Compares two paths lexicographically by their node ids and then by their relationship ids.
+     */
+    static int compareByIds(MutablePathResult left, MutablePathResult right) {
+        int byNodes = Arrays.compare(left.nodeIds, right.nodeIds);
+        return byNodes != 0 ? byNodes : Arrays.compare(left.relationshipIds, right.relationshipIds);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -43,6 +43,7 @@ public final class Yens extends Algorithm<PathFindingResult> {
     private final Graph graph;
     private final ShortestPathYensBaseConfig config;
     private final boolean trackRelationships;
+    private final boolean bidirectional;
 
     /**
      * @deprecated Use the one with termination flag directly
@@ -80,6 +81,7 @@ public final class Yens extends Algorithm<PathFindingResult> {
         this.config = config;
         this.terminationFlag = terminationFlag;
         this.trackRelationships = trackRelationships;
+        this.bidirectional = BidirectionalSpurSearch.supports(graph, trackRelationships);
     }
 
     @Override
@@ -160,6 +162,7 @@ public final class Yens extends Algorithm<PathFindingResult> {
                 candidatePathsQueue,
                 currentSpurIndexId,
                 trackRelationships,
+                bidirectional,
                 config.k()
             ));
         }
@@ -22,6 +22,8 @@ package org.neo4j.gds.paths.yens;
 import org.neo4j.gds.MemoryEstimateDefinition;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.paths.dijkstra.DijkstraMemoryEstimateDefinition;
 import org.neo4j.gds.paths.dijkstra.DijkstraMemoryEstimateParameters;
@@ -41,8 +43,20 @@ public class YensMemoryEstimateDefinition implements MemoryEstimateDefinition {
                 .fixed("neighbors", MemoryUsage.sizeOfLongArray(numberOfShortestPathsToFind))
                 .add(
                     "Dijkstra",
-                    new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(true, false))
+                    new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(true, false, false))
                         .memoryEstimation()
+                )
+                // the forward priority queue is covered by the Dijkstra estimation above
+                .add(
+                    "Bidirectional spur search",
+                    MemoryEstimations.builder(BidirectionalSpurSearch.class)
+                        .add("backward priority queue", HugeLongPriorityQueue.memoryEstimation())
+                        .add("predecessors", HugeLongLongMap.memoryEstimation())
+                        .add("successors", HugeLongLongMap.memoryEstimation())
+                        .perNode("forward visited set", MemoryUsage::sizeOfBitset)
+                        .perNode("backward visited set", MemoryUsage::sizeOfBitset)
+                        .perNode("blocked set", MemoryUsage::sizeOfBitset)
+                        .build()
                 ).build())
             .build();
     }
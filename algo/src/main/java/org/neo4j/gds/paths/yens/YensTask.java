@@ -35,6 +35,9 @@ public class YensTask implements Runnable {
     // Track nodes and relationships that are skipped in a single iteration.
     // The content of these data structures is reset after each of k iterations.
     private @Nullable Dijkstra localDijkstra;
+    // Used instead of Dijkstra, if the spur paths can be searched bidirectionally.
+    private @Nullable BidirectionalSpurSearch localBidirectionalSearch;
+    private final boolean bidirectional;
     private final boolean trackRelationships;
     private final long targetNode;
     //Dijkstra filter
@@ -54,6 +57,7 @@ public class YensTask implements Runnable {
         CandidatePathsPriorityQueue candidatePathsQueue,
         AtomicInteger currentSpurIndexId,
         boolean trackRelationships,
+        boolean bidirectional,
         int k
     ) {
         this.currentSpurIndexId = currentSpurIndexId;
@@ -61,6 +65,8 @@ public class YensTask implements Runnable {
         this.trackRelationships = trackRelationships;
         this.targetNode = targetNode;
         this.localDijkstra = null;
+        this.localBidirectionalSearch = null;
+        this.bidirectional = bidirectional;
 
         this.kShortestPaths = kShortestPaths;
         this.candidatePathsQueue = candidatePathsQueue;
@@ -82,8 +88,8 @@ public class YensTask implements Runnable {
         int indexId = currentSpurIndexId.getAndIncrement();
         int maxLength = previousPath.nodeCount() - 1; //-1 is because in source-a1-a2-t path we ignore t
         while (indexId < maxLength) {
-            if (localDijkstra == null) {
-                setupDijkstra();
+            if (localDijkstra == null && localBidirectionalSearch == null) {
+                setupSpurSearch();
             }
             process(indexId);
             indexId = currentSpurIndexId.getAndIncrement();
@@ -108,7 +114,11 @@ public class YensTask implements Runnable {
 
     private void createFilters(MutablePathResult rootPath, long spurNode, int indexId) {
         //clean all filters
-        localDijkstra.resetTraversalState();
+        if (localBidirectionalSearch != null) {
+            localBidirectionalSearch.reset();
+        } else {
+            localDijkstra.resetTraversalState();
+        }
         relationshipFilterer.setFilter(spurNode);
 
         for (var path : kShortestPaths) {
@@ -121,11 +131,18 @@ public class YensTask implements Runnable {
         relationshipFilterer.prepare();
         // Filter nodes from root path to avoid cyclic path searches.
         for (int j = 0; j < indexId; j++) {
-            localDijkstra.withVisited(rootPath.node(j));
+            if (localBidirectionalSearch != null) {
+                localBidirectionalSearch.block(rootPath.node(j));
+            } else {
+                localDijkstra.withVisited(rootPath.node(j));
+            }
         }
     }
 
     private Optional<PathResult> computeDijkstra(long spurNode) {
+        if (localBidirectionalSearch != null) {
+            return localBidirectionalSearch.compute(spurNode);
+        }
         localDijkstra.withSourceNode(spurNode);
         var result = localDijkstra.compute().findFirst();
         return result;
@@ -146,7 +163,16 @@ public class YensTask implements Runnable {
     }
 
 
-    private void setupDijkstra() {
+    private void setupSpurSearch() {
+        if (bidirectional) {
+            this.localBidirectionalSearch = new BidirectionalSpurSearch(
+                localGraph,
+                localGraph.toMappedNodeId(targetNode)
+            ).withRelationshipFilter((source, target, relationshipId) ->
+                relationshipFilterer.validRelationship(source, target, relationshipId)
+            );
+            return;
+        }
 
         this.localDijkstra = Dijkstra.sourceTarget(
             localGraph,
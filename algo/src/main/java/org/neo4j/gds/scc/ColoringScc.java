@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.gds.scc.Scc.UNORDERED;
+
+/**
+ * Parallel strongly connected components based on coloring.
+ *
+ * Every round consists of three phases over the nodes that are not yet assigned to a component:
+ * <ol>
+ *     <li>trimming: nodes without remaining in- or out-neighbours form a trivial component on their own</li>
+ *     <li>coloring: every node receives the smallest node id that can reach it (forward propagation)</li>
+ *     <li>backward: for every root (a node whose color is its own id), the nodes of the same color
+ *     that can reach the root form its component</li>
+ * </ol>
+ * The smallest unassigned node id is always a root, so every round assigns at least one component.
+ * Only the natural orientation of the graph is required, the backward phase pulls reachability from out-neighbours.
+ *
+ * The representative id of a component is the smallest node id contained in the component.
+ */
+final class ColoringScc {
+
+    private final Graph graph;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    private final HugeLongArray connectedComponents;
+    private final HugeAtomicBitSet assigned;
+    private final HugeAtomicLongArray colors;
+    private final HugeAtomicLongArray inDegrees;
+    private HugeAtomicBitSet active;
+    private HugeAtomicBitSet nextActive;
+
+    ColoringScc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+
+        var nodeCount = graph.nodeCount();
+        this.connectedComponents = HugeLongArray.newArray(nodeCount);
+        this.assigned = HugeAtomicBitSet.create(nodeCount);
+        this.colors = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.inDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.active = HugeAtomicBitSet.create(nodeCount);
+        this.nextActive = HugeAtomicBitSet.create(nodeCount);
+    }
+
+    HugeLongArray compute() {
+        connectedComponents.setAll(nodeId -> UNORDERED);
+
+        long remaining = graph.nodeCount();
+        while (remaining > 0) {
+            terminationFlag.assertRunning();
+
+            remaining -= trim();
+            if (remaining == 0) {
+                break;
+            }
+
+            color();
+            remaining -= assignComponents();
+        }
+
+        return connectedComponents;
+    }
+
+    /**
+     * Assigns all nodes that have no unassigned in- or out-neighbours (ignoring self-loops) to their own component.
+     *
+     * @return the number of trimmed nodes
+     */
+    private long trim() {
+        // out-degree trimming, nodes trimmed during this pass are immediately visible to other nodes
+        long trimmed = forEachUnassignedNode((localGraph, nodeId) -> {
+            if (hasUnassignedNeighbour(localGraph, nodeId)) {
+                return false;
+            }
+            assign(nodeId, nodeId);
+            return true;
+        });
+
+        // in-degree trimming, based on the in-degrees among the remaining nodes
+        inDegrees.setAll(0L);
+        forEachUnassignedNode((localGraph, nodeId) -> {
+            localGraph.forEachRelationship(nodeId, (source, target) -> {
+                if (target != source && !assigned.get(target)) {
+                    inDegrees.getAndAdd(target, 1L);
+                }
+                return true;
+            });
+            return false;
+        });
+        trimmed += forEachUnassignedNode((localGraph, nodeId) -> {
+            if (inDegrees.get(nodeId) != 0L) {
+                return false;
+            }
+            assign(nodeId, nodeId);
+            return true;
+        });
+
+        progressTracker.logProgress(trimmed);
+        return trimmed;
+    }
+
+    private boolean hasUnassignedNeighbour(Graph localGraph, long nodeId) {
+        var found = new MutableBoolean(false);
+        localGraph.forEachRelationship(nodeId, (source, target) -> {
+            if (target != source && !assigned.get(target)) {
+                found.setTrue();
+                return false;
+            }
+            return true;
+        });
+        return found.booleanValue();
+    }
+
+    /**
+     * Propagates the smallest reaching node id along the relationships among unassigned nodes until a fix point is reached.
+     */
+    private void color() {
+        active.clear();
+        forEachUnassignedNode((localGraph, nodeId) -> {
+            colors.set(nodeId, nodeId);
+            active.set(nodeId);
+            return false;
+        });
+
+        do {
+            terminationFlag.assertRunning();
+            nextActive.clear();
+
+            var currentActive = active;
+            forEachUnassignedNode((localGraph, nodeId) -> {
+                if (currentActive.get(nodeId)) {
+                    var color = colors.get(nodeId);
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        if (!assigned.get(target) && lowerColor(target, color)) {
+                            nextActive.set(target);
+                        }
+                        return true;
+                    });
+                }
+                return false;
+            });
+
+            var swap = active;
+            active = nextActive;
+            nextActive = swap;
+        } while (!active.isEmpty());
+    }
+
+    private boolean lowerColor(long nodeId, long color) {
+        var current = colors.get(nodeId);
+        while (color < current) {
+            var witness = colors.compareAndExchange(nodeId, current, color);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * Assigns every root and all nodes of its color that can reach it to the component of the root.
+     *
+     * @return the number of assigned nodes
+     */
+    private long assignComponents() {
+        long newlyAssigned = forEachUnassignedNode((localGraph, nodeId) -> {
+            if (colors.get(nodeId) != nodeId) {
+                return false;
+            }
+            assign(nodeId, nodeId);
+            return true;
+        });
+
+        long assignedInPass;
+        do {
+            terminationFlag.assertRunning();
+            assignedInPass = forEachUnassignedNode((localGraph, nodeId) -> {
+                var color = colors.get(nodeId);
+                if (!reachesComponent(localGraph, nodeId, color)) {
+                    return false;
+                }
+                assign(nodeId, color);
+                return true;
+            });
+            newlyAssigned += assignedInPass;
+        } while (assignedInPass > 0);
+
+        progressTracker.logProgress(newlyAssigned);
+        return newlyAssigned;
+    }
+
+    private boolean reachesComponent(Graph localGraph, long nodeId, long componentId) {
+        var found = new MutableBoolean(false);
+        localGraph.forEachRelationship(nodeId, (source, target) -> {
+            // `assigned` is checked first, it is set after the component id has been written
+            if (assigned.get(target) && connectedComponents.get(target) == componentId) {
+                found.setTrue();
+                return false;
+            }
+            return true;
+        });
+        return found.booleanValue();
+    }
+
+    private void assign(long nodeId, long componentId) {
+        connectedComponents.set(nodeId, componentId);
+        assigned.set(nodeId);
+    }
+
+    /**
+     * Runs the consumer in parallel for every node that is unassigned at the time it is visited.
+     *
+     * @return the number of nodes for which the consumer returned {@code true}
+     */
+    private long forEachUnassignedNode(UnassignedNodeConsumer consumer) {
+        var counter = new AtomicLong();
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                var localCount = new MutableLong();
+                partition.consume(nodeId -> {
+                    if (!assigned.get(nodeId) && consumer.accept(localGraph, nodeId)) {
+                        localCount.increment();
+                    }
+                });
+                counter.addAndGet(localCount.longValue());
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        return counter.get();
+    }
+
+    @FunctionalInterface
+    private interface UnassignedNodeConsumer {
+        boolean accept(Graph localGraph, long nodeId);
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.gds.scc;
 
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -32,6 +33,9 @@ public class SccAlgorithmFactory<CONFIG extends SccCommonBaseConfig> extends Gra
     public Scc build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
         return new Scc(
             graph,
+            configuration.algorithm(),
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
             progressTracker
         );
     }
@@ -49,6 +53,6 @@ public class SccAlgorithmFactory<CONFIG extends SccCommonBaseConfig> extends Gra
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
 
-        return new SccMemoryEstimateDefinition().memoryEstimation();
+        return new SccMemoryEstimateDefinition(configuration.algorithm()).memoryEstimation();
     }
 }
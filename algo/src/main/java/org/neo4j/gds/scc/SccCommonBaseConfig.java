@@ -19,8 +19,14 @@
  */
 package org.neo4j.gds.scc;
 
+import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
 public interface SccCommonBaseConfig extends AlgoBaseConfig {
 
+    @Configuration.ConvertWith(method = "org.neo4j.gds.scc.SccAlgorithmType#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.scc.SccAlgorithmType#toString")
+    default SccAlgorithmType algorithm() {
+        return SccAlgorithmType.TARJAN;
+    }
 }
@@ -21,18 +21,34 @@ package org.neo4j.gds.scc;
 
 import org.neo4j.gds.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.mem.MemoryUsage;
 
 public class SccMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final SccAlgorithmType algorithmType;
+
+    public SccMemoryEstimateDefinition() {
+        this(SccAlgorithmType.TARJAN);
+    }
+
+    public SccMemoryEstimateDefinition(SccAlgorithmType algorithmType) {
+        this.algorithmType = algorithmType;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
-        var builder = MemoryEstimations.builder(Scc.class);
+        if (algorithmType == SccAlgorithmType.COLORING) {
+            return coloringMemoryEstimation();
+        }
+
+        var builder = MemoryEstimations.builder(TarjanScc.class);
         builder
             .perNode("index", HugeLongArray::memoryEstimation)
             .perNode("connectedComponents", HugeLongArray::memoryEstimation)
@@ -53,4 +69,14 @@ public class SccMemoryEstimateDefinition implements MemoryEstimateDefinition {
         return builder.build();
     }
 
+    private MemoryEstimation coloringMemoryEstimation() {
+        return MemoryEstimations.builder(ColoringScc.class)
+            .perNode("connectedComponents", HugeLongArray::memoryEstimation)
+            .perNode("assigned", HugeAtomicBitSet::memoryEstimation)
+            .perNode("colors", HugeAtomicLongArray::memoryEstimation)
+            .perNode("inDegrees", HugeAtomicLongArray::memoryEstimation)
+            .perNode("active", HugeAtomicBitSet::memoryEstimation)
+            .perNode("nextActive", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
 }
@@ -31,7 +31,12 @@ public class CosineSimilarityComputer implements MetricSimilarityComputer {
     @Override
     public double computeSimilarity(long[] vector1, long[] vector2) {
         var intersection = Intersections.intersection3(vector1, vector2);
-        var similarity = intersection / (Math.sqrt(vector1.length) * Math.sqrt(vector2.length));
+        return computeSimilarity(intersection, vector1.length, vector2.length);
+    }
+
+    @Override
+    public double computeSimilarity(long intersection, long length1, long length2) {
+        var similarity = intersection / (Math.sqrt(length1) * Math.sqrt(length2));
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
 
@@ -40,14 +45,24 @@ public class CosineSimilarityComputer implements MetricSimilarityComputer {
         assert vector1.length == weights1.length;
         assert vector2.length == weights2.length;
 
+        return computeWeightedSimilarity(vector1, weights1.length, vector2, weights2.length, weights1, weights2);
+    }
+
+    @Override
+    public double computeWeightedSimilarity(
+        long[] vector1,
+        int length1,
+        long[] vector2,
+        int length2,
+        double[] weights1,
+        double[] weights2
+    ) {
         double vector1SquaredSum = 0;
         double vector2SquaredSum = 0;
         double  above=0;
 
         int offset1 = 0;
         int offset2 = 0;
-        int length1 = weights1.length;
-        int length2 = weights2.length;
 
         while (offset1 < length1 && offset2 < length2) {
             long target1 = vector1[offset1];
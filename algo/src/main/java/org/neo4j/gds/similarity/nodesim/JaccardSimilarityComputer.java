@@ -31,7 +31,12 @@ public class JaccardSimilarityComputer implements MetricSimilarityComputer {
     @Override
     public double computeSimilarity(long[] vector1, long[] vector2) {
         long intersection = Intersections.intersection3(vector1, vector2);
-        long union = vector1.length + vector2.length - intersection;
+        return computeSimilarity(intersection, vector1.length, vector2.length);
+    }
+
+    @Override
+    public double computeSimilarity(long intersection, long length1, long length2) {
+        long union = length1 + length2 - intersection;
         double similarity = union == 0 ? 0 : intersection / (double) union;
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
@@ -41,10 +46,20 @@ public class JaccardSimilarityComputer implements MetricSimilarityComputer {
         assert vector1.length == weights1.length;
         assert vector2.length == weights2.length;
 
+        return computeWeightedSimilarity(vector1, weights1.length, vector2, weights2.length, weights1, weights2);
+    }
+
+    @Override
+    public double computeWeightedSimilarity(
+        long[] vector1,
+        int length1,
+        long[] vector2,
+        int length2,
+        double[] weights1,
+        double[] weights2
+    ) {
         int offset1 = 0;
         int offset2 = 0;
-        int length1 = weights1.length;
-        int length2 = weights2.length;
         double max = 0;
         double min = 0;
         while (offset1 < length1 && offset2 < length2) {
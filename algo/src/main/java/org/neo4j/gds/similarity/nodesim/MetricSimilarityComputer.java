@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.similarity.nodesim;
 
+import org.neo4j.gds.core.utils.Intersections;
+
 import java.util.Locale;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -28,6 +30,32 @@ public interface MetricSimilarityComputer {
 
     double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2);
 
+    /**
+     * Computes the similarity of two vectors from the size of their intersection and their lengths.
+     */
+    double computeSimilarity(long intersection, long length1, long length2);
+
+    /**
+     * Like {@link #computeSimilarity(long[], long[])}, but only considers the first {@code length} elements of each vector.
+     */
+    default double computeSimilarity(long[] vector1, int length1, long[] vector2, int length2) {
+        long intersection = Intersections.intersectionArraysWithLength(vector1, vector2, length1, length2);
+        return computeSimilarity(intersection, length1, length2);
+    }
+
+    /**
+     * Like {@link #computeWeightedSimilarity(long[], long[], double[], double[])}, but only considers the first
+     * {@code length} elements of each vector and its weights.
+     */
+    double computeWeightedSimilarity(
+        long[] vector1,
+        int length1,
+        long[] vector2,
+        int length2,
+        double[] weights1,
+        double[] weights2
+    );
+
     static MetricSimilarityComputerBuilder parse(Object userInput) {
         if (userInput instanceof MetricSimilarityComputerBuilder) {
             return (MetricSimilarityComputerBuilder) userInput;
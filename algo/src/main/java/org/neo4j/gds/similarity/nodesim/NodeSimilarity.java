@@ -24,6 +24,7 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -36,6 +37,7 @@ import org.neo4j.gds.similarity.SimilarityGraphBuilder;
 import org.neo4j.gds.similarity.SimilarityGraphResult;
 import org.neo4j.gds.similarity.SimilarityResult;
 import org.neo4j.gds.similarity.filtering.NodeFilter;
+import org.neo4j.gds.utils.CloseableThreadLocal;
 import org.neo4j.gds.wcc.Wcc;
 import org.neo4j.gds.wcc.WccAlgorithmFactory;
 import org.neo4j.gds.wcc.WccParameters;
@@ -69,6 +71,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private HugeObjectArray<long[]> neighbors;
     private HugeObjectArray<double[]> weights;
+    private CloseableThreadLocal<StreamingVectorSimilarity> streamingSimilarity;
     private LongUnaryOperator components;
     private Function<Long, LongStream> sourceNodesStream;
     private BiFunction<Long, Long, LongStream> targetNodesStream;
@@ -121,7 +124,8 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         prepare();
 
         if (parameters.computeToStream()) {
-            var computeToStream = computeToStream();
+            // the stream might be consumed lazily, so the streaming vectors are released when it is closed
+            var computeToStream = computeToStream().onClose(this::closeStreamingSimilarity);
             progressTracker.endSubTask();
             return ImmutableNodeSimilarityResult.of(
                 Optional.of(computeToStream),
@@ -129,6 +133,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             );
         } else {
             var computeToGraph = computeToGraph();
+            closeStreamingSimilarity();
             progressTracker.endSubTask();
             return ImmutableNodeSimilarityResult.of(
                 Optional.empty(),
@@ -239,6 +244,11 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private void initNodeSpecificFields() {
+        if (parameters.streamNeighbors()) {
+            initStreamingFields();
+            return;
+        }
+
         neighbors = HugeObjectArray.newArray(long[].class, graph.nodeCount());
         if (weighted) {
             weights = HugeObjectArray.newArray(double[].class, graph.nodeCount());
@@ -277,6 +287,46 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         });
     }
 
+    /**
+     * Only computes the filtered node sets and the vector lengths, the vectors themselves are read during
+     * the similarity computation by a {@link StreamingVectorSimilarity} per thread.
+     */
+    private void initStreamingFields() {
+        var degrees = HugeIntArray.newArray(graph.nodeCount());
+        DegreeComputer degreeComputer = new DegreeComputer();
+        DegreeFilter degreeFilter = new DegreeFilter(parameters.degreeCutoff(), parameters.upperDegreeCutoff());
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            graph.forEachRelationship(node, degreeComputer);
+            int degree = degreeComputer.degree;
+            degreeComputer.reset();
+
+            progressTracker.logProgress(graph.degree(node));
+            if (degreeFilter.apply(degree)) {
+                if (sourceNodeFilter.test(node)) {
+                    sourceNodes.set(node);
+                }
+                if (targetNodeFilter.test(node)) {
+                    targetNodes.set(node);
+                }
+                degrees.set(node, degree);
+            }
+        }
+
+        streamingSimilarity = CloseableThreadLocal.withInitial(() -> new StreamingVectorSimilarity(
+            graph,
+            similarityComputer,
+            weighted,
+            sortVectors,
+            degrees
+        ));
+    }
+
+    private void closeStreamingSimilarity() {
+        if (streamingSimilarity != null) {
+            streamingSimilarity.close();
+        }
+    }
+
     private Stream<SimilarityResult> computeAll() {
         progressTracker.beginSubTask(calculateWorkload());
 
@@ -301,7 +351,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         var comparator = parameters.normalizedK() > 0
             ? SimilarityResult.DESCENDING
             : SimilarityResult.ASCENDING;
-        var topKMap = new TopKMap(neighbors.size(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
+        var topKMap = new TopKMap(graph.nodeCount(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
 
         loggableAndTerminableSourceNodeStream()
             .forEach(sourceNodeId -> {
@@ -329,7 +379,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         var comparator = parameters.normalizedK() > 0
             ? SimilarityResult.DESCENDING
             : SimilarityResult.ASCENDING;
-        var topKMap = new TopKMap(neighbors.size(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
+        var topKMap = new TopKMap(graph.nodeCount(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
 
         ParallelUtil.parallelStreamConsume(
             loggableAndTerminableSourceNodeStream(),
@@ -435,6 +485,15 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private void computeSimilarityFor(long sourceNodeId, long targetNodeId, SimilarityConsumer consumer) {
+        if (streamingSimilarity != null) {
+            double similarity = streamingSimilarity.get().similarity(sourceNodeId, targetNodeId);
+            progressTracker.logProgress();
+            if (!Double.isNaN(similarity)) {
+                consumer.accept(sourceNodeId, targetNodeId, similarity);
+            }
+            return;
+        }
+
         double similarity;
         var sourceNodeNeighbors = neighbors.get(sourceNodeId);
         var targetNodeNeighbors = neighbors.get(targetNodeId);
@@ -99,6 +99,14 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return ComponentSpec.NO;
     }
 
+    /**
+     * Reads the neighbors of the compared nodes from the graph on demand instead of copying them up front.
+     * Trades extra decompression work for memory.
+     */
+    default boolean streamNeighbors() {
+        return false;
+    }
+
     @Configuration.Ignore
     @Deprecated(forRemoval = true) // Don't use configs for internal parameters
     default boolean computeToStream() {
@@ -165,7 +173,8 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
             computeToStream(),
             hasRelationshipWeightProperty(),
             componentUsage.useComponents(),
-            componentUsage.componentProperty()
+            componentUsage.componentProperty(),
+            streamNeighbors()
         );
     }
 
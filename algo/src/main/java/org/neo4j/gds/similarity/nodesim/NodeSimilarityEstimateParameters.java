@@ -27,8 +27,19 @@ public record NodeSimilarityEstimateParameters(
     int normalizedN,
     boolean useComponents,
     boolean runWCC,
-    boolean computeToGraph
+    boolean computeToGraph,
+    boolean streamNeighbors
 ) {
+    public NodeSimilarityEstimateParameters(
+        int normalizedK,
+        int normalizedN,
+        boolean useComponents,
+        boolean runWCC,
+        boolean computeToGraph
+    ) {
+        this(normalizedK, normalizedN, useComponents, runWCC, computeToGraph, false);
+    }
+
     boolean hasTopK() {
         return normalizedK != 0;
     }
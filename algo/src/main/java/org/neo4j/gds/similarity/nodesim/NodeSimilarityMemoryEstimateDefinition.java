@@ -21,6 +21,7 @@ package org.neo4j.gds.similarity.nodesim;
 
 import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.MemoryEstimateDefinition;
+import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
@@ -49,28 +50,49 @@ public class NodeSimilarityMemoryEstimateDefinition implements MemoryEstimateDef
         var topN = Math.abs(parameters.normalizedN());
 
         MemoryEstimations.Builder builder = MemoryEstimations.builder(NodeSimilarity.class.getSimpleName())
-            .perNode("node filter", nodeCount -> sizeOfLongArray(BitSet.bits2words(nodeCount)))
-            .add(
-                "vectors",
-                MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                    int averageDegree = dimensions.nodeCount() == 0
-                        ? 0
-                        : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
-                    long averageVectorSize = sizeOfLongArray(averageDegree);
-                    return MemoryEstimations.builder(HugeObjectArray.class)
-                        .perNode("array", nodeCount -> nodeCount * averageVectorSize).build();
-                })
-            )
-            .add("weights",
-                MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                    int averageDegree = dimensions.nodeCount() == 0
-                        ? 0
-                        : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
-                    long averageVectorSize = sizeOfDoubleArray(averageDegree);
-                    return MemoryEstimations.builder(HugeObjectArray.class)
-                        .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
-                        .build();
-                }));
+            .perNode("node filter", nodeCount -> sizeOfLongArray(BitSet.bits2words(nodeCount)));
+        if (parameters.streamNeighbors()) {
+            builder
+                .perNode("degrees", HugeIntArray::memoryEstimation)
+                .perThread(
+                    "vector buffers",
+                    MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                        int averageDegree = dimensions.nodeCount() == 0
+                            ? 0
+                            : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
+                        return MemoryEstimations.of(
+                            "buffers",
+                            MemoryRange.of(
+                                2 * sizeOfLongArray(averageDegree),
+                                2 * (sizeOfLongArray(averageDegree) + sizeOfDoubleArray(averageDegree))
+                            )
+                        );
+                    })
+                );
+        } else {
+            builder
+                .add(
+                    "vectors",
+                    MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                        int averageDegree = dimensions.nodeCount() == 0
+                            ? 0
+                            : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
+                        long averageVectorSize = sizeOfLongArray(averageDegree);
+                        return MemoryEstimations.builder(HugeObjectArray.class)
+                            .perNode("array", nodeCount -> nodeCount * averageVectorSize).build();
+                    })
+                )
+                .add("weights",
+                    MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                        int averageDegree = dimensions.nodeCount() == 0
+                            ? 0
+                            : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
+                        long averageVectorSize = sizeOfDoubleArray(averageDegree);
+                        return MemoryEstimations.builder(HugeObjectArray.class)
+                            .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
+                            .build();
+                    }));
+        }
         if (parameters.useComponents()) {
             builder.perNode("nodes sorted by component", HugeLongArray::memoryEstimation);
             builder.perNode("upper bound per component", HugeAtomicLongArray::memoryEstimation);
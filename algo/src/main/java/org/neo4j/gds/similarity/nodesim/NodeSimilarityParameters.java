@@ -32,8 +32,34 @@ public record NodeSimilarityParameters(
     boolean computeToStream,
     boolean hasRelationshipWeightProperty,
     boolean useComponents,
-    @Nullable String componentProperty
+    @Nullable String componentProperty,
+    boolean streamNeighbors
 ) {
+    public NodeSimilarityParameters(
+        MetricSimilarityComputer similarityComputer,
+        int degreeCutoff,
+        int upperDegreeCutoff,
+        int normalizedK,
+        int normalizedN,
+        boolean computeToStream,
+        boolean hasRelationshipWeightProperty,
+        boolean useComponents,
+        @Nullable String componentProperty
+    ) {
+        this(
+            similarityComputer,
+            degreeCutoff,
+            upperDegreeCutoff,
+            normalizedK,
+            normalizedN,
+            computeToStream,
+            hasRelationshipWeightProperty,
+            useComponents,
+            componentProperty,
+            false
+        );
+    }
+
     boolean hasTopK() {
         return normalizedK != 0;
     }
@@ -52,7 +78,8 @@ public record NodeSimilarityParameters(
             normalizedN,
             useComponents,
             runWCC(),
-            !computeToStream
+            !computeToStream,
+            streamNeighbors
         );
     }
 }
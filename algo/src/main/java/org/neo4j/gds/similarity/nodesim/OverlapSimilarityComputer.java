@@ -33,11 +33,38 @@ final class OverlapSimilarityComputer implements MetricSimilarityComputer {
         return OverlapSimilarity.computeSimilarity(vector1, vector2, similarityCutoff);
     }
 
+    @Override
+    public double computeSimilarity(long intersection, long length1, long length2) {
+        double minimumCardinality = Math.min(length1, length2);
+        double similarity = intersection / minimumCardinality;
+        return similarity >= similarityCutoff ? similarity : Double.NaN;
+    }
+
     @Override
     public double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2) {
         return OverlapSimilarity.computeWeightedSimilarity(vector1, vector2, weights1, weights2, similarityCutoff);
     }
 
+    @Override
+    public double computeWeightedSimilarity(
+        long[] vector1,
+        int length1,
+        long[] vector2,
+        int length2,
+        double[] weights1,
+        double[] weights2
+    ) {
+        return OverlapSimilarity.computeWeightedSimilarity(
+            vector1,
+            length1,
+            vector2,
+            length2,
+            weights1,
+            weights2,
+            similarityCutoff
+        );
+    }
+
     static class Builder implements MetricSimilarityComputerBuilder {
         @Override
         public MetricSimilarityComputer build(double similarityCutoff) {
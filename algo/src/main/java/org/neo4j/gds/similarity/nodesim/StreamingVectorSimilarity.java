@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.core.huge.HugeGraph;
+
+import java.util.Optional;
+
+/**
+ * Computes similarities without materializing the vectors of all nodes up front.
+ *
+ * The vector of the current source node is read into a buffer, which is reused as long as the source node stays the same.
+ * For unweighted similarities on a single relationship type, the target vector is intersected directly on the
+ * adjacency cursor of the target node. Otherwise, the target vector is read into a second buffer.
+ * Both buffers are bounded by the largest degree, so an instance must only be used by a single thread.
+ */
+final class StreamingVectorSimilarity {
+
+    private final Graph graph;
+    private final MetricSimilarityComputer similarityComputer;
+    private final boolean weighted;
+    private final boolean sortVectors;
+    private final HugeIntArray degrees;
+    private final @Nullable AdjacencyList adjacencyList;
+
+    private final VectorComputer sourceVector;
+    private final VectorComputer targetVector;
+    private long currentSourceNode;
+    private @Nullable AdjacencyCursor cursor;
+
+    StreamingVectorSimilarity(
+        Graph graph,
+        MetricSimilarityComputer similarityComputer,
+        boolean weighted,
+        boolean sortVectors,
+        HugeIntArray degrees
+    ) {
+        this.graph = graph.concurrentCopy();
+        this.similarityComputer = similarityComputer;
+        this.weighted = weighted;
+        this.sortVectors = sortVectors;
+        this.degrees = degrees;
+        this.adjacencyList = weighted || sortVectors ? null : adjacencyList(this.graph).orElse(null);
+        this.sourceVector = VectorComputer.of(this.graph, weighted);
+        this.targetVector = VectorComputer.of(this.graph, weighted);
+        this.currentSourceNode = -1;
+    }
+
+    /**
+     * The cursor based intersection relies on the targets of a node being sorted and is therefore only
+     * used for graphs which are backed by a single adjacency list.
+     */
+    static Optional<AdjacencyList> adjacencyList(Graph graph) {
+        if (graph instanceof HugeGraph) {
+            return Optional.of(((HugeGraph) graph).relationshipTopology().adjacencyList());
+        }
+        return Optional.empty();
+    }
+
+    double similarity(long sourceNodeId, long targetNodeId) {
+        if (sourceNodeId != currentSourceNode) {
+            readVector(sourceVector, sourceNodeId);
+            currentSourceNode = sourceNodeId;
+        }
+
+        if (adjacencyList != null) {
+            cursor = adjacencyList.adjacencyCursor(cursor, targetNodeId);
+            long intersection = intersection(cursor, targetNodeId);
+            return similarityComputer.computeSimilarity(intersection, sourceVector.length(), degrees.get(targetNodeId));
+        }
+
+        readVector(targetVector, targetNodeId);
+        if (weighted) {
+            return similarityComputer.computeWeightedSimilarity(
+                sourceVector.targetIds.buffer,
+                sourceVector.length(),
+                targetVector.targetIds.buffer,
+                targetVector.length(),
+                sourceVector.getWeights(),
+                targetVector.getWeights()
+            );
+        }
+        return similarityComputer.computeSimilarity(
+            sourceVector.targetIds.buffer,
+            sourceVector.length(),
+            targetVector.targetIds.buffer,
+            targetVector.length()
+        );
+    }
+
+    private void readVector(VectorComputer vectorComputer, long nodeId) {
+        vectorComputer.clear(graph.degree(nodeId));
+        vectorComputer.forEachRelationship(nodeId);
+        if (sortVectors) {
+            vectorComputer.sortTargetIds();
+        }
+    }
+
+    /**
+     * Intersects the buffered source vector with the targets of the cursor.
+     * Parallel relationships of the target node are skipped by advancing past the current source target,
+     * and a self-loop of the target node is not counted, as it is not part of its vector.
+     */
+    private long intersection(AdjacencyCursor cursor, long targetNodeId) {
+        long[] sourceTargets = sourceVector.targetIds.buffer;
+        int sourceLength = sourceVector.length();
+
+        long intersection = 0;
+        long current = -1;
+        for (int i = 0; i < sourceLength; i++) {
+            long sourceTarget = sourceTargets[i];
+            if (sourceTarget == targetNodeId) {
+                continue;
+            }
+            if (current < sourceTarget) {
+                current = cursor.advance(sourceTarget);
+                if (current == AdjacencyCursor.NOT_FOUND) {
+                    break;
+                }
+            }
+            if (current == sourceTarget) {
+                intersection++;
+            }
+        }
+        return intersection;
+    }
+}
@@ -50,6 +50,24 @@ abstract class VectorComputer {
         targetIds = new LongArrayList(degree, ARRAY_SIZING_STRATEGY);
     }
 
+    /**
+     * Like {@link #reset(int)}, but keeps the buffers of the previous vector if they are large enough.
+     * The buffers may therefore be longer than the vector, whose length is given by {@link #length()}.
+     */
+    void clear(int degree) {
+        if (targetIds == null) {
+            reset(degree);
+            return;
+        }
+        lastTarget = -1;
+        targetIds.clear();
+        targetIds.ensureCapacity(degree);
+    }
+
+    int length() {
+        return targetIds.size();
+    }
+
     boolean consumeRelationship(long source, long target) {
         boolean consume = false;
         if (source != target && lastTarget != target) {
@@ -98,7 +116,7 @@ abstract class VectorComputer {
 
         @Override
         void sortTargetIds() {
-            Arrays.sort(targetIds.buffer);
+            Arrays.sort(targetIds.buffer, 0, targetIds.size());
         }
 
         @Override
@@ -140,10 +158,20 @@ abstract class VectorComputer {
             weights = new DoubleArrayList(degree, ARRAY_SIZING_STRATEGY);
         }
 
+        @Override
+        void clear(int degree) {
+            if (weights == null) {
+                reset(degree);
+                return;
+            }
+            super.clear(degree);
+            weights.clear();
+            weights.ensureCapacity(degree);
+        }
+
         @Override
         void sortTargetIds() {
-            int length = weights.buffer.length;
-            TwoArraysSort.sortDoubleArrayByLongValues(targetIds.buffer, weights.buffer, length);
+            TwoArraysSort.sortDoubleArrayByLongValues(targetIds.buffer, weights.buffer, weights.size());
         }
     }
 }
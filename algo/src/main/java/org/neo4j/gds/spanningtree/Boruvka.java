@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import com.carrotsearch.hppc.BitSet;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Parallel minimum weight spanning forest algorithm (Boruvka).
+ * <p>
+ * In every round, each component selects its cheapest relationship leaving the component
+ * and all selected relationships are added to the forest at once, merging the components they connect.
+ * The number of components at least halves every round, so there are at most log(nodeCount) rounds.
+ * Ties are broken by the node ids of the relationship, which guarantees that no cycles are introduced.
+ * <p>
+ * Afterwards, the tree containing the start node is rooted at the start node,
+ * so that the result has the same shape as the one produced by {@link Prim}.
+ */
+public class Boruvka extends Algorithm<SpanningTree> {
+    private static final long NO_EDGE = -1L;
+
+    private final Graph graph;
+    private final DoubleUnaryOperator minMax;
+    private final long startNodeId;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.minMax = minMax;
+        this.startNodeId = startNodeId;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask("SpanningTree");
+        long nodeCount = graph.nodeCount();
+
+        var disjointSets = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        var component = HugeLongArray.newArray(nodeCount);
+        var bestTarget = HugeLongArray.newArray(nodeCount);
+        var bestWeight = HugeDoubleArray.newArray(nodeCount);
+        var componentBest = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+
+        // the selected relationships, weights are stored after applying the objective
+        var forestSource = HugeLongArray.newArray(Math.max(nodeCount - 1, 0));
+        var forestTarget = HugeLongArray.newArray(Math.max(nodeCount - 1, 0));
+        var forestWeight = HugeDoubleArray.newArray(Math.max(nodeCount - 1, 0));
+        var forestSize = new AtomicLong();
+
+        long addedInRound;
+        boolean firstRound = true;
+        do {
+            terminationFlag.assertRunning();
+
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+                component.set(nodeId, disjointSets.setIdOf(nodeId));
+                componentBest.set(nodeId, NO_EDGE);
+            });
+
+            // progress is based on the relationship count, which is exactly the work of the first round
+            findCheapestRelationships(component, bestTarget, bestWeight, firstRound);
+            firstRound = false;
+
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+                if (bestTarget.get(nodeId) != NO_EDGE) {
+                    offerToComponent(nodeId, component.get(nodeId), componentBest, bestTarget, bestWeight);
+                }
+            });
+
+            long sizeBeforeRound = forestSize.get();
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, componentId -> {
+                long source = componentBest.get(componentId);
+                if (source == NO_EDGE) {
+                    return;
+                }
+                long target = bestTarget.get(source);
+                long otherComponent = component.get(target);
+                // both components might have selected the same relationship, only the smaller one adds it
+                long otherSource = componentBest.get(otherComponent);
+                if (otherSource == target && bestTarget.get(otherSource) == source && otherComponent < componentId) {
+                    return;
+                }
+                disjointSets.union(source, target);
+                long index = forestSize.getAndIncrement();
+                forestSource.set(index, source);
+                forestTarget.set(index, target);
+                forestWeight.set(index, bestWeight.get(source));
+            });
+            addedInRound = forestSize.get() - sizeBeforeRound;
+        } while (addedInRound > 0);
+
+        var spanningTree = rootAtStartNode(forestSource, forestTarget, forestWeight, forestSize.get());
+        progressTracker.endSubTask("SpanningTree");
+        return spanningTree;
+    }
+
+    private void findCheapestRelationships(
+        HugeLongArray component,
+        HugeLongArray bestTarget,
+        HugeDoubleArray bestWeight,
+        boolean logProgress
+    ) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                var target = new MutableLong();
+                var weight = new MutableDouble();
+                partition.consume(nodeId -> {
+                    long nodeComponent = component.get(nodeId);
+                    target.setValue(NO_EDGE);
+                    localGraph.forEachRelationship(nodeId, 0.0D, (s, t, w) -> {
+                        if (component.get(t) == nodeComponent) {
+                            return true;
+                        }
+                        // invert weight to calculate maximum
+                        double candidateWeight = minMax.applyAsDouble(w);
+                        if (target.longValue() == NO_EDGE || isCheaper(
+                            candidateWeight,
+                            s,
+                            t,
+                            weight.doubleValue(),
+                            s,
+                            target.longValue()
+                        )) {
+                            target.setValue(t);
+                            weight.setValue(candidateWeight);
+                        }
+                        return true;
+                    });
+                    bestTarget.set(nodeId, target.longValue());
+                    bestWeight.set(nodeId, weight.doubleValue());
+                    if (logProgress) {
+                        progressTracker.logProgress(localGraph.degree(nodeId));
+                    }
+                });
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private static void offerToComponent(
+        long nodeId,
+        long componentId,
+        HugeAtomicLongArray componentBest,
+        HugeLongArray bestTarget,
+        HugeDoubleArray bestWeight
+    ) {
+        long current = componentBest.get(componentId);
+        while (current == NO_EDGE || isCheaper(
+            bestWeight.get(nodeId),
+            nodeId,
+            bestTarget.get(nodeId),
+            bestWeight.get(current),
+            current,
+            bestTarget.get(current)
+        )) {
+            long witness = componentBest.compareAndExchange(componentId, current, nodeId);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Total order on relationships: by weight, then by the smaller and then the larger node id.
+     */
+    private static boolean isCheaper(
+        double weight,
+        long source,
+        long target,
+        double otherWeight,
+        long otherSource,
+        long otherTarget
+    ) {
+        int weightComparison = Double.compare(weight, otherWeight);
+        if (weightComparison != 0) {
+            return weightComparison < 0;
+        }
+        long low = Math.min(source, target);
+        long otherLow = Math.min(otherSource, otherTarget);
+        if (low != otherLow) {
+            return low < otherLow;
+        }
+        return Math.max(source, target) < Math.max(otherSource, otherTarget);
+    }
+
+    private SpanningTree rootAtStartNode(
+        HugeLongArray forestSource,
+        HugeLongArray forestTarget,
+        HugeDoubleArray forestWeight,
+        long forestSize
+    ) {
+        long nodeCount = graph.nodeCount();
+
+        // build an undirected adjacency list of the forest, storing relationship indices
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long i = 0; i < forestSize; i++) {
+            offsets.addTo(forestSource.get(i) + 1, 1);
+            offsets.addTo(forestTarget.get(i) + 1, 1);
+        }
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.addTo(nodeId + 1, offsets.get(nodeId));
+        }
+        var insertPosition = HugeLongArray.newArray(nodeCount);
+        insertPosition.setAll(offsets::get);
+        var adjacency = HugeLongArray.newArray(2 * forestSize);
+        for (long i = 0; i < forestSize; i++) {
+            long source = forestSource.get(i);
+            long target = forestTarget.get(i);
+            adjacency.set(insertPosition.get(source), i);
+            insertPosition.addTo(source, 1);
+            adjacency.set(insertPosition.get(target), i);
+            insertPosition.addTo(target, 1);
+        }
+
+        var parent = HugeLongArray.newArray(nodeCount);
+        var costToParent = HugeDoubleArray.newArray(nodeCount);
+        parent.fill(-1L);
+
+        var visited = new BitSet(nodeCount);
+        var queue = HugeLongArrayQueue.newQueue(nodeCount);
+        queue.add(startNodeId);
+        visited.set(startNodeId);
+        long effectiveNodeCount = 0;
+        double totalWeight = 0;
+        while (!queue.isEmpty()) {
+            long node = queue.remove();
+            effectiveNodeCount++;
+            for (long offset = offsets.get(node); offset < offsets.get(node + 1); offset++) {
+                long relationship = adjacency.get(offset);
+                long source = forestSource.get(relationship);
+                long neighbour = source == node ? forestTarget.get(relationship) : source;
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+                double cost = minMax.applyAsDouble(forestWeight.get(relationship));
+                parent.set(neighbour, node);
+                costToParent.set(neighbour, cost);
+                totalWeight += cost;
+                queue.add(neighbour);
+            }
+        }
+
+        return new SpanningTree(
+            startNodeId,
+            nodeCount,
+            effectiveNodeCount,
+            parent,
+            costToParent::get,
+            totalWeight
+        );
+    }
+}
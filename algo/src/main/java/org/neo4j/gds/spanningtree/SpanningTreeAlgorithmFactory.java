@@ -19,30 +19,35 @@
  */
 package org.neo4j.gds.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 
-public class SpanningTreeAlgorithmFactory<CONFIG extends SpanningTreeBaseConfig> extends GraphAlgorithmFactory<Prim, CONFIG> {
+public class SpanningTreeAlgorithmFactory<CONFIG extends SpanningTreeBaseConfig> extends GraphAlgorithmFactory<Algorithm<SpanningTree>, CONFIG> {
 
-    public Prim build(Graph graph, SpanningTreeParameters parameters, ProgressTracker progressTracker) {
+    public Algorithm<SpanningTree> build(Graph graph, SpanningTreeParameters parameters, ProgressTracker progressTracker) {
         if (!graph.schema().isUndirected()) {
             throw new IllegalArgumentException(
                 "The Spanning Tree algorithm works only with undirected graphs. Please orient the edges properly");
         }
-        return new Prim(
+        var startNodeId = graph.toMappedNodeId(parameters.sourceNode());
+        return parameters.algorithm().create(
             graph,
             parameters.objective(),
-            graph.toMappedNodeId(parameters.sourceNode()),
+            startNodeId,
+            parameters.concurrency(),
+            DefaultPool.INSTANCE,
             progressTracker
         );
     }
 
     @Override
-    public Prim build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
+    public Algorithm<SpanningTree> build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
         return build(graph, configuration.toParameters(), progressTracker);
     }
 
@@ -53,7 +58,7 @@ public class SpanningTreeAlgorithmFactory<CONFIG extends SpanningTreeBaseConfig>
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
-        return new SpanningTreeMemoryEstimateDefinition().memoryEstimation();
+        return new SpanningTreeMemoryEstimateDefinition(config.algorithm()).memoryEstimation();
     }
 
     public Task progressTask(Graph graph) {
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.spanningtree;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Collectors;
+
+public enum SpanningTreeAlgorithmType {
+    /**
+     * Single-threaded Prim, growing the tree from the source node.
+     */
+    PRIM {
+        @Override
+        public Algorithm<SpanningTree> create(
+            Graph graph,
+            DoubleUnaryOperator minMax,
+            long startNodeId,
+            int concurrency,
+            ExecutorService executorService,
+            ProgressTracker progressTracker
+        ) {
+            return new Prim(graph, minMax, startNodeId, progressTracker);
+        }
+    },
+    /**
+     * Parallel Boruvka, merging all components along their cheapest outgoing relationship in each round.
+     */
+    BORUVKA {
+        @Override
+        public Algorithm<SpanningTree> create(
+            Graph graph,
+            DoubleUnaryOperator minMax,
+            long startNodeId,
+            int concurrency,
+            ExecutorService executorService,
+            ProgressTracker progressTracker
+        ) {
+            return new Boruvka(graph, minMax, startNodeId, concurrency, executorService, progressTracker);
+        }
+    };
+
+    /**
+     * Creates the spanning tree algorithm of this type. Prim ignores the concurrency and executor.
+     */
+    public abstract Algorithm<SpanningTree> create(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    );
+
+    private static final List<String> VALUES = Arrays
+        .stream(SpanningTreeAlgorithmType.values())
+        .map(SpanningTreeAlgorithmType::name)
+        .collect(Collectors.toList());
+
+    public static SpanningTreeAlgorithmType parse(Object input) {
+        if (input instanceof String) {
+            var inputString = ((String) input).toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(inputString)) {
+                return SpanningTreeAlgorithmType.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(String.format(
+                Locale.ENGLISH,
+                "Algorithm `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof SpanningTreeAlgorithmType) {
+            return (SpanningTreeAlgorithmType) input;
+        }
+
+        throw new IllegalArgumentException(String.format(
+            Locale.ENGLISH,
+            "Expected SpanningTreeAlgorithmType or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(SpanningTreeAlgorithmType algorithmType) {
+        return algorithmType.toString();
+    }
+}
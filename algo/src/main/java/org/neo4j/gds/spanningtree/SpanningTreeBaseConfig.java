@@ -37,8 +37,14 @@ public interface SpanningTreeBaseConfig extends
         return Prim.MIN_OPERATOR;
     }
 
+    @Configuration.ConvertWith(method = "org.neo4j.gds.spanningtree.SpanningTreeAlgorithmType#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.spanningtree.SpanningTreeAlgorithmType#toString")
+    default SpanningTreeAlgorithmType algorithm() {
+        return SpanningTreeAlgorithmType.PRIM;
+    }
+
     @Configuration.Ignore
     default SpanningTreeParameters toParameters() {
-        return new SpanningTreeParameters(objective(), sourceNode());
+        return new SpanningTreeParameters(objective(), sourceNode(), algorithm(), concurrency());
     }
 }
@@ -20,21 +20,58 @@
 package org.neo4j.gds.spanningtree;
 
 import org.neo4j.gds.MemoryEstimateDefinition;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
 
 public class SpanningTreeMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final SpanningTreeAlgorithmType algorithmType;
+
+    public SpanningTreeMemoryEstimateDefinition() {
+        this(SpanningTreeAlgorithmType.PRIM);
+    }
+
+    public SpanningTreeMemoryEstimateDefinition(SpanningTreeAlgorithmType algorithmType) {
+        this.algorithmType = algorithmType;
+    }
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (algorithmType == SpanningTreeAlgorithmType.BORUVKA) {
+            return boruvkaMemoryEstimation();
+        }
+
         return MemoryEstimations.builder(Prim.class)
             .perNode("Parent array", HugeLongArray::memoryEstimation)
             .add("Priority queue", HugeLongPriorityQueue.memoryEstimation())
             .perNode("visited", MemoryUsage::sizeOfBitset)
             .build();
     }
+
+    private MemoryEstimation boruvkaMemoryEstimation() {
+        return MemoryEstimations.builder(Boruvka.class)
+            .add("disjoint sets", HugeAtomicDisjointSetStruct.memoryEstimation(false))
+            .perNode("component", HugeLongArray::memoryEstimation)
+            .perNode("best target", HugeLongArray::memoryEstimation)
+            .perNode("best weight", HugeDoubleArray::memoryEstimation)
+            .perNode("component best", HugeAtomicLongArray::memoryEstimation)
+            .perNode("forest sources", HugeLongArray::memoryEstimation)
+            .perNode("forest targets", HugeLongArray::memoryEstimation)
+            .perNode("forest weights", HugeDoubleArray::memoryEstimation)
+            .perNode("forest offsets", HugeLongArray::memoryEstimation)
+            .perNode("forest insert positions", HugeLongArray::memoryEstimation)
+            .perNode("forest adjacency", nodeCount -> HugeLongArray.memoryEstimation(2 * nodeCount))
+            .perNode("Parent array", HugeLongArray::memoryEstimation)
+            .perNode("Cost to parent", HugeDoubleArray::memoryEstimation)
+            .perNode("visited", MemoryUsage::sizeOfBitset)
+            .add("queue", HugeLongArrayQueue.memoryEstimation())
+            .build();
+    }
 }
@@ -24,5 +24,10 @@ import org.neo4j.gds.annotation.Parameters;
 import java.util.function.DoubleUnaryOperator;
 
 @Parameters
-public record SpanningTreeParameters(DoubleUnaryOperator objective, long sourceNode) {
+public record SpanningTreeParameters(
+    DoubleUnaryOperator objective,
+    long sourceNode,
+    SpanningTreeAlgorithmType algorithm,
+    int concurrency
+) {
 }
@@ -29,6 +29,8 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -116,4 +118,28 @@ class MSBFSAllShortestPathsTest {
         verify(mock, times(1)).accept(a0, a9, 5.0);
     }
 
+    @Test
+    void shouldOnlyStartFromSourceNodes() {
+        long a0 = idFunction.of("a0");
+        long a8 = idFunction.of("a8");
+        long a9 = idFunction.of("a9");
+        var sourceNodes = new long[]{graph.toMappedNodeId(a0), graph.toMappedNodeId(a8)};
+
+        var results = new MSBFSAllShortestPaths(
+            graph,
+            sourceNodes,
+            ConcurrencyConfig.DEFAULT_CONCURRENCY,
+            DefaultPool.INSTANCE
+        ).compute().collect(Collectors.toList());
+
+        assertThat(results)
+            .extracting(r -> r.sourceNodeId)
+            .containsOnly(a0, a8);
+        assertThat(results).filteredOn(r -> r.sourceNodeId == a0).hasSize(9);
+        assertThat(results).filteredOn(r -> r.sourceNodeId == a8).hasSize(1);
+        assertThat(results)
+            .filteredOn(r -> r.targetNodeId == a9)
+            .extracting(r -> r.distance)
+            .containsExactlyInAnyOrder(5.0, 1.0);
+    }
 }
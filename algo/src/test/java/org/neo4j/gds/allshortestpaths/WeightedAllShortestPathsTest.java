@@ -30,6 +30,9 @@ import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -119,6 +122,45 @@ class WeightedAllShortestPathsTest {
 
     }
 
+    @Test
+    void shouldOnlyStartFromSourceNodes() {
+        long a0 = idFunction.of("a0");
+        long a8 = idFunction.of("a8");
+        long a9 = idFunction.of("a9");
+        var sourceNodes = new long[]{graph.toMappedNodeId(a0), graph.toMappedNodeId(a8)};
+
+        var results = new WeightedAllShortestPaths(graph, sourceNodes, DefaultPool.INSTANCE, 4)
+            .compute()
+            .collect(Collectors.toList());
+
+        assertThat(results)
+            .extracting(r -> r.sourceNodeId)
+            .containsOnly(a0, a8);
+        assertThat(results).filteredOn(r -> r.sourceNodeId == a0).hasSize(10);
+        assertThat(results).filteredOn(r -> r.sourceNodeId == a8).hasSize(2);
+        assertThat(results)
+            .filteredOn(r -> r.targetNodeId == a9)
+            .extracting(r -> r.distance)
+            .containsExactlyInAnyOrder(5.0, 1.0);
+    }
+
+    @Test
+    void shouldReuseTraversalStateAcrossSourceNodes() {
+        var allSources = new long[(int) graph.nodeCount()];
+        Arrays.setAll(allSources, i -> i);
+
+        var sequential = new WeightedAllShortestPaths(graph, allSources, DefaultPool.INSTANCE, 1)
+            .compute()
+            .map(AllShortestPathsStreamResult::toString)
+            .collect(Collectors.toList());
+        var parallel = new WeightedAllShortestPaths(graph, DefaultPool.INSTANCE, 4)
+            .compute()
+            .map(AllShortestPathsStreamResult::toString)
+            .collect(Collectors.toList());
+
+        assertThat(sequential).hasSize(45).containsExactlyInAnyOrderElementsOf(parallel);
+    }
+
     @Test
     void shouldThrowIfGraphHasNoRelationshipProperty() {
         var gdlGraph = GdlFactory.of("(a)-[:r]->(b)").build().getUnion();
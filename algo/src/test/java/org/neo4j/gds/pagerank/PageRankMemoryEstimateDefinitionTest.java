@@ -23,7 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 
 import java.util.stream.Stream;
 
@@ -65,4 +69,21 @@ class PageRankMemoryEstimateDefinitionTest {
             .hasMax(241_286_621_640L);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeResidualPushMemoryEstimation(int concurrency) {
+        var nodeCount = 100_000;
+        var relationshipCount = nodeCount * 10;
+
+        var memoryEstimation = new PageRankMemoryEstimateDefinition(true).memoryEstimation();
+
+        var expectedBytes = HugeDoubleArray.memoryEstimation(nodeCount)
+            + HugeAtomicDoubleArray.memoryEstimation(nodeCount)
+            + 2 * HugeAtomicBitSet.memoryEstimation(nodeCount);
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(nodeCount, relationshipCount, concurrency)
+            .hasMin(expectedBytes)
+            .hasMax(expectedBytes);
+    }
 }
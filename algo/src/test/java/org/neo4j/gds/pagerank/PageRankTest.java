@@ -52,6 +52,7 @@ import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.within;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -69,17 +70,17 @@ class PageRankTest {
         @GdlGraph
         private static final String DB_CYPHER =
             "CREATE" +
-            "  (a:Node { expectedRank: 0.3040965, expectedPersonalizedRank1: 0.17053529152163158 , expectedPersonalizedRank2: 0.017454997930076894 })" +
-            ", (b:Node { expectedRank: 3.5604297, expectedPersonalizedRank1: 0.3216114449911402  , expectedPersonalizedRank2: 0.813246950528992    })" +
-            ", (c:Node { expectedRank: 3.1757906, expectedPersonalizedRank1: 0.27329311398643763 , expectedPersonalizedRank2: 0.690991752640184    })" +
-            ", (d:Node { expectedRank: 0.3625935, expectedPersonalizedRank1: 0.048318333106500536, expectedPersonalizedRank2: 0.041070583050331164 })" +
-            ", (e:Node { expectedRank: 0.7503465, expectedPersonalizedRank1: 0.17053529152163158 , expectedPersonalizedRank2: 0.1449550029964717   })" +
-            ", (f:Node { expectedRank: 0.3625935, expectedPersonalizedRank1: 0.048318333106500536, expectedPersonalizedRank2: 0.041070583050331164 })" +
-            ", (g:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  })" +
-            ", (h:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  })" +
-            ", (i:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  })" +
-            ", (j:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  })" +
-            ", (k:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.15000000000000002  })" +
+            "  (a:Node { expectedRank: 0.3040965, expectedPersonalizedRank1: 0.17053529152163158 , expectedPersonalizedRank2: 0.017454997930076894 , convergedRank: 0.3041053 })" +
+            ", (b:Node { expectedRank: 3.5604297, expectedPersonalizedRank1: 0.3216114449911402  , expectedPersonalizedRank2: 0.813246950528992    , convergedRank: 3.5659864 })" +
+            ", (c:Node { expectedRank: 3.1757906, expectedPersonalizedRank1: 0.27329311398643763 , expectedPersonalizedRank2: 0.690991752640184    , convergedRank: 3.1810884 })" +
+            ", (d:Node { expectedRank: 0.3625935, expectedPersonalizedRank1: 0.048318333106500536, expectedPersonalizedRank2: 0.041070583050331164 , convergedRank: 0.3626007 })" +
+            ", (e:Node { expectedRank: 0.7503465, expectedPersonalizedRank1: 0.17053529152163158 , expectedPersonalizedRank2: 0.1449550029964717   , convergedRank: 0.7503553 })" +
+            ", (f:Node { expectedRank: 0.3625935, expectedPersonalizedRank1: 0.048318333106500536, expectedPersonalizedRank2: 0.041070583050331164 , convergedRank: 0.3626007 })" +
+            ", (g:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  , convergedRank: 0.15 })" +
+            ", (h:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  , convergedRank: 0.15 })" +
+            ", (i:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  , convergedRank: 0.15 })" +
+            ", (j:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.0                  , convergedRank: 0.15 })" +
+            ", (k:Node { expectedRank: 0.15     , expectedPersonalizedRank1: 0.0                 , expectedPersonalizedRank2: 0.15000000000000002  , convergedRank: 0.15 })" +
             ", (b)-[:TYPE]->(c)" +
             ", (c)-[:TYPE]->(b)" +
             ", (d)-[:TYPE]->(a)" +
@@ -166,6 +167,146 @@ class PageRankTest {
             }
         }
 
+        @Test
+        void withConvergedSeedProperty() {
+            var config = PageRankStreamConfigImpl.builder()
+                .maxIterations(40)
+                .concurrency(1)
+                .tolerance(1E-4)
+                .seedProperty("convergedRank")
+                .build();
+
+            var pregelResult = runOnPregel(graph, config);
+
+            // seeding with the converged scores only leaves residuals below the tolerance,
+            // so all nodes halt right after computing them
+            assertThat(pregelResult.iterations()).isEqualTo(1);
+            assertThat(pregelResult.didConverge()).isTrue();
+
+            assertScores(pregelResult, "convergedRank");
+        }
+
+        @Test
+        void withOutdatedSeedProperty() {
+            var configBuilder = PageRankStreamConfigImpl.builder()
+                .maxIterations(1000)
+                .concurrency(1)
+                .tolerance(1E-7);
+
+            var coldResult = runOnPregel(graph, configBuilder.build());
+            // `expectedRank` holds scores that are 41 iterations away from convergence
+            var warmResult = runOnPregel(graph, configBuilder.seedProperty("expectedRank").build());
+
+            assertThat(coldResult.didConverge()).isTrue();
+            assertThat(warmResult.didConverge()).isTrue();
+            assertThat(warmResult.iterations()).isLessThan(coldResult.iterations());
+
+            assertScores(coldResult, "convergedRank");
+            assertScores(warmResult, "convergedRank");
+        }
+
+        private void assertScores(PageRankResult result, String expectedPropertyKey) {
+            var rankProvider = result.centralityScoreProvider();
+            var expected = graph.nodeProperties(expectedPropertyKey);
+
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(rankProvider.applyAsDouble(nodeId)).isEqualTo(
+                    expected.doubleValue(nodeId),
+                    within(SCORE_PRECISION)
+                );
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 4})
+        void withResidualPush(int concurrency) {
+            var config = PageRankStreamConfigImpl.builder()
+                .maxIterations(1000)
+                .concurrency(concurrency)
+                .tolerance(1E-9)
+                .residualPush(true)
+                .build();
+
+            var result = runOnPregel(graph, config);
+
+            assertThat(result.didConverge()).isTrue();
+            assertScores(result, "convergedRank");
+        }
+
+        @Test
+        void withResidualPushAndConvergedSeedProperty() {
+            var config = PageRankStreamConfigImpl.builder()
+                .concurrency(1)
+                .tolerance(1E-4)
+                .residualPush(true)
+                .seedProperty("convergedRank")
+                .build();
+
+            var result = runOnPregel(graph, config);
+
+            // no residual exceeds the tolerance after initialization
+            assertThat(result.iterations()).isEqualTo(0);
+            assertThat(result.didConverge()).isTrue();
+            assertScores(result, "convergedRank");
+        }
+
+        @Test
+        void shouldLogProgressWithResidualPush() {
+            var config = PageRankStreamConfigImpl.builder()
+                .concurrency(1)
+                .residualPush(true)
+                .build();
+
+            var factory = new PageRankAlgorithmFactory<>();
+            var log = Neo4jProxy.testLog();
+            var progressTracker = new TestProgressTracker(
+                factory.progressTask(graph, config),
+                log,
+                config.concurrency(),
+                EmptyTaskRegistryFactory.INSTANCE
+            );
+
+            var result = factory.build(graph, config, progressTracker).compute();
+
+            assertThat(log.getMessages(TestLog.INFO))
+                .extracting(removingThreadId())
+                .contains(
+                    "PageRank :: Start",
+                    "PageRank :: Initialize residuals :: Start",
+                    "PageRank :: Initialize residuals 100%",
+                    formatWithLocale(
+                        "PageRank :: Push residuals :: Push iteration %d of %d :: Finished",
+                        result.iterations(),
+                        config.maxIterations()
+                    ),
+                    "PageRank :: Finished"
+                );
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = Mode.class, names = {"ARTICLE_RANK", "EIGENVECTOR"})
+        void shouldFailOnResidualPushForOtherModes(Mode mode) {
+            var config = PageRankStreamConfigImpl.builder()
+                .residualPush(true)
+                .build();
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> runOnPregel(graph, config, mode))
+                .withMessageContaining("The `residualPush` parameter is only supported for PageRank");
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = Mode.class, names = {"ARTICLE_RANK", "EIGENVECTOR"})
+        void shouldFailOnSeedPropertyForOtherModes(Mode mode) {
+            var config = PageRankStreamConfigImpl.builder()
+                .seedProperty("expectedRank")
+                .build();
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> runOnPregel(graph, config, mode))
+                .withMessageContaining("The `seedProperty` parameter is only supported for PageRank");
+        }
+
         @ParameterizedTest
         @EnumSource(Mode.class)
         void shouldLogProgress(Mode mode) {
@@ -353,6 +494,26 @@ class PageRankTest {
             }
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {"weight", "unnormalizedWeight"})
+        void withWeightsAndResidualPush(String relationshipWeight) {
+            var configBuilder = PageRankStreamConfigImpl.builder()
+                .maxIterations(1000)
+                .tolerance(1E-9)
+                .relationshipWeightProperty(relationshipWeight)
+                .concurrency(1);
+
+            var expected = runOnPregel(graph, configBuilder.build()).centralityScoreProvider();
+            var actual = runOnPregel(graph, configBuilder.residualPush(true).build()).centralityScoreProvider();
+
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(actual.applyAsDouble(nodeId)).isEqualTo(
+                    expected.applyAsDouble(nodeId),
+                    within(SCORE_PRECISION)
+                );
+            }
+        }
+
         @Test
         void withZeroWeights() {
             var config = PageRankStreamConfigImpl.builder()
@@ -645,6 +806,37 @@ class PageRankTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void residualPushMatchesPregel(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sourceNodes = List.of(graph.toOriginalNodeId(0), graph.toOriginalNodeId(42));
+
+        for (var personalized : List.of(false, true)) {
+            var configBuilder = PageRankConfigImpl.builder()
+                .concurrency(concurrency)
+                .maxIterations(1000)
+                .tolerance(1E-10)
+                .sourceNodes(personalized ? sourceNodes : List.of());
+
+            var pregel = runOnPregel(graph, configBuilder.build()).centralityScoreProvider();
+            var push = runOnPregel(graph, configBuilder.residualPush(true).build());
+
+            assertThat(push.didConverge()).isTrue();
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(push.centralityScoreProvider().applyAsDouble(nodeId))
+                    .isEqualTo(pregel.applyAsDouble(nodeId), Offset.offset(1e-5));
+            }
+        }
+    }
+
     PageRankResult runOnPregel(Graph graph, PageRankConfig config) {
         return runOnPregel(graph, config, Mode.PAGE_RANK);
     }
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.RelationshipsDelta;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.TestSupport.crossArguments;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+class ContractionHierarchyTest {
+
+    private static final RelationshipType BASE_TYPE = RelationshipType.of("R");
+    private static final RelationshipType HIERARCHY_TYPE = RelationshipType.of("CH");
+
+    static Stream<Arguments> graphs() {
+        return crossArguments(
+            () -> Stream.of(Arguments.of(Orientation.NATURAL), Arguments.of(Orientation.UNDIRECTED)),
+            () -> Stream.of(Arguments.of(1), Arguments.of(256))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void shouldFindSameShortestPathsAsDijkstra(Orientation orientation, int witnessSearchLimit) {
+        var graphStore = gridGraphStore(orientation);
+        var result = buildHierarchy(graphStore, witnessSearchLimit);
+        var graph = graphStore.getGraph(BASE_TYPE, Optional.of("w"));
+
+        graph.forEachNode(source -> {
+            graph.forEachNode(target -> {
+                var expected = Dijkstra.sourceTarget(
+                    graph,
+                    graph.toOriginalNodeId(source),
+                    List.of(graph.toOriginalNodeId(target)),
+                    false,
+                    Optional.empty(),
+                    ProgressTracker.NULL_TRACKER
+                ).compute().findFirst();
+
+                var actual = query(graphStore, source, target);
+
+                assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+                actual.ifPresent(path -> {
+                    assertThat(path.totalCost()).isCloseTo(expected.get().totalCost(), within(1e-9));
+                    assertValidPath(graph, path, source, target);
+                });
+                return true;
+            });
+            return true;
+        });
+
+        // fewer witness searches lead to more shortcuts
+        if (witnessSearchLimit == 1) {
+            var exhaustive = buildHierarchy(gridGraphStore(orientation), 256);
+            assertThat(result.shortcutCount()).isGreaterThan(exhaustive.shortcutCount());
+        }
+    }
+
+    @Test
+    void shouldUnpackShortcuts() {
+        // `b` has the lowest edge difference and is contracted first, which requires the shortcut (a)->(c)
+        var graphStore = GdlFactory.of(
+            "(a)-[:R {w: 1.0}]->(b)-[:R {w: 2.0}]->(c)-[:R {w: 3.0}]->(d)" +
+            ", (e)-[:R {w: 1.0}]->(a), (f)-[:R {w: 1.0}]->(a), (c)-[:R {w: 1.0}]->(g), (c)-[:R {w: 1.0}]->(h)"
+        ).build();
+        var result = buildHierarchy(graphStore, 256);
+
+        assertThat(result.shortcutCount()).isPositive();
+
+        var path = query(graphStore, 0, 3).orElseThrow();
+        assertThat(path.nodeIds()).containsExactly(0, 1, 2, 3);
+        assertThat(path.costs()).containsExactly(0.0, 1.0, 3.0, 6.0);
+        assertThat(query(graphStore, 3, 0)).isEmpty();
+        assertThat(query(graphStore, 2, 2).orElseThrow().nodeIds()).containsExactly(2);
+    }
+
+    @Test
+    void shouldValidateHierarchy() {
+        var graphStore = gridGraphStore(Orientation.NATURAL);
+        buildHierarchy(graphStore, 256);
+
+        ContractionHierarchyCatalog.validate(graphStore, HIERARCHY_TYPE);
+
+        assertThatThrownBy(() -> ContractionHierarchyCatalog.validate(graphStore, BASE_TYPE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Relationship type `R` is not a contraction hierarchy.");
+        assertThatThrownBy(() -> ContractionHierarchyCatalog.validate(graphStore, RelationshipType.of("MISSING")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Contraction hierarchy `MISSING` not found");
+    }
+
+    @Test
+    void shouldValidateHierarchyInRebuiltGraphStore() {
+        var graphStore = gridGraphStore(Orientation.NATURAL);
+        var result = buildHierarchy(graphStore, 256);
+
+        // a reloaded graph store has new adjacency lists but the same relationships and graph properties
+        var rebuiltGraphStore = gridGraphStore(Orientation.NATURAL);
+        rebuiltGraphStore.addRelationshipType(result.hierarchy());
+        graphStore.graphPropertyKeys().forEach(key -> rebuiltGraphStore.addGraphProperty(
+            key,
+            graphStore.graphPropertyValues(key)
+        ));
+
+        assertThat(rebuiltGraphStore.graphPropertyKeys())
+            .containsExactly(ContractionHierarchyCatalog.graphPropertyKey(HIERARCHY_TYPE, BASE_TYPE));
+        ContractionHierarchyCatalog.validate(rebuiltGraphStore, HIERARCHY_TYPE);
+    }
+
+    @Test
+    void shouldInvalidateHierarchyWhenBaseRelationshipsChange() {
+        var graphStore = gridGraphStore(Orientation.NATURAL);
+        buildHierarchy(graphStore, 256);
+
+        var delta = RelationshipsDelta.of(graphStore, BASE_TYPE);
+        delta.insert(graphStore.nodes().toOriginalNodeId(0), graphStore.nodes().toOriginalNodeId(24), 1.0);
+        delta.mergeInto(graphStore, 1);
+
+        assertThatThrownBy(() -> ContractionHierarchyCatalog.validate(graphStore, HIERARCHY_TYPE))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Contraction hierarchy `CH` is outdated, relationship type `R` has changed");
+    }
+
+    @Test
+    void shouldInvalidateHierarchyWhenBaseRelationshipsAreDropped() {
+        var graphStore = gridGraphStore(Orientation.NATURAL);
+        buildHierarchy(graphStore, 256);
+
+        graphStore.deleteRelationships(BASE_TYPE);
+
+        assertThatThrownBy(() -> ContractionHierarchyCatalog.validate(graphStore, HIERARCHY_TYPE))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("is outdated");
+    }
+
+    private static ContractionHierarchyResult buildHierarchy(GraphStore graphStore, int witnessSearchLimit) {
+        var config = ContractionHierarchyMutateConfigImpl.builder()
+            .mutateRelationshipType(HIERARCHY_TYPE.name())
+            .relationshipWeightProperty("w")
+            .witnessSearchLimit(witnessSearchLimit)
+            .build();
+        var result = new ContractionHierarchyAlgorithmFactory()
+            .build(graphStore, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+        graphStore.addRelationshipType(result.hierarchy());
+        ContractionHierarchyCatalog.register(graphStore, HIERARCHY_TYPE, result.baseRelationshipTypes());
+        return result;
+    }
+
+    private static Optional<PathResult> query(GraphStore graphStore, long source, long target) {
+        return new ContractionHierarchyShortestPath(
+            graphStore.getCompositeRelationshipIterator(HIERARCHY_TYPE, ContractionHierarchy.PROPERTY_KEYS),
+            source,
+            target,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().findFirst();
+    }
+
+    private static void assertValidPath(Graph graph, PathResult path, long source, long target) {
+        var nodeIds = path.nodeIds();
+        var costs = path.costs();
+        assertThat(nodeIds[0]).isEqualTo(source);
+        assertThat(nodeIds[nodeIds.length - 1]).isEqualTo(target);
+        for (int i = 1; i < nodeIds.length; i++) {
+            long next = nodeIds[i];
+            var weight = new double[]{Double.POSITIVE_INFINITY};
+            graph.forEachRelationship(nodeIds[i - 1], 1.0, (s, t, w) -> {
+                if (t == next) {
+                    weight[0] = Math.min(weight[0], w);
+                }
+                return true;
+            });
+            assertThat(costs[i] - costs[i - 1]).isCloseTo(weight[0], within(1e-9));
+        }
+    }
+
+    private static GraphStore gridGraphStore(Orientation orientation) {
+        final String EDGE = ", (n%d_%d)-[:R {w: %d.0}]->(n%d_%d)";
+        int size = 5;
+        var gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                gdl.append(i + j == 0 ? "" : ", ").append(formatWithLocale("(n%d_%d)", i, j));
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (i + 1 < size) {
+                    gdl.append(formatWithLocale(EDGE, i, j, (i * 7 + j) % 4 + 1, i + 1, j));
+                }
+                if (j + 1 < size) {
+                    gdl.append(formatWithLocale(EDGE, i, j, (i + j * 5) % 4 + 1, i, j + 1));
+                }
+                if (i > 0 && j % 2 == 1) {
+                    gdl.append(formatWithLocale(EDGE, i, j, 2, i - 1, j));
+                }
+            }
+        }
+        // a self-loop and a more expensive parallel relationship are ignored
+        gdl.append(formatWithLocale(EDGE, 2, 2, 1, 2, 2));
+        gdl.append(formatWithLocale(EDGE, 0, 0, 9, 0, 1));
+
+        return GdlFactory.builder()
+            .graphProjectConfig(ImmutableGraphProjectFromGdlConfig.builder()
+                .graphName("grid")
+                .gdlGraph(gdl.toString())
+                .orientation(orientation)
+                .build())
+            .build()
+            .build();
+    }
+}
@@ -48,6 +48,7 @@ class DijkstraMemoryEstimateDefinitionTest {
 
         var actualMemoryEstimation = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
             trackRelationships,
+            false,
             false
         ))
             .memoryEstimation();
@@ -61,7 +62,8 @@ class DijkstraMemoryEstimateDefinitionTest {
     void shouldWorkWithBitset() {
         var actualMemoryEstimation = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
             false,
-            true
+            true,
+            false
         ))
             .memoryEstimation();
 
@@ -70,5 +72,19 @@ class DijkstraMemoryEstimateDefinitionTest {
             .hasSameMinAndMaxEqualTo(40_616 + 168);
     }
 
+    @Test
+    void shouldAccountForTheBackwardSearch() {
+        var actualMemoryEstimation = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
+            false,
+            false,
+            true
+        ))
+            .memoryEstimation();
+
+        MemoryEstimationAssert.assertThat(actualMemoryEstimation)
+            .memoryRange(1_000, 1)
+            .hasSameMinAndMaxEqualTo(81_184);
+    }
+
 
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.GdlBuilder;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraStreamConfigImpl;
+import org.neo4j.gds.paths.landmarks.LandmarkHeuristic;
+import org.neo4j.gds.paths.landmarks.Landmarks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+class PointToPointShortestPathTest {
+
+    static Stream<Arguments> graphs() {
+        return Stream.of(
+            Arguments.of(Orientation.NATURAL, true),
+            Arguments.of(Orientation.NATURAL, false),
+            Arguments.of(Orientation.UNDIRECTED, true),
+            Arguments.of(Orientation.UNDIRECTED, false)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void shouldFindShortestPathsBidirectionally(Orientation orientation, boolean useLandmarks) {
+        var graph = gridGraph(orientation).innerGraph();
+        var landmarkDistances = landmarkDistances(graph);
+
+        graph.forEachNode(source -> {
+            graph.forEachNode(target -> {
+                var toTarget = useLandmarks
+                    ? LandmarkHeuristic.toTarget(landmarkDistances, target)
+                    : (Dijkstra.HeuristicFunction) node -> 0.0;
+                var fromSource = useLandmarks
+                    ? LandmarkHeuristic.fromSource(landmarkDistances, source)
+                    : (Dijkstra.HeuristicFunction) node -> 0.0;
+
+                var path = new BidirectionalDijkstra(
+                    graph,
+                    source,
+                    target,
+                    toTarget,
+                    fromSource,
+                    ProgressTracker.NULL_TRACKER,
+                    TerminationFlag.RUNNING_TRUE
+                ).compute().findFirst();
+
+                assertSameCost(graph, source, target, path);
+                return true;
+            });
+            return true;
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("graphs")
+    void shouldFindShortestPathsWithLandmarkHeuristic(Orientation orientation, boolean useLandmarks) {
+        var graph = gridGraph(orientation).innerGraph();
+        var landmarkDistances = landmarkDistances(graph);
+
+        graph.forEachNode(source -> {
+            graph.forEachNode(target -> {
+                var path = new Dijkstra(
+                    graph,
+                    source,
+                    new SingleTarget(target),
+                    false,
+                    useLandmarks
+                        ? Optional.of(LandmarkHeuristic.toTarget(landmarkDistances, target))
+                        : Optional.empty(),
+                    ProgressTracker.NULL_TRACKER,
+                    TerminationFlag.RUNNING_TRUE
+                ).compute().findFirst();
+
+                assertSameCost(graph, source, target, path);
+                return true;
+            });
+            return true;
+        });
+    }
+
+    @Test
+    void shouldReturnEmptyResultForUnreachableTarget() {
+        var gridGraph = gridGraph(Orientation.NATURAL);
+        var graph = gridGraph.innerGraph();
+
+        var result = new BidirectionalDijkstra(
+            graph,
+            gridGraph.toMappedNodeId("n4_4"),
+            gridGraph.toMappedNodeId("n0_0"),
+            LandmarkHeuristic.toTarget(landmarkDistances(graph), gridGraph.toMappedNodeId("n0_0")),
+            LandmarkHeuristic.fromSource(landmarkDistances(graph), gridGraph.toMappedNodeId("n4_4")),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(result.pathSet()).isEmpty();
+    }
+
+    @Test
+    void shouldRequireInverseIndexForDirectedBidirectionalSearch() {
+        var graph = new GdlBuilder().gdl("(a)-[:R]->(b)").orientation(Orientation.NATURAL).build().innerGraph();
+
+        assertThatThrownBy(() -> new BidirectionalDijkstra(
+            graph,
+            0,
+            1,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
+    @Test
+    void shouldSelectAlgorithmFromConfiguration() {
+        var gridGraph = gridGraph(Orientation.NATURAL);
+        var builder = ShortestPathDijkstraStreamConfigImpl.builder()
+            .sourceNode(gridGraph.toOriginalNodeId("n0_0"))
+            .targetNode(gridGraph.toOriginalNodeId("n4_4"))
+            .relationshipWeightProperty("w");
+
+        var plain = PointToPointShortestPath.sourceTarget(
+            gridGraph,
+            builder.build(),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+        var bidirectional = PointToPointShortestPath.sourceTarget(
+            gridGraph,
+            builder.bidirectional(true).build(),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThat(plain).isInstanceOf(Dijkstra.class);
+        assertThat(bidirectional).isInstanceOf(BidirectionalDijkstra.class);
+        assertThat(bidirectional.compute().findFirst().map(PathResult::totalCost))
+            .isEqualTo(plain.compute().findFirst().map(PathResult::totalCost));
+    }
+
+    @Test
+    void shouldFailForMissingLandmarkProperty() {
+        var gridGraph = gridGraph(Orientation.NATURAL);
+        var config = ShortestPathDijkstraStreamConfigImpl.builder()
+            .sourceNode(gridGraph.toOriginalNodeId("n0_0"))
+            .targetNode(gridGraph.toOriginalNodeId("n4_4"))
+            .landmarkProperty("landmarks")
+            .build();
+
+        assertThatThrownBy(() -> PointToPointShortestPath.sourceTarget(
+            gridGraph,
+            config,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("`landmarks`");
+    }
+
+    @Test
+    void shouldRejectMultipleTargetsForBidirectionalSearch() {
+        assertThatThrownBy(() -> ShortestPathDijkstraStreamConfigImpl.builder()
+            .sourceNode(0L)
+            .targetNodes(List.of(1L, 2L))
+            .bidirectional(true)
+            .build()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("require a single `targetNode`");
+    }
+
+    private static void assertSameCost(Graph graph, long source, long target, Optional<PathResult> path) {
+        var expected = Dijkstra.sourceTarget(
+            graph,
+            graph.toOriginalNodeId(source),
+            List.of(graph.toOriginalNodeId(target)),
+            false,
+            Optional.empty(),
+            ProgressTracker.NULL_TRACKER
+        ).compute().findFirst();
+
+        assertThat(path.isPresent()).isEqualTo(expected.isPresent());
+        path.ifPresent(actual -> {
+            assertThat(actual.totalCost()).isCloseTo(expected.get().totalCost(), within(1e-9));
+            assertThat(actual.nodeIds()[0]).isEqualTo(source);
+            assertThat(actual.nodeIds()[actual.nodeIds().length - 1]).isEqualTo(target);
+        });
+    }
+
+    private static NodePropertyValues landmarkDistances(Graph graph) {
+        var result = new Landmarks(
+            graph,
+            3,
+            1,
+            Optional.of(42L),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        return NodePropertyValuesAdapter.adapt(result.distances());
+    }
+
+    private static TestGraph gridGraph(Orientation orientation) {
+        final String EDGE = ", (n%d_%d)-[:R {w: %d.0}]->(n%d_%d)";
+        int size = 5;
+        var gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                gdl.append(i + j == 0 ? "" : ", ").append(formatWithLocale("(n%d_%d)", i, j));
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (i + 1 < size) {
+                    gdl.append(formatWithLocale(EDGE, i, j, (i * 7 + j) % 4 + 1, i + 1, j));
+                }
+                if (j + 1 < size) {
+                    gdl.append(formatWithLocale(EDGE, i, j, (i + j * 5) % 4 + 1, i, j + 1));
+                }
+            }
+        }
+        return new GdlBuilder()
+            .gdl(gdl.toString())
+            .orientation(orientation)
+            .indexInverse(orientation == Orientation.NATURAL)
+            .build();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.assertions.MemoryEstimationAssert;
+
+class LandmarksMemoryEstimateDefinitionTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "1_000, 1, 92_824",
+        "1_000, 8, 204_880",
+        "1_000_000, 8, 204_251_840",
+    })
+    void shouldComputeMemoryEstimation(long nodeCount, int landmarkCount, long expectedBytes) {
+        var memoryEstimation = new LandmarksMemoryEstimateDefinition(landmarkCount).memoryEstimation();
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(nodeCount, 1)
+            .hasSameMinAndMaxEqualTo(expectedBytes);
+    }
+}
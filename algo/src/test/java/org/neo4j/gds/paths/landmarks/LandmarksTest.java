@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.GdlBuilder;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@GdlExtension
+class LandmarksTest {
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    @GdlGraph(graphNamePrefix = "inverse", indexInverse = true)
+    @GdlGraph(graphNamePrefix = "natural")
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (a)-[:R {w: 1.0}]->(b)" +
+        ", (b)-[:R {w: 2.0}]->(c)" +
+        ", (a)-[:R {w: 5.0}]->(c)" +
+        ", (c)-[:R {w: 1.0}]->(d)";
+
+    // DISTANCES[i][j] is the distance from node i to node j in the directed graph
+    private static final double[][] DISTANCES = {
+        {0, 1, 3, 4},
+        {INF, 0, 2, 3},
+        {INF, INF, 0, 1},
+        {INF, INF, INF, 0}
+    };
+
+    @Inject
+    private TestGraph inverseGraph;
+
+    @Inject
+    private TestGraph naturalGraph;
+
+    @Inject
+    private TestGraph undirectedGraph;
+
+    @Test
+    void shouldStoreDistancesFromAndToLandmarks() {
+        var result = landmarks(inverseGraph.innerGraph(), 4);
+
+        assertThat(result.landmarks()).hasSize(4).doesNotHaveDuplicates();
+        var landmarks = result.landmarks();
+        for (long node = 0; node < 4; node++) {
+            var distances = result.distances().get(node);
+            assertThat(distances).hasSize(8);
+            for (int i = 0; i < 4; i++) {
+                int landmark = (int) landmarks[i];
+                assertThat(distances[i]).isEqualTo(DISTANCES[landmark][(int) node]);
+                assertThat(distances[4 + i]).isEqualTo(DISTANCES[(int) node][landmark]);
+            }
+        }
+    }
+
+    @Test
+    void shouldLeaveBackwardDistancesUnknownWithoutInverseIndex() {
+        var result = landmarks(naturalGraph.innerGraph(), 2);
+
+        for (long node = 0; node < 4; node++) {
+            var distances = result.distances().get(node);
+            for (int i = 0; i < 2; i++) {
+                int landmark = (int) result.landmarks()[i];
+                assertThat(distances[i]).isEqualTo(DISTANCES[landmark][(int) node]);
+                assertThat(distances[2 + i]).isNaN();
+            }
+        }
+    }
+
+    @Test
+    void shouldUseSymmetricDistancesForUndirectedGraphs() {
+        var result = landmarks(undirectedGraph.innerGraph(), 2);
+
+        for (long node = 0; node < 4; node++) {
+            var distances = result.distances().get(node);
+            assertThat(distances[0]).isEqualTo(distances[2]);
+            assertThat(distances[1]).isEqualTo(distances[3]);
+            assertThat(distances[0]).isFinite();
+            assertThat(distances[1]).isFinite();
+        }
+    }
+
+    @Test
+    void shouldSelectFarthestNodes() {
+        var graph = undirectedGraph.innerGraph();
+        var landmarks = landmarks(graph, 2).landmarks();
+
+        // whichever node is picked first, one of the endpoints `a` and `d` is the farthest from it
+        assertThat(landmarks[1])
+            .isNotEqualTo(landmarks[0])
+            .isIn(undirectedGraph.toMappedNodeId("a"), undirectedGraph.toMappedNodeId("d"));
+    }
+
+    @Test
+    void shouldBeDeterministicForFixedRandomSeed() {
+        var graph = gridGraph();
+        var first = landmarks(graph.innerGraph(), 4);
+        var second = landmarks(graph.innerGraph(), 4);
+
+        assertThat(first.landmarks()).containsExactly(second.landmarks());
+    }
+
+    @Test
+    void shouldComputeLowerBounds() {
+        assertThat(LandmarkHeuristic.lowerBound(new double[]{0, 5}, new double[]{3, 1})).isEqualTo(4);
+        assertThat(LandmarkHeuristic.lowerBound(new double[]{2, 1}, new double[]{1, 2})).isEqualTo(0);
+        assertThat(LandmarkHeuristic.lowerBound(new double[]{1, Double.NaN}, new double[]{4, Double.NaN}))
+            .isEqualTo(3);
+        assertThat(LandmarkHeuristic.lowerBound(new double[]{INF, INF}, new double[]{INF, INF})).isEqualTo(0);
+        assertThat(LandmarkHeuristic.lowerBound(new double[]{1, 0}, new double[]{INF, 0})).isEqualTo(INF);
+    }
+
+    @Test
+    void shouldNeverOverestimateDistances() {
+        var gridGraph = gridGraph();
+        var graph = gridGraph.innerGraph();
+        var distances = NodePropertyValuesAdapter.adapt(landmarks(graph, 3).distances());
+
+        var target = graph.toMappedNodeId(gridGraph.toOriginalNodeId("n4_4"));
+        var heuristic = LandmarkHeuristic.toTarget(distances, target);
+
+        graph.forEachNode(node -> {
+            var paths = Dijkstra.sourceTarget(
+                graph,
+                graph.toOriginalNodeId(node),
+                List.of(graph.toOriginalNodeId(target)),
+                false,
+                Optional.empty(),
+                ProgressTracker.NULL_TRACKER
+            ).compute().pathSet();
+            var distance = paths.isEmpty() ? INF : paths.iterator().next().totalCost();
+
+            assertThat(heuristic.applyAsDouble(node)).isLessThanOrEqualTo(distance + 1e-9);
+            if (paths.isEmpty()) {
+                assertThat(heuristic.applyAsDouble(node)).isEqualTo(INF);
+            } else {
+                assertThat(heuristic.applyAsDouble(node)).isGreaterThanOrEqualTo(0.0);
+            }
+            return true;
+        });
+
+        assertThat(heuristic.applyAsDouble(target)).isCloseTo(0.0, within(1e-9));
+    }
+
+    private static LandmarksResult landmarks(Graph graph, int landmarkCount) {
+        return new Landmarks(
+            graph,
+            landmarkCount,
+            4,
+            Optional.of(42L),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static TestGraph gridGraph() {
+        final String EDGE = ", (n%d_%d)-[:R {w: %d.0}]->(n%d_%d)";
+        int size = 5;
+        var gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                gdl.append(i + j == 0 ? "" : ", ").append(formatWithLocale("(n%d_%d)", i, j));
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (i + 1 < size) {
+                    gdl.append(formatWithLocale(EDGE, i, j, (i * 7 + j) % 4 + 1, i + 1, j));
+                }
+                if (j + 1 < size) {
+                    gdl.append(formatWithLocale(EDGE, i, j, (i + j * 5) % 4 + 1, i, j + 1));
+                }
+                if (i > 0 && j % 2 == 0) {
+                    gdl.append(formatWithLocale(EDGE, i, j, 3, i - 1, j));
+                }
+            }
+        }
+        return new GdlBuilder()
+            .gdl(gdl.toString())
+            .orientation(Orientation.NATURAL)
+            .indexInverse(true)
+            .build();
+    }
+}
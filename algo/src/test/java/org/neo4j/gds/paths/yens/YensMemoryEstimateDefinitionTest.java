@@ -30,14 +30,14 @@ class YensMemoryEstimateDefinitionTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1_000, 3, 1, 56_960L),
-            Arguments.of(1_000, 3, 4, 227_744L),
+            Arguments.of(1_000, 3, 1, 114_152L),
+            Arguments.of(1_000, 3, 4, 456_512L),
 
-            Arguments.of(1_000_000, 3, 1, 56_125_832L),
-            Arguments.of(1_000_000, 3, 4, 224_503_232L),
+            Arguments.of(1_000_000, 3, 1, 112_501_640L),
+            Arguments.of(1_000_000, 3, 4, 450_006_464L),
 
-            Arguments.of(1_000_000_000, 3, 1, 56_133_545_928L),
-            Arguments.of(1_000_000_000, 3, 4, 224_534_183_616L)
+            Arguments.of(1_000_000_000, 3, 1, 112_517_091_832L),
+            Arguments.of(1_000_000_000, 3, 4, 450_068_367_232L)
 
         );
     }
@@ -25,7 +25,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.GdlBuilder;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
@@ -45,6 +48,7 @@ import org.s1ck.gdl.model.Edge;
 import org.s1ck.gdl.model.Vertex;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -53,6 +57,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.assertj.Extractors.replaceTimings;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @GdlExtension
 class YensTest {
@@ -65,6 +70,7 @@ class YensTest {
     
     // https://en.wikipedia.org/wiki/Yen%27s_algorithm#/media/File:Yen's_K-Shortest_Path_Algorithm,_K=3,_A_to_F.gif
     @GdlGraph(aggregation = Aggregation.SINGLE)
+    @GdlGraph(graphNamePrefix = "inverse", aggregation = Aggregation.SINGLE, indexInverse = true)
     private static final String DB_CYPHER =
         "CREATE" +
         "  (c:C {id: 0})" +
@@ -87,6 +93,9 @@ class YensTest {
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph inverseGraph;
+
     // Each input represents k paths that are expected to be returned by Yen's algorithm.
     // The first node in each path is the start node for the path search, the last node in
     // each path is the target node for each path search. The node property represents the
@@ -145,6 +154,92 @@ class YensTest {
         assertResult(graph, expectedPaths, false, 4);
     }
 
+    @ParameterizedTest
+    @MethodSource("pathInput")
+    void computeWithBidirectionalSpurSearch(Collection<String> expectedPaths) {
+        assertThat(BidirectionalSpurSearch.supports(inverseGraph, false)).isTrue();
+        assertResult(inverseGraph, expectedPaths, false, 4);
+    }
+
+    static Stream<Arguments> gridInput() {
+        return Stream.of(
+            Arguments.of(Orientation.NATURAL, false),
+            Arguments.of(Orientation.NATURAL, true),
+            Arguments.of(Orientation.UNDIRECTED, false)
+        );
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, indexInverse: {1}")
+    @MethodSource("gridInput")
+    void shouldReturnPathsInTheSameOrderForAnyConcurrency(Orientation orientation, boolean indexInverse) {
+        var gridGraph = gridGraph(orientation, indexInverse);
+
+        var expected = gridPaths(gridGraph, 1);
+
+        assertThat(expected).hasSize(20);
+        assertThat(gridPaths(gridGraph, 4)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldFindPathsOfSameCostsWithBidirectionalSpurSearch() {
+        var gridGraph = gridGraph(Orientation.NATURAL, false);
+        var inverseGridGraph = gridGraph(Orientation.NATURAL, true);
+
+        assertThat(BidirectionalSpurSearch.supports(gridGraph, false)).isFalse();
+        assertThat(BidirectionalSpurSearch.supports(inverseGridGraph, false)).isTrue();
+
+        var costs = gridPaths(gridGraph, 4).stream().map(PathResult::totalCost).collect(Collectors.toList());
+        var bidirectionalCosts = gridPaths(inverseGridGraph, 4)
+            .stream()
+            .map(PathResult::totalCost)
+            .collect(Collectors.toList());
+
+        assertThat(bidirectionalCosts).containsExactlyElementsOf(costs);
+    }
+
+    private static TestGraph gridGraph(Orientation orientation, boolean indexInverse) {
+        final String EDGE = ", (n%d_%d)-[:R {w: %d.0}]->(n%d_%d)";
+        int size = 6;
+        var gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                gdl.append(i + j == 0 ? "" : ", ").append(formatWithLocale("(n%d_%d)", i, j));
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (i + 1 < size) {
+                    gdl.append(formatWithLocale(EDGE, i, j, (i * 7 + j) % 3 + 1, i + 1, j));
+                }
+                if (j + 1 < size) {
+                    gdl.append(formatWithLocale(EDGE, i, j, (i + j * 5) % 3 + 1, i, j + 1));
+                }
+            }
+        }
+        return new GdlBuilder()
+            .gdl(gdl.toString())
+            .orientation(orientation)
+            .indexInverse(indexInverse)
+            .build();
+    }
+
+    private static List<PathResult> gridPaths(TestGraph gridGraph, int concurrency) {
+        var config = defaultSourceTargetConfigBuilder(concurrency)
+            .sourceNode(gridGraph.toOriginalNodeId("n0_0"))
+            .targetNode(gridGraph.toOriginalNodeId("n5_5"))
+            .relationshipWeightProperty("w")
+            .k(20)
+            .build();
+
+        return Yens
+            .sourceTarget(gridGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .pathSet()
+            .stream()
+            .sorted(Comparator.comparingLong(PathResult::index))
+            .collect(Collectors.toList());
+    }
+
     @Test
     void shouldLogProgress() {
         int k = 3;
@@ -34,4 +34,13 @@ class SccMemoryEstimateDefinitionTest {
             .hasMax(69132L);
     }
 
+    @Test
+    void shouldEstimateMemoryOfColoringAccurately() {
+        var memoryEstimation = new SccMemoryEstimateDefinition(SccAlgorithmType.COLORING).memoryEstimation();
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(100, 6000, 4)
+            .hasSameMinAndMaxEqualTo(2840L);
+    }
+
 }
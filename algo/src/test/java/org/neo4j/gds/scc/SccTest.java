@@ -20,10 +20,15 @@
 package org.neo4j.gds.scc;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -106,6 +111,50 @@ class SccTest {
         assertCC(components);
     }
 
+    @Test
+    void testColoringScc() {
+        var scc = new Scc(graph, SccAlgorithmType.COLORING, 4, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER);
+        var components = scc.compute();
+
+        assertCC(components);
+        // the coloring algorithm represents a component by its smallest node id
+        for (long nodeId = 0; nodeId < components.size(); nodeId++) {
+            assertThat(components.get(nodeId)).isLessThanOrEqualTo(nodeId);
+            assertThat(components.get(components.get(nodeId))).isEqualTo(components.get(nodeId));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void coloringShouldFindSameComponentsAsTarjan(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42)
+            .build()
+            .generate();
+
+        var tarjan = new Scc(randomGraph, ProgressTracker.NULL_TRACKER).compute();
+        var coloring = new Scc(
+            randomGraph,
+            SccAlgorithmType.COLORING,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        // both partitions are equal iff the mapping between component ids is a bijection
+        var tarjanToColoring = new HashMap<Long, Long>();
+        var coloringToTarjan = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            long tarjanId = tarjan.get(nodeId);
+            long coloringId = coloring.get(nodeId);
+            assertThat(tarjanToColoring.computeIfAbsent(tarjanId, ignore -> coloringId)).isEqualTo(coloringId);
+            assertThat(coloringToTarjan.computeIfAbsent(coloringId, ignore -> tarjanId)).isEqualTo(tarjanId);
+        }
+    }
+
     private void assertCC(HugeLongArray components) {
         IdFunction idFunction = graph::toMappedNodeId;
 
@@ -186,4 +186,26 @@ class NodeSimilarityMemoryEstimateDefinitionTest {
         softAssertions.assertAll();
     }
 
+    @Test
+    void shouldEstimateLessMemoryWhenStreamingNeighbors() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(1_000_000)
+            .relCountUpperBound(5_000_000)
+            .build();
+
+        var materialized = new NodeSimilarityMemoryEstimateDefinition(
+            new NodeSimilarityEstimateParameters(10, 0, false, false, true, false)
+        ).memoryEstimation().estimate(dimensions, 4).memoryUsage();
+
+        var streaming = new NodeSimilarityMemoryEstimateDefinition(
+            new NodeSimilarityEstimateParameters(10, 0, false, false, true, true)
+        ).memoryEstimation().estimate(dimensions, 4).memoryUsage();
+
+        // the degrees replace the vectors, which dominate the materialized estimate next to the topK map
+        long topKMap = 248_000_016L;
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(streaming.min - topKMap).isLessThan((materialized.min - topKMap) / 10);
+        softAssertions.assertThat(streaming.max).isLessThan(materialized.max);
+        softAssertions.assertAll();
+    }
 }
@@ -1101,4 +1101,95 @@ final class NodeSimilarityTest {
 
         assertThat(result).containsExactlyInAnyOrder(expectedOutput);
     }
+
+    static Stream<Arguments> streamNeighborsInput() {
+        return crossArguments(
+            () -> Stream.of(
+                arguments(new JaccardSimilarityComputer(0.0)),
+                arguments(new OverlapSimilarityComputer(0.0)),
+                arguments(new CosineSimilarityComputer(0.0))
+            ),
+            () -> Stream.of(arguments(NATURAL), arguments(REVERSE), arguments(UNDIRECTED)),
+            () -> Stream.of(arguments(false), arguments(true)),
+            toArguments(NodeSimilarityTest::concurrencies)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}, orientation: {1}, weighted: {2}, concurrency: {3}")
+    @MethodSource("streamNeighborsInput")
+    void shouldComputeSameResultsWhenStreamingNeighbors(
+        MetricSimilarityComputer similarityComputer,
+        Orientation orientation,
+        boolean weighted,
+        int concurrency
+    ) {
+        TestGraph graph = orientation == NATURAL
+            ? naturalGraph
+            : orientation == REVERSE ? reverseGraph : undirectedGraph;
+
+        var expected = computeWithStreamNeighbors(graph, similarityComputer, weighted, false, concurrency);
+
+        // the unwrapped graph is backed by a single adjacency list and uses the cursor based intersection
+        assertThat(computeWithStreamNeighbors(graph.innerGraph(), similarityComputer, weighted, true, concurrency))
+            .isEqualTo(expected);
+        assertThat(computeWithStreamNeighbors(graph, similarityComputer, weighted, true, concurrency))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldComputeForUnionGraphsWhenStreamingNeighbors() {
+        var expected = computeWithStreamNeighbors(naturalGraph, new JaccardSimilarityComputer(0.0), false, false, 1);
+
+        assertThat(computeWithStreamNeighbors(naturalUnionGraph, new JaccardSimilarityComputer(0.0), false, true, 1))
+            .isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldIgnoreLoopsAndParallelEdgesWhenStreamingNeighbors(Orientation orientation, int concurrency) {
+        var gdl = DB_CYPHER +
+            ", (a)-[:LIKES {prop: 1.0}]->(a)" +
+            ", (i1)-[:LIKES {prop: 1.0}]->(i1)" +
+            ", (a)-[:LIKES {prop: 1.0}]->(i1)" +
+            ", (c)-[:LIKES {prop: 1.0}]->(i3)" +
+            ", (c)-[:LIKES {prop: 1.0}]->(i3)";
+
+        var graph = fromGdl(gdl, orientation).innerGraph();
+
+        assertThat(computeWithStreamNeighbors(graph, new JaccardSimilarityComputer(0.0), false, true, concurrency))
+            .isEqualTo(computeWithStreamNeighbors(graph, new JaccardSimilarityComputer(0.0), false, false, concurrency));
+    }
+
+    private static Set<String> computeWithStreamNeighbors(
+        Graph graph,
+        MetricSimilarityComputer similarityComputer,
+        boolean weighted,
+        boolean streamNeighbors,
+        int concurrency
+    ) {
+        var parameters = new NodeSimilarityParameters(
+            similarityComputer,
+            1,
+            Integer.MAX_VALUE,
+            10,
+            0,
+            true,
+            weighted,
+            false,
+            null,
+            streamNeighbors
+        );
+
+        return new NodeSimilarity(
+            graph,
+            parameters,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        )
+            .compute()
+            .streamResult()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+    }
 }
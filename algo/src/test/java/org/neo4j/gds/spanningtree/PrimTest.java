@@ -24,11 +24,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -37,16 +44,20 @@ import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.neo4j.gds.TestSupport.crossArguments;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.assertj.Extractors.replaceTimings;
 
 
 /**
- * Tests if MSTPrim returns a valid tree for each node
+ * Tests if MSTPrim and Boruvka return a valid tree for each node.
+ * All weights are distinct, so the spanning tree is unique.
  *
  *         a                  a                  a
  *     1 /   \ 2            /  \                  \
@@ -98,33 +109,47 @@ class PrimTest {
     }
 
     static Stream<Arguments> parametersMinimum() {
-        return Stream.of(
+        return crossArguments(() -> Stream.of(
             arguments("a", ROOT, "a", "a", "b", "c"),
             arguments("b", "b", ROOT, "a", "b", "c"),
             arguments("c", "c", "a", ROOT, "b", "c"),
             arguments("d", "b", "d", "a", ROOT, "c"),
             arguments("e", "c", "a", "e", "b", ROOT)
-        );
+        ), PrimTest::algorithmTypes);
     }
 
     static Stream<Arguments> parametersMaximum() {
-        return Stream.of(
+        return crossArguments(() -> Stream.of(
             arguments("a", ROOT, "d", "a", "e", "c"),
             arguments("b", "c", ROOT, "e", "b", "d"),
             arguments("c", "c", "d", ROOT, "e", "c"),
             arguments("d", "c", "d", "e", ROOT, "d"),
             arguments("e", "c", "d", "e", "e", ROOT)
-        );
+        ), PrimTest::algorithmTypes);
+    }
+
+    static Stream<Arguments> algorithmTypes() {
+        return Stream.of(SpanningTreeAlgorithmType.values()).map(Arguments::of);
     }
 
 
     @ParameterizedTest
     @MethodSource("parametersMaximum")
-    void testMaximum(String nodeId, String parentA, String parentB, String parentC, String parentD, String parentE) {
-        var mst = new Prim(
+    void testMaximum(
+        String nodeId,
+        String parentA,
+        String parentB,
+        String parentC,
+        String parentD,
+        String parentE,
+        SpanningTreeAlgorithmType algorithmType
+    ) {
+        var mst = algorithmType.create(
             graph,
             Prim.MAX_OPERATOR,
             idFunction.of(nodeId),
+            4,
+            DefaultPool.INSTANCE,
             ProgressTracker.NULL_TRACKER
         ).compute();
         assertThat(mst.totalWeight()).isEqualTo(17L);
@@ -133,11 +158,21 @@ class PrimTest {
 
     @ParameterizedTest
     @MethodSource("parametersMinimum")
-    void testMinimum(String nodeId, String parentA, String parentB, String parentC, String parentD, String parentE) {
-        var mst = new Prim(
+    void testMinimum(
+        String nodeId,
+        String parentA,
+        String parentB,
+        String parentC,
+        String parentD,
+        String parentE,
+        SpanningTreeAlgorithmType algorithmType
+    ) {
+        var mst = algorithmType.create(
             graph,
             Prim.MIN_OPERATOR,
             idFunction.of(nodeId),
+            4,
+            DefaultPool.INSTANCE,
             ProgressTracker.NULL_TRACKER
         ).compute();
         assertThat(mst.totalWeight()).isEqualTo(12L);
@@ -146,7 +181,12 @@ class PrimTest {
 
     @Test
     void shouldLogProgress() {
-        var parameters = new SpanningTreeParameters(Prim.MIN_OPERATOR, graph.toOriginalNodeId("a"));
+        var parameters = new SpanningTreeParameters(
+            Prim.MIN_OPERATOR,
+            graph.toOriginalNodeId("a"),
+            SpanningTreeAlgorithmType.PRIM,
+            1
+        );
         var factory = new SpanningTreeAlgorithmFactory<>();
         var log = Neo4jProxy.testLog();
         var progressTracker = new TestProgressTracker(
@@ -170,6 +210,50 @@ class PrimTest {
             );
     }
 
+    @ParameterizedTest
+    @EnumSource(SpanningTreeAlgorithmType.class)
+    void shouldBeSelectableThroughTheFactory(SpanningTreeAlgorithmType algorithmType) {
+        var parameters = new SpanningTreeParameters(
+            Prim.MIN_OPERATOR,
+            graph.toOriginalNodeId("a"),
+            algorithmType,
+            4
+        );
+        var algorithm = new SpanningTreeAlgorithmFactory<>().build(graph, parameters, ProgressTracker.NULL_TRACKER);
+
+        assertThat(algorithm).isInstanceOf(algorithmType == SpanningTreeAlgorithmType.PRIM ? Prim.class : Boruvka.class);
+        assertThat(algorithm.compute().totalWeight()).isEqualTo(12L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void boruvkaShouldFindTreeOfSameWeightAsPrim(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(5_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 100))
+            .direction(Direction.UNDIRECTED)
+            .seed(42)
+            .build()
+            .generate();
+
+        for (var objective : List.of(Prim.MIN_OPERATOR, Prim.MAX_OPERATOR)) {
+            var prim = new Prim(randomGraph, objective, 0, ProgressTracker.NULL_TRACKER).compute();
+            var boruvka = new Boruvka(
+                randomGraph,
+                objective,
+                0,
+                concurrency,
+                DefaultPool.INSTANCE,
+                ProgressTracker.NULL_TRACKER
+            ).compute();
+
+            assertThat(boruvka.effectiveNodeCount()).isEqualTo(prim.effectiveNodeCount());
+            assertThat(boruvka.totalWeight()).isCloseTo(prim.totalWeight(), within(1e-6));
+        }
+    }
+
     private void assertTreeIsCorrect(
         SpanningTree mst,
         String parentA,
@@ -53,13 +53,13 @@ import org.neo4j.gds.paths.delta.DeltaStepping;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaBaseConfig;
 import org.neo4j.gds.paths.dijkstra.Dijkstra;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.paths.dijkstra.PointToPointShortestPath;
 import org.neo4j.gds.paths.dijkstra.config.DijkstraBaseConfig;
 import org.neo4j.gds.paths.dijkstra.config.DijkstraSourceTargetsBaseConfig;
 import org.neo4j.gds.paths.traverse.BfsBaseConfig;
 import org.neo4j.gds.paths.traverse.DfsBaseConfig;
 import org.neo4j.gds.paths.yens.Yens;
 import org.neo4j.gds.paths.yens.config.ShortestPathYensBaseConfig;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeBaseConfig;
 import org.neo4j.gds.steiner.ShortestPathsSteinerAlgorithm;
@@ -194,6 +194,9 @@ public class PathFindingAlgorithms {
             parameters.objective(),
             graph.toMappedNodeId(parameters.sourceNode()),
             parameters.k(),
+            parameters.algorithm(),
+            parameters.concurrency(),
+            DefaultPool.INSTANCE,
             progressTracker
         );
 
@@ -265,17 +268,14 @@ public class PathFindingAlgorithms {
             Tasks.leaf(DIJKSTRA, graph.relationshipCount())
         );
 
-        var dijkstra = Dijkstra.sourceTarget(
+        var algorithm = PointToPointShortestPath.sourceTarget(
             graph,
-            configuration.sourceNode(),
-            configuration.targetsList(),
-            false,
-            Optional.empty(),
+            configuration,
             progressTracker,
             requestScopedDependencies.getTerminationFlag()
         );
 
-        return dijkstra.compute();
+        return algorithm.compute();
     }
 
     PathFindingResult singlePairShortestPathYens(Graph graph, ShortestPathYensBaseConfig configuration) {
@@ -325,14 +325,17 @@ public class PathFindingAlgorithms {
         var parameters = configuration.toParameters();
         var progressTracker = createProgressTracker(configuration, Tasks.leaf(SPANNING_TREE));
 
-        var prim = new Prim(
+        var startNodeId = graph.toMappedNodeId(parameters.sourceNode());
+        var algorithm = parameters.algorithm().create(
             graph,
             parameters.objective(),
-            graph.toMappedNodeId(parameters.sourceNode()),
+            startNodeId,
+            parameters.concurrency(),
+            DefaultPool.INSTANCE,
             progressTracker
         );
 
-        return prim.compute();
+        return algorithm.compute();
     }
 
     SteinerTreeResult steinerTree(Graph graph, SteinerTreeBaseConfig configuration) {
@@ -381,15 +384,18 @@ public class PathFindingAlgorithms {
     }
 
     private MSBFSASPAlgorithm selectAlgorithm(Graph graph, AllShortestPathsConfig configuration) {
+        var sourceNodes = configuration.sourceNodes().stream().mapToLong(graph::toMappedNodeId).toArray();
         if (configuration.hasRelationshipWeightProperty()) {
             return new WeightedAllShortestPaths(
                 graph,
+                sourceNodes,
                 DefaultPool.INSTANCE,
                 configuration.concurrency()
             );
         } else {
             return new MSBFSAllShortestPaths(
                 graph,
+                sourceNodes,
                 configuration.concurrency(),
                 DefaultPool.INSTANCE
             );
@@ -194,13 +194,13 @@ public class PathFindingAlgorithmsEstimationModeBusinessFacade {
         SpanningTreeBaseConfig configuration,
         Object graphNameOrConfiguration
     ) {
-        var memoryEstimation = spanningTreeEstimation();
+        var memoryEstimation = spanningTreeEstimation(configuration);
 
         return runEstimation(configuration, graphNameOrConfiguration, memoryEstimation);
     }
 
-    public MemoryEstimation spanningTreeEstimation() {
-        return new SpanningTreeMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation spanningTreeEstimation(SpanningTreeBaseConfig configuration) {
+        return new SpanningTreeMemoryEstimateDefinition(configuration.algorithm()).memoryEstimation();
     }
 
     public MemoryEstimateResult steinerTree(
@@ -227,7 +227,7 @@ public class PathFindingAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             SPANNING_TREE,
-            estimationFacade::spanningTreeEstimation,
+            () -> estimationFacade.spanningTreeEstimation(configuration),
             graph -> pathFindingAlgorithms.spanningTree(graph, configuration),
             Optional.of(mutateOrWriteStep),
             resultBuilder
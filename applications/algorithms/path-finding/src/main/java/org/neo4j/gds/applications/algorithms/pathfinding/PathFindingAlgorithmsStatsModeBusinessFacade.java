@@ -133,7 +133,7 @@ public class PathFindingAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             SPANNING_TREE,
-            estimationFacade::spanningTreeEstimation,
+            () -> estimationFacade.spanningTreeEstimation(configuration),
             graph -> pathFindingAlgorithms.spanningTree(graph, configuration),
             Optional.empty(),
             resultBuilder
@@ -218,7 +218,7 @@ public class PathFindingAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SPANNING_TREE,
-            estimationFacade::spanningTreeEstimation,
+            () -> estimationFacade.spanningTreeEstimation(configuration),
             graph -> pathFindingAlgorithms.spanningTree(graph, configuration),
             writeStep,
             resultBuilder
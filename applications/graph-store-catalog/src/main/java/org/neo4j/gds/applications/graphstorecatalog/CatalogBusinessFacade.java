@@ -147,6 +147,16 @@ public interface CatalogBusinessFacade {
         String relationshipType
     );
 
+    UpdateRelationshipsResult updateRelationships(
+        User user,
+        DatabaseId databaseId,
+        String graphName,
+        String relationshipType,
+        List<Map<String, Object>> insertions,
+        List<Map<String, Object>> deletions,
+        Map<String, Object> configuration
+    );
+
     long dropGraphProperty(
         User user, DatabaseId databaseId, String graphName,
         String graphProperty,
@@ -270,6 +280,16 @@ public interface CatalogBusinessFacade {
         Map<String, Object> configuration
     );
 
+    GraphReorderResult reorderGraph(
+        User user,
+        DatabaseId databaseId,
+        TaskRegistryFactory taskRegistryFactory,
+        UserLogRegistryFactory userLogRegistryFactory,
+        String graphName,
+        String originGraphName,
+        Map<String, Object> configuration
+    );
+
     MemoryEstimateResult estimateCommonNeighbourAwareRandomWalk(
         User user,
         DatabaseId databaseId,
@@ -97,10 +97,12 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
     private final StreamNodePropertiesApplication streamNodePropertiesApplication;
     private final StreamRelationshipPropertiesApplication streamRelationshipPropertiesApplication;
     private final StreamRelationshipsApplication streamRelationshipsApplication;
+    private final UpdateRelationshipsApplication updateRelationshipsApplication;
     private final WriteNodePropertiesApplication writeNodePropertiesApplication;
     private final WriteRelationshipPropertiesApplication writeRelationshipPropertiesApplication;
     private final WriteNodeLabelApplication writeNodeLabelApplication;
     private final WriteRelationshipsApplication writeRelationshipsApplication;
+    private final GraphReorderApplication graphReorderApplication;
     private final GraphSamplingApplication graphSamplingApplication;
     private final EstimateCommonNeighbourAwareRandomWalkApplication estimateCommonNeighbourAwareRandomWalkApplication;
     private final GenerateGraphApplication generateGraphApplication;
@@ -117,6 +119,7 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
         EstimateCommonNeighbourAwareRandomWalkApplication estimateCommonNeighbourAwareRandomWalkApplication,
         GenerateGraphApplication generateGraphApplication,
         GraphMemoryUsageApplication graphMemoryUsageApplication,
+        GraphReorderApplication graphReorderApplication,
         GraphSamplingApplication graphSamplingApplication,
         ListGraphApplication listGraphApplication,
         NativeProjectApplication nativeProjectApplication,
@@ -125,6 +128,7 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
         StreamRelationshipPropertiesApplication streamRelationshipPropertiesApplication,
         StreamRelationshipsApplication streamRelationshipsApplication,
         SubGraphProjectApplication subGraphProjectApplication,
+        UpdateRelationshipsApplication updateRelationshipsApplication,
         WriteNodeLabelApplication writeNodeLabelApplication,
         WriteNodePropertiesApplication writeNodePropertiesApplication,
         WriteRelationshipPropertiesApplication writeRelationshipPropertiesApplication,
@@ -148,10 +152,12 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
         this.streamNodePropertiesApplication = streamNodePropertiesApplication;
         this.streamRelationshipPropertiesApplication = streamRelationshipPropertiesApplication;
         this.streamRelationshipsApplication = streamRelationshipsApplication;
+        this.updateRelationshipsApplication = updateRelationshipsApplication;
         this.writeNodePropertiesApplication = writeNodePropertiesApplication;
         this.writeRelationshipPropertiesApplication = writeRelationshipPropertiesApplication;
         this.writeNodeLabelApplication = writeNodeLabelApplication;
         this.writeRelationshipsApplication = writeRelationshipsApplication;
+        this.graphReorderApplication = graphReorderApplication;
         this.graphSamplingApplication = graphSamplingApplication;
         this.estimateCommonNeighbourAwareRandomWalkApplication = estimateCommonNeighbourAwareRandomWalkApplication;
         this.generateGraphApplication = generateGraphApplication;
@@ -168,7 +174,8 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
             new GenericProjectApplication<>(
                 log,
                 graphStoreCatalogService,
-                GraphProjectCypherResult.Builder::new
+                GraphProjectCypherResult.Builder::new,
+                false
             )
         );
         var dropGraphApplication = new DropGraphApplication(graphStoreCatalogService);
@@ -177,13 +184,15 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
         var estimateCommonNeighbourAwareRandomWalkApplication = new EstimateCommonNeighbourAwareRandomWalkApplication();
         var generateGraphApplication = new GenerateGraphApplication(log, graphStoreCatalogService);
         var graphMemoryUsageApplication = new GraphMemoryUsageApplication(graphStoreCatalogService);
+        var graphReorderApplication = new GraphReorderApplication(log, graphStoreCatalogService);
         var graphSamplingApplication = new GraphSamplingApplication(log, graphStoreCatalogService);
         var listGraphApplication = ListGraphApplication.create(graphStoreCatalogService);
         var nativeProjectApplication = new NativeProjectApplication(
             new GenericProjectApplication<>(
                 log,
                 graphStoreCatalogService,
-                GraphProjectNativeResult.Builder::new
+                GraphProjectNativeResult.Builder::new,
+                true
             )
         );
         var nodeLabelMutatorApplication = new NodeLabelMutatorApplication();
@@ -194,6 +203,7 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
             log,
             graphStoreCatalogService
         );
+        var updateRelationshipsApplication = new UpdateRelationshipsApplication();
         var writeNodeLabelApplication = new WriteNodeLabelApplication(log);
         var writeNodePropertiesApplication = new WriteNodePropertiesApplication(log);
         var writeRelationshipPropertiesApplication = new WriteRelationshipPropertiesApplication(log);
@@ -211,6 +221,7 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
             estimateCommonNeighbourAwareRandomWalkApplication,
             generateGraphApplication,
             graphMemoryUsageApplication,
+            graphReorderApplication,
             graphSamplingApplication,
             listGraphApplication,
             nativeProjectApplication,
@@ -219,6 +230,7 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
             streamRelationshipPropertiesApplication,
             streamRelationshipsApplication,
             subGraphProjectApplication,
+            updateRelationshipsApplication,
             writeNodeLabelApplication,
             writeNodePropertiesApplication,
             writeRelationshipPropertiesApplication,
@@ -539,6 +551,34 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
         return new GraphDropRelationshipResult(graphName.getValue(), relationshipType, result);
     }
 
+    @Override
+    public UpdateRelationshipsResult updateRelationships(
+        User user,
+        DatabaseId databaseId,
+        String graphNameAsString,
+        String relationshipType,
+        List<Map<String, Object>> insertions,
+        List<Map<String, Object>> deletions,
+        Map<String, Object> rawConfiguration
+    ) {
+        var graphName = graphNameValidationService.validate(graphNameAsString);
+
+        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
+        var graphStore = graphStoreWithConfig.graphStore();
+        graphStoreValidationService.ensureRelationshipsMayBeUpdated(graphStore, relationshipType, graphName);
+
+        var configuration = UpdateRelationshipsConfig.of(rawConfiguration);
+
+        return updateRelationshipsApplication.compute(
+            graphStore,
+            graphName,
+            relationshipType,
+            insertions,
+            deletions,
+            configuration
+        );
+    }
+
     @Override
     public long dropGraphProperty(
         User user,
@@ -926,6 +966,33 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
         );
     }
 
+    @Override
+    public GraphReorderResult reorderGraph(
+        User user,
+        DatabaseId databaseId,
+        TaskRegistryFactory taskRegistryFactory,
+        UserLogRegistryFactory userLogRegistryFactory,
+        String graphNameAsString,
+        String originGraphNameAsString,
+        Map<String, Object> configuration
+    ) {
+        var graphName = ensureGraphNameValidAndUnknown(user, databaseId, graphNameAsString);
+        var originGraphName = GraphName.parse(originGraphNameAsString);
+
+        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), originGraphName);
+
+        return graphReorderApplication.reorder(
+            user,
+            taskRegistryFactory,
+            userLogRegistryFactory,
+            graphStoreWithConfig.graphStore(),
+            graphStoreWithConfig.config(),
+            originGraphName,
+            graphName,
+            configuration
+        );
+    }
+
     @Override
     public MemoryEstimateResult estimateCommonNeighbourAwareRandomWalk(
         User user,
@@ -24,8 +24,10 @@ import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.User;
 import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.loading.CatalogRequest;
 import org.neo4j.gds.core.loading.GraphStoreCatalogService;
 import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.core.loading.SpilledGraphStore;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Collection;
@@ -84,7 +86,10 @@ class DegreeDistributionApplier {
         );
 
         return maybeDegreeDistribution.orElseGet(() -> {
-            var histogram = degreeDistributionService.compute(graphStoreWithConfig.graphStore(), terminationFlag);
+            var histogram = degreeDistributionService.compute(
+                loadedGraphStore(graphStoreWithConfig, user, graphName),
+                terminationFlag
+            );
 
             cacheHistogram(graphStoreWithConfig, user, graphName, histogram);
 
@@ -92,6 +97,16 @@ class DegreeDistributionApplier {
         });
     }
 
+    // spilled graph stores only know their schema, the catalog reloads them on access
+    private GraphStore loadedGraphStore(GraphStoreWithConfig graphStoreWithConfig, User user, GraphName graphName) {
+        var graphStore = graphStoreWithConfig.graphStore();
+        if (!(graphStore instanceof SpilledGraphStore)) {
+            return graphStore;
+        }
+        var catalogRequest = CatalogRequest.of(user, graphStore.databaseInfo().databaseId());
+        return graphStoreCatalogService.get(catalogRequest, graphName).graphStore();
+    }
+
     // Cache the computed degree distribution in the Catalog
     private void cacheHistogram(
         GraphStoreWithConfig graphStoreWithConfig,
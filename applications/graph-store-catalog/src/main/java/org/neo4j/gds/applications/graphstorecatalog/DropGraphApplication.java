@@ -73,7 +73,8 @@ public class DropGraphApplication {
         var failures = new LinkedList<Pair<GraphName, NoSuchElementException>>();
         graphNames.forEach(graphName -> {
                 try {
-                    graphStoreCatalogService.get(request, graphName);
+                    // does not reload spilled graphs, they are about to be dropped
+                    graphStoreCatalogService.validateGraphExists(request, graphName);
                 } catch (NoSuchElementException e) {
                     failures.add(Pair.of(graphName, e));
                 }
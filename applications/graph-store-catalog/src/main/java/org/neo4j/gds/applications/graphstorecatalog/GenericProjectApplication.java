@@ -19,22 +19,27 @@
  */
 package org.neo4j.gds.applications.graphstorecatalog;
 
+import org.neo4j.dbms.api.DatabaseManagementService;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphLoaderContext;
 import org.neo4j.gds.api.ImmutableGraphLoaderContext;
 import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.loading.GraphProjectResult;
 import org.neo4j.gds.core.loading.GraphStoreCatalogService;
+import org.neo4j.gds.core.loading.SharedGraphStores;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
 import org.neo4j.gds.core.utils.warnings.UserLogRegistryFactory;
 import org.neo4j.gds.logging.Log;
 import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.settings.Neo4jSettings;
 import org.neo4j.gds.transaction.TransactionContext;
 import org.neo4j.graphdb.GraphDatabaseService;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -46,15 +51,22 @@ public class GenericProjectApplication<RESULT extends GraphProjectResult, CONFIG
     private final Log log;
     private final GraphStoreCatalogService graphStoreCatalogService;
     private final Function<CONFIGURATION, RESULT_BUILDER> resultBuilderFactory;
+    private final boolean shareIdenticalProjections;
 
+    /**
+     * @param shareIdenticalProjections whether identical projections against an unchanged database reuse
+     *                                  each other's data; only sound if the projection is deterministic
+     */
     public GenericProjectApplication(
         Log log,
         GraphStoreCatalogService graphStoreCatalogService,
-        Function<CONFIGURATION, RESULT_BUILDER> resultBuilderFactory
+        Function<CONFIGURATION, RESULT_BUILDER> resultBuilderFactory,
+        boolean shareIdenticalProjections
     ) {
         this.log = log;
         this.graphStoreCatalogService = graphStoreCatalogService;
         this.resultBuilderFactory = resultBuilderFactory;
+        this.shareIdenticalProjections = shareIdenticalProjections;
     }
 
     public RESULT project(
@@ -120,6 +132,12 @@ public class GenericProjectApplication<RESULT extends GraphProjectResult, CONFIG
         UserLogRegistryFactory userLogRegistryFactory,
         CONFIGURATION configuration
     ) {
+        var projectionKey = projectionKey(databaseId, graphDatabaseService, transactionContext, configuration);
+        var sharedResult = projectionKey.flatMap(key -> projectShared(key, configuration));
+        if (sharedResult.isPresent()) {
+            return sharedResult.get();
+        }
+
         graphProjectMemoryUsageService.validateMemoryUsage(
             databaseId,
             taskRegistryFactory,
@@ -151,11 +169,74 @@ public class GenericProjectApplication<RESULT extends GraphProjectResult, CONFIG
                 .withRelationshipCount(graphStore.relationshipCount());
 
             graphStoreCatalogService.set(configuration, graphStore);
+            projectionKey.ifPresent(key -> SharedGraphStores.register(key, graphStore));
         }
 
         return resultBuilder.build();
     }
 
+    /**
+     * Projections are only shared if nothing was written to the database since the shared projection,
+     * which is detected through the last committed transaction id.
+     * Privileges and role memberships are stored in the system database, so any change to them
+     * changes the last committed transaction id of the system database.
+     */
+    private Optional<SharedGraphStores.ProjectionKey> projectionKey(
+        DatabaseId databaseId,
+        GraphDatabaseService graphDatabaseService,
+        TransactionContext transactionContext,
+        CONFIGURATION configuration
+    ) {
+        if (!shareIdenticalProjections || !SharedGraphStores.isEnabled()) {
+            return Optional.empty();
+        }
+
+        var transactionId = Neo4jProxy.lastCommittedTransactionId(
+            GraphDatabaseApiProxy.dependencyResolver(graphDatabaseService)
+        );
+        var systemDatabase = GraphDatabaseApiProxy
+            .resolveDependency(graphDatabaseService, DatabaseManagementService.class)
+            .database(Neo4jSettings.systemDatabaseName());
+        var privilegesTransactionId = Neo4jProxy.lastCommittedTransactionId(
+            GraphDatabaseApiProxy.dependencyResolver(systemDatabase)
+        );
+
+        return Optional.of(SharedGraphStores.key(
+            configuration,
+            transactionContext.roles(),
+            privilegesTransactionId,
+            databaseId,
+            transactionId
+        ));
+    }
+
+    private Optional<RESULT> projectShared(SharedGraphStores.ProjectionKey projectionKey, CONFIGURATION configuration) {
+        RESULT_BUILDER resultBuilder = resultBuilderFactory.apply(configuration);
+
+        try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withProjectMillis)) {
+            var maybeGraphStore = SharedGraphStores.acquire(projectionKey);
+            if (maybeGraphStore.isEmpty()) {
+                return Optional.empty();
+            }
+            var graphStore = maybeGraphStore.get();
+
+            resultBuilder
+                .withNodeCount(graphStore.nodeCount())
+                .withRelationshipCount(graphStore.relationshipCount());
+
+            try {
+                graphStoreCatalogService.set(configuration, graphStore);
+            } catch (RuntimeException e) {
+                SharedGraphStores.release(graphStore);
+                throw e;
+            }
+        }
+
+        log.info("Graph '%s' shares its data with an earlier identical projection", configuration.graphName());
+
+        return Optional.of(resultBuilder.build());
+    }
+
     /**
      * Public because EstimationCLI tests needs it. Should redesign something here I think
      */
@@ -145,6 +145,13 @@ public final class GraphMemoryUsage {
                 out.put("bytesTotal", mi.bytesTotal().orElse(0));
                 out.put("bytesOnHeap", mi.bytesOnHeap().orElse(0));
                 out.put("bytesOffHeap", mi.bytesOffHeap().orElse(0));
+                mi.layout().ifPresent(layout -> out.put("layout", layout.name()));
+                if (adjacency.elementCount() > 0) {
+                    mi.bytesTotal().ifPresent(bytesTotal -> out.put(
+                        "bytesPerRelationship",
+                        (double) bytesTotal / adjacency.elementCount()
+                    ));
+                }
                 out.put("pageSizes", mi.pageSizes().toMap());
                 out.put("heapAllocations", mi.heapAllocations().toMap());
                 out.put("nativeAllocations", mi.nativeAllocations().toMap());
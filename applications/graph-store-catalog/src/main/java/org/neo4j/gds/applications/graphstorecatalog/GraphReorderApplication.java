@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.graphstorecatalog;
+
+import org.neo4j.gds.api.GraphName;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.User;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalogService;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.warnings.UserLogRegistryFactory;
+import org.neo4j.gds.graphreordering.GraphReorderConfig;
+import org.neo4j.gds.graphreordering.GraphReorderConstructor;
+import org.neo4j.gds.logging.Log;
+
+import java.util.Map;
+
+public final class GraphReorderApplication {
+    private final Log log;
+    private final GraphStoreCatalogService graphStoreCatalogService;
+
+    public GraphReorderApplication(Log log, GraphStoreCatalogService graphStoreCatalogService) {
+        this.log = log;
+        this.graphStoreCatalogService = graphStoreCatalogService;
+    }
+
+    GraphReorderResult reorder(
+        User user,
+        TaskRegistryFactory taskRegistryFactory,
+        UserLogRegistryFactory userLogRegistryFactory,
+        GraphStore graphStore,
+        GraphProjectConfig graphProjectConfig,
+        GraphName originGraphName,
+        GraphName graphName,
+        Map<String, Object> configuration
+    ) {
+        try (var progressTimer = ProgressTimer.start()) {
+            var cypherMap = CypherMapWrapper.create(configuration);
+            var reorderConfig = GraphReorderConfig.of(cypherMap);
+
+            var progressTracker = new TaskProgressTracker(
+                GraphReorderConstructor.progressTask(graphStore),
+                (org.neo4j.logging.Log) log.getNeo4jLog(),
+                reorderConfig.concurrency(),
+                reorderConfig.jobId(),
+                taskRegistryFactory,
+                userLogRegistryFactory
+            );
+            var reorderedGraphStore = new GraphReorderConstructor(
+                reorderConfig,
+                graphStore,
+                progressTracker
+            ).compute();
+
+            var reorderProcConfig = GraphReorderConfiguration.of(
+                user.getUsername(),
+                graphName.getValue(),
+                originGraphName.getValue(),
+                graphProjectConfig,
+                reorderConfig,
+                cypherMap
+            );
+
+            graphStoreCatalogService.set(reorderProcConfig, reorderedGraphStore);
+
+            var projectMillis = progressTimer.stop().getDuration();
+
+            return new GraphReorderResult(
+                graphName.getValue(),
+                originGraphName.getValue(),
+                reorderConfig.ordering().name(),
+                reorderedGraphStore.nodeCount(),
+                reorderedGraphStore.relationshipCount(),
+                projectMillis
+            );
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.graphstorecatalog;
+
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStoreFactory;
+import org.neo4j.gds.config.GraphNameConfig;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.graphreordering.GraphReorderConfig;
+
+import java.util.Map;
+
+@Configuration
+public interface GraphReorderConfiguration extends GraphProjectConfig, GraphNameConfig {
+
+    @Configuration.Ignore
+    default Map<String, Object> asProcedureResultConfigurationField() {
+        var result = originalConfig().asProcedureResultConfigurationField();
+        var cleansedReorderConfig = cleansed(
+            reorderConfig().toMap(),
+            reorderConfig().outputFieldDenylist()
+        );
+        result.putAll(cleansedReorderConfig);
+        return result;
+    }
+
+    @Configuration.Parameter
+    GraphProjectConfig originalConfig();
+
+    @Configuration.Parameter
+    String fromGraphName();
+
+    @Configuration.Parameter
+    GraphReorderConfig reorderConfig();
+
+    @Configuration.Ignore
+    @Override
+    default GraphStoreFactory.Supplier graphStoreFactory() {
+        return originalConfig().graphStoreFactory();
+    }
+
+    static GraphReorderConfiguration of(
+        String userName,
+        String graphName,
+        String fromGraphName,
+        GraphProjectConfig originalConfig,
+        GraphReorderConfig reorderConfig,
+        CypherMapWrapper procedureConfig
+    ) {
+        return new GraphReorderConfigurationImpl(
+            originalConfig,
+            fromGraphName,
+            reorderConfig,
+            userName,
+            graphName,
+            procedureConfig
+        );
+    }
+}
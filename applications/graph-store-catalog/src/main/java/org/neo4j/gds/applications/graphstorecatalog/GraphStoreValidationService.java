@@ -77,6 +77,16 @@ public class GraphStoreValidationService {
         }
     }
 
+    void ensureRelationshipsMayBeUpdated(GraphStore graphStore, String relationshipType, GraphName graphName) {
+        if (!graphStore.hasRelationshipType(RelationshipType.of(relationshipType))) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No relationship type '%s' found in graph '%s'.",
+                relationshipType,
+                graphName
+            ));
+        }
+    }
+
     void ensureGraphPropertyExists(GraphStore graphStore, String graphProperty) {
         if (graphStore.hasGraphProperty(graphProperty)) return;
 
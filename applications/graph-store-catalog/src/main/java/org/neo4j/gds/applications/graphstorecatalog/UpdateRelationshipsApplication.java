@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.graphstorecatalog;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphName;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.RelationshipsDelta;
+import org.neo4j.gds.core.utils.ProgressTimer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public class UpdateRelationshipsApplication {
+    static final String SOURCE_KEY = "source";
+    static final String TARGET_KEY = "target";
+    static final String PROPERTIES_KEY = "properties";
+
+    public UpdateRelationshipsResult compute(
+        GraphStore graphStore,
+        GraphName graphName,
+        String relationshipTypeAsString,
+        List<Map<String, Object>> insertions,
+        List<Map<String, Object>> deletions,
+        UpdateRelationshipsConfig configuration
+    ) {
+        var relationshipType = RelationshipType.of(relationshipTypeAsString);
+        var delta = RelationshipsDelta.of(graphStore, relationshipType);
+
+        var propertySchemas = graphStore.schema().relationshipSchema().get(relationshipType).properties();
+        var propertyKeys = delta.propertyKeys();
+        var propertyValues = new double[propertyKeys.size()];
+        for (var insertion : insertions) {
+            var properties = (Map<?, ?>) insertion.getOrDefault(PROPERTIES_KEY, Map.of());
+            for (Object propertyKey : properties.keySet()) {
+                if (!propertyKeys.contains(propertyKey)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Relationship type `%s` has no property `%s`. Available properties are %s.",
+                        relationshipTypeAsString,
+                        propertyKey,
+                        propertyKeys
+                    ));
+                }
+            }
+            for (int i = 0; i < propertyKeys.size(); i++) {
+                var value = properties.get(propertyKeys.get(i));
+                propertyValues[i] = value == null
+                    ? propertySchemas.get(propertyKeys.get(i)).defaultValue().doubleValue()
+                    : numberValue(value, propertyKeys.get(i)).doubleValue();
+            }
+            delta.insert(nodeId(insertion, SOURCE_KEY), nodeId(insertion, TARGET_KEY), propertyValues);
+        }
+
+        for (var deletion : deletions) {
+            delta.delete(nodeId(deletion, SOURCE_KEY), nodeId(deletion, TARGET_KEY));
+        }
+
+        var timer = ProgressTimer.start();
+        var deltaResult = delta.mergeInto(graphStore, configuration.concurrency());
+        timer.stop();
+
+        return new UpdateRelationshipsResult(
+            timer.getDuration(),
+            graphName.getValue(),
+            relationshipTypeAsString,
+            deltaResult,
+            new HashMap<>(configuration.toMap())
+        );
+    }
+
+    private static long nodeId(Map<String, Object> relationship, String key) {
+        var value = relationship.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected every relationship to specify a `%s` node id, but got %s.",
+                key,
+                relationship
+            ));
+        }
+        return numberValue(value, key).longValue();
+    }
+
+    private static Number numberValue(Object value, String key) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected a number for `%s`, but got `%s`.",
+            key,
+            value
+        ));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.graphstorecatalog;
+
+import org.neo4j.gds.core.loading.RelationshipsDeltaResult;
+
+import java.util.Map;
+
+public final class UpdateRelationshipsResult {
+    public final long updateMillis;
+    public final String graphName;
+    public final String relationshipType;
+    public final long relationshipsInserted;
+    public final long relationshipsDeleted;
+    public final long relationshipCount;
+    public final Map<String, Object> configuration;
+
+    UpdateRelationshipsResult(
+        long updateMillis,
+        String graphName,
+        String relationshipType,
+        RelationshipsDeltaResult deltaResult,
+        Map<String, Object> configuration
+    ) {
+        this.updateMillis = updateMillis;
+        this.graphName = graphName;
+        this.relationshipType = relationshipType;
+        this.relationshipsInserted = deltaResult.insertedRelationships();
+        this.relationshipsDeleted = deltaResult.deletedRelationships();
+        this.relationshipCount = deltaResult.relationshipCount();
+        this.configuration = configuration;
+    }
+}
@@ -60,6 +60,8 @@ class DefaultCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
+            null,
             null
         );
 
@@ -99,6 +101,8 @@ class DefaultCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
+            null,
             null
         );
 
@@ -142,6 +146,8 @@ class DefaultCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
+            null,
             null
         );
 
@@ -176,6 +182,8 @@ class DefaultCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
+            null,
             null
         );
 
@@ -245,6 +253,8 @@ class DefaultCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
+            null,
             null
         );
 
@@ -339,6 +349,8 @@ class DefaultCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
+            null,
             null
         );
 
@@ -431,6 +443,8 @@ class DefaultCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
+            null,
             null
         );
 
@@ -511,6 +525,8 @@ class DefaultCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
+            null,
             null
         );
 
@@ -20,23 +20,34 @@
 package org.neo4j.gds.applications.graphstorecatalog;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphName;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.User;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.loading.CatalogMemoryBudget;
 import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.loading.GraphStoreCatalogService;
+import org.neo4j.gds.core.loading.GraphStoreSpiller;
 import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.gdl.GdlFactory;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.neo4j.gds.extension.GdlSupportPerMethodExtension.DATABASE_ID;
 
 class DropGraphApplicationTest {
     @Test
@@ -72,10 +83,8 @@ class DropGraphApplicationTest {
         var g2 = GraphName.parse("bar");
         var g3 = GraphName.parse("baz");
         var g4 = GraphName.parse("quux");
-        when(graphStoreCatalogService.get(request, g1)).thenReturn(mock(GraphStoreWithConfig.class));
-        when(graphStoreCatalogService.get(request, g2)).thenThrow(new NoSuchElementException("aha!"));
-        when(graphStoreCatalogService.get(request, g3)).thenReturn(mock(GraphStoreWithConfig.class));
-        when(graphStoreCatalogService.get(request, g4)).thenThrow(new NoSuchElementException("another!"));
+        doThrow(new NoSuchElementException("aha!")).when(graphStoreCatalogService).validateGraphExists(request, g2);
+        doThrow(new NoSuchElementException("another!")).when(graphStoreCatalogService).validateGraphExists(request, g4);
         try {
             dropGraphService.compute(
                 List.of(g1, g2, g3, g4),
@@ -90,13 +99,49 @@ class DropGraphApplicationTest {
                 "The graphs `bar`, and `quux` do not exist on database `some database`.");
         }
 
-        verify(graphStoreCatalogService).get(request, g1);
-        verify(graphStoreCatalogService).get(request, g2);
-        verify(graphStoreCatalogService).get(request, g3);
-        verify(graphStoreCatalogService).get(request, g4);
+        verify(graphStoreCatalogService).validateGraphExists(request, g1);
+        verify(graphStoreCatalogService).validateGraphExists(request, g2);
+        verify(graphStoreCatalogService).validateGraphExists(request, g3);
+        verify(graphStoreCatalogService).validateGraphExists(request, g4);
         verifyNoMoreInteractions(graphStoreCatalogService);
     }
 
+    @Test
+    void shouldNotReloadSpilledGraphToDropIt(@TempDir Path spillLocation) {
+        var reloads = new AtomicInteger();
+        // every graph store exceeds the budget, so all but the last projected one get spilled
+        GraphStoreCatalog.setMemoryBudget(new CatalogMemoryBudget(0, spillLocation, new GraphStoreSpiller() {
+            @Override
+            public void spill(GraphStore graphStore, Path location) {}
+
+            @Override
+            public GraphStore reload(Path location) {
+                reloads.incrementAndGet();
+                throw new UnsupportedOperationException("A graph that is being dropped should not be reloaded");
+            }
+        }));
+        try {
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName("some user", "g1"), GdlFactory.of("(a)-->(b)").build());
+            GraphStoreCatalog.set(GraphProjectConfig.emptyWithName("some user", "g2"), GdlFactory.of("(a)-->(b)").build());
+            assertThat(GraphStoreCatalog.storageInfo("some user", DATABASE_ID, "g1").spilled()).isTrue();
+
+            var results = new DropGraphApplication(new GraphStoreCatalogService()).compute(
+                List.of(GraphName.parse("g1")),
+                true,
+                DATABASE_ID,
+                new User("some user", false),
+                Optional.empty()
+            );
+
+            assertThat(results).hasSize(1);
+            assertThat(reloads).hasValue(0);
+            assertThat(GraphStoreCatalog.exists("some user", DATABASE_ID, "g1")).isFalse();
+        } finally {
+            GraphStoreCatalog.removeAllLoadedGraphs();
+            GraphStoreCatalog.removeMemoryBudget();
+        }
+    }
+
     @Test
     void shouldRespectFailIfMissingFlag() {
         var graphStoreCatalogService = mock(GraphStoreCatalogService.class);
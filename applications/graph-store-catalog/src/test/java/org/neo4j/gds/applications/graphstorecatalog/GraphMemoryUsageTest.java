@@ -67,7 +67,8 @@ class GraphMemoryUsageTest {
                                 (bytes) -> assertThat(bytes)
                                     .asInstanceOf(InstanceOfAssertFactories.LONG)
                                     .satisfies((value) -> {
-                                        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+                                        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled() ||
+                                            GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()) {
                                             assertThat(value).isGreaterThanOrEqualTo(0L);
                                         } else {
                                             assertThat(value).isEqualTo(0L);
@@ -48,6 +48,7 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 /**
  * Just a stub to facilitate testing
@@ -250,6 +251,14 @@ class StubGraphStore implements GraphStore {
         throw new UnsupportedOperationException("TODO");
     }
 
+    @Override
+    public void updateRelationshipType(
+        RelationshipType relationshipType,
+        UnaryOperator<SingleTypeRelationships> updateFunction
+    ) {
+        throw new UnsupportedOperationException("TODO");
+    }
+
     @Override
     public void addInverseIndex(
         RelationshipType relationshipType,
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.function.Supplier;
+
+/**
+ * The adjacency list layouts a benchmark graph can be built with.
+ * The layout is selected through feature toggles, which are only consulted while the graph is being constructed.
+ */
+public enum AdjacencyCompression {
+    VAR_LONG,
+    OFF_HEAP_VAR_LONG,
+    PACKED,
+    UNCOMPRESSED;
+
+    <T> T build(Supplier<T> graphSupplier) {
+        var packedBefore = GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(this == PACKED);
+        var uncompressedBefore = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(this == UNCOMPRESSED);
+        var offHeapBefore = GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.toggle(this == OFF_HEAP_VAR_LONG);
+        try {
+            return graphSupplier.get();
+        } finally {
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packedBefore);
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressedBefore);
+            GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.toggle(offHeapBefore);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of decoding full adjacency lists, once through a reused {@link AdjacencyCursor}
+ * and once through the {@link HugeGraph#forEachRelationship} consumer API that most algorithms use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AdjacencyDecodingBenchmark {
+
+    @Param({"100000", "1000000"})
+    long nodeCount;
+
+    @Param({"10"})
+    long averageDegree;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    RelationshipDistribution distribution;
+
+    @Param({"VAR_LONG", "OFF_HEAP_VAR_LONG", "PACKED", "UNCOMPRESSED"})
+    AdjacencyCompression compression;
+
+    private HugeGraph graph;
+    private AdjacencyList adjacencyList;
+
+    @Setup
+    public void setup() {
+        this.graph = BenchmarkGraphs.generate(
+            nodeCount,
+            averageDegree,
+            distribution,
+            Direction.DIRECTED,
+            compression
+        );
+        this.adjacencyList = graph.relationshipTopology().adjacencyList();
+    }
+
+    @Benchmark
+    public long adjacencyCursor() {
+        long checksum = 0L;
+        AdjacencyCursor cursor = null;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            while (cursor.hasNextVLong()) {
+                checksum += cursor.nextVLong();
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long forEachRelationship() {
+        long[] checksum = {0L};
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                checksum[0] += target;
+                return true;
+            });
+        }
+        return checksum[0];
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.louvain.LouvainAlgorithmFactory;
+import org.neo4j.gds.louvain.LouvainParameters;
+import org.neo4j.gds.louvain.LouvainResult;
+import org.neo4j.gds.pagerank.PageRankAlgorithmFactory;
+import org.neo4j.gds.pagerank.PageRankResult;
+import org.neo4j.gds.pagerank.PageRankStreamConfigImpl;
+import org.neo4j.gds.wcc.WccAlgorithmFactory;
+import org.neo4j.gds.wcc.WccParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end runs of graph algorithms on generated undirected graphs.
+ * Graph construction happens once per trial and is not part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AlgorithmBenchmark {
+
+    @Param({"100000", "1000000"})
+    long nodeCount;
+
+    @Param({"10"})
+    long averageDegree;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    RelationshipDistribution distribution;
+
+    @Param({"VAR_LONG"})
+    AdjacencyCompression compression;
+
+    @Param({"1", "4"})
+    int concurrency;
+
+    private HugeGraph graph;
+
+    @Setup
+    public void setup() {
+        this.graph = BenchmarkGraphs.generate(
+            nodeCount,
+            averageDegree,
+            distribution,
+            Direction.UNDIRECTED,
+            compression
+        );
+    }
+
+    @Benchmark
+    public PageRankResult pageRank() {
+        var config = PageRankStreamConfigImpl.builder()
+            .maxIterations(20)
+            .concurrency(concurrency)
+            .build();
+
+        return new PageRankAlgorithmFactory<>(PageRankAlgorithmFactory.Mode.PAGE_RANK)
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    @Benchmark
+    public DisjointSetStruct wcc() {
+        return new WccAlgorithmFactory<>()
+            .build(graph, new WccParameters(0D, concurrency), ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+
+    @Benchmark
+    public LouvainResult louvain() {
+        var parameters = new LouvainParameters(concurrency, 10, 0.0001, 10, false, null);
+
+        return new LouvainAlgorithmFactory<>()
+            .build(graph, parameters, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+
+final class BenchmarkGraphs {
+
+    static final long SEED = 42L;
+
+    private BenchmarkGraphs() {}
+
+    static HugeGraph generate(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution distribution,
+        Direction direction,
+        AdjacencyCompression compression
+    ) {
+        return compression.build(() -> RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .direction(direction)
+            .seed(SEED)
+            .build()
+            .generate()
+        );
+    }
+
+    static HugeGraph generateWithEmbedding(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution distribution,
+        String propertyName,
+        int embeddingSize
+    ) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding(propertyName, embeddingSize, -1f, 1f))
+            .seed(SEED)
+            .build()
+            .generate();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential, random and cursor based access on the single page and the paged {@link HugeLongArray}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HugeLongArrayBenchmark {
+
+    public enum Layout {
+        SINGLE,
+        PAGED
+    }
+
+    private static final int RANDOM_READS = 1_000_000;
+
+    @Param({"1000000", "100000000"})
+    int size;
+
+    @Param({"SINGLE", "PAGED"})
+    Layout layout;
+
+    private HugeLongArray array;
+    private long[] randomIndices;
+
+    @Setup
+    public void setup() {
+        this.array = layout == Layout.SINGLE
+            ? HugeLongArray.newSingleArray(size)
+            : HugeLongArray.newPagedArray(size);
+        array.setAll(index -> index * 31);
+
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        this.randomIndices = new long[RANDOM_READS];
+        for (int i = 0; i < RANDOM_READS; i++) {
+            randomIndices[i] = random.nextLong(size);
+        }
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        long checksum = 0L;
+        for (long i = 0; i < size; i++) {
+            checksum += array.get(i);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long randomGet() {
+        long checksum = 0L;
+        for (long index : randomIndices) {
+            checksum += array.get(index);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long cursor() {
+        long checksum = 0L;
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                long[] page = cursor.array;
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    checksum += page[i];
+                }
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public HugeLongArray sequentialSet() {
+        for (long i = 0; i < size; i++) {
+            array.set(i, i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures original-to-mapped and mapped-to-original id lookups on the id map built by {@link GraphFactory}.
+ * Lookups are done in random order so that the numbers are not dominated by sequential prefetching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IdMapBenchmark {
+
+    public enum IdSpace {
+        // original ids are 0..nodeCount
+        DENSE(1),
+        // original ids are spread over a range 16 times the node count
+        SPARSE(16);
+
+        private final int stride;
+
+        IdSpace(int stride) {
+            this.stride = stride;
+        }
+    }
+
+    @Param({"100000", "10000000"})
+    long nodeCount;
+
+    @Param({"DENSE", "SPARSE"})
+    IdSpace idSpace;
+
+    private IdMap idMap;
+    private long[] originalIds;
+    private long[] mappedIds;
+
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        var stride = idSpace.stride;
+
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(nodeCount * stride)
+            .concurrency(1)
+            .build();
+        for (long i = 0; i < nodeCount; i++) {
+            nodesBuilder.addNode(i * stride + random.nextInt(stride));
+        }
+        this.idMap = nodesBuilder.build().idMap();
+
+        int lookups = (int) Math.min(nodeCount, 1_000_000);
+        this.originalIds = new long[lookups];
+        this.mappedIds = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            mappedIds[i] = random.nextLong(nodeCount);
+            originalIds[i] = idMap.toOriginalNodeId(mappedIds[i]);
+        }
+    }
+
+    @Benchmark
+    public long toMappedNodeId() {
+        long checksum = 0L;
+        for (long originalId : originalIds) {
+            checksum += idMap.toMappedNodeId(originalId);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long toOriginalNodeId() {
+        long checksum = 0L;
+        for (long mappedId : mappedIds) {
+            checksum += idMap.toOriginalNodeId(mappedId);
+        }
+        return checksum;
+    }
+}
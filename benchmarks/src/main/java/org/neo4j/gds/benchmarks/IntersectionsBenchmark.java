@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.core.utils.Intersections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the set intersections and vector similarity kernels in {@link Intersections}
+ * that back triangle counting, node similarity and KNN.
+ * The forked JVM resolves the Vector API module so that the vectorized kernels are measured;
+ * run with {@code -jvmArgsAppend ""} to measure the scalar fallback instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IntersectionsBenchmark {
+
+    @Param({"16", "256", "4096"})
+    int length;
+
+    // fraction of the values in the first array that also appear in the second one
+    @Param({"0.1", "0.5"})
+    double overlap;
+
+    // how many times longer the second array is than the first one
+    @Param({"1", "32", "1024"})
+    int sizeRatio;
+
+    private long[] targets1;
+    private long[] targets2;
+    private LongHashSet targetSet1;
+    private LongHashSet targetSet2;
+
+    private double[] doubleVector1;
+    private double[] doubleVector2;
+    private float[] floatVector1;
+    private float[] floatVector2;
+
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+
+        this.targets1 = new long[length];
+        this.targets2 = new long[length * sizeRatio];
+        long value1 = 0;
+        for (int i = 0; i < length; i++) {
+            value1 += 1 + random.nextInt(4 * sizeRatio);
+            targets1[i] = value1;
+        }
+        long value2 = 0;
+        for (int i = 0; i < targets2.length; i++) {
+            value2 += 1 + random.nextInt(4);
+            targets2[i] = random.nextDouble() < overlap / sizeRatio ? targets1[i / sizeRatio] : value2;
+        }
+        Arrays.sort(targets2);
+        this.targetSet1 = LongHashSet.from(targets1);
+        this.targetSet2 = LongHashSet.from(targets2);
+
+        this.doubleVector1 = random.doubles(length).toArray();
+        this.doubleVector2 = random.doubles(length).toArray();
+        this.floatVector1 = new float[length];
+        this.floatVector2 = new float[length];
+        for (int i = 0; i < length; i++) {
+            floatVector1[i] = (float) doubleVector1[i];
+            floatVector2[i] = (float) doubleVector2[i];
+        }
+    }
+
+    @Benchmark
+    public long intersectionHashSets() {
+        return Intersections.intersection(targetSet1, targetSet2);
+    }
+
+    @Benchmark
+    public long intersection2() {
+        return Intersections.intersection2(targets1, targets2);
+    }
+
+    @Benchmark
+    public long intersection3() {
+        return Intersections.intersection3(targets1, targets2);
+    }
+
+    @Benchmark
+    public long intersection4() {
+        return Intersections.intersection4(targets1, targets2);
+    }
+
+    @Benchmark
+    public long intersectionArraysWithLength() {
+        return Intersections.intersectionArraysWithLength(targets1, targets2, targets1.length, targets2.length);
+    }
+
+    @Benchmark
+    public double cosineDouble() {
+        return Intersections.cosine(doubleVector1, doubleVector2, length);
+    }
+
+    @Benchmark
+    public float cosineFloat() {
+        return Intersections.cosine(floatVector1, floatVector2, length);
+    }
+
+    @Benchmark
+    public double pearson() {
+        return Intersections.pearson(doubleVector1, doubleVector2, length);
+    }
+
+    @Benchmark
+    public double sumSquareDelta() {
+        return Intersections.sumSquareDelta(doubleVector1, doubleVector2, length);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.knn.KnnFactory;
+import org.neo4j.gds.similarity.knn.KnnResult;
+import org.neo4j.gds.similarity.knn.KnnStreamConfigImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end runs of KNN over a random float embedding.
+ * The relationships of the generated graph are not used by KNN; they only make the graph realistic in size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class KnnBenchmark {
+
+    private static final String EMBEDDING_PROPERTY = "embedding";
+
+    @Param({"10000", "100000"})
+    long nodeCount;
+
+    @Param({"16", "128"})
+    int embeddingSize;
+
+    @Param({"10"})
+    int topK;
+
+    @Param({"1", "4"})
+    int concurrency;
+
+    private HugeGraph graph;
+
+    @Setup
+    public void setup() {
+        this.graph = BenchmarkGraphs.generateWithEmbedding(
+            nodeCount,
+            1,
+            RelationshipDistribution.UNIFORM,
+            EMBEDDING_PROPERTY,
+            embeddingSize
+        );
+    }
+
+    @Benchmark
+    public KnnResult knn() {
+        var config = KnnStreamConfigImpl.builder()
+            .nodeProperties(List.of(EMBEDDING_PROPERTY))
+            .topK(topK)
+            .concurrency(concurrency)
+            .build();
+
+        return new KnnFactory<>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+    }
+}
@@ -201,4 +201,82 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * Cursor over pages that are not Java arrays, for example memory-mapped file regions.
+     * The traversed range of each page is copied into a reusable buffer which is then exposed as {@link #array}.
+     * Writes to {@link #array} are therefore not reflected in the underlying storage.
+     */
+    public static final class LoadingPagedCursor<Array> extends HugeCursor<Array> {
+
+        /**
+         * Copies the values of page {@code pageIndex} from {@code from} (inclusive) to {@code to} (exclusive)
+         * into the same positions of {@code buffer}.
+         */
+        @FunctionalInterface
+        public interface PageLoader<Array> {
+            void load(int pageIndex, int from, int to, Array buffer);
+        }
+
+        private PageLoader<Array> loader;
+        private Array buffer;
+        private int pageIndex;
+        private int fromPage;
+        private int maxPage;
+        private long capacity;
+        private long end;
+
+        public LoadingPagedCursor(long capacity, Array buffer, PageLoader<Array> loader) {
+            super();
+            this.capacity = capacity;
+            this.buffer = buffer;
+            this.loader = loader;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        public void setRange(long start, long end) {
+            fromPage = pageIndex(start);
+            maxPage = pageIndex(end - 1L);
+            pageIndex = fromPage - 1;
+            this.end = end;
+            base = (long) fromPage << PAGE_SHIFT;
+            offset = indexInPage(start);
+            limit = fromPage == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+        }
+
+        @Override
+        public boolean next() {
+            int current = ++pageIndex;
+            if (current > maxPage) {
+                return false;
+            }
+            if (current != fromPage) {
+                base += PAGE_SIZE;
+                offset = 0;
+                limit = current == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+            }
+            loader.load(current, offset, limit, buffer);
+            array = buffer;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            array = null;
+            buffer = null;
+            loader = null;
+            base = 0L;
+            end = 0L;
+            limit = 0;
+            capacity = 0L;
+            maxPage = -1;
+            fromPage = -1;
+            pageIndex = -1;
+        }
+    }
 }
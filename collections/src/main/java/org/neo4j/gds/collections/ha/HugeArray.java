@@ -103,7 +103,7 @@ public abstract class HugeArray<Array, Box, Self extends HugeArray<Array, Box, S
      * Copies data from {@code source} into this array, starting from {@code sliceStart} up until {@code sliceEnd}.
      * @return the number of entries copied
      */
-    public final int copyFromArrayIntoSlice(Array source, long sliceStart, long sliceEnd) {
+    public int copyFromArrayIntoSlice(Array source, long sliceStart, long sliceEnd) {
         int sourceIndex = 0;
         try (HugeCursor<Array> cursor = initCursor(newCursor(), sliceStart, sliceEnd)) {
             int sourceLength = java.lang.reflect.Array.getLength(source);
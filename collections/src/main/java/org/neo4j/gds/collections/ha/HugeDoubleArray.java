@@ -22,10 +22,13 @@ package org.neo4j.gds.collections.ha;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
 
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SHIFT;
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SIZE;
@@ -208,6 +211,15 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return PagedHugeDoubleArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size whose pages are memory-mapped from a file in the given directory
+     * instead of being allocated on the heap.
+     * The file is removed as soon as it is mapped; the disk space is reclaimed once the array is garbage collected.
+     */
+    public static HugeDoubleArray newFileBackedArray(long size, Path directory) {
+        return FileBackedHugeDoubleArray.of(size, directory);
+    }
+
     public static HugeDoubleArray of(final double... values) {
         return new HugeDoubleArray.SingleHugeDoubleArray(values.length, values);
     }
@@ -297,6 +309,9 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                long copyLength = length;
+                dest.setAll(i -> i < copyLength ? page[(int) i] : 0D);
             }
         }
 
@@ -448,6 +463,9 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0D);
                 }
+            } else {
+                long copyLength = length;
+                dest.setAll(i -> i < copyLength ? get(i) : 0D);
             }
         }
 
@@ -480,4 +498,128 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+
+    static final class FileBackedHugeDoubleArray extends HugeDoubleArray {
+
+        private static HugeDoubleArray of(long size, Path directory) {
+            var mappedPages = MappedPages.map(directory, size, Double.BYTES);
+            var pages = new DoubleBuffer[mappedPages.length];
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = mappedPages[i].asDoubleBuffer();
+            }
+            return new FileBackedHugeDoubleArray(size, pages);
+        }
+
+        private final long size;
+        private DoubleBuffer[] pages;
+        private final long memoryUsed;
+
+        private FileBackedHugeDoubleArray(long size, DoubleBuffer[] pages) {
+            this.size = size;
+            this.pages = pages;
+            this.memoryUsed = MappedPages.memoryUsed(pages.length, FileBackedHugeDoubleArray.class);
+        }
+
+        @Override
+        public double get(long index) {
+            assert index < size;
+            return pages[pageIndex(index)].get(indexInPage(index));
+        }
+
+        @Override
+        public void set(long index, double value) {
+            assert index < size;
+            pages[pageIndex(index)].put(indexInPage(index), value);
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            assert index < size;
+            var page = pages[pageIndex(index)];
+            int indexInPage = indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (int i = 0; i < pages.length; i++) {
+                var page = pages[i];
+                long base = ((long) i) << PAGE_SHIFT;
+                for (int j = 0; j < page.limit(); j++) {
+                    page.put(j, gen.applyAsDouble(base + j));
+                }
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            for (var page : pages) {
+                for (int j = 0; j < page.limit(); j++) {
+                    page.put(j, value);
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            long copyLength = length;
+            dest.setAll(i -> i < copyLength ? get(i) : 0D);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(double[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            int sourceIndex = 0;
+            long index = sliceStart;
+            while (sourceIndex < length) {
+                var page = pages[pageIndex(index)];
+                int indexInPage = indexInPage(index);
+                int toCopy = Math.min(length - sourceIndex, page.limit() - indexInPage);
+                page.put(indexInPage, source, sourceIndex, toCopy);
+                sourceIndex += toCopy;
+                index += toCopy;
+            }
+            return sourceIndex;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long release() {
+            if (pages != null) {
+                pages = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            var pages = this.pages;
+            return new HugeCursor.LoadingPagedCursor<>(
+                size,
+                new double[(int) Math.min(size, PAGE_SIZE)],
+                (pageIndex, from, to, buffer) -> pages[pageIndex].get(from, buffer, from, to - from)
+            );
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return LongStream.range(0, size).mapToDouble(this::get);
+        }
+    }
 }
@@ -22,6 +22,8 @@ package org.neo4j.gds.collections.ha;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
 
+import java.nio.IntBuffer;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToIntFunction;
@@ -224,6 +226,15 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return PagedHugeIntArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size whose pages are memory-mapped from a file in the given directory
+     * instead of being allocated on the heap.
+     * The file is removed as soon as it is mapped; the disk space is reclaimed once the array is garbage collected.
+     */
+    public static HugeIntArray newFileBackedArray(long size, Path directory) {
+        return FileBackedHugeIntArray.of(size, directory);
+    }
+
     public static HugeIntArray of(final int... values) {
         return new HugeIntArray.SingleHugeIntArray(values.length, values);
     }
@@ -334,6 +345,9 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                long copyLength = length;
+                dest.setAll(i -> i < copyLength ? page[(int) i] : 0);
             }
         }
 
@@ -506,6 +520,9 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0);
                 }
+            } else {
+                long copyLength = length;
+                dest.setAll(i -> i < copyLength ? get(i) : 0);
             }
         }
 
@@ -533,4 +550,151 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    static final class FileBackedHugeIntArray extends HugeIntArray {
+
+        private static HugeIntArray of(long size, Path directory) {
+            var mappedPages = MappedPages.map(directory, size, Integer.BYTES);
+            var pages = new IntBuffer[mappedPages.length];
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = mappedPages[i].asIntBuffer();
+            }
+            return new FileBackedHugeIntArray(size, pages);
+        }
+
+        private final long size;
+        private IntBuffer[] pages;
+        private final long memoryUsed;
+
+        private FileBackedHugeIntArray(long size, IntBuffer[] pages) {
+            this.size = size;
+            this.pages = pages;
+            this.memoryUsed = MappedPages.memoryUsed(pages.length, FileBackedHugeIntArray.class);
+        }
+
+        @Override
+        public int get(long index) {
+            assert index < size;
+            return pages[pageIndex(index)].get(indexInPage(index));
+        }
+
+        @Override
+        public int getAndAdd(long index, int delta) {
+            assert index < size;
+            var page = pages[pageIndex(index)];
+            int indexInPage = indexInPage(index);
+            int value = page.get(indexInPage);
+            page.put(indexInPage, value + delta);
+            return value;
+        }
+
+        @Override
+        public void set(long index, int value) {
+            assert index < size;
+            pages[pageIndex(index)].put(indexInPage(index), value);
+        }
+
+        @Override
+        public void addTo(long index, int value) {
+            assert index < size;
+            var page = pages[pageIndex(index)];
+            int indexInPage = indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongToIntFunction gen) {
+            for (int i = 0; i < pages.length; i++) {
+                var page = pages[i];
+                long base = ((long) i) << PAGE_SHIFT;
+                for (int j = 0; j < page.limit(); j++) {
+                    page.put(j, gen.applyAsInt(base + j));
+                }
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            for (var page : pages) {
+                for (int j = 0; j < page.limit(); j++) {
+                    page.put(j, value);
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(HugeIntArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            long copyLength = length;
+            dest.setAll(i -> i < copyLength ? get(i) : 0);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(int[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            int sourceIndex = 0;
+            long index = sliceStart;
+            while (sourceIndex < length) {
+                var page = pages[pageIndex(index)];
+                int indexInPage = indexInPage(index);
+                int toCopy = Math.min(length - sourceIndex, page.limit() - indexInPage);
+                page.put(indexInPage, source, sourceIndex, toCopy);
+                sourceIndex += toCopy;
+                index += toCopy;
+            }
+            return sourceIndex;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long release() {
+            if (pages != null) {
+                pages = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<int[]> newCursor() {
+            var pages = this.pages;
+            return new HugeCursor.LoadingPagedCursor<>(
+                size,
+                new int[(int) Math.min(size, PAGE_SIZE)],
+                (pageIndex, from, to, buffer) -> pages[pageIndex].get(from, buffer, from, to - from)
+            );
+        }
+
+        @Override
+        public void or(long index, final int value) {
+            assert index < size;
+            var page = pages[pageIndex(index)];
+            int indexInPage = indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) | value);
+        }
+
+        @Override
+        public int and(long index, final int value) {
+            assert index < size;
+            var page = pages[pageIndex(index)];
+            int indexInPage = indexInPage(index);
+            int result = page.get(indexInPage) & value;
+            page.put(indexInPage, result);
+            return result;
+        }
+    }
 }
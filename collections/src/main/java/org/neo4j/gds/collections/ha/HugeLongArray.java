@@ -25,6 +25,8 @@ import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
 
+import java.nio.LongBuffer;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.function.LongFunction;
@@ -225,6 +227,15 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return PagedHugeLongArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size whose pages are memory-mapped from a file in the given directory
+     * instead of being allocated on the heap.
+     * The file is removed as soon as it is mapped; the disk space is reclaimed once the array is garbage collected.
+     */
+    public static HugeLongArray newFileBackedArray(long size, Path directory) {
+        return FileBackedHugeLongArray.of(size, directory);
+    }
+
     public static HugeLongArray of(final long... values) {
         return new SingleHugeLongArray(values.length, values);
     }
@@ -339,6 +350,9 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                long copyLength = length;
+                dest.setAll(i -> i < copyLength ? page[(int) i] : 0L);
             }
         }
 
@@ -515,6 +529,9 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0L);
                 }
+            } else {
+                long copyLength = length;
+                dest.setAll(i -> i < copyLength ? get(i) : 0L);
             }
         }
 
@@ -558,4 +575,166 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         }
 
     }
+
+    static final class FileBackedHugeLongArray extends HugeLongArray {
+
+        private static HugeLongArray of(long size, Path directory) {
+            var mappedPages = MappedPages.map(directory, size, Long.BYTES);
+            var pages = new LongBuffer[mappedPages.length];
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = mappedPages[i].asLongBuffer();
+            }
+            return new FileBackedHugeLongArray(size, pages);
+        }
+
+        private final long size;
+        private LongBuffer[] pages;
+        private final long memoryUsed;
+
+        private FileBackedHugeLongArray(long size, LongBuffer[] pages) {
+            this.size = size;
+            this.pages = pages;
+            this.memoryUsed = MappedPages.memoryUsed(pages.length, FileBackedHugeLongArray.class);
+        }
+
+        @Override
+        public long get(long index) {
+            assert index < size;
+            return pages[HugeArrays.pageIndex(index)].get(HugeArrays.indexInPage(index));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            assert index < size;
+            pages[HugeArrays.pageIndex(index)].put(HugeArrays.indexInPage(index), value);
+        }
+
+        @Override
+        public void or(long index, final long value) {
+            assert index < size;
+            var page = pages[HugeArrays.pageIndex(index)];
+            int indexInPage = HugeArrays.indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) | value);
+        }
+
+        @Override
+        public long and(long index, final long value) {
+            assert index < size;
+            var page = pages[HugeArrays.pageIndex(index)];
+            int indexInPage = HugeArrays.indexInPage(index);
+            long result = page.get(indexInPage) & value;
+            page.put(indexInPage, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            assert index < size;
+            var page = pages[HugeArrays.pageIndex(index)];
+            int indexInPage = HugeArrays.indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (int i = 0; i < pages.length; i++) {
+                var page = pages[i];
+                long base = ((long) i) << HugeArrays.PAGE_SHIFT;
+                for (int j = 0; j < page.limit(); j++) {
+                    page.put(j, gen.applyAsLong(base + j));
+                }
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            for (var page : pages) {
+                for (int j = 0; j < page.limit(); j++) {
+                    page.put(j, value);
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            long copyLength = length;
+            dest.setAll(i -> i < copyLength ? get(i) : 0L);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(long[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            int sourceIndex = 0;
+            long index = sliceStart;
+            while (sourceIndex < length) {
+                var page = pages[HugeArrays.pageIndex(index)];
+                int indexInPage = HugeArrays.indexInPage(index);
+                int toCopy = Math.min(length - sourceIndex, page.limit() - indexInPage);
+                page.put(indexInPage, source, sourceIndex, toCopy);
+                sourceIndex += toCopy;
+                index += toCopy;
+            }
+            return sourceIndex;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            for (int pageIndex = pages.length - 1; pageIndex >= 0; pageIndex--) {
+                var page = pages[pageIndex];
+                int low = 0;
+                int high = page.limit() - 1;
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+                    long midVal = page.get(mid);
+                    if (midVal < searchValue) {
+                        low = mid + 1;
+                    } else if (midVal > searchValue) {
+                        high = mid - 1;
+                    } else {
+                        low = mid + 1;
+                        break;
+                    }
+                }
+                if (low > 0) {
+                    return HugeArrays.indexFromPageIndexAndIndexInPage(pageIndex, low - 1);
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public long release() {
+            if (pages != null) {
+                pages = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            var pages = this.pages;
+            return new HugeCursor.LoadingPagedCursor<>(
+                size,
+                new long[(int) Math.min(size, HugeArrays.PAGE_SIZE)],
+                (pageIndex, from, to, buffer) -> pages[pageIndex].get(from, buffer, from, to - from)
+            );
+        }
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Maps the pages of a file-backed huge array into memory.
+ * <p>
+ * The backing file is created in the given directory and unlinked right after it has been mapped,
+ * so its disk space is reclaimed once the mappings become unreachable and are garbage collected.
+ * Pages are carved out of a few large mappings rather than mapped one by one,
+ * which keeps the number of mappings well below the operating system limits.
+ */
+final class MappedPages {
+
+    private static final long MAX_MAPPING_BYTES = 1L << 30;
+
+    private MappedPages() {}
+
+    static ByteBuffer[] map(Path directory, long size, int bytesPerElement) {
+        int numPages = HugeArrays.numberOfPages(size);
+        var pages = new ByteBuffer[numPages];
+        if (numPages == 0) {
+            return pages;
+        }
+
+        long totalBytes = size * bytesPerElement;
+        long pageBytes = (long) HugeArrays.PAGE_SIZE * bytesPerElement;
+        int pagesPerMapping = (int) (MAX_MAPPING_BYTES / pageBytes);
+
+        Path file;
+        try {
+            file = Files.createTempFile(directory, "gds-huge-array-", ".bin");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create backing file in " + directory, e);
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (int firstPage = 0; firstPage < numPages; firstPage += pagesPerMapping) {
+                int lastPage = Math.min(numPages, firstPage + pagesPerMapping);
+                long position = firstPage * pageBytes;
+                long mappingBytes = Math.min(totalBytes, lastPage * pageBytes) - position;
+                MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, position, mappingBytes);
+                for (int page = firstPage; page < lastPage; page++) {
+                    int offset = (int) ((page - firstPage) * pageBytes);
+                    int length = (int) Math.min(pageBytes, mappingBytes - offset);
+                    pages[page] = mapping.slice(offset, length).order(ByteOrder.nativeOrder());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map backing file " + file, e);
+        } finally {
+            unlink(file);
+        }
+
+        return pages;
+    }
+
+    static long memoryUsed(int numPages, Class<?> arrayClass) {
+        return MemoryUsage.sizeOfInstance(arrayClass) + MemoryUsage.sizeOfObjectArray(numPages);
+    }
+
+    private static void unlink(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // some platforms do not allow deleting a mapped file
+            file.toFile().deleteOnExit();
+        }
+    }
+}
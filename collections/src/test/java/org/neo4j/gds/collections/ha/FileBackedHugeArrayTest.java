@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.mem.HugeArrays;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileBackedHugeArrayTest {
+
+    private static final long SIZE = 3L * HugeArrays.PAGE_SIZE + 42;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldNotLeaveFilesBehind() throws Exception {
+        HugeLongArray.newFileBackedArray(SIZE, directory);
+        HugeDoubleArray.newFileBackedArray(SIZE, directory);
+        HugeIntArray.newFileBackedArray(SIZE, directory);
+
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldBehaveLikeHeapLongArray() {
+        var fileBacked = HugeLongArray.newFileBackedArray(SIZE, directory);
+        var heap = HugeLongArray.newPagedArray(SIZE);
+        assertThat(fileBacked.size()).isEqualTo(SIZE);
+        assertThat(fileBacked.get(SIZE - 1)).isZero();
+
+        fileBacked.setAll(i -> i * 3);
+        heap.setAll(i -> i * 3);
+        var random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            long index = random.nextInt((int) SIZE);
+            long value = random.nextLong();
+            fileBacked.or(index, value);
+            heap.or(index, value);
+            index = random.nextInt((int) SIZE);
+            assertThat(fileBacked.and(index, value)).isEqualTo(heap.and(index, value));
+            index = random.nextInt((int) SIZE);
+            fileBacked.addTo(index, value);
+            heap.addTo(index, value);
+        }
+
+        assertThat(fileBacked.toArray()).containsExactly(heap.toArray());
+    }
+
+    @Test
+    void shouldBinarySearchAcrossPages() {
+        var array = HugeLongArray.newFileBackedArray(SIZE, directory);
+        array.setAll(i -> 2 * i + 1);
+
+        assertThat(array.binarySearch(0)).isEqualTo(-1);
+        assertThat(array.binarySearch(1)).isEqualTo(0);
+        assertThat(array.binarySearch(2)).isEqualTo(0);
+        assertThat(array.binarySearch(2L * HugeArrays.PAGE_SIZE + 2)).isEqualTo(HugeArrays.PAGE_SIZE);
+        assertThat(array.binarySearch(Long.MAX_VALUE)).isEqualTo(SIZE - 1);
+    }
+
+    @Test
+    void shouldBehaveLikeHeapDoubleArray() {
+        var fileBacked = HugeDoubleArray.newFileBackedArray(SIZE, directory);
+        var heap = HugeDoubleArray.newArray(SIZE);
+
+        fileBacked.fill(0.5);
+        heap.fill(0.5);
+        fileBacked.addTo(HugeArrays.PAGE_SIZE, 2.0);
+        heap.addTo(HugeArrays.PAGE_SIZE, 2.0);
+        fileBacked.set(SIZE - 1, 13.37);
+        heap.set(SIZE - 1, 13.37);
+
+        assertThat(fileBacked.toArray()).containsExactly(heap.toArray());
+        assertThat(fileBacked.stream().sum()).isEqualTo(heap.stream().sum());
+    }
+
+    @Test
+    void shouldBehaveLikeHeapIntArray() {
+        var fileBacked = HugeIntArray.newFileBackedArray(SIZE, directory);
+        var heap = HugeIntArray.newArray(SIZE);
+
+        fileBacked.setAll(i -> (int) (i % 7));
+        heap.setAll(i -> (int) (i % 7));
+        long index = HugeArrays.PAGE_SIZE + 1;
+        assertThat(fileBacked.getAndAdd(index, 5)).isEqualTo(heap.getAndAdd(index, 5));
+        fileBacked.or(17, 8);
+        heap.or(17, 8);
+        assertThat(fileBacked.and(SIZE - 2, 3)).isEqualTo(heap.and(SIZE - 2, 3));
+
+        assertThat(fileBacked.toArray()).containsExactly(heap.toArray());
+    }
+
+    @Test
+    void shouldCopyBetweenHeapAndFileBackedArrays() {
+        var heap = HugeLongArray.newPagedArray(SIZE);
+        heap.setAll(i -> i + 1);
+
+        var fileBacked = HugeLongArray.newFileBackedArray(SIZE + 10, directory);
+        fileBacked.fill(-1);
+        heap.copyTo(fileBacked, SIZE);
+        assertThat(fileBacked.get(SIZE - 1)).isEqualTo(SIZE);
+        assertThat(fileBacked.get(SIZE)).isZero();
+
+        var single = HugeLongArray.newSingleArray(100);
+        fileBacked.copyTo(single, 50);
+        assertThat(single.toArray()).containsExactly(
+            LongStream.range(0, 100).map(i -> i < 50 ? i + 1 : 0).toArray()
+        );
+    }
+
+    @Test
+    void shouldCopyFromArrayIntoSliceAcrossPages() {
+        var array = HugeLongArray.newFileBackedArray(SIZE, directory);
+        long start = HugeArrays.PAGE_SIZE - 5;
+        long[] source = LongStream.rangeClosed(1, 10).toArray();
+
+        assertThat(array.copyFromArrayIntoSlice(source, start, start + 10)).isEqualTo(10);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(array.get(start + i)).isEqualTo(i + 1);
+        }
+        assertThat(array.get(start - 1)).isZero();
+        assertThat(array.get(start + 10)).isZero();
+    }
+
+    @Test
+    void shouldIterateRangesWithCursor() {
+        var array = HugeLongArray.newFileBackedArray(SIZE, directory);
+        array.setAll(i -> i);
+        long start = HugeArrays.PAGE_SIZE - 3;
+        long end = 2L * HugeArrays.PAGE_SIZE + 3;
+
+        long sum = 0;
+        long count = 0;
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor(), start, end)) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    assertThat(cursor.array[i]).isEqualTo(cursor.base + i);
+                    sum += cursor.array[i];
+                    count++;
+                }
+            }
+        }
+
+        assertThat(count).isEqualTo(end - start);
+        assertThat(sum).isEqualTo(LongStream.range(start, end).sum());
+    }
+
+    @Test
+    void shouldReleaseOnlyOnce() {
+        var array = HugeIntArray.newFileBackedArray(SIZE, directory);
+        assertThat(array.sizeOf()).isPositive();
+        assertThat(array.release()).isEqualTo(array.sizeOf());
+        assertThat(array.release()).isZero();
+    }
+
+    @Test
+    void shouldSupportEmptyArrays() {
+        var array = HugeLongArray.newFileBackedArray(0, directory);
+        assertThat(array.size()).isZero();
+        assertThat(array.toArray()).isEmpty();
+        assertThat(array.binarySearch(42)).isEqualTo(-1);
+    }
+}
@@ -99,6 +99,7 @@ import org.neo4j.scheduler.JobScheduler;
 import org.neo4j.ssl.config.SslPolicyLoader;
 import org.neo4j.storageengine.api.PropertySelection;
 import org.neo4j.storageengine.api.StorageEngineFactory;
+import org.neo4j.storageengine.api.TransactionIdStore;
 import org.neo4j.values.storable.TextArray;
 import org.neo4j.values.virtual.MapValue;
 import org.neo4j.values.virtual.NodeValue;
@@ -750,6 +751,14 @@ public final class Neo4jProxy {
         return kernelTransaction.getTransactionSequenceNumber();
     }
 
+    /**
+     * The id of the last transaction committed to the database behind the given resolver.
+     * Any write to the database increases it.
+     */
+    public static long lastCommittedTransactionId(DependencyResolver dependencyResolver) {
+        return dependencyResolver.resolveDependency(TransactionIdStore.class).getLastCommittedTransactionId();
+    }
+
     public static void reserveNeo4jIds(IdGeneratorFactory generatorFactory, int size, CursorContext cursorContext) {
         IdGenerator idGenerator = generatorFactory.get(RecordIdType.NODE);
 
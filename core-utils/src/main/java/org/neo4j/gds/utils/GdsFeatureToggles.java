@@ -22,6 +22,7 @@ package org.neo4j.gds.utils;
 import org.apache.commons.text.CaseUtils;
 import org.jetbrains.annotations.TestOnly;
 
+import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -33,7 +34,12 @@ public enum GdsFeatureToggles {
     USE_PACKED_ADJACENCY_LIST(false),
     USE_MIXED_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
+    USE_OFF_HEAP_ADJACENCY_LIST(false),
+    USE_COMPRESSED_ADJACENCY_PROPERTIES(false),
+    USE_LOSSY_ADJACENCY_PROPERTIES(false),
     ENABLE_ARROW_DATABASE_IMPORT(true),
+    ENABLE_GRAPH_STORE_SHARING(true),
+    USE_FILE_BACKED_NODE_PROPERTIES(false),
     // Makes sure end users algorithms don't fail due to errors in log tracking,
     // but keeps the option to find these failures when running tests.
     FAIL_ON_PROGRESS_TRACKER_ERRORS(false),
@@ -114,6 +120,15 @@ public enum GdsFeatureToggles {
     public static final AtomicReference<AdjacencyPackingStrategy> ADJACENCY_PACKING_STRATEGY =
         new AtomicReference<>(ADJACENCY_PACKING_STRATEGY_DEFAULT_SETTING);
 
+    // Directory in which file-backed node properties map their pages.
+    // The files are unlinked right after mapping, the directory only needs to offer enough space.
+    private static final String FILE_BACKED_ARRAYS_DIRECTORY_FLAG = System.getProperty(
+        name(GdsFeatureToggles.class, "fileBackedArraysDirectory"),
+        System.getProperty("java.io.tmpdir")
+    );
+    public static final AtomicReference<Path> FILE_BACKED_ARRAYS_DIRECTORY =
+        new AtomicReference<>(Path.of(FILE_BACKED_ARRAYS_DIRECTORY_FLAG));
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
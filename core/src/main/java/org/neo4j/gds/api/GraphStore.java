@@ -40,6 +40,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import static java.util.Collections.singletonList;
 
@@ -167,6 +168,16 @@ public interface GraphStore {
 
     void addRelationshipType(SingleTypeRelationships relationships);
 
+    /**
+     * Replaces the relationships of an existing relationship type with the result of applying
+     * the given function to them. Reading and replacing happen in a single update of the graph store,
+     * so that readers either observe the previous or the new relationships.
+     */
+    void updateRelationshipType(
+        RelationshipType relationshipType,
+        UnaryOperator<SingleTypeRelationships> updateFunction
+    );
+
     void addInverseIndex(
         RelationshipType relationshipType,
         Topology topology,
@@ -35,6 +35,7 @@ import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 public abstract class GraphStoreAdapter implements GraphStore {
 
@@ -232,6 +233,14 @@ public abstract class GraphStoreAdapter implements GraphStore {
         graphStore.addRelationshipType(relationships);
     }
 
+    @Override
+    public void updateRelationshipType(
+        RelationshipType relationshipType,
+        UnaryOperator<SingleTypeRelationships> updateFunction
+    ) {
+        graphStore.updateRelationshipType(relationshipType, updateFunction);
+    }
+
     @Override
     public void addInverseIndex(
         RelationshipType relationshipType,
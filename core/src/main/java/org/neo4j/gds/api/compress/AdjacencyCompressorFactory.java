@@ -21,8 +21,10 @@ package org.neo4j.gds.api.compress;
 
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.adaptive.DegreeBuckets;
 
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 public interface AdjacencyCompressorFactory {
 
@@ -31,6 +33,14 @@ public interface AdjacencyCompressorFactory {
      */
     void init();
 
+    /**
+     * Prepares the compressor for flushing with the degrees of all buffered adjacency lists at hand.
+     * Factories that do not adapt to the degree distribution never evaluate the supplier.
+     */
+    default void init(Supplier<DegreeBuckets> degrees) {
+        init();
+    }
+
     void init(HugeIntArray degrees, HugeLongArray adjacencyOffsets, HugeLongArray propertyOffsets);
 
     /**
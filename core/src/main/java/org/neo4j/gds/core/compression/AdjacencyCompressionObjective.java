@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * What a projection optimizes for when it selects the {@link AdjacencyLayout} of a relationship type.
+ */
+public enum AdjacencyCompressionObjective {
+    /**
+     * Use the layout with the smallest estimated size.
+     */
+    MEMORY,
+    /**
+     * Use the fastest layout to decode, as long as its estimated size stays
+     * reasonably close to the smallest layout.
+     */
+    SPEED;
+
+    private static final List<String> VALUES = Arrays
+        .stream(AdjacencyCompressionObjective.values())
+        .map(AdjacencyCompressionObjective::name)
+        .collect(Collectors.toList());
+
+    public static AdjacencyCompressionObjective parse(Object input) {
+        if (input instanceof String) {
+            var inputString = ((String) input).toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(inputString)) {
+                return AdjacencyCompressionObjective.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Adjacency compression objective `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof AdjacencyCompressionObjective) {
+            return (AdjacencyCompressionObjective) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected AdjacencyCompressionObjective or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(AdjacencyCompressionObjective objective) {
+        return objective.toString();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression;
+
+/**
+ * The physical layout of the target ids of an adjacency list.
+ * The constants are ordered from the fastest to the slowest to decode.
+ */
+public enum AdjacencyLayout {
+    /**
+     * Plain long arrays, no compression.
+     */
+    UNCOMPRESSED,
+    /**
+     * Delta encoded, bit-packed blocks of target ids.
+     */
+    PACKED,
+    /**
+     * Bit-packed blocks for high degree nodes and var-long encoding for all other nodes.
+     */
+    MIXED,
+    /**
+     * Delta encoded, var-long compressed target ids.
+     */
+    VAR_LONG
+}
@@ -159,6 +159,12 @@ public interface MemoryInfo {
      */
     Optional<ImmutableHistogram> pforExceptions();
 
+    /**
+     * The layout that was used to store the target ids.
+     * Empty if the layout is not known or if different layouts have been merged.
+     */
+    Optional<AdjacencyLayout> layout();
+
     default MemoryInfo merge(MemoryInfo other) {
         return ImmutableMemoryInfo.builder()
             .pages(pages() + other.pages())
@@ -207,6 +213,7 @@ public interface MemoryInfo {
             .pforExceptions(pforExceptions()
                 .map(left -> other.pforExceptions().map(left::merge).orElse(left))
                 .or(other::pforExceptions))
+            .layout(layout().filter(left -> other.layout().map(left::equals).orElse(false)))
             .build();
     }
 }
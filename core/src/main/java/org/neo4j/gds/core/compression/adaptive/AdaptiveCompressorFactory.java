@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.adaptive;
+
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
+import org.neo4j.gds.api.compress.ImmutableAdjacencyListsWithProperties;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.AdjacencyCompressionObjective;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Defers the choice of the adjacency list layout until all relationships of a type
+ * have been buffered and their degree distribution is known.
+ * The actual compression is delegated to the factory of the selected layout.
+ */
+public final class AdaptiveCompressorFactory implements AdjacencyCompressorFactory {
+
+    private final LongSupplier nodeCountSupplier;
+    private final AdjacencyCompressionObjective objective;
+    private final Function<AdjacencyLayout, AdjacencyCompressorFactory> layoutFactories;
+    private final Supplier<AdjacencyCompressorFactory> defaultFactory;
+    private final LongAdder relationshipCounter;
+
+    private AdjacencyCompressorFactory delegate;
+
+    public AdaptiveCompressorFactory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyCompressionObjective objective,
+        Function<AdjacencyLayout, AdjacencyCompressorFactory> layoutFactories,
+        Supplier<AdjacencyCompressorFactory> defaultFactory
+    ) {
+        this.nodeCountSupplier = nodeCountSupplier;
+        this.objective = objective;
+        this.layoutFactories = layoutFactories;
+        this.defaultFactory = defaultFactory;
+        this.relationshipCounter = new LongAdder();
+    }
+
+    @Override
+    public void init() {
+        this.delegate = this.defaultFactory.get();
+        this.delegate.init();
+    }
+
+    @Override
+    public void init(Supplier<DegreeBuckets> degrees) {
+        var observedDegrees = degrees.get();
+        if (observedDegrees.relationshipCount() == 0) {
+            init();
+            return;
+        }
+        var layout = AdjacencyLayoutSelection.select(
+            observedDegrees,
+            this.nodeCountSupplier.getAsLong(),
+            this.objective
+        );
+        this.delegate = this.layoutFactories.apply(layout);
+        this.delegate.init();
+    }
+
+    @Override
+    public void init(HugeIntArray degrees, HugeLongArray adjacencyOffsets, HugeLongArray propertyOffsets) {
+        this.delegate = this.defaultFactory.get();
+        this.delegate.init(degrees, adjacencyOffsets, propertyOffsets);
+    }
+
+    @Override
+    public AdjacencyCompressor createCompressor() {
+        return this.delegate.createCompressor();
+    }
+
+    @Override
+    public LongAdder relationshipCounter() {
+        return this.relationshipCounter;
+    }
+
+    @Override
+    public AdjacencyListsWithProperties build(boolean allowReordering) {
+        // relationships are counted by the buffer that feeds this factory, not by the delegate
+        return ImmutableAdjacencyListsWithProperties
+            .builder()
+            .from(this.delegate.build(allowReordering))
+            .relationshipCount(this.relationshipCounter.longValue())
+            .build();
+    }
+}
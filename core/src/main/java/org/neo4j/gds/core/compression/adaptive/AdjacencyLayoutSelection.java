@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.adaptive;
+
+import org.neo4j.gds.core.compression.AdjacencyCompressionObjective;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
+import org.neo4j.gds.core.compression.mixed.MixedCompressor;
+import org.neo4j.gds.core.compression.packed.AdjacencyPacking;
+
+import static org.neo4j.gds.mem.BitUtil.align;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * Picks an {@link AdjacencyLayout} for a single relationship type based on its observed degree distribution.
+ * <p>
+ * The size of each layout is estimated per degree bucket, assuming that the targets of a node
+ * are spread uniformly across the id space. For a node with degree {@code d} in a graph with
+ * {@code n} nodes, the average gap between two sorted targets is {@code n / d}, which determines
+ * the number of bits needed to encode a delta. The estimates are not exact, but they are good
+ * enough to tell dense, low-cardinality types apart from sparse types over a huge id space.
+ */
+public final class AdjacencyLayoutSelection {
+
+    /**
+     * With {@link AdjacencyCompressionObjective#SPEED}, a faster layout is preferred
+     * as long as its estimated size is at most this factor larger than the smallest layout.
+     */
+    static final double SPEED_SIZE_TOLERANCE = 1.5;
+
+    /**
+     * Block-wise bit packing uses the largest delta within a block, which on average
+     * needs a little more than the mean delta.
+     */
+    private static final int PACKING_SLACK_BITS = 1;
+
+    private AdjacencyLayoutSelection() {}
+
+    public static AdjacencyLayout select(
+        DegreeBuckets degrees,
+        long nodeCount,
+        AdjacencyCompressionObjective objective
+    ) {
+        var layouts = AdjacencyLayout.values();
+        var estimates = new double[layouts.length];
+        double smallest = Double.MAX_VALUE;
+        for (int i = 0; i < layouts.length; i++) {
+            // if all nodes end up on the same side of the threshold, mixed is just one of the other layouts
+            estimates[i] = layouts[i] == AdjacencyLayout.MIXED && !spansPackingThreshold(degrees)
+                ? Double.MAX_VALUE
+                : estimatedBytesPerRelationship(layouts[i], degrees, nodeCount);
+            smallest = Math.min(smallest, estimates[i]);
+        }
+
+        double limit = objective == AdjacencyCompressionObjective.SPEED
+            ? smallest * SPEED_SIZE_TOLERANCE
+            : smallest;
+
+        // layouts are ordered from fastest to slowest, the first one within the limit wins
+        for (int i = 0; i < layouts.length; i++) {
+            if (estimates[i] <= limit) {
+                return layouts[i];
+            }
+        }
+
+        throw new IllegalStateException("At least one layout must be within the limit.");
+    }
+
+    public static double estimatedBytesPerRelationship(
+        AdjacencyLayout layout,
+        DegreeBuckets degrees,
+        long nodeCount
+    ) {
+        long relationshipCount = degrees.relationshipCount();
+        if (relationshipCount == 0) {
+            return 0;
+        }
+
+        double bytes = 0;
+        for (int bucket = 0; bucket < DegreeBuckets.BUCKET_COUNT; bucket++) {
+            long nodes = degrees.nodeCount(bucket);
+            if (nodes > 0) {
+                bytes += nodes * (double) estimatedBytesPerNode(layout, degrees.meanDegree(bucket), nodeCount);
+            }
+        }
+
+        return bytes / relationshipCount;
+    }
+
+    private static boolean spansPackingThreshold(DegreeBuckets degrees) {
+        boolean packed = false;
+        boolean varLong = false;
+        for (int bucket = 0; bucket < DegreeBuckets.BUCKET_COUNT; bucket++) {
+            if (degrees.nodeCount(bucket) > 0) {
+                if (usePacking(degrees.meanDegree(bucket))) {
+                    packed = true;
+                } else {
+                    varLong = true;
+                }
+            }
+        }
+        return packed && varLong;
+    }
+
+    private static boolean usePacking(long degree) {
+        return MixedCompressor.usePacking((int) Math.min(degree, Integer.MAX_VALUE));
+    }
+
+    static long estimatedBytesPerNode(AdjacencyLayout layout, long degree, long nodeCount) {
+        switch (layout) {
+            case UNCOMPRESSED:
+                return degree * Long.BYTES;
+            case VAR_LONG:
+                return varLongBytes(degree, nodeCount);
+            case PACKED:
+                return packedBytes(degree, nodeCount);
+            case MIXED:
+                return usePacking(degree)
+                    ? packedBytes(degree, nodeCount)
+                    : varLongBytes(degree, nodeCount);
+            default:
+                throw new IllegalArgumentException("Unknown layout " + layout);
+        }
+    }
+
+    private static long varLongBytes(long degree, long nodeCount) {
+        // the first target is stored as is, all others as deltas to their predecessor
+        return ceilDiv(idBits(nodeCount), 7) + (degree - 1) * ceilDiv(deltaBits(degree, nodeCount), 7);
+    }
+
+    private static long packedBytes(long degree, long nodeCount) {
+        long blocks = ceilDiv(degree, AdjacencyPacking.BLOCK_SIZE);
+        long packedBits = idBits(nodeCount) + (degree - 1) * (deltaBits(degree, nodeCount) + PACKING_SLACK_BITS);
+        // one header byte per block, allocations are aligned to full words
+        return align(blocks + ceilDiv(packedBits, Byte.SIZE), Long.BYTES);
+    }
+
+    private static int idBits(long nodeCount) {
+        return Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(nodeCount - 1));
+    }
+
+    private static int deltaBits(long degree, long nodeCount) {
+        return Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(ceilDiv(nodeCount, degree)));
+    }
+}
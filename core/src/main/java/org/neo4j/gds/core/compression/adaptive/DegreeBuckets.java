@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.adaptive;
+
+/**
+ * Counts nodes and relationships per degree bucket, where bucket {@code b}
+ * contains all nodes with a degree in {@code [2^(b-1), 2^b)}.
+ * Nodes without any relationships are not recorded.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class DegreeBuckets {
+
+    static final int BUCKET_COUNT = Integer.SIZE;
+
+    private final long[] nodeCounts;
+    private final long[] relationshipCounts;
+
+    public DegreeBuckets() {
+        this.nodeCounts = new long[BUCKET_COUNT];
+        this.relationshipCounts = new long[BUCKET_COUNT];
+    }
+
+    static int bucket(int degree) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(degree);
+    }
+
+    public void record(int degree) {
+        if (degree <= 0) {
+            return;
+        }
+        int bucket = bucket(degree);
+        this.nodeCounts[bucket]++;
+        this.relationshipCounts[bucket] += degree;
+    }
+
+    public long nodeCount(int bucket) {
+        return this.nodeCounts[bucket];
+    }
+
+    public long relationshipCount(int bucket) {
+        return this.relationshipCounts[bucket];
+    }
+
+    public long relationshipCount() {
+        long sum = 0;
+        for (long count : this.relationshipCounts) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /**
+     * The mean degree of all nodes in the given bucket, or 0 if the bucket is empty.
+     */
+    public long meanDegree(int bucket) {
+        long nodeCount = this.nodeCounts[bucket];
+        return nodeCount == 0 ? 0 : Math.round((double) this.relationshipCounts[bucket] / nodeCount);
+    }
+}
@@ -27,6 +27,7 @@ import org.neo4j.gds.api.compress.AdjacencyListBuilder;
 import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
 import org.neo4j.gds.api.compress.ImmutableAdjacencyListsWithProperties;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.properties.AdjacencyPropertiesCompression;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 
@@ -91,7 +92,7 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
         var propertyOffsets = this.propertyOffsets;
         for (var propertyBuilder : propertyBuilders) {
             var properties = propertyBuilder.build(this.adjacencyDegrees, propertyOffsets, allowReordering);
-            builder.addProperty(properties);
+            builder.addProperty(AdjacencyPropertiesCompression.compress(properties, this.adjacencyDegrees));
         }
 
         return builder.relationshipCount(relationshipCounter.longValue()).build();
@@ -30,6 +30,7 @@ import org.neo4j.gds.api.compress.ImmutableAdjacencyListsWithProperties;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
 import org.neo4j.gds.core.compression.ImmutableMemoryInfo;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
@@ -62,7 +63,7 @@ public final class MixedCompressor implements AdjacencyCompressor {
         this.vLongCompressor = vLongCompressor;
     }
 
-    static boolean usePacking(int degree) {
+    public static boolean usePacking(int degree) {
         return degree > PACKING_DEGREE_THRESHOLD;
     }
 
@@ -221,6 +222,7 @@ public final class MixedCompressor implements AdjacencyCompressor {
                 .headTailDiffBits(packed.headTailDiffBits())
                 .bestMaxDiffBits(packed.bestMaxDiffBits())
                 .pforExceptions(packed.pforExceptions())
+                .layout(AdjacencyLayout.MIXED)
                 .build();
         }
     }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.overlay;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.compression.MemoryInfo;
+
+/**
+ * An adjacency list that replaces the adjacencies of a few nodes of a base adjacency list.
+ * <p>
+ * The replaced adjacencies are stored uncompressed and sorted by target, one array per node.
+ * All other nodes are read from the base adjacency list. Cursors of the base adjacency list
+ * are never reused for overlaid nodes and vice versa, since they would read the wrong pages.
+ */
+public final class OverlayAdjacencyList implements AdjacencyList {
+
+    private final AdjacencyList base;
+    private final BitSet overlaidNodes;
+    private final LongObjectHashMap<long[]> targets;
+
+    public OverlayAdjacencyList(AdjacencyList base, BitSet overlaidNodes, LongObjectHashMap<long[]> targets) {
+        this.base = base;
+        this.overlaidNodes = overlaidNodes;
+        this.targets = targets;
+    }
+
+    public AdjacencyList base() {
+        return base;
+    }
+
+    public BitSet overlaidNodes() {
+        return overlaidNodes;
+    }
+
+    public LongObjectHashMap<long[]> targets() {
+        return targets;
+    }
+
+    @Override
+    public int degree(long node) {
+        return overlaidNodes.get(node) ? targets.get(node).length : base.degree(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        if (overlaidNodes.get(node)) {
+            return overlayCursor(null, node);
+        }
+        return base.adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        if (overlaidNodes.get(node)) {
+            return overlayCursor(reuse, node);
+        }
+        return base.adjacencyCursor(reuse instanceof OverlayCursor ? null : reuse, node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return base.rawAdjacencyCursor();
+    }
+
+    @Override
+    public MemoryInfo memoryInfo() {
+        return base.memoryInfo();
+    }
+
+    private AdjacencyCursor overlayCursor(@Nullable AdjacencyCursor reuse, long node) {
+        var nodeTargets = targets.get(node);
+        if (nodeTargets.length == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof OverlayCursor) {
+            ((OverlayCursor) reuse).reset(nodeTargets);
+            return reuse;
+        }
+        return new OverlayCursor(nodeTargets);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.overlay;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+/**
+ * The property counterpart of {@link OverlayAdjacencyList}.
+ * Values of overlaid nodes are stored as raw long bits, in the order of the overlaid targets.
+ */
+public final class OverlayAdjacencyProperties implements AdjacencyProperties {
+
+    private final AdjacencyProperties base;
+    private final BitSet overlaidNodes;
+    private final LongObjectHashMap<long[]> values;
+
+    public OverlayAdjacencyProperties(
+        AdjacencyProperties base,
+        BitSet overlaidNodes,
+        LongObjectHashMap<long[]> values
+    ) {
+        this.base = base;
+        this.overlaidNodes = overlaidNodes;
+        this.values = values;
+    }
+
+    public AdjacencyProperties base() {
+        return base;
+    }
+
+    public LongObjectHashMap<long[]> values() {
+        return values;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        if (overlaidNodes.get(node)) {
+            return overlayCursor(null, node);
+        }
+        return base.propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        if (overlaidNodes.get(node)) {
+            return overlayCursor(reuse, node);
+        }
+        return base.propertyCursor(reuse instanceof OverlayCursor ? null : reuse, node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return base.rawPropertyCursor();
+    }
+
+    private PropertyCursor overlayCursor(PropertyCursor reuse, long node) {
+        var nodeValues = values.get(node);
+        if (nodeValues.length == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof OverlayCursor) {
+            ((OverlayCursor) reuse).reset(nodeValues);
+            return reuse;
+        }
+        return new OverlayCursor(nodeValues);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.overlay;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.ArrayUtil;
+
+/**
+ * Cursor over the targets or property values of a single overlaid node,
+ * which are stored uncompressed in one array.
+ */
+final class OverlayCursor implements AdjacencyCursor, PropertyCursor {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] values;
+    private int offset;
+    private int limit;
+
+    OverlayCursor(long[] values) {
+        reset(values);
+    }
+
+    void reset(long[] values) {
+        this.values = values;
+        this.offset = 0;
+        this.limit = values.length;
+    }
+
+    @Override
+    public void init(long index, int degree) {
+        this.offset = (int) index;
+        this.limit = offset + degree;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public int remaining() {
+        return limit - offset;
+    }
+
+    @Override
+    public boolean hasNextVLong() {
+        return offset < limit;
+    }
+
+    @Override
+    public long nextVLong() {
+        return values[offset++];
+    }
+
+    @Override
+    public long peekVLong() {
+        return values[offset];
+    }
+
+    @Override
+    public boolean hasNextLong() {
+        return offset < limit;
+    }
+
+    @Override
+    public long nextLong() {
+        return values[offset++];
+    }
+
+    @Override
+    public long skipUntil(long target) {
+        if (remaining() <= 0) {
+            return NOT_FOUND;
+        }
+        int idx = ArrayUtil.binarySearchLast(values, offset, limit, target);
+        // skip until requires the value to be strictly greater than the target
+        offset = idx >= 0 ? idx + 1 : -idx - 1;
+        return offset < limit ? values[offset++] : NOT_FOUND;
+    }
+
+    @Override
+    public long advance(long target) {
+        if (remaining() <= 0) {
+            return NOT_FOUND;
+        }
+        int idx = ArrayUtil.binarySearchFirst(values, offset, limit, target);
+        offset = idx >= 0 ? idx : -idx - 1;
+        if (offset >= limit) {
+            offset = limit;
+            return NOT_FOUND;
+        }
+        return values[offset++];
+    }
+
+    @Override
+    public long advanceBy(int n) {
+        assert n >= 0;
+
+        offset += n;
+        if (offset >= limit) {
+            offset = limit;
+            return NOT_FOUND;
+        }
+        return values[offset++];
+    }
+
+    @Override
+    public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+        var dest = destination instanceof OverlayCursor
+            ? (OverlayCursor) destination
+            : new OverlayCursor(values);
+
+        dest.values = values;
+        dest.offset = offset;
+        dest.limit = limit;
+
+        return dest;
+    }
+
+    @Override
+    public void close() {
+        values = EMPTY;
+        offset = 0;
+        limit = 0;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.api.compress.AdjacencyListBuilder;
 import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
 import org.neo4j.gds.core.compression.MemoryInfoUtil;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
@@ -81,7 +82,8 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
         var memoryInfoBuilder = MemoryInfoUtil
             .builder(memoryTracker, Optional.of(this.memoryTracker.blockStatistics()))
             .pages(allocationSizes.length)
-            .bytesOffHeap(bytesOffHeap);
+            .bytesOffHeap(bytesOffHeap)
+            .layout(AdjacencyLayout.PACKED);
 
         var sizeOnHeap = new MutableLong();
         MemoryUsage.sizeOfObject(degrees).ifPresent(sizeOnHeap::add);
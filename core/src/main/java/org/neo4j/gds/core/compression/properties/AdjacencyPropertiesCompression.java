@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.properties;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.MemoryInfoUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.loading.DictionaryDoubleCodec;
+import org.neo4j.gds.core.loading.DoubleCodec;
+import org.neo4j.gds.core.loading.Float32DoubleCodec;
+import org.neo4j.gds.core.loading.TrimmedDoubleCodec;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Re-encodes the uncompressed values of a relationship property with the {@link DoubleCodec}
+ * that is expected to use the least space for them.
+ * <p>
+ * The candidates are judged on a sample of the values:
+ * <ul>
+ *     <li>{@link TrimmedDoubleCodec} for integral values and values with short binary fractions,</li>
+ *     <li>{@link DictionaryDoubleCodec} for properties with only a few distinct values,</li>
+ *     <li>{@link Float32DoubleCodec} if lossy compression has been enabled.</li>
+ * </ul>
+ * The property stays uncompressed if no candidate saves a meaningful amount of space.
+ */
+public final class AdjacencyPropertiesCompression {
+
+    static final int SAMPLE_SIZE = 1 << 16;
+    static final int MAX_DICTIONARY_SIZE = (1 << 14) - 1;
+    // Compression only pays off for the additional decoding work if it saves at least a quarter of the space.
+    static final double MAX_BYTES_PER_VALUE = 6.0;
+
+    private static final int MAX_COMPRESSED_SIZE = 1 + Long.BYTES;
+
+    public static AdjacencyProperties compress(AdjacencyProperties properties, HugeIntArray degrees) {
+        if (GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.isDisabled()) {
+            return properties;
+        }
+        return selectCodec(properties, degrees)
+            .<AdjacencyProperties>map(codec -> encode(properties, degrees, codec))
+            .orElse(properties);
+    }
+
+    static Optional<DoubleCodec> selectCodec(AdjacencyProperties properties, HugeIntArray degrees) {
+        long nodeCount = degrees.size();
+        long relationshipCount = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            relationshipCount += degrees.get(node);
+        }
+        if (relationshipCount == 0) {
+            return Optional.empty();
+        }
+
+        // Sampling every n-th node yields about SAMPLE_SIZE values for an average degree distribution.
+        long nodeStride = Math.max(1, relationshipCount / SAMPLE_SIZE);
+
+        var trimmedCodec = TrimmedDoubleCodec.instance();
+        var buffer = new byte[MAX_COMPRESSED_SIZE];
+        var distinctValues = new LongHashSet();
+        long sampledValues = 0;
+        long trimmedBytes = 0;
+
+        var reuse = properties.rawPropertyCursor();
+        for (long node = 0; node < nodeCount; node += nodeStride) {
+            if (degrees.get(node) == 0) {
+                continue;
+            }
+            var cursor = properties.propertyCursor(reuse, node);
+            while (cursor.hasNextLong()) {
+                long doubleBits = cursor.nextLong();
+                trimmedBytes += trimmedCodec.compressDouble(doubleBits, buffer, 0);
+                if (distinctValues.size() <= MAX_DICTIONARY_SIZE) {
+                    distinctValues.add(doubleBits);
+                }
+                sampledValues++;
+            }
+        }
+
+        DoubleCodec bestCodec = null;
+        double bestSize = MAX_BYTES_PER_VALUE;
+
+        double trimmedSize = (double) trimmedBytes / sampledValues;
+        if (trimmedSize < bestSize) {
+            bestCodec = trimmedCodec;
+            bestSize = trimmedSize;
+        }
+
+        if (distinctValues.size() <= MAX_DICTIONARY_SIZE) {
+            var dictionary = dictionary(properties, degrees);
+            if (dictionary.isPresent() && dictionary.get().bytesPerValue() < bestSize) {
+                bestCodec = dictionary.get().codec();
+                bestSize = dictionary.get().bytesPerValue();
+            }
+        }
+
+        if (GdsFeatureToggles.USE_LOSSY_ADJACENCY_PROPERTIES.isEnabled() && Float.BYTES < bestSize) {
+            bestCodec = Float32DoubleCodec.instance();
+        }
+
+        return Optional.ofNullable(bestCodec);
+    }
+
+    /**
+     * Counts all values of the property, the sample might have missed some of them.
+     * The most frequent values are placed first in the dictionary as they get the shortest codes.
+     */
+    private static Optional<Dictionary> dictionary(AdjacencyProperties properties, HugeIntArray degrees) {
+        var frequencies = new LongIntHashMap();
+        long valueCount = 0;
+
+        var reuse = properties.rawPropertyCursor();
+        for (long node = 0; node < degrees.size(); node++) {
+            if (degrees.get(node) == 0) {
+                continue;
+            }
+            var cursor = properties.propertyCursor(reuse, node);
+            while (cursor.hasNextLong()) {
+                frequencies.addTo(cursor.nextLong(), 1);
+                valueCount++;
+            }
+            if (frequencies.size() > MAX_DICTIONARY_SIZE) {
+                return Optional.empty();
+            }
+        }
+
+        var values = frequencies.keys().toArray();
+        var counts = frequencies.values().toArray();
+        var order = IntStream.range(0, values.length)
+            .boxed()
+            .sorted(Comparator.comparingInt((Integer index) -> counts[index]).reversed())
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        var dictionary = new double[order.length];
+        long encodedBytes = 0;
+        for (int rank = 0; rank < order.length; rank++) {
+            dictionary[rank] = Double.longBitsToDouble(values[order[rank]]);
+            // the var-long encoded code is rank + 1
+            encodedBytes += (long) counts[order[rank]] * (rank < 0x7F ? 1 : 2);
+        }
+        // the dictionary itself is shared by all values
+        encodedBytes += (long) dictionary.length * Double.BYTES;
+
+        return Optional.of(new Dictionary(new DictionaryDoubleCodec(dictionary), (double) encodedBytes / valueCount));
+    }
+
+    static CompressedAdjacencyProperties encode(
+        AdjacencyProperties properties,
+        HugeIntArray degrees,
+        DoubleCodec codec
+    ) {
+        long nodeCount = degrees.size();
+        var offsets = HugeLongArray.newArray(nodeCount);
+        var pages = new ArrayList<byte[]>();
+
+        var buffer = new byte[0];
+        var page = new byte[BumpAllocator.PAGE_SIZE];
+        var pageIndex = pages.size();
+        pages.add(page);
+        var pageOffset = 0;
+
+        var reuse = properties.rawPropertyCursor();
+        for (long node = 0; node < nodeCount; node++) {
+            var degree = degrees.get(node);
+            if (degree == 0) {
+                continue;
+            }
+            if (buffer.length < degree * MAX_COMPRESSED_SIZE) {
+                buffer = new byte[degree * MAX_COMPRESSED_SIZE];
+            }
+
+            var cursor = properties.propertyCursor(reuse, node);
+            var length = 0;
+            while (cursor.hasNextLong()) {
+                length = codec.compressDouble(cursor.nextLong(), buffer, length);
+            }
+
+            if (length > BumpAllocator.PAGE_SIZE) {
+                // values of high degree nodes get a page on their own
+                offsets.set(node, CompressedAdjacencyProperties.address(pages.size(), 0));
+                pages.add(Arrays.copyOf(buffer, length));
+                continue;
+            }
+            if (pageOffset + length > page.length) {
+                pages.set(pageIndex, trim(page, pageOffset));
+                page = new byte[BumpAllocator.PAGE_SIZE];
+                pageIndex = pages.size();
+                pages.add(page);
+                pageOffset = 0;
+            }
+
+            System.arraycopy(buffer, 0, page, pageOffset, length);
+            offsets.set(node, CompressedAdjacencyProperties.address(pageIndex, pageOffset));
+            pageOffset += length;
+        }
+        pages.set(pageIndex, trim(page, pageOffset));
+
+        var pageArray = pages.toArray(byte[][]::new);
+
+        var memoryTracker = MemoryTracker.create();
+        for (byte[] p : pageArray) {
+            memoryTracker.recordPageSize(p.length);
+        }
+        var sizeOnHeap = new MutableLong();
+        MemoryUsage.sizeOfObject(pageArray).ifPresent(sizeOnHeap::add);
+        MemoryUsage.sizeOfObject(offsets).ifPresent(sizeOnHeap::add);
+        var memoryInfo = MemoryInfoUtil
+            .builder(memoryTracker, Optional.empty())
+            .pages(pageArray.length)
+            .bytesOffHeap(0)
+            .bytesOnHeap(sizeOnHeap.longValue())
+            .build();
+
+        return new CompressedAdjacencyProperties(codec, pageArray, degrees, offsets, memoryInfo);
+    }
+
+    private static byte[] trim(byte[] page, int length) {
+        return length == page.length ? page : Arrays.copyOf(page, length);
+    }
+
+    private record Dictionary(DoubleCodec codec, double bytesPerValue) {}
+
+    private AdjacencyPropertiesCompression() {}
+}
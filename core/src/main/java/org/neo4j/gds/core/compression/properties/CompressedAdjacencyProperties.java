@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.properties;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.loading.DoubleCodec;
+
+/**
+ * Relationship properties that are stored as a byte stream per node, encoded by a {@link DoubleCodec}.
+ * The values of a node are always stored in a single page, the offset of a node
+ * stores the page index in the upper and the position within the page in the lower 32 bits.
+ */
+public final class CompressedAdjacencyProperties implements AdjacencyProperties {
+
+    private final DoubleCodec codec;
+    private final byte[][] pages;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+    private final MemoryInfo memoryInfo;
+
+    CompressedAdjacencyProperties(
+        DoubleCodec codec,
+        byte[][] pages,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo
+    ) {
+        this.codec = codec;
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        this.memoryInfo = memoryInfo;
+    }
+
+    public DoubleCodec codec() {
+        return codec;
+    }
+
+    public MemoryInfo memoryInfo() {
+        return memoryInfo;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        var cursor = new Cursor(codec, pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(codec, pages);
+    }
+
+    static long address(int pageIndex, int offset) {
+        return ((long) pageIndex << 32) | offset;
+    }
+
+    private static final class Cursor implements PropertyCursor {
+
+        private final DoubleCodec codec;
+        private final MutableDouble value;
+        private byte[][] pages;
+
+        private byte[] currentPage;
+        private int offset;
+        private int remaining;
+
+        private Cursor(DoubleCodec codec, byte[][] pages) {
+            this.codec = codec;
+            this.pages = pages;
+            this.value = new MutableDouble();
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            this.currentPage = pages[(int) (index >>> 32)];
+            this.offset = (int) index;
+            this.remaining = degree;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            remaining--;
+            offset = codec.decompressDouble(currentPage, offset, value);
+            return Double.doubleToRawLongBits(value.doubleValue());
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+            currentPage = null;
+        }
+    }
+}
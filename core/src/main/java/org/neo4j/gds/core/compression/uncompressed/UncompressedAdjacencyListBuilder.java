@@ -23,6 +23,7 @@ import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.api.compress.AdjacencyListBuilder;
 import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
 import org.neo4j.gds.core.compression.MemoryInfoUtil;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
@@ -72,7 +73,8 @@ public final class UncompressedAdjacencyListBuilder implements AdjacencyListBuil
         var memoryInfoBuilder = MemoryInfoUtil
             .builder(memoryTracker, Optional.empty())
             .pages(pages.length)
-            .bytesOffHeap(0);
+            .bytesOffHeap(0)
+            .layout(AdjacencyLayout.UNCOMPRESSED);
 
         var sizeOnHeap = new MutableLong();
         MemoryUsage.sizeOfObject(pages).ifPresent(sizeOnHeap::add);
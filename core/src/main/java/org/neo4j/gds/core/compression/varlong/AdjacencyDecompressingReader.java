@@ -25,6 +25,7 @@ import java.util.Arrays;
 
 import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
 import static org.neo4j.gds.core.compression.common.VarLongDecoding.decodeDeltaVLongs;
+import static org.neo4j.gds.core.compression.common.VarLongDecoding.unsafeDecodeDeltaVLongs;
 
 final class AdjacencyDecompressingReader {
 
@@ -34,6 +35,8 @@ final class AdjacencyDecompressingReader {
     private int pos;
     private byte[] array;
     private int offset;
+    // used instead of array and offset when decoding from off-heap memory
+    private long ptr;
 
     AdjacencyDecompressingReader() {
         this.block = new long[CHUNK_SIZE];
@@ -57,6 +60,7 @@ final class AdjacencyDecompressingReader {
         pos = other.pos;
         array = other.array;
         offset = other.offset;
+        ptr = other.ptr;
     }
 
     int reset(byte[] adjacencyPage, int offset, int degree) {
@@ -66,6 +70,13 @@ final class AdjacencyDecompressingReader {
         return degree;
     }
 
+    int reset(long ptr, int degree) {
+        this.array = null;
+        this.ptr = unsafeDecodeDeltaVLongs(Math.min(degree, CHUNK_SIZE), 0L, ptr, block, 0);
+        pos = 0;
+        return degree;
+    }
+
     long next(int remaining) {
         int pos = this.pos++;
         if (pos < CHUNK_SIZE) {
@@ -90,10 +101,19 @@ final class AdjacencyDecompressingReader {
     }
 
     private long readNextBlock(int remaining) {
-        offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
+        decodeNextBlock(Math.min(remaining, CHUNK_SIZE));
         return block[0];
     }
 
+    private void decodeNextBlock(int length) {
+        long previousValue = block[CHUNK_SIZE - 1];
+        if (array != null) {
+            offset = decodeDeltaVLongs(previousValue, array, offset, length, block);
+        } else {
+            ptr = unsafeDecodeDeltaVLongs(length, previousValue, ptr, block, 0);
+        }
+    }
+
     long skipUntil(long target, int remaining, MutableIntValue consumed) {
         int pos = this.pos;
         long[] block = this.block;
@@ -104,7 +124,7 @@ final class AdjacencyDecompressingReader {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             available -= skippedInThisBlock;
             int needToDecode = Math.min(CHUNK_SIZE, available);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            decodeNextBlock(needToDecode);
             pos = 0;
         }
 
@@ -140,7 +160,7 @@ final class AdjacencyDecompressingReader {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             available -= skippedInThisBlock;
             int needToDecode = Math.min(CHUNK_SIZE, available);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            decodeNextBlock(needToDecode);
             pos = 0;
         }
 
@@ -177,7 +197,7 @@ final class AdjacencyDecompressingReader {
             // we need to decode the full block of the adjacency list, even if we would only
             // skip it partially. We would get wrong data after the skip position otherwise.
             int needToDecode = Math.min(CHUNK_SIZE, skip + availableBeyondSkip);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            decodeNextBlock(needToDecode);
             pos = 0;
         }
 
@@ -25,6 +25,7 @@ import org.neo4j.gds.api.compress.ModifiableSlice;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
 import org.neo4j.gds.core.compression.MemoryInfoUtil;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
@@ -71,7 +72,8 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         var memoryInfoBuilder = MemoryInfoUtil
             .builder(memoryTracker, Optional.empty())
             .pages(pages.length)
-            .bytesOffHeap(0);
+            .bytesOffHeap(0)
+            .layout(AdjacencyLayout.VAR_LONG);
 
         var sizeOnHeap = new MutableLong();
         MemoryUsage.sizeOfObject(pages).ifPresent(sizeOnHeap::add);
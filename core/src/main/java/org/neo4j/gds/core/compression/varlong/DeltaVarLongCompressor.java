@@ -33,13 +33,14 @@ import org.neo4j.gds.core.compression.common.AbstractAdjacencyCompressorFactory;
 import org.neo4j.gds.core.compression.common.AdjacencyCompression;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.compression.common.VarLongEncoding;
+import org.neo4j.gds.core.compression.packed.Address;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 
 import java.util.Arrays;
 import java.util.function.LongSupplier;
 
-public final class DeltaVarLongCompressor implements AdjacencyCompressor {
+public final class DeltaVarLongCompressor<PAGE> implements AdjacencyCompressor {
 
     public static AdjacencyCompressorFactory factory(
         LongSupplier nodeCountSupplier,
@@ -48,6 +49,53 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         Aggregation[] aggregations,
         boolean noAggregation,
         MemoryTracker memoryTracker
+    ) {
+        return factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory,
+            (targets, degree, page, offset) -> VarLongEncoding.encodeVLongs(targets, degree, page, offset),
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            memoryTracker
+        );
+    }
+
+    /**
+     * Same encoding as {@link #factory}, but the var-long encoded targets are written to off-heap pages.
+     */
+    public static AdjacencyCompressorFactory offHeapFactory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<Address, ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        MemoryTracker memoryTracker
+    ) {
+        return factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory,
+            (targets, degree, page, offset) -> AdjacencyCompression.compress(
+                targets,
+                0,
+                degree,
+                page.address() + offset
+            ),
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            memoryTracker
+        );
+    }
+
+    private static <PAGE> AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<PAGE, ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        TargetEncoder<PAGE> targetEncoder,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        MemoryTracker memoryTracker
     ) {
         @SuppressWarnings(
             "unchecked"
@@ -55,22 +103,34 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
             .numberOfMappings()];
         Arrays.setAll(propertyBuilders, i -> adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder(memoryTracker));
 
-        return new Factory(
+        return new Factory<>(
             nodeCountSupplier,
             adjacencyListBuilderFactory.newAdjacencyListBuilder(memoryTracker),
             propertyBuilders,
+            targetEncoder,
             noAggregation,
             aggregations,
             memoryTracker
         );
     }
 
-    private static final class Factory extends AbstractAdjacencyCompressorFactory<byte[], long[]> {
+    /**
+     * Writes the var-long encoding of the first {@code degree} targets into {@code page} starting at {@code offset}.
+     */
+    @FunctionalInterface
+    private interface TargetEncoder<PAGE> {
+        void encode(long[] targets, int degree, PAGE page, int offset);
+    }
+
+    private static final class Factory<PAGE> extends AbstractAdjacencyCompressorFactory<PAGE, long[]> {
+
+        private final TargetEncoder<PAGE> targetEncoder;
 
         Factory(
             LongSupplier nodeCountSupplier,
-            AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
+            AdjacencyListBuilder<PAGE, ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            TargetEncoder<PAGE> targetEncoder,
             boolean noAggregation,
             Aggregation[] aggregations,
             MemoryTracker memoryTracker
@@ -82,11 +142,12 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
                 noAggregation,
                 aggregations
             );
+            this.targetEncoder = targetEncoder;
         }
 
         @Override
         protected AdjacencyCompressor createCompressorFromInternalState(
-            AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
+            AdjacencyListBuilder<PAGE, ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
@@ -110,8 +171,9 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
                 otherAllocators = null;
             }
 
-            return new DeltaVarLongCompressor(
+            return new DeltaVarLongCompressor<>(
                 adjacencyBuilder.newAllocator(),
+                this.targetEncoder,
                 firstAllocator,
                 otherAllocators,
                 adjacencyDegrees,
@@ -123,7 +185,8 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         }
     }
 
-    private final AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator;
+    private final AdjacencyListBuilder.Allocator<PAGE> adjacencyAllocator;
+    private final TargetEncoder<PAGE> targetEncoder;
     private final @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator;
     private final AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators;
     private final HugeIntArray adjacencyDegrees;
@@ -132,11 +195,12 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
 
-    private final ModifiableSlice<byte[]> adjacencySlice;
+    private final ModifiableSlice<PAGE> adjacencySlice;
     private final ModifiableSlice<long[]> propertySlice;
 
     private DeltaVarLongCompressor(
-        AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator,
+        AdjacencyListBuilder.Allocator<PAGE> adjacencyAllocator,
+        TargetEncoder<PAGE> targetEncoder,
         @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator,
         AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators,
         HugeIntArray adjacencyDegrees,
@@ -146,6 +210,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         Aggregation[] aggregations
     ) {
         this.adjacencyAllocator = adjacencyAllocator;
+        this.targetEncoder = targetEncoder;
         this.firstPropertyAllocator = firstPropertyAllocator;
         this.otherPropertyAllocators = otherPropertyAllocators;
         this.adjacencyDegrees = adjacencyDegrees;
@@ -201,7 +266,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         long address = this.adjacencyAllocator.allocate(requiredBytes, slice);
 
         // values are now vlong encoded in the final adjacency list
-        VarLongEncoding.encodeVLongs(targets, degree, slice.slice(), slice.offset());
+        this.targetEncoder.encode(targets, degree, slice.slice(), slice.offset());
 
         this.adjacencyDegrees.set(nodeId, degree);
         this.adjacencyOffsets.set(nodeId, address);
@@ -237,7 +302,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         long address = this.adjacencyAllocator.allocate(requiredBytes, slice);
 
         // values are now vlong encoded in the final adjacency list
-        VarLongEncoding.encodeVLongs(targets, degree, slice.slice(), slice.offset());
+        this.targetEncoder.encode(targets, degree, slice.slice(), slice.offset());
 
         copyProperties(sortedProperties, degree, nodeId);
 
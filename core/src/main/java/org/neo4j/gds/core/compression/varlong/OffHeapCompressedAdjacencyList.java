@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.varlong;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.packed.Address;
+import org.neo4j.gds.core.loading.MutableIntValue;
+
+import java.lang.ref.Cleaner;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+
+/**
+ * A var-long compressed adjacency list, see {@link CompressedAdjacencyList},
+ * with its pages stored off-heap.
+ * <p>
+ * The memory is freed when this list is garbage collected or when {@link #free()} is called.
+ */
+public final class OffHeapCompressedAdjacencyList implements AdjacencyList {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final long[] pages;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+
+    private final MemoryInfo memoryInfo;
+    private final Cleaner.Cleanable cleanable;
+
+    OffHeapCompressedAdjacencyList(
+        long[] pages,
+        int[] allocationSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo
+    ) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        this.memoryInfo = memoryInfo;
+        this.cleanable = CLEANER.register(this, new AdjacencyListCleaner(pages, allocationSizes));
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new DecompressingCursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof DecompressingCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new DecompressingCursor(pages);
+    }
+
+    @Override
+    public MemoryInfo memoryInfo() {
+        return this.memoryInfo;
+    }
+
+    /**
+     * Free the underlying memory.
+     * <p>
+     * This list and all cursors created from it cannot be used afterwards.
+     * Calling this method more than once has no effect.
+     */
+    public void free() {
+        this.cleanable.clean();
+    }
+
+    public static final class DecompressingCursor extends MutableIntValue implements AdjacencyCursor {
+
+        private final long[] pages;
+        private final AdjacencyDecompressingReader decompress;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private DecompressingCursor(long[] pages) {
+            this.pages = pages;
+            this.decompress = new AdjacencyDecompressingReader();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            long pagePtr = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)];
+            if (pagePtr == 0) {
+                throw new IllegalStateException("This page has already been freed.");
+            }
+            maxTargets = decompress.reset(pagePtr + indexInPage(fromIndex, BumpAllocator.PAGE_MASK), degree);
+            currentPosition = 0;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof DecompressingCursor
+                ? (DecompressingCursor) destination
+                : new DecompressingCursor(pages);
+            dest.decompress.copyFrom(this.decompress);
+            dest.currentPosition = this.currentPosition;
+            dest.maxTargets = this.maxTargets;
+            return dest;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            int current = currentPosition++;
+            int remaining = maxTargets - current;
+            return decompress.next(remaining);
+        }
+
+        @Override
+        public long peekVLong() {
+            int remaining = maxTargets - currentPosition;
+            return decompress.peek(remaining);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = decompress.skipUntil(target, remaining(), this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= 0) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = decompress.advance(target, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= n) {
+                // we need signal that the cursor is exhausted
+                this.currentPosition = maxTargets;
+                return AdjacencyCursor.NOT_FOUND;
+            }
+
+            var value = decompress.advanceBy(n, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+    }
+
+    private static final class AdjacencyListCleaner implements Runnable {
+        private final long[] pages;
+        private final int[] allocationSizes;
+
+        AdjacencyListCleaner(long[] pages, int[] allocationSizes) {
+            this.pages = pages;
+            this.allocationSizes = allocationSizes;
+        }
+
+        @Override
+        public void run() {
+            Address address = null;
+            for (int pageIdx = 0; pageIdx < pages.length; pageIdx++) {
+                if (address == null) {
+                    address = Address.createAddress(pages[pageIdx], allocationSizes[pageIdx]);
+                } else {
+                    address.reset(pages[pageIdx], allocationSizes[pageIdx]);
+                }
+                address.free();
+                pages[pageIdx] = 0;
+            }
+        }
+    }
+}
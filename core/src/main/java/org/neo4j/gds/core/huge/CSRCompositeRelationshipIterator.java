@@ -45,6 +45,8 @@ public class CSRCompositeRelationshipIterator implements CompositeRelationshipIt
     private final AdjacencyCursor inverseAdjacencyCursor;
     private final PropertyCursor[] propertyCursors;
     private final PropertyCursor[] inversePropertyCursors;
+    // the cursors returned for the current node, which are not necessarily the reused ones
+    private final PropertyCursor[] currentPropertyCursors;
 
     public CSRCompositeRelationshipIterator(
         AdjacencyList adjacencyList,
@@ -68,6 +70,7 @@ public class CSRCompositeRelationshipIterator implements CompositeRelationshipIt
         this.inverseAdjacencyCursor = inverseAdjacencyList.map(AdjacencyList::rawAdjacencyCursor).orElse(null);
 
         this.propertyCursors = new PropertyCursor[propertyCount];
+        this.currentPropertyCursors = new PropertyCursor[propertyCount];
         for (int i = 0; i < propertyCount; i++) {
             this.propertyCursors[i] = properties[i].rawPropertyCursor();
         }
@@ -112,20 +115,20 @@ public class CSRCompositeRelationshipIterator implements CompositeRelationshipIt
         PropertyCursor[] reusePropertyCursors
     ) {
         // init adjacency cursor
-        adjacency.adjacencyCursor(reuseAdjacencyCursor, nodeId);
-        if (!reuseAdjacencyCursor.hasNextVLong()) {
+        var adjacencyCursor = adjacency.adjacencyCursor(reuseAdjacencyCursor, nodeId);
+        if (!adjacencyCursor.hasNextVLong()) {
             return;
         }
 
         var propertyCount = propertyKeys.length;
         for (int propertyIdx = 0; propertyIdx < propertyCount; propertyIdx++) {
-            props[propertyIdx].propertyCursor(reusePropertyCursors[propertyIdx], nodeId);
+            currentPropertyCursors[propertyIdx] = props[propertyIdx].propertyCursor(reusePropertyCursors[propertyIdx], nodeId);
         }
 
-        while (reuseAdjacencyCursor.hasNextVLong()) {
-            var target = reuseAdjacencyCursor.nextVLong();
+        while (adjacencyCursor.hasNextVLong()) {
+            var target = adjacencyCursor.nextVLong();
             for (int propertyIdx = 0; propertyIdx < propertyCount; propertyIdx++) {
-                propertyBuffer[propertyIdx] = Double.longBitsToDouble(reusePropertyCursors[propertyIdx].nextLong());
+                propertyBuffer[propertyIdx] = Double.longBitsToDouble(currentPropertyCursors[propertyIdx].nextLong());
             }
 
             if (!consumer.consume(nodeId, target, propertyBuffer)) {
@@ -29,6 +29,7 @@ import org.neo4j.gds.api.compress.AdjacencyCompressor;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.api.compress.LongArrayBuffer;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.adaptive.DegreeBuckets;
 import org.neo4j.gds.core.compression.common.AdjacencyCompression;
 import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -237,7 +238,7 @@ public final class AdjacencyBuffer {
         Optional<AdjacencyCompressor.ValueMapper> mapper,
         Optional<LongConsumer> drainCountConsumer
     ) {
-        adjacencyCompressorFactory.init();
+        adjacencyCompressorFactory.init(this::degreeBuckets);
 
         var tasks = new ArrayList<AdjacencyListBuilderTask>(chunkedAdjacencyLists.length + 1);
         for (int page = 0; page < chunkedAdjacencyLists.length; page++) {
@@ -255,6 +256,14 @@ public final class AdjacencyBuffer {
         return tasks;
     }
 
+    private DegreeBuckets degreeBuckets() {
+        var degreeBuckets = new DegreeBuckets();
+        for (var adjacencyLists : chunkedAdjacencyLists) {
+            adjacencyLists.forEachLength(degreeBuckets::record);
+        }
+        return degreeBuckets;
+    }
+
     int[] getPropertyKeyIds() {
         return propertyKeyIds;
     }
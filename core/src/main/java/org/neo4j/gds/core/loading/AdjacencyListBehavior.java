@@ -23,6 +23,9 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.AdjacencyCompressionObjective;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
+import org.neo4j.gds.core.compression.adaptive.AdaptiveCompressorFactory;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.compression.mixed.MixedCompressor;
 import org.neo4j.gds.core.compression.packed.PackedAdjacencyListBuilderFactory;
@@ -33,11 +36,13 @@ import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuil
 import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
 import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.varlong.DeltaVarLongCompressor;
+import org.neo4j.gds.core.compression.varlong.OffHeapCompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.LongSupplier;
 
@@ -66,12 +71,74 @@ public interface AdjacencyListBehavior {
                     : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
     }
 
+    static AdjacencyCompressorFactory asConfigured(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        Optional<AdjacencyCompressionObjective> adjacencyCompression
+    ) {
+        return adjacencyCompression
+            .map(objective -> adaptive(nodeCountSupplier, propertyMappings, aggregations, objective))
+            .orElseGet(() -> asConfigured(nodeCountSupplier, propertyMappings, aggregations));
+    }
+
+    /**
+     * Selects the layout once the degrees of all buffered adjacency lists are known.
+     */
+    static AdjacencyCompressorFactory adaptive(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        AdjacencyCompressionObjective objective
+    ) {
+        var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
+        var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
+
+        return new AdaptiveCompressorFactory(
+            nodeCountSupplier,
+            objective,
+            layout -> forLayout(layout, nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation),
+            () -> asConfigured(nodeCountSupplier, propertyMappings, aggregations)
+        );
+    }
+
+    static AdjacencyCompressorFactory forLayout(
+        AdjacencyLayout layout,
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        switch (layout) {
+            case UNCOMPRESSED:
+                return uncompressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+            case PACKED:
+                return packed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+            case MIXED:
+                return mixed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+            case VAR_LONG:
+                return compressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+            default:
+                throw new IllegalArgumentException("Unknown adjacency layout " + layout);
+        }
+    }
+
     static AdjacencyCompressorFactory compressed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations,
         boolean noAggregation
     ) {
+        if (GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()) {
+            return DeltaVarLongCompressor.offHeapFactory(
+                nodeCountSupplier,
+                OffHeapCompressedAdjacencyListBuilderFactory.of(),
+                propertyMappings,
+                aggregations,
+                noAggregation,
+                MemoryTracker.create()
+            );
+        }
         return DeltaVarLongCompressor.factory(
             nodeCountSupplier,
             CompressedAdjacencyListBuilderFactory.of(),
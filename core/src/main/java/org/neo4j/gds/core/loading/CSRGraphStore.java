@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.immutables.builder.Builder;
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.AdjacencyProperties;
@@ -55,6 +56,8 @@ import org.neo4j.gds.core.huge.CSRCompositeRelationshipIterator;
 import org.neo4j.gds.core.huge.HugeGraphBuilder;
 import org.neo4j.gds.core.huge.NodeFilteredGraph;
 import org.neo4j.gds.core.huge.UnionGraph;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
 import org.neo4j.gds.core.utils.TimeUtil;
 import org.neo4j.gds.utils.StringJoining;
 
@@ -69,6 +72,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -85,7 +89,10 @@ public final class CSRGraphStore implements GraphStore {
 
     private final Capabilities capabilities;
 
-    private final IdMap nodes;
+    private IdMap nodes;
+
+    // true if the id map is also referenced by other graph stores, see `shareData`
+    private boolean sharesNodes;
 
     private final Map<RelationshipType, SingleTypeRelationships> relationships;
 
@@ -99,6 +106,9 @@ public final class CSRGraphStore implements GraphStore {
 
     private ZonedDateTime modificationTime;
 
+    // runs before the next mutation, see `onNextUpdate`
+    private @Nullable Runnable updateListener;
+
     private CSRGraphStore(
         DatabaseInfo databaseInfo,
         Capabilities capabilities,
@@ -259,6 +269,9 @@ public final class CSRGraphStore implements GraphStore {
     @Override
     public void addNodeLabel(NodeLabel nodeLabel) {
         updateGraphStore(graphStore -> {
+            if (sharesNodes) {
+                unshareNodes();
+            }
             nodes.addNodeLabel(nodeLabel);
             var nodeSchema = schema.nodeSchema();
             schema.nodeSchema().addLabel(nodeLabel, nodeSchema.unionProperties());
@@ -439,6 +452,25 @@ public final class CSRGraphStore implements GraphStore {
         });
     }
 
+    @Override
+    public void updateRelationshipType(
+        RelationshipType relationshipType,
+        UnaryOperator<SingleTypeRelationships> updateFunction
+    ) {
+        updateGraphStore(graphStore -> {
+            var relationships = graphStore.relationships.get(relationshipType);
+            if (relationships == null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unknown relationship type `%s`.",
+                    relationshipType.name
+                ));
+            }
+            var updatedRelationships = updateFunction.apply(relationships);
+            graphStore.relationships.put(relationshipType, updatedRelationships);
+            schema.relationshipSchema().set(updatedRelationships.relationshipSchemaEntry());
+        });
+    }
+
     @Override
     public void addInverseIndex(
         RelationshipType relationshipType,
@@ -586,9 +618,92 @@ public final class CSRGraphStore implements GraphStore {
         return nodes.nodeCount();
     }
 
-    private synchronized void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
-        updateFunction.accept(this);
-        this.modificationTime = TimeUtil.now();
+    /**
+     * Creates a graph store that references the same id map, properties and topologies as this one.
+     * Those are immutable, apart from the node labels in the id map. Both graph stores therefore
+     * copy their id map before the first node label mutation. All other mutations replace the
+     * affected store or collection and are not visible to the other graph store.
+     */
+    synchronized CSRGraphStore shareData() {
+        this.sharesNodes = true;
+        var copy = new CSRGraphStore(
+            databaseInfo,
+            capabilities,
+            MutableGraphSchema.from(schema),
+            nodes,
+            nodeProperties,
+            relationships,
+            graphProperties,
+            concurrency
+        );
+        copy.sharesNodes = true;
+        return copy;
+    }
+
+    /**
+     * Rebuilds the id map by adding the nodes in their current order with a single thread,
+     * which assigns the same mapped ids again.
+     */
+    private void unshareNodes() {
+        boolean hasLabelInformation = !nodes.availableNodeLabels().isEmpty();
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .idMapBuilderType(nodes.typeId())
+            .nodeCount(nodes.nodeCount())
+            .maxOriginalId(nodes.highestOriginalId())
+            .concurrency(1)
+            .hasProperties(false)
+            .hasLabelInformation(hasLabelInformation)
+            .deduplicateIds(false)
+            .build();
+
+        for (long nodeId = 0; nodeId < nodes.nodeCount(); nodeId++) {
+            long originalId = nodes.toOriginalNodeId(nodeId);
+            if (hasLabelInformation) {
+                nodesBuilder.addNode(originalId, NodeLabelTokens.of(nodes.nodeLabels(nodeId)));
+            } else {
+                nodesBuilder.addNode(originalId);
+            }
+        }
+
+        var unsharedNodes = nodesBuilder.build().idMap();
+        // labels without any nodes are not recreated by the builder
+        nodes.availableNodeLabels()
+            .stream()
+            .filter(label -> !unsharedNodes.availableNodeLabels().contains(label))
+            .forEach(unsharedNodes::addNodeLabel);
+
+        this.nodes = unsharedNodes;
+        this.sharesNodes = false;
+    }
+
+    /**
+     * Registers an action that runs before the next mutation of this graph store, replacing any
+     * previously registered action. The action rejects the mutation by throwing, in which case it
+     * also runs before every following mutation. The graph catalog uses it to take back graph stores
+     * that were spilled to disk while they were still in use.
+     */
+    synchronized void onNextUpdate(@Nullable Runnable listener) {
+        this.updateListener = listener;
+    }
+
+    private void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
+        Runnable listener;
+        synchronized (this) {
+            listener = this.updateListener;
+        }
+        // outside the lock, the listener might need to wait for the catalog
+        if (listener != null) {
+            listener.run();
+            synchronized (this) {
+                if (this.updateListener == listener) {
+                    this.updateListener = null;
+                }
+            }
+        }
+        synchronized (this) {
+            updateFunction.accept(this);
+            this.modificationTime = TimeUtil.now();
+        }
     }
 
     private CSRGraph createGraph(
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import java.nio.file.Path;
+
+/**
+ * The amount of heap the graph catalog may use for graph stores.
+ * When the graph stores exceed the budget, the least recently used ones are spilled
+ * to a directory below the spill location and reloaded when they are accessed again.
+ */
+public final class CatalogMemoryBudget {
+
+    private final long budgetInBytes;
+    private final Path spillLocation;
+    private final GraphStoreSpiller spiller;
+
+    public CatalogMemoryBudget(long budgetInBytes, Path spillLocation, GraphStoreSpiller spiller) {
+        if (budgetInBytes < 0) {
+            throw new IllegalArgumentException("The catalog memory budget must not be negative");
+        }
+        this.budgetInBytes = budgetInBytes;
+        this.spillLocation = spillLocation;
+        this.spiller = spiller;
+    }
+
+    public long budgetInBytes() {
+        return budgetInBytes;
+    }
+
+    public Path spillLocation() {
+        return spillLocation;
+    }
+
+    GraphStoreSpiller spiller() {
+        return spiller;
+    }
+}
@@ -34,6 +34,7 @@ import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodeVLongs;
@@ -254,6 +255,13 @@ public final class ChunkedAdjacencyLists {
         return targetLists.contains(index);
     }
 
+    /**
+     * Applies the given consumer to the number of buffered targets of every non-empty adjacency list.
+     */
+    public void forEachLength(IntConsumer consumer) {
+        this.lengths.forAll((index, length) -> consumer.accept(length));
+    }
+
     public void consume(Consumer consumer) {
         new CompositeDrainingIterator(targetLists, properties, positions, lastValues, lengths).consume(consumer);
     }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.util.Arrays;
+
+/**
+ * A lossless codec for values with a low cardinality.
+ * <p>
+ * Values that are part of the dictionary are stored as the var-long encoded
+ * {@code index + 1} of their dictionary entry, so the first 127 entries take a single byte.
+ * The last byte of a code has the high bit set, all other bytes have it cleared.
+ * Other values are stored as {@code 0x80}, the otherwise unused single byte code of zero,
+ * followed by their eight raw bytes.
+ */
+public final class DictionaryDoubleCodec extends DoubleCodec {
+
+    static final int DICTIONARY = 0;
+    static final int ESCAPED = 1;
+
+    private static final byte ESCAPE_MARKER = (byte) 0x80;
+
+    private final double[] dictionary;
+    private final LongIntHashMap indices;
+
+    /**
+     * @param dictionary the dictionary values, frequent values should come first as they get the shortest codes.
+     */
+    public DictionaryDoubleCodec(double[] dictionary) {
+        this.dictionary = dictionary;
+        this.indices = new LongIntHashMap(dictionary.length);
+        for (int i = 0; i < dictionary.length; i++) {
+            indices.putIfAbsent(Double.doubleToRawLongBits(dictionary[i]), i);
+        }
+    }
+
+    public int dictionarySize() {
+        return dictionary.length;
+    }
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        int index = indices.getOrDefault(doubleBits, -1);
+        if (index == -1) {
+            out[outPos++] = ESCAPE_MARKER;
+            for (int i = 56; i >= 0; i -= 8) {
+                out[outPos++] = (byte) (doubleBits >>> i);
+            }
+            return outPos;
+        }
+
+        int code = index + 1;
+        while (code > 0x7F) {
+            out[outPos++] = (byte) (code & 0x7F);
+            code >>>= 7;
+        }
+        out[outPos++] = (byte) (code | 0x80);
+        return outPos;
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        byte b = data[pos++];
+        if (b == ESCAPE_MARKER) {
+            long bits = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                bits = (bits << 8) | (data[pos++] & 0xFF);
+            }
+            out.setValue(Double.longBitsToDouble(bits));
+            return pos;
+        }
+
+        int code = 0;
+        int shift = 0;
+        while (b >= 0) {
+            code |= b << shift;
+            shift += 7;
+            b = data[pos++];
+        }
+        code |= (b & 0x7F) << shift;
+        out.setValue(dictionary[code - 1]);
+        return pos;
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        if (data[pos] == ESCAPE_MARKER) {
+            return 1 + Long.BYTES;
+        }
+        int size = 1;
+        while (data[pos++] >= 0) {
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        return type == DICTIONARY ? "DICTIONARY" : "ESCAPED";
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        var size = compressedSize(data, pos);
+        var type = data[pos] == ESCAPE_MARKER ? ESCAPED : DICTIONARY;
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, pos + size))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(size)
+            .compressedType(type)
+            .compressionDescription(describeCompression(type))
+            .build();
+    }
+}
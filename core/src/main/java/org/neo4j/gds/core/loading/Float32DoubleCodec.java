@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.util.Arrays;
+
+/**
+ * A lossy codec that stores values as {@code float}s in four bytes.
+ * Values lose precision beyond the 24 bit significand of a {@code float}
+ * and overflow to infinity outside the {@code float} range.
+ */
+public final class Float32DoubleCodec extends DoubleCodec {
+
+    private static final int FLOAT_SIGNIFICAND_WIDTH = 24;
+
+    private static final DoubleCodec INSTANCE = new Float32DoubleCodec();
+
+    public static DoubleCodec instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        int floatBits = Float.floatToRawIntBits((float) Double.longBitsToDouble(doubleBits));
+        out[outPos] = (byte) (floatBits >>> 24);
+        out[outPos + 1] = (byte) (floatBits >>> 16);
+        out[outPos + 2] = (byte) (floatBits >>> 8);
+        out[outPos + 3] = (byte) floatBits;
+        return outPos + Float.BYTES;
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        int floatBits = (data[pos] & 0xFF) << 24
+                        | (data[pos + 1] & 0xFF) << 16
+                        | (data[pos + 2] & 0xFF) << 8
+                        | (data[pos + 3] & 0xFF);
+        out.setValue(Float.intBitsToFloat(floatBits));
+        return pos + Float.BYTES;
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        return Float.BYTES;
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        return "FLOAT32";
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, pos + Float.BYTES))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(Float.BYTES)
+            .compressedType(0)
+            .compressionDescription("FLOAT32")
+            .build();
+    }
+
+    @Override
+    public int supportedSignificandWith() {
+        return FLOAT_SIGNIFICAND_WIDTH;
+    }
+
+    private Float32DoubleCodec() {
+    }
+}
@@ -26,17 +26,26 @@ import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.logging.Log;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,6 +62,14 @@ public final class GraphStoreCatalog {
     // we make the log injectable
     private static Optional<Log> log = Optional.empty();
 
+    // without a budget, graph stores stay on heap until they are dropped
+    private static Optional<CatalogMemoryBudget> memoryBudget = Optional.empty();
+
+    // orders the accesses to graph stores, used to find the least recently used ones
+    private static final AtomicLong accessClock = new AtomicLong();
+
+    private static final Object evictionLock = new Object();
+
     private GraphStoreCatalog() {
     }
 
@@ -68,13 +85,39 @@ public final class GraphStoreCatalog {
         GraphStoreCatalog.log = Optional.of(log);
     }
 
+    public static void setMemoryBudget(CatalogMemoryBudget memoryBudget) {
+        GraphStoreCatalog.memoryBudget = Optional.of(memoryBudget);
+    }
+
+    @TestOnly
+    public static void removeMemoryBudget() {
+        GraphStoreCatalog.memoryBudget = Optional.empty();
+    }
+
     public static GraphStoreWithConfig get(CatalogRequest request, String graphName) {
         var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
+        var userWithGraph = find(request, userCatalogKey);
+        return access(userWithGraph.getKey(), userCatalogKey, userWithGraph.getValue());
+    }
+
+    /**
+     * Fails in the same way as {@link #get(CatalogRequest, String)} if the graph does not exist,
+     * but neither reloads a spilled graph store nor marks the graph store as used.
+     */
+    public static void validateExists(CatalogRequest request, String graphName) {
+        find(request, UserCatalog.UserCatalogKey.of(request.databaseName(), graphName));
+    }
+
+    private static Map.Entry<String, GraphStoreWithConfig> find(
+        CatalogRequest request,
+        UserCatalog.UserCatalogKey userCatalogKey
+    ) {
+        var graphName = userCatalogKey.graphName();
         var ownCatalog = getUserCatalog(request.username());
 
         var maybeGraph = ownCatalog.get(userCatalogKey, request.restrictSearchToUsernameCatalog());
         if (maybeGraph != null) {
-            return maybeGraph;
+            return Map.entry(request.username(), maybeGraph);
         }
 
         var usersWithMatchingGraphs = userCatalogs
@@ -88,7 +131,7 @@ public final class GraphStoreCatalog {
             .collect(Collectors.toList());
 
         if (usersWithMatchingGraphs.size() == 1) {
-            return usersWithMatchingGraphs.get(0).getValue();
+            return usersWithMatchingGraphs.get(0);
         }
 
         if (usersWithMatchingGraphs.isEmpty()) {
@@ -180,12 +223,13 @@ public final class GraphStoreCatalog {
     }
 
     private static void set(GraphProjectConfig config, GraphStore graphStore, boolean overwrite) {
+        var userCatalogKey = UserCatalog.UserCatalogKey.of(graphStore.databaseInfo().databaseId(), config.graphName());
         userCatalogs.compute(config.username(), (user, userCatalog) -> {
             if (userCatalog == null) {
                 userCatalog = new UserCatalog();
             }
             userCatalog.set(
-                UserCatalog.UserCatalogKey.of(graphStore.databaseInfo().databaseId(), config.graphName()),
+                userCatalogKey,
                 config,
                 graphStore,
                 overwrite
@@ -193,6 +237,8 @@ public final class GraphStoreCatalog {
             return userCatalog;
         });
 
+        memoryBudget.ifPresent(budget -> enforceMemoryBudget(budget, config.username(), userCatalogKey));
+
         listeners.forEach(
             listener -> ExceptionUtil.safeRunWithLogException(
                 log.orElseGet(Neo4jProxy::testLog),
@@ -259,12 +305,23 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Returns where the graph store currently lives and how often it has been spilled to disk
+     * and reloaded, see {@link CatalogMemoryBudget}. Does not reload spilled graph stores.
+     */
+    public static StorageInfo storageInfo(String username, DatabaseId databaseId, String graphName) {
+        return getUserCatalog(username).storageInfo(UserCatalog.UserCatalogKey.of(databaseId, graphName));
+    }
+
     public static void removeAllLoadedGraphs() {
+        userCatalogs.values().forEach(UserCatalog::deleteSpilledGraphStores);
         userCatalogs.clear();
+        SharedGraphStores.removeAll();
     }
 
     public static void removeAllLoadedGraphs(DatabaseId databaseId) {
         userCatalogs.forEach((user, userCatalog) -> userCatalog.remove(databaseId.databaseName()));
+        SharedGraphStores.removeAll(databaseId);
     }
 
     public static Map<GraphProjectConfig, GraphStore> getGraphStores(String username) {
@@ -286,6 +343,116 @@ public final class GraphStoreCatalog {
         return userCatalogs.getOrDefault(username, UserCatalog.EMPTY);
     }
 
+    private static GraphStoreWithConfig access(
+        String username,
+        UserCatalog.UserCatalogKey userCatalogKey,
+        GraphStoreWithConfig graphStoreWithConfig
+    ) {
+        if (memoryBudget.isEmpty() && !(graphStoreWithConfig.graphStore() instanceof SpilledGraphStore)) {
+            return graphStoreWithConfig;
+        }
+
+        var budget = memoryBudget.orElseThrow(() -> new IllegalStateException(
+            "Cannot reload a spilled graph store without a catalog memory budget"
+        ));
+        var reloads = graphStoreWithConfig.graphStore() instanceof SpilledGraphStore;
+        var loaded = getUserCatalog(username).load(userCatalogKey, budget.spiller());
+        // accessing a graph store on heap does not change the heap usage of the catalog
+        if (reloads) {
+            enforceMemoryBudget(budget, username, userCatalogKey);
+        }
+        return loaded;
+    }
+
+    /**
+     * Spills the least recently used graph stores until the graph stores on heap fit into the budget.
+     * Runs when a graph store is added to the catalog or reloaded from disk.
+     * The graph store that has just been accessed is never spilled, even if it exceeds the budget on its own.
+     * Graph stores that share their data with other entries are spilled last,
+     * as that data stays on heap until all of those entries are spilled.
+     */
+    private static void enforceMemoryBudget(
+        CatalogMemoryBudget budget,
+        String accessingUsername,
+        UserCatalog.UserCatalogKey accessedKey
+    ) {
+        synchronized (evictionLock) {
+            var candidates = evictionCandidates()
+                .sorted(Comparator
+                    .comparing(EvictionCandidate::sharesData)
+                    .thenComparingLong(EvictionCandidate::lastAccess))
+                .collect(Collectors.toList());
+
+            long usedBytes = candidates.stream().mapToLong(EvictionCandidate::sizeInBytes).sum();
+
+            for (var candidate : candidates) {
+                if (usedBytes <= budget.budgetInBytes()) {
+                    return;
+                }
+                if (candidate.username().equals(accessingUsername) && candidate.key().equals(accessedKey)) {
+                    continue;
+                }
+                try {
+                    if (getUserCatalog(candidate.username()).spill(candidate.key(), budget)) {
+                        // spilling may free less than the size of the candidate if its data is shared,
+                        // and attributes the shared data to another entry
+                        usedBytes = evictionCandidates().mapToLong(EvictionCandidate::sizeInBytes).sum();
+                        log().info(
+                            "Spilled graph `%s` of user `%s` to disk to stay within the catalog memory budget",
+                            candidate.key().graphName(),
+                            candidate.username()
+                        );
+                    }
+                } catch (RuntimeException e) {
+                    log().warn(
+                        formatWithLocale(
+                            "Could not spill graph `%s` of user `%s` to disk",
+                            candidate.key().graphName(),
+                            candidate.username()
+                        ),
+                        e
+                    );
+                }
+            }
+        }
+    }
+
+    private static Stream<EvictionCandidate> evictionCandidates() {
+        return userCatalogs
+            .entrySet()
+            .stream()
+            .flatMap(entry -> entry.getValue().evictionCandidates(entry.getKey()));
+    }
+
+    private static void deleteSpilledGraphStore(Path location) {
+        if (!Files.exists(location)) {
+            return;
+        }
+        try (var paths = Files.walk(location)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log().warn(formatWithLocale("Could not delete the spilled graph store at `%s`", location), e);
+        }
+    }
+
+    private static Log log() {
+        return log.orElseGet(Neo4jProxy::testLog);
+    }
+
+    private record EvictionCandidate(
+        String username,
+        UserCatalog.UserCatalogKey key,
+        long lastAccess,
+        long sizeInBytes,
+        boolean sharesData
+    ) {}
+
     @ValueClass
     public interface GraphStoreWithUserNameAndConfig {
 
@@ -296,6 +463,98 @@ public final class GraphStoreCatalog {
         GraphProjectConfig config();
     }
 
+    @ValueClass
+    public interface StorageInfo {
+
+        boolean spilled();
+
+        long evictionCount();
+
+        long reloadCount();
+
+        default Map<String, Object> toMap() {
+            return Map.of(
+                "location", spilled() ? "disk" : "memory",
+                "evictionCount", evictionCount(),
+                "reloadCount", reloadCount()
+            );
+        }
+    }
+
+    /**
+     * Bookkeeping for the catalog memory budget. Spilling, reloading and re-attaching
+     * a graph store synchronize on its storage state.
+     */
+    private static final class StorageState {
+
+        private long lastAccess;
+        // incremented whenever the graph store is replaced through the catalog
+        private long generation;
+        private long sizeInBytes;
+        // the modification time of the graph store when its size was measured, null if it needs to be measured
+        private @Nullable ZonedDateTime measuredModificationTime;
+        // whether the size was measured without the data shared with an older entry
+        private boolean measuredWithoutSharedData;
+        private long evictionCount;
+        private long reloadCount;
+
+        StorageState() {
+            touch();
+        }
+
+        synchronized void touch() {
+            this.lastAccess = accessClock.incrementAndGet();
+        }
+
+        synchronized long lastAccess() {
+            return lastAccess;
+        }
+
+        synchronized long sizeInBytes(GraphStore graphStore) {
+            // like the graph list, attribute shared data to the oldest entry that shares it
+            var sharedData = SharedGraphStores.dataSharedWithOlderEntry(graphStore);
+            if (!graphStore.modificationTime().equals(measuredModificationTime)
+                || sharedData.isPresent() != measuredWithoutSharedData) {
+                var size = sharedData
+                    .map(data -> MemoryUsage.sizeOfExcluding(graphStore, data))
+                    .orElseGet(() -> MemoryUsage.sizeOf(graphStore));
+                // treat graph stores that cannot be measured as free
+                this.sizeInBytes = Math.max(0, size);
+                this.measuredModificationTime = graphStore.modificationTime();
+                this.measuredWithoutSharedData = sharedData.isPresent();
+            }
+            return sizeInBytes;
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        synchronized void overwritten() {
+            this.generation++;
+            replaced();
+        }
+
+        synchronized void replaced() {
+            this.measuredModificationTime = null;
+            touch();
+        }
+
+        synchronized void evicted() {
+            this.measuredModificationTime = null;
+            this.evictionCount++;
+        }
+
+        synchronized void reloaded() {
+            this.reloadCount++;
+            replaced();
+        }
+
+        synchronized StorageInfo info(GraphStore graphStore) {
+            return ImmutableStorageInfo.of(graphStore instanceof SpilledGraphStore, evictionCount, reloadCount);
+        }
+    }
+
     static class UserCatalog {
 
         @ValueClass
@@ -320,6 +579,8 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, StorageState> storageByName = new ConcurrentHashMap<>();
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -339,7 +600,157 @@ public final class GraphStoreCatalog {
                     )
                 );
             }
-            graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            var previous = graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            if (previous != null && previous.graphStore() != graphStore) {
+                SharedGraphStores.release(previous.graphStore());
+                deleteIfSpilled(previous.graphStore());
+            }
+            storage(userCatalogKey).overwritten();
+        }
+
+        private StorageState storage(UserCatalogKey userCatalogKey) {
+            return storageByName.computeIfAbsent(userCatalogKey, key -> new StorageState());
+        }
+
+        private StorageInfo storageInfo(UserCatalogKey userCatalogKey) {
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            var storageState = storageByName.get(userCatalogKey);
+            if (graphStoreWithConfig == null || storageState == null) {
+                return ImmutableStorageInfo.of(false, 0, 0);
+            }
+            return storageState.info(graphStoreWithConfig.graphStore());
+        }
+
+        /**
+         * Marks the graph store as used and reloads it from disk if it has been spilled.
+         */
+        private GraphStoreWithConfig load(UserCatalogKey userCatalogKey, GraphStoreSpiller spiller) {
+            // fail before creating bookkeeping for graphs that do not exist
+            get(userCatalogKey, true);
+            var storageState = storage(userCatalogKey);
+            synchronized (storageState) {
+                var current = get(userCatalogKey, true);
+                storageState.touch();
+                if (!(current.graphStore() instanceof SpilledGraphStore)) {
+                    return current;
+                }
+
+                var spilledGraphStore = (SpilledGraphStore) current.graphStore();
+                var reloaded = GraphStoreWithConfig.of(spiller.reload(spilledGraphStore.location()), current.config());
+                graphsByName.put(userCatalogKey, reloaded);
+                storageState.reloaded();
+                deleteSpilledGraphStore(spilledGraphStore.location());
+                return reloaded;
+            }
+        }
+
+        /**
+         * Writes the graph store to disk and replaces it with a {@link SpilledGraphStore}.
+         * Returns false if the graph store is gone or has already been spilled.
+         */
+        private boolean spill(UserCatalogKey userCatalogKey, CatalogMemoryBudget budget) {
+            var storageState = storageByName.get(userCatalogKey);
+            if (storageState == null) {
+                return false;
+            }
+            synchronized (storageState) {
+                var current = graphsByName.get(userCatalogKey);
+                if (current == null || current.graphStore() instanceof SpilledGraphStore) {
+                    return false;
+                }
+
+                var graphStore = current.graphStore();
+                var location = budget.spillLocation().resolve(UUID.randomUUID().toString());
+                var generation = storageState.generation();
+                // algorithms that got the graph store before it was spilled might still mutate it,
+                // in which case that graph store takes the place of the spilled one again
+                if (graphStore instanceof CSRGraphStore) {
+                    ((CSRGraphStore) graphStore).onNextUpdate(
+                        () -> reattach(userCatalogKey, storageState, generation, graphStore, location)
+                    );
+                }
+                try {
+                    budget.spiller().spill(graphStore, location);
+                } catch (RuntimeException e) {
+                    if (graphStore instanceof CSRGraphStore) {
+                        ((CSRGraphStore) graphStore).onNextUpdate(null);
+                    }
+                    deleteSpilledGraphStore(location);
+                    throw e;
+                }
+
+                graphsByName.put(
+                    userCatalogKey,
+                    GraphStoreWithConfig.of(SpilledGraphStore.of(graphStore, location), current.config())
+                );
+                storageState.evicted();
+                SharedGraphStores.release(graphStore);
+                return true;
+            }
+        }
+
+        /**
+         * Puts a spilled graph store that is about to be mutated back into the catalog.
+         * If the spilled graph store has been reloaded in the meantime, the catalog holds a copy
+         * that would not see the mutation, so the mutation is rejected.
+         * Graph stores that have since been dropped or overwritten are not tracked anymore.
+         */
+        private void reattach(
+            UserCatalogKey userCatalogKey,
+            StorageState storageState,
+            long generation,
+            GraphStore graphStore,
+            Path location
+        ) {
+            synchronized (storageState) {
+                var current = graphsByName.get(userCatalogKey);
+                if (storageByName.get(userCatalogKey) != storageState
+                    || storageState.generation() != generation
+                    || current == null
+                    || current.graphStore() == graphStore) {
+                    return;
+                }
+                if (current.graphStore() instanceof SpilledGraphStore
+                    && ((SpilledGraphStore) current.graphStore()).location().equals(location)) {
+                    graphsByName.put(userCatalogKey, GraphStoreWithConfig.of(graphStore, current.config()));
+                    storageState.replaced();
+                    deleteSpilledGraphStore(location);
+                    return;
+                }
+                throw new IllegalStateException(formatWithLocale(
+                    "Graph `%s` was spilled to disk and reloaded while it was in use. " +
+                    "The mutation would not be visible in the graph catalog, please run the operation again.",
+                    userCatalogKey.graphName()
+                ));
+            }
+        }
+
+        private Stream<EvictionCandidate> evictionCandidates(String username) {
+            return graphsByName
+                .entrySet()
+                .stream()
+                .filter(entry -> !(entry.getValue().graphStore() instanceof SpilledGraphStore))
+                .map(entry -> {
+                    var storageState = storage(entry.getKey());
+                    var graphStore = entry.getValue().graphStore();
+                    return new EvictionCandidate(
+                        username,
+                        entry.getKey(),
+                        storageState.lastAccess(),
+                        storageState.sizeInBytes(graphStore),
+                        SharedGraphStores.sharesDataWithOtherEntry(graphStore)
+                    );
+                });
+        }
+
+        private void deleteSpilledGraphStores() {
+            graphsByName.values().forEach(graphStoreWithConfig -> deleteIfSpilled(graphStoreWithConfig.graphStore()));
+        }
+
+        private static void deleteIfSpilled(GraphStore graphStore) {
+            if (graphStore instanceof SpilledGraphStore) {
+                deleteSpilledGraphStore(((SpilledGraphStore) graphStore).location());
+            }
         }
 
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
@@ -405,13 +816,23 @@ public final class GraphStoreCatalog {
                     removedGraphConsumer.accept(graphStoreWithConfig);
                     removeDegreeDistribution(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
+                    storageByName.remove(userCatalogKey);
+                    SharedGraphStores.release(graphStoreWithConfig.graphStore());
+                    deleteIfSpilled(graphStoreWithConfig.graphStore());
                     return Boolean.TRUE;
                 })
                 .orElse(Boolean.FALSE);
         }
 
         private void remove(String databaseName) {
-            graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            graphsByName.entrySet().removeIf(entry -> {
+                if (entry.getKey().databaseName().equals(databaseName)) {
+                    deleteIfSpilled(entry.getValue().graphStore());
+                    return true;
+                }
+                return false;
+            });
+            storageByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
         }
 
         private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
@@ -68,6 +68,14 @@ public class GraphStoreCatalogService {
         return GraphStoreCatalog.get(catalogRequest, graphName.getValue());
     }
 
+    /**
+     * Fails like {@link #get(CatalogRequest, GraphName)} if the graph does not exist,
+     * but does not reload the graph if it has been spilled to disk.
+     */
+    public void validateGraphExists(CatalogRequest catalogRequest, GraphName graphName) {
+        GraphStoreCatalog.validateExists(catalogRequest, graphName.getValue());
+    }
+
     public Pair<Graph, GraphStore> getGraphWithGraphStore(
         GraphName graphName,
         AlgoBaseConfig config,
@@ -161,6 +169,17 @@ public class GraphStoreCatalogService {
         );
     }
 
+    /**
+     * Where the graph is stored, this does not reload spilled graphs.
+     */
+    public GraphStoreCatalog.StorageInfo storageInfo(GraphStoreWithConfig graphStoreWithConfig) {
+        return GraphStoreCatalog.storageInfo(
+            graphStoreWithConfig.config().username(),
+            graphStoreWithConfig.graphStore().databaseInfo().databaseId(),
+            graphStoreWithConfig.config().graphName()
+        );
+    }
+
     public Stream<GraphStoreCatalog.GraphStoreWithUserNameAndConfig> getAllGraphStores() {
         return GraphStoreCatalog.getAllGraphStores();
     }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.GraphStore;
+
+import java.nio.file.Path;
+
+/**
+ * Writes graph stores to disk and reads them back, so that the graph catalog can
+ * free heap for graphs that have not been used in a while, see {@link CatalogMemoryBudget}.
+ */
+public interface GraphStoreSpiller {
+
+    /**
+     * Writes the graph store to the given directory, which does not exist yet.
+     */
+    void spill(GraphStore graphStore, Path location);
+
+    /**
+     * Reads a graph store that has been written to the given directory by {@link #spill(GraphStore, Path)}.
+     * The reloaded graph store must have the same schema and database info, but may assign different mapped ids.
+     */
+    GraphStore reload(Path location);
+}
@@ -0,0 +1,575 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.procedures.LongObjectProcedure;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.overlay.OverlayAdjacencyList;
+import org.neo4j.gds.core.compression.overlay.OverlayAdjacencyProperties;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.CSRCompositeRelationshipIterator;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A batch of relationship insertions and deletions for a single relationship type of a graph store.
+ * <p>
+ * The changes are buffered in the delta and merged into the graph store in one go by
+ * {@link #mergeInto(GraphStore, int)}. The merge rewrites only the adjacency lists of the nodes
+ * that are touched by the delta and stores them uncompressed on top of the existing compressed
+ * topology, so the cost of a merge is linear in the size of the delta and the degrees of the
+ * touched nodes. Once more than 10% of the nodes are overlaid, the
+ * relationship type is compacted into a new compressed topology.
+ * <p>
+ * Stored relationships keep their values. If the relationship type was projected with an aggregation,
+ * inserted relationships are aggregated into existing relationships between the same nodes,
+ * e.g. inserting a relationship increments a {@code COUNT} value.
+ * <p>
+ * Node ids are original node ids. Relationships between nodes that are not part of the graph are ignored;
+ * adding or removing nodes requires a new projection.
+ * Deleting a relationship removes all parallel relationships between the two nodes.
+ * For undirected relationship types, insertions and deletions apply to both directions.
+ */
+public final class RelationshipsDelta {
+
+    static final double COMPACTION_RATIO = 0.1;
+
+    private final RelationshipType relationshipType;
+    private final List<String> propertyKeys;
+
+    private final LongArrayList insertedSources;
+    private final LongArrayList insertedTargets;
+    private final DoubleArrayList insertedProperties;
+
+    private final LongArrayList deletedSources;
+    private final LongArrayList deletedTargets;
+
+    /**
+     * Creates an empty delta for the given relationship type, which must exist in the graph store.
+     * Inserted relationships need to provide values for all properties of the relationship type,
+     * in the order returned by {@link #propertyKeys()}.
+     */
+    public static RelationshipsDelta of(GraphStore graphStore, RelationshipType relationshipType) {
+        if (!graphStore.hasRelationshipType(relationshipType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unknown relationship type `%s`.",
+                relationshipType.name
+            ));
+        }
+        var propertyKeys = graphStore
+            .relationshipPropertyKeys(relationshipType)
+            .stream()
+            .sorted()
+            .collect(Collectors.toList());
+        return new RelationshipsDelta(relationshipType, propertyKeys);
+    }
+
+    private RelationshipsDelta(RelationshipType relationshipType, List<String> propertyKeys) {
+        this.relationshipType = relationshipType;
+        this.propertyKeys = propertyKeys;
+        this.insertedSources = new LongArrayList();
+        this.insertedTargets = new LongArrayList();
+        this.insertedProperties = new DoubleArrayList();
+        this.deletedSources = new LongArrayList();
+        this.deletedTargets = new LongArrayList();
+    }
+
+    public RelationshipType relationshipType() {
+        return relationshipType;
+    }
+
+    public List<String> propertyKeys() {
+        return propertyKeys;
+    }
+
+    public void insert(long originalSourceId, long originalTargetId, double... propertyValues) {
+        if (propertyValues.length != propertyKeys.size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected %d property values for relationship type `%s`, but got %d.",
+                propertyKeys.size(),
+                relationshipType.name,
+                propertyValues.length
+            ));
+        }
+        insertedSources.add(originalSourceId);
+        insertedTargets.add(originalTargetId);
+        insertedProperties.add(propertyValues, 0, propertyValues.length);
+    }
+
+    public void delete(long originalSourceId, long originalTargetId) {
+        deletedSources.add(originalSourceId);
+        deletedTargets.add(originalTargetId);
+    }
+
+    public int insertions() {
+        return insertedSources.size();
+    }
+
+    public int deletions() {
+        return deletedSources.size();
+    }
+
+    public boolean isEmpty() {
+        return insertions() == 0 && deletions() == 0;
+    }
+
+    /**
+     * Merges the delta into the relationships of the graph store and replaces them in a single update.
+     */
+    public RelationshipsDeltaResult mergeInto(GraphStore graphStore, int concurrency) {
+        var maxOverlaidNodes = (long) (graphStore.nodeCount() * COMPACTION_RATIO);
+        return mergeInto(graphStore, concurrency, maxOverlaidNodes);
+    }
+
+    RelationshipsDeltaResult mergeInto(GraphStore graphStore, int concurrency, long maxOverlaidNodes) {
+        var relationshipCountBefore = graphStore.relationshipCount(relationshipType);
+        if (isEmpty()) {
+            return RelationshipsDeltaResult.of(0, 0, relationshipCountBefore);
+        }
+
+        var nodes = graphStore.nodes();
+        var deletedCount = new long[1];
+
+        graphStore.updateRelationshipType(relationshipType, relationships -> {
+            var schemaEntry = relationships.relationshipSchemaEntry();
+            var undirected = schemaEntry.direction() == Direction.UNDIRECTED;
+            var aggregations = propertyKeys.stream()
+                .map(propertyKey -> Aggregation.resolve(schemaEntry.properties().get(propertyKey).aggregation()))
+                .toArray(Aggregation[]::new);
+            var aggregate = Arrays.stream(aggregations).anyMatch(aggregation -> aggregation != Aggregation.NONE);
+            for (int i = 0; i < aggregations.length; i++) {
+                // properties without aggregation keep the first value of aggregated relationships
+                if (aggregations[i] == Aggregation.NONE) {
+                    aggregations[i] = Aggregation.SINGLE;
+                }
+            }
+
+            var forward = overlay(
+                relationships.topology(),
+                relationships.properties(),
+                changes(nodes, undirected, false, aggregations),
+                aggregate ? aggregations : null,
+                deletedCount
+            );
+            var builder = SingleTypeRelationships.builder()
+                .from(relationships)
+                .topology(forward.topology)
+                .properties(forward.properties);
+
+            if (relationships.inverseTopology().isPresent()) {
+                var inverse = overlay(
+                    relationships.inverseTopology().get(),
+                    relationships.inverseProperties(),
+                    changes(nodes, false, true, aggregations),
+                    aggregate ? aggregations : null,
+                    new long[1]
+                );
+                builder.inverseTopology(inverse.topology).inverseProperties(inverse.properties);
+            }
+
+            var merged = builder.build();
+            if (forward.overlaidNodes > maxOverlaidNodes) {
+                merged = compact(nodes, merged, concurrency);
+            }
+            return merged;
+        });
+
+        // counts are in stored relationships, i.e. undirected relationships count twice
+        var relationshipCountAfter = graphStore.relationshipCount(relationshipType);
+        return RelationshipsDeltaResult.of(
+            relationshipCountAfter - relationshipCountBefore + deletedCount[0],
+            deletedCount[0],
+            relationshipCountAfter
+        );
+    }
+
+    /**
+     * Maps the buffered changes to internal node ids and groups them by the node whose adjacency list they change.
+     * Forward changes are grouped by source, inverse changes by target.
+     */
+    private LongObjectHashMap<NodeChanges> changes(
+        IdMap nodes,
+        boolean undirected,
+        boolean inverse,
+        Aggregation[] aggregations
+    ) {
+        var changes = new LongObjectHashMap<NodeChanges>();
+        var propertyCount = propertyKeys.size();
+
+        for (int i = 0; i < deletedSources.size(); i++) {
+            var source = nodes.toMappedNodeId(deletedSources.get(i));
+            var target = nodes.toMappedNodeId(deletedTargets.get(i));
+            if (source == IdMap.NOT_FOUND || target == IdMap.NOT_FOUND) {
+                continue;
+            }
+            nodeChanges(changes, inverse ? target : source).deletedTargets.add(inverse ? source : target);
+            if (undirected) {
+                nodeChanges(changes, target).deletedTargets.add(source);
+            }
+        }
+
+        var properties = new long[propertyCount];
+        for (int i = 0; i < insertedSources.size(); i++) {
+            var source = nodes.toMappedNodeId(insertedSources.get(i));
+            var target = nodes.toMappedNodeId(insertedTargets.get(i));
+            if (source == IdMap.NOT_FOUND || target == IdMap.NOT_FOUND) {
+                continue;
+            }
+            for (int p = 0; p < propertyCount; p++) {
+                var value = aggregations[p].normalizePropertyValue(insertedProperties.get(i * propertyCount + p));
+                properties[p] = Double.doubleToLongBits(value);
+            }
+            nodeChanges(changes, inverse ? target : source).insert(inverse ? source : target, properties);
+            // the undirected loader stores both directions, i.e. self-loops are stored twice
+            if (undirected) {
+                nodeChanges(changes, target).insert(source, properties);
+            }
+        }
+
+        return changes;
+    }
+
+    private static NodeChanges nodeChanges(LongObjectHashMap<NodeChanges> changes, long node) {
+        var nodeChanges = changes.get(node);
+        if (nodeChanges == null) {
+            nodeChanges = new NodeChanges();
+            changes.put(node, nodeChanges);
+        }
+        return nodeChanges;
+    }
+
+    /**
+     * Rewrites the adjacency lists of the changed nodes and puts them on top of the existing topology.
+     * Existing relationships keep their stored values. Inserted relationships are merged into existing
+     * relationships to the same target if {@code aggregations} is not null.
+     * An existing overlay is extended instead of stacking a new one on top of it.
+     */
+    private Overlay overlay(
+        Topology topology,
+        Optional<RelationshipPropertyStore> propertyStore,
+        LongObjectHashMap<NodeChanges> changes,
+        @Nullable Aggregation[] aggregations,
+        long[] deletedCount
+    ) {
+        var propertyCount = propertyKeys.size();
+        var adjacencyList = topology.adjacencyList();
+        var properties = new RelationshipProperty[propertyCount];
+        for (int p = 0; p < propertyCount; p++) {
+            properties[p] = propertyStore.orElseThrow().get(propertyKeys.get(p));
+        }
+
+        AdjacencyList baseList;
+        BitSet overlaidNodes;
+        LongObjectHashMap<long[]> overlaidTargets;
+        var baseProperties = new AdjacencyProperties[propertyCount];
+        var overlaidValues = new ArrayList<LongObjectHashMap<long[]>>(propertyCount);
+
+        if (adjacencyList instanceof OverlayAdjacencyList) {
+            var overlayList = (OverlayAdjacencyList) adjacencyList;
+            baseList = overlayList.base();
+            // copy the overlay, graphs that were created before the update still read the old one
+            overlaidNodes = (BitSet) overlayList.overlaidNodes().clone();
+            overlaidTargets = new LongObjectHashMap<>(overlayList.targets());
+            for (int p = 0; p < propertyCount; p++) {
+                var overlayProperties = (OverlayAdjacencyProperties) properties[p].values().propertiesList();
+                baseProperties[p] = overlayProperties.base();
+                overlaidValues.add(new LongObjectHashMap<>(overlayProperties.values()));
+            }
+        } else {
+            baseList = adjacencyList;
+            overlaidNodes = new BitSet();
+            overlaidTargets = new LongObjectHashMap<>();
+            for (int p = 0; p < propertyCount; p++) {
+                baseProperties[p] = properties[p].values().propertiesList();
+                overlaidValues.add(new LongObjectHashMap<>());
+            }
+        }
+
+        var elementCount = new long[]{topology.elementCount()};
+        var isMultiGraph = new boolean[]{topology.isMultiGraph()};
+
+        changes.forEach((LongObjectProcedure<NodeChanges>) (node, nodeChanges) -> {
+            var degree = adjacencyList.degree(node);
+            var targets = new LongArrayList(degree + nodeChanges.insertedTargets.size());
+            var values = new LongArrayList[propertyCount];
+            for (int p = 0; p < propertyCount; p++) {
+                values[p] = new LongArrayList(targets.buffer.length);
+            }
+
+            if (degree > 0) {
+                var adjacencyCursor = adjacencyList.adjacencyCursor(node, Double.NaN);
+                var propertyCursors = new PropertyCursor[propertyCount];
+                for (int p = 0; p < propertyCount; p++) {
+                    propertyCursors[p] = properties[p]
+                        .values()
+                        .propertiesList()
+                        .propertyCursor(node, properties[p].values().defaultPropertyValue());
+                }
+                for (int i = 0; i < degree; i++) {
+                    var target = adjacencyCursor.nextVLong();
+                    var deleted = nodeChanges.deletedTargets.contains(target);
+                    if (!deleted) {
+                        targets.add(target);
+                    }
+                    for (int p = 0; p < propertyCount; p++) {
+                        var value = propertyCursors[p].nextLong();
+                        if (!deleted) {
+                            values[p].add(value);
+                        }
+                    }
+                }
+            }
+            deletedCount[0] += degree - targets.size();
+
+            for (int i = 0; i < nodeChanges.insertedTargets.size(); i++) {
+                var target = nodeChanges.insertedTargets.get(i);
+                var existing = aggregations == null ? -1 : targets.indexOf(target);
+                if (existing < 0) {
+                    targets.add(target);
+                    for (int p = 0; p < propertyCount; p++) {
+                        values[p].add(nodeChanges.insertedProperties.get(i * propertyCount + p));
+                    }
+                } else {
+                    for (int p = 0; p < propertyCount; p++) {
+                        var merged = aggregations[p].merge(
+                            Double.longBitsToDouble(values[p].get(existing)),
+                            Double.longBitsToDouble(nodeChanges.insertedProperties.get(i * propertyCount + p))
+                        );
+                        values[p].set(existing, Double.doubleToLongBits(merged));
+                    }
+                }
+            }
+
+            var newDegree = targets.size();
+            var order = newDegree == 0
+                ? new int[0]
+                : IndirectSort.mergesort(0, newDegree, new AscendingLongComparator(targets.buffer));
+            var sortedTargets = new long[newDegree];
+            for (int i = 0; i < newDegree; i++) {
+                sortedTargets[i] = targets.get(order[i]);
+                if (aggregations == null && i > 0 && sortedTargets[i] == sortedTargets[i - 1]) {
+                    isMultiGraph[0] = true;
+                }
+            }
+            overlaidNodes.set(node);
+            overlaidTargets.put(node, sortedTargets);
+            for (int p = 0; p < propertyCount; p++) {
+                var sortedValues = new long[newDegree];
+                for (int i = 0; i < newDegree; i++) {
+                    sortedValues[i] = values[p].get(order[i]);
+                }
+                overlaidValues.get(p).put(node, sortedValues);
+            }
+
+            elementCount[0] += newDegree - degree;
+        });
+
+        var overlayTopology = ImmutableTopology.of(
+            new OverlayAdjacencyList(baseList, overlaidNodes, overlaidTargets),
+            elementCount[0],
+            isMultiGraph[0]
+        );
+
+        var overlayProperties = propertyStore.map(store -> {
+            var builder = RelationshipPropertyStore.builder();
+            for (int p = 0; p < propertyCount; p++) {
+                builder.putRelationshipProperty(propertyKeys.get(p), ImmutableRelationshipProperty.of(
+                    ImmutableProperties.of(
+                        new OverlayAdjacencyProperties(baseProperties[p], overlaidNodes, overlaidValues.get(p)),
+                        elementCount[0],
+                        properties[p].values().defaultPropertyValue()
+                    ),
+                    properties[p].propertySchema()
+                ));
+            }
+            return builder.build();
+        });
+
+        return new Overlay(overlayTopology, overlayProperties, overlaidNodes.cardinality());
+    }
+
+    /**
+     * Rebuilds the relationships into a new compressed topology once too many nodes are overlaid.
+     * The stored relationships are copied as they are, i.e. without aggregating them again.
+     */
+    private SingleTypeRelationships compact(IdMap nodes, SingleTypeRelationships relationships, int concurrency) {
+        var schemaEntry = relationships.relationshipSchemaEntry();
+        var propertyConfigs = propertyKeys.stream()
+            .map(propertyKey -> propertyConfig(schemaEntry.properties().get(propertyKey)))
+            .collect(Collectors.toList());
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(nodes)
+            .relationshipType(relationshipType)
+            .orientation(Orientation.NATURAL)
+            .propertyConfigs(propertyConfigs)
+            .aggregation(Aggregation.NONE)
+            .indexInverse(relationships.inverseTopology().isPresent())
+            .concurrency(concurrency)
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+
+        var iterator = new CSRCompositeRelationshipIterator(
+            relationships.topology().adjacencyList(),
+            Optional.empty(),
+            propertyKeys.toArray(new String[0]),
+            propertyKeys.stream()
+                .map(propertyKey -> relationships.properties().orElseThrow().get(propertyKey).values().propertiesList())
+                .toArray(AdjacencyProperties[]::new),
+            new AdjacencyProperties[0]
+        );
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodes.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localIterator = iterator.concurrentCopy();
+                partition.consume(nodeId -> localIterator.forEachRelationship(nodeId, (source, target, properties) -> {
+                    add(relationshipsBuilder, source, target, properties);
+                    return true;
+                }));
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+
+        var compacted = relationshipsBuilder.build();
+        // the compacted relationships keep the schema and the multi-graph flag of the merged relationships
+        var builder = SingleTypeRelationships.builder()
+            .from(relationships)
+            .topology(ImmutableTopology.of(
+                compacted.topology().adjacencyList(),
+                compacted.topology().elementCount(),
+                relationships.topology().isMultiGraph()
+            ))
+            .properties(compacted.properties().map(store -> withSchema(
+                store,
+                relationships.properties().orElseThrow()
+            )));
+        compacted.inverseTopology().ifPresent(inverseTopology -> builder
+            .inverseTopology(ImmutableTopology.of(
+                inverseTopology.adjacencyList(),
+                inverseTopology.elementCount(),
+                relationships.inverseTopology().orElseThrow().isMultiGraph()
+            ))
+            .inverseProperties(compacted.inverseProperties().map(store -> withSchema(
+                store,
+                relationships.inverseProperties().orElseThrow()
+            )))
+        );
+        return builder.build();
+    }
+
+    private static RelationshipPropertyStore withSchema(
+        RelationshipPropertyStore store,
+        RelationshipPropertyStore schemaSource
+    ) {
+        var builder = RelationshipPropertyStore.builder();
+        store.relationshipProperties().forEach((propertyKey, property) -> builder.putRelationshipProperty(
+            propertyKey,
+            ImmutableRelationshipProperty.of(property.values(), schemaSource.get(propertyKey).propertySchema())
+        ));
+        return builder.build();
+    }
+
+    private static void add(RelationshipsBuilder builder, long source, long target, double[] properties) {
+        switch (properties.length) {
+            case 0:
+                builder.addFromInternal(source, target);
+                break;
+            case 1:
+                builder.addFromInternal(source, target, properties[0]);
+                break;
+            default:
+                builder.addFromInternal(source, target, Arrays.copyOf(properties, properties.length));
+        }
+    }
+
+    private static GraphFactory.PropertyConfig propertyConfig(RelationshipPropertySchema propertySchema) {
+        // stored values are already aggregated
+        return GraphFactory.PropertyConfig.builder()
+            .propertyKey(propertySchema.key())
+            .aggregation(Aggregation.NONE)
+            .defaultValue(propertySchema.defaultValue())
+            .propertyState(propertySchema.state())
+            .build();
+    }
+
+    private static final class NodeChanges {
+        final LongHashSet deletedTargets = new LongHashSet();
+        final LongArrayList insertedTargets = new LongArrayList();
+        final LongArrayList insertedProperties = new LongArrayList();
+
+        void insert(long target, long[] properties) {
+            insertedTargets.add(target);
+            insertedProperties.add(properties, 0, properties.length);
+        }
+    }
+
+    private static final class Overlay {
+        final Topology topology;
+        final Optional<RelationshipPropertyStore> properties;
+        final long overlaidNodes;
+
+        Overlay(Topology topology, Optional<RelationshipPropertyStore> properties, long overlaidNodes) {
+            this.topology = topology;
+            this.properties = properties;
+            this.overlaidNodes = overlaidNodes;
+        }
+    }
+}
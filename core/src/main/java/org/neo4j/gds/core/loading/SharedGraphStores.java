@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lets projections with identical configurations against an unchanged database share
+ * their immutable node and relationship data instead of loading it again.
+ * <p>
+ * Every catalog entry created from a shared projection holds one reference.
+ * The shared data is forgotten once the last of those entries is removed from the catalog.
+ * Each entry gets its own graph store, so mutating one entry is not visible in the others.
+ * The memory of the shared data is attributed to the oldest of those entries.
+ */
+public final class SharedGraphStores {
+
+    private static final Set<String> IGNORED_CONFIG_KEYS = Set.of(
+        "jobId",
+        "creationTime",
+        "readConcurrency",
+        "username",
+        BaseConfig.SUDO_KEY,
+        BaseConfig.LOG_PROGRESS_KEY
+    );
+
+    private static final Map<ProjectionKey, SharedEntry> entries = new ConcurrentHashMap<>();
+
+    private static final Map<GraphStore, ProjectionKey> keysByGraphStore = new ConcurrentHashMap<>();
+
+    private SharedGraphStores() {
+    }
+
+    @ValueClass
+    public interface ProjectionKey {
+
+        String username();
+
+        Set<String> roles();
+
+        long privilegesTransactionId();
+
+        String databaseName();
+
+        long transactionId();
+
+        String configType();
+
+        Map<String, Object> normalizedConfig();
+    }
+
+    /**
+     * The key of a projection only contains the parts of the configuration that affect the projected data.
+     * Projections honor the read privileges of the projecting user, so the key also contains the user,
+     * their roles and the last committed transaction of the system database, which changes whenever
+     * privileges or role memberships change.
+     */
+    public static ProjectionKey key(
+        GraphProjectConfig config,
+        Set<String> roles,
+        long privilegesTransactionId,
+        DatabaseId databaseId,
+        long transactionId
+    ) {
+        return ImmutableProjectionKey.of(
+            config.username(),
+            roles,
+            privilegesTransactionId,
+            databaseId.databaseName(),
+            transactionId,
+            config.getClass().getName(),
+            config.cleansed(config.toMap(), IGNORED_CONFIG_KEYS)
+        );
+    }
+
+    public static boolean isEnabled() {
+        return GdsFeatureToggles.ENABLE_GRAPH_STORE_SHARING.isEnabled();
+    }
+
+    /**
+     * Returns a new graph store on top of the shared data of an earlier projection with the same key
+     * and takes a reference on that data.
+     */
+    public static Optional<GraphStore> acquire(ProjectionKey key) {
+        var entry = entries.computeIfPresent(
+            key,
+            (__, sharedEntry) -> sharedEntry.retain(sharedEntry.template.shareData())
+        );
+        if (entry == null) {
+            return Optional.empty();
+        }
+        var graphStore = entry.newestGraphStore();
+        keysByGraphStore.put(graphStore, key);
+        return Optional.of(graphStore);
+    }
+
+    /**
+     * Makes the data of a freshly projected graph store available to later projections with the same key.
+     * If another projection registered the key in the meantime, the graph store is not shared.
+     */
+    public static void register(ProjectionKey key, GraphStore graphStore) {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            return;
+        }
+        entries.computeIfAbsent(key, __ -> {
+            keysByGraphStore.put(graphStore, key);
+            // the catalog entry may be mutated, so later projections share a pristine copy
+            return new SharedEntry(((CSRGraphStore) graphStore).shareData(), List.of(graphStore));
+        });
+    }
+
+    /**
+     * Gives up the reference a catalog entry holds on shared data.
+     */
+    public static void release(GraphStore graphStore) {
+        var key = keysByGraphStore.remove(graphStore);
+        if (key != null) {
+            entries.computeIfPresent(key, (__, sharedEntry) -> sharedEntry.release(graphStore));
+        }
+    }
+
+    /**
+     * Returns the data the given graph store shares with an older catalog entry.
+     * That data is part of the memory usage of the older entry and not of the given one.
+     */
+    public static Optional<GraphStore> dataSharedWithOlderEntry(GraphStore graphStore) {
+        var key = keysByGraphStore.get(graphStore);
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(key))
+            .filter(sharedEntry -> sharedEntry.graphStores.get(0) != graphStore)
+            .map(sharedEntry -> sharedEntry.template);
+    }
+
+    /**
+     * Returns whether other catalog entries still reference the data of the given graph store,
+     * in which case taking the given graph store off the heap does not free that data.
+     */
+    static boolean sharesDataWithOtherEntry(GraphStore graphStore) {
+        var key = keysByGraphStore.get(graphStore);
+        return key != null && referenceCount(key) > 1;
+    }
+
+    static void removeAll() {
+        entries.clear();
+        keysByGraphStore.clear();
+    }
+
+    static void removeAll(DatabaseId databaseId) {
+        entries.keySet().removeIf(key -> key.databaseName().equals(databaseId.databaseName()));
+        keysByGraphStore.values().removeIf(key -> key.databaseName().equals(databaseId.databaseName()));
+    }
+
+    static int referenceCount(ProjectionKey key) {
+        var entry = entries.get(key);
+        return entry == null ? 0 : entry.graphStores.size();
+    }
+
+    private static final class SharedEntry {
+        private final CSRGraphStore template;
+        // the graph stores of the catalog entries that reference the data, oldest first
+        private final List<GraphStore> graphStores;
+
+        private SharedEntry(CSRGraphStore template, List<GraphStore> graphStores) {
+            this.template = template;
+            this.graphStores = graphStores;
+        }
+
+        private GraphStore newestGraphStore() {
+            return graphStores.get(graphStores.size() - 1);
+        }
+
+        private SharedEntry retain(GraphStore graphStore) {
+            var retained = new ArrayList<>(graphStores);
+            retained.add(graphStore);
+            return new SharedEntry(template, List.copyOf(retained));
+        }
+
+        private SharedEntry release(GraphStore graphStore) {
+            var retained = new ArrayList<GraphStore>(graphStores.size());
+            for (var retainedGraphStore : graphStores) {
+                if (retainedGraphStore != graphStore) {
+                    retained.add(retainedGraphStore);
+                }
+            }
+            return retained.isEmpty() ? null : new SharedEntry(template, List.copyOf(retained));
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.neo4j.gds.api.compress.AdjacencyCompressor;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.AdjacencyCompressionObjective;
 
 import java.util.Collection;
 import java.util.Map;
@@ -53,7 +54,8 @@ public final class SingleTypeRelationshipImporter {
         var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
             nodeCountSupplier,
             importMetaData.projection().properties(),
-            importMetaData.aggregations()
+            importMetaData.aggregations(),
+            importMetaData.adjacencyCompression()
         );
 
         var adjacencyBuffer = new AdjacencyBufferBuilder()
@@ -135,11 +137,33 @@ public final class SingleTypeRelationshipImporter {
 
         boolean skipDanglingRelationships();
 
+        /**
+         * If present, the adjacency list layout is selected per relationship type based on the observed degrees.
+         * Otherwise, the layout is determined by the feature toggles.
+         */
+        Optional<AdjacencyCompressionObjective> adjacencyCompression();
+
         static ImportMetaData of(
             RelationshipProjection projection,
             int typeTokenId,
             Map<String, Integer> relationshipPropertyTokens,
             boolean skipDanglingRelationships
+        ) {
+            return of(
+                projection,
+                typeTokenId,
+                relationshipPropertyTokens,
+                skipDanglingRelationships,
+                Optional.empty()
+            );
+        }
+
+        static ImportMetaData of(
+            RelationshipProjection projection,
+            int typeTokenId,
+            Map<String, Integer> relationshipPropertyTokens,
+            boolean skipDanglingRelationships,
+            Optional<AdjacencyCompressionObjective> adjacencyCompression
         ) {
             return ImmutableImportMetaData
                 .builder()
@@ -149,6 +173,7 @@ public final class SingleTypeRelationshipImporter {
                 .defaultValues(defaultValues(projection))
                 .typeTokenId(typeTokenId)
                 .skipDanglingRelationships(skipDanglingRelationships)
+                .adjacencyCompression(adjacencyCompression)
                 .build();
         }
 
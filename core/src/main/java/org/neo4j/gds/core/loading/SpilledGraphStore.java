@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.DatabaseInfo;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.ResultStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.graph.GraphProperty;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Takes the place of a graph store in the catalog while the graph store is spilled to disk.
+ * It answers questions about the shape of the graph, which is all that listing the catalog needs.
+ * Accessing the data fails; the catalog reloads the graph store on access instead.
+ */
+public final class SpilledGraphStore implements GraphStore {
+
+    private final Path location;
+    private final DatabaseInfo databaseInfo;
+    private final Capabilities capabilities;
+    private final GraphSchema schema;
+    private final ZonedDateTime modificationTime;
+    private final long nodeCount;
+    private final Map<RelationshipType, Long> relationshipCounts;
+    private final Set<RelationshipType> inverseIndexedRelationshipTypes;
+
+    static SpilledGraphStore of(GraphStore graphStore, Path location) {
+        return new SpilledGraphStore(
+            location,
+            graphStore.databaseInfo(),
+            graphStore.capabilities(),
+            MutableGraphSchema.from(graphStore.schema()),
+            graphStore.modificationTime(),
+            graphStore.nodeCount(),
+            graphStore.relationshipTypes()
+                .stream()
+                .collect(Collectors.toMap(type -> type, graphStore::relationshipCount)),
+            Set.copyOf(graphStore.inverseIndexedRelationshipTypes())
+        );
+    }
+
+    private SpilledGraphStore(
+        Path location,
+        DatabaseInfo databaseInfo,
+        Capabilities capabilities,
+        GraphSchema schema,
+        ZonedDateTime modificationTime,
+        long nodeCount,
+        Map<RelationshipType, Long> relationshipCounts,
+        Set<RelationshipType> inverseIndexedRelationshipTypes
+    ) {
+        this.location = location;
+        this.databaseInfo = databaseInfo;
+        this.capabilities = capabilities;
+        this.schema = schema;
+        this.modificationTime = modificationTime;
+        this.nodeCount = nodeCount;
+        this.relationshipCounts = relationshipCounts;
+        this.inverseIndexedRelationshipTypes = inverseIndexedRelationshipTypes;
+    }
+
+    public Path location() {
+        return location;
+    }
+
+    @Override
+    public ResultStore resultStore() {
+        throw spilled();
+    }
+
+    @Override
+    public DatabaseInfo databaseInfo() {
+        return databaseInfo;
+    }
+
+    @Override
+    public GraphSchema schema() {
+        return schema;
+    }
+
+    @Override
+    public ZonedDateTime modificationTime() {
+        return modificationTime;
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return capabilities;
+    }
+
+    @Override
+    public Set<String> graphPropertyKeys() {
+        return schema.graphProperties().keySet();
+    }
+
+    @Override
+    public boolean hasGraphProperty(String propertyKey) {
+        return graphPropertyKeys().contains(propertyKey);
+    }
+
+    @Override
+    public GraphProperty graphProperty(String propertyKey) {
+        throw spilled();
+    }
+
+    @Override
+    public ValueType graphPropertyType(String propertyKey) {
+        return Optional.ofNullable(schema.graphProperties().get(propertyKey))
+            .map(PropertySchema::valueType)
+            .orElse(ValueType.UNKNOWN);
+    }
+
+    @Override
+    public GraphPropertyValues graphPropertyValues(String propertyKey) {
+        throw spilled();
+    }
+
+    @Override
+    public void addGraphProperty(String propertyKey, GraphPropertyValues propertyValues) {
+        throw spilled();
+    }
+
+    @Override
+    public void removeGraphProperty(String propertyKey) {
+        throw spilled();
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public IdMap nodes() {
+        throw spilled();
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels() {
+        return schema.nodeSchema().availableLabels();
+    }
+
+    @Override
+    public void addNodeLabel(NodeLabel nodeLabel) {
+        throw spilled();
+    }
+
+    @Override
+    public Set<String> nodePropertyKeys(NodeLabel label) {
+        return schema.nodeSchema().allProperties(label);
+    }
+
+    @Override
+    public Set<String> nodePropertyKeys() {
+        return schema.nodeSchema().allProperties();
+    }
+
+    @Override
+    public boolean hasNodeProperty(String propertyKey) {
+        return nodePropertyKeys().contains(propertyKey);
+    }
+
+    @Override
+    public boolean hasNodeProperty(NodeLabel label, String propertyKey) {
+        return schema.nodeSchema().hasProperty(label, propertyKey);
+    }
+
+    @Override
+    public boolean hasNodeProperty(Collection<NodeLabel> labels, String propertyKey) {
+        return labels.stream().allMatch(label -> hasNodeProperty(label, propertyKey));
+    }
+
+    @Override
+    public NodeProperty nodeProperty(String propertyKey) {
+        throw spilled();
+    }
+
+    @Override
+    public void addNodeProperty(Set<NodeLabel> nodeLabels, String propertyKey, NodePropertyValues propertyValues) {
+        throw spilled();
+    }
+
+    @Override
+    public void removeNodeProperty(String propertyKey) {
+        throw spilled();
+    }
+
+    @Override
+    public long relationshipCount() {
+        return relationshipCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long relationshipCount(RelationshipType relationshipType) {
+        return relationshipCounts.get(relationshipType);
+    }
+
+    @Override
+    public Set<RelationshipType> relationshipTypes() {
+        return relationshipCounts.keySet();
+    }
+
+    @Override
+    public boolean hasRelationshipType(RelationshipType relationshipType) {
+        return relationshipCounts.containsKey(relationshipType);
+    }
+
+    @Override
+    public Set<RelationshipType> inverseIndexedRelationshipTypes() {
+        return inverseIndexedRelationshipTypes;
+    }
+
+    @Override
+    public boolean hasRelationshipProperty(RelationshipType relType, String propertyKey) {
+        return hasRelationshipType(relType) && schema.relationshipSchema().hasProperty(relType, propertyKey);
+    }
+
+    @Override
+    public ValueType relationshipPropertyType(String propertyKey) {
+        return Optional.ofNullable(schema.relationshipSchema().unionProperties().get(propertyKey))
+            .map(PropertySchema::valueType)
+            .orElse(ValueType.UNKNOWN);
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys() {
+        return schema.relationshipSchema().allProperties();
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys(RelationshipType relationshipType) {
+        return hasRelationshipType(relationshipType)
+            ? schema.relationshipSchema().allProperties(relationshipType)
+            : Set.of();
+    }
+
+    @Override
+    public RelationshipProperty relationshipPropertyValues(RelationshipType relationshipType, String propertyKey) {
+        throw spilled();
+    }
+
+    @Override
+    public void addRelationshipType(SingleTypeRelationships relationships) {
+        throw spilled();
+    }
+
+    @Override
+    public void updateRelationshipType(
+        RelationshipType relationshipType,
+        UnaryOperator<SingleTypeRelationships> updateFunction
+    ) {
+        throw spilled();
+    }
+
+    @Override
+    public void addInverseIndex(
+        RelationshipType relationshipType,
+        Topology topology,
+        Optional<RelationshipPropertyStore> properties
+    ) {
+        throw spilled();
+    }
+
+    @Override
+    public DeletionResult deleteRelationships(RelationshipType relationshipType) {
+        throw spilled();
+    }
+
+    @Override
+    public Graph getGraph(Collection<NodeLabel> nodeLabels) {
+        throw spilled();
+    }
+
+    @Override
+    public Graph getGraph(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        throw spilled();
+    }
+
+    @Override
+    public Graph getUnion() {
+        throw spilled();
+    }
+
+    @Override
+    public CompositeRelationshipIterator getCompositeRelationshipIterator(
+        RelationshipType relationshipType,
+        Collection<String> propertyKeys
+    ) {
+        throw spilled();
+    }
+
+    private IllegalStateException spilled() {
+        return new IllegalStateException(
+            formatWithLocale(
+                "The graph store has been spilled to `%s`, it needs to be loaded from the graph catalog again.",
+                location
+            )
+        );
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.util.Arrays;
+
+/**
+ * A lossless codec that drops the bytes of a {@code double} that carry no information.
+ * <p>
+ * Every value starts with a header byte. The upper four bits of the header hold the
+ * compression type, the lower four bits the number of payload bytes that follow.
+ * <ul>
+ *     <li>{@link #INTEGRAL}: integral values with an absolute value below 2^53 are stored as
+ *     their zig-zag encoded {@code long}, without leading zero bytes.</li>
+ *     <li>{@link #TRIMMED}: all other values are stored as their raw bits, without trailing zero bytes.
+ *     Values with a short binary fraction, like {@code 0.5} or {@code 2.75}, have many of those.</li>
+ * </ul>
+ * A value takes between one and nine bytes.
+ */
+public final class TrimmedDoubleCodec extends DoubleCodec {
+
+    static final int INTEGRAL = 0;
+    static final int TRIMMED = 1;
+
+    private static final double MAX_INTEGRAL = 0x1p53;
+
+    private static final DoubleCodec INSTANCE = new TrimmedDoubleCodec();
+
+    public static DoubleCodec instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        double value = Double.longBitsToDouble(doubleBits);
+        long payload;
+        int type;
+        int length;
+        if (value == Math.rint(value) && Math.abs(value) < MAX_INTEGRAL && doubleBits != SIGN_BIT_MASK) {
+            long longValue = (long) value;
+            payload = (longValue << 1) ^ (longValue >> 63);
+            type = INTEGRAL;
+            length = (Long.SIZE - Long.numberOfLeadingZeros(payload) + 7) >>> 3;
+            // right align the payload bytes so that they are written from the most significant one
+            payload <<= (Long.BYTES - length) << 3;
+        } else {
+            payload = doubleBits;
+            type = TRIMMED;
+            length = Long.BYTES - (Long.numberOfTrailingZeros(doubleBits) >>> 3);
+        }
+
+        out[outPos++] = (byte) (type << 4 | length);
+        for (int i = 0; i < length; i++) {
+            out[outPos++] = (byte) (payload >>> (56 - (i << 3)));
+        }
+        return outPos;
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        int header = data[pos++];
+        int length = header & 0xF;
+        long payload = 0;
+        for (int i = 0; i < length; i++) {
+            payload = (payload << 8) | (data[pos++] & 0xFF);
+        }
+
+        if ((header >>> 4) == INTEGRAL) {
+            long longValue = (payload >>> 1) ^ -(payload & 1);
+            out.setValue((double) longValue);
+        } else {
+            out.setValue(Double.longBitsToDouble(length == 0 ? 0 : payload << ((Long.BYTES - length) << 3)));
+        }
+        return pos;
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        return 1 + (data[pos] & 0xF);
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        return type == INTEGRAL ? "INTEGRAL" : "TRIMMED";
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        var size = compressedSize(data, pos);
+        var type = (data[pos] >>> 4) & 0xF;
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, pos + size))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(size)
+            .compressedType(type)
+            .compressionDescription(describeCompression(type))
+            .build();
+    }
+
+    private TrimmedDoubleCodec() {
+    }
+}
@@ -19,13 +19,16 @@
  */
 package org.neo4j.gds.core.loading.nodeproperties;
 
+import com.carrotsearch.hppc.procedures.LongDoubleProcedure;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.hsa.HugeSparseDoubleArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.utils.Neo4jValueConversion;
 import org.neo4j.values.storable.Value;
 
@@ -87,9 +90,24 @@ public class DoubleNodePropertiesBuilder implements InnerNodePropertiesBuilder {
     public DoubleNodePropertyValues build(long size, PartialIdMap idMap, long highestOriginalId) {
         var propertiesByNeoIds = builder.build();
 
-        var propertiesByMappedIdsBuilder = HugeSparseDoubleArray.builder(
-            defaultValue
-        );
+        // File-backed properties are stored densely by mapped id, so that their pages can be mapped up front.
+        var fileBacked = GdsFeatureToggles.USE_FILE_BACKED_NODE_PROPERTIES.isEnabled();
+        HugeDoubleArray fileBackedValues = null;
+        HugeSparseDoubleArray.Builder propertiesByMappedIdsBuilder = null;
+        LongDoubleProcedure setter;
+        if (fileBacked) {
+            var values = HugeDoubleArray.newFileBackedArray(
+                size,
+                GdsFeatureToggles.FILE_BACKED_ARRAYS_DIRECTORY.get()
+            );
+            values.fill(defaultValue);
+            fileBackedValues = values;
+            setter = values::set;
+        } else {
+            var sparseBuilder = HugeSparseDoubleArray.builder(defaultValue);
+            propertiesByMappedIdsBuilder = sparseBuilder;
+            setter = sparseBuilder::set;
+        }
 
         var drainingIterator = propertiesByNeoIds.drainingIterator();
 
@@ -111,13 +129,22 @@ public class DoubleNodePropertiesBuilder implements InnerNodePropertiesBuilder {
                     if (Double.compare(value, defaultValue) == 0) {
                         continue;
                     }
-                    propertiesByMappedIdsBuilder.set(mappedId, value);
+                    setter.apply(mappedId, value);
                 }
             }
         }).collect(Collectors.toList());
 
         ParallelUtil.run(tasks, DefaultPool.INSTANCE);
 
+        if (fileBacked) {
+            var maxValue = (double) MAX_VALUE.getVolatile(DoubleNodePropertiesBuilder.this);
+            var maybeMaxValue = maxValue != Double.NEGATIVE_INFINITY
+                ? OptionalDouble.of(maxValue)
+                : OptionalDouble.empty();
+
+            return new FileBackedDoubleNodePropertyValues(fileBackedValues, maybeMaxValue);
+        }
+
         var propertyValues = propertiesByMappedIdsBuilder.build();
 
         var maybeMaxValue = propertyValues.capacity() > 0
@@ -187,4 +214,29 @@ public class DoubleNodePropertiesBuilder implements InnerNodePropertiesBuilder {
             return size;
         }
     }
+
+    static class FileBackedDoubleNodePropertyValues implements DoubleNodePropertyValues {
+        private final HugeDoubleArray propertyValues;
+        private final OptionalDouble maxValue;
+
+        FileBackedDoubleNodePropertyValues(HugeDoubleArray propertyValues, OptionalDouble maxValue) {
+            this.propertyValues = propertyValues;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return propertyValues.get(nodeId);
+        }
+
+        @Override
+        public OptionalDouble getMaxDoublePropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long nodeCount() {
+            return propertyValues.size();
+        }
+    }
 }
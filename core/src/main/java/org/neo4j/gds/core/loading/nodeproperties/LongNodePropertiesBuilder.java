@@ -19,14 +19,17 @@
  */
 package org.neo4j.gds.core.loading.nodeproperties;
 
+import com.carrotsearch.hppc.procedures.LongLongProcedure;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.utils.Neo4jValueConversion;
 import org.neo4j.values.storable.Value;
 
@@ -95,9 +98,24 @@ public final class LongNodePropertiesBuilder implements InnerNodePropertiesBuild
     public NodePropertyValues build(long size, PartialIdMap idMap, long highestOriginalId) {
         var propertiesByNeoIds = builder.build();
 
-        var propertiesByMappedIdsBuilder = HugeSparseLongArray.builder(
-            defaultValue
-        );
+        // File-backed properties are stored densely by mapped id, so that their pages can be mapped up front.
+        var fileBacked = GdsFeatureToggles.USE_FILE_BACKED_NODE_PROPERTIES.isEnabled();
+        HugeLongArray fileBackedValues = null;
+        HugeSparseLongArray.Builder propertiesByMappedIdsBuilder = null;
+        LongLongProcedure setter;
+        if (fileBacked) {
+            var values = HugeLongArray.newFileBackedArray(
+                size,
+                GdsFeatureToggles.FILE_BACKED_ARRAYS_DIRECTORY.get()
+            );
+            values.fill(defaultValue);
+            fileBackedValues = values;
+            setter = values::set;
+        } else {
+            var sparseBuilder = HugeSparseLongArray.builder(defaultValue);
+            propertiesByMappedIdsBuilder = sparseBuilder;
+            setter = sparseBuilder::set;
+        }
 
         var drainingIterator = propertiesByNeoIds.drainingIterator();
 
@@ -119,13 +137,22 @@ public final class LongNodePropertiesBuilder implements InnerNodePropertiesBuild
                     if (value == defaultValue) {
                         continue;
                     }
-                    propertiesByMappedIdsBuilder.set(mappedId, value);
+                    setter.apply(mappedId, value);
                 }
             }
         }).collect(Collectors.toList());
 
         ParallelUtil.run(tasks, DefaultPool.INSTANCE);
 
+        if (fileBacked) {
+            var maxValue = (long) MAX_VALUE.getVolatile(LongNodePropertiesBuilder.this);
+            var maybeMaxValue = maxValue != Long.MIN_VALUE
+                ? OptionalLong.of(maxValue)
+                : OptionalLong.empty();
+
+            return new FileBackedLongNodePropertyValues(fileBackedValues, maybeMaxValue);
+        }
+
         var propertyValues = propertiesByMappedIdsBuilder.build();
 
         var maybeMaxValue = propertyValues.capacity() > 0
@@ -195,4 +222,29 @@ public final class LongNodePropertiesBuilder implements InnerNodePropertiesBuild
             return size;
         }
     }
+
+    static class FileBackedLongNodePropertyValues implements LongNodePropertyValues {
+        private final HugeLongArray propertyValues;
+        private final OptionalLong maxValue;
+
+        FileBackedLongNodePropertyValues(HugeLongArray propertyValues, OptionalLong maxValue) {
+            this.propertyValues = propertyValues;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return propertyValues.get(nodeId);
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long nodeCount() {
+            return propertyValues.size();
+        }
+    }
 }
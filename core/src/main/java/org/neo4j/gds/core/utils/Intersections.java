@@ -20,9 +20,39 @@
 package org.neo4j.gds.core.utils;
 
 import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.vector.IntersectionKernels;
 
 public final class Intersections {
 
+    private static final String VECTORIZED_KERNELS = "org.neo4j.gds.core.utils.vector.VectorizedIntersections";
+
+    /**
+     * The vectorized kernels are used when the JVM was started with {@code --add-modules jdk.incubator.vector}
+     * and the platform offers SIMD registers. Otherwise, the scalar implementations below are used.
+     * The kernels are loaded reflectively, so that this module compiles without the incubator module.
+     */
+    private static final @Nullable IntersectionKernels VECTORIZED = loadVectorizedKernels();
+
+    static boolean isVectorized() {
+        return VECTORIZED != null;
+    }
+
+    private static @Nullable IntersectionKernels loadVectorizedKernels() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            var kernels = (IntersectionKernels) Class
+                .forName(VECTORIZED_KERNELS)
+                .getDeclaredConstructor()
+                .newInstance();
+            return kernels.isSupported() ? kernels : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
     public static long intersection(LongHashSet targets1, LongHashSet targets2) {
         LongHashSet intersectionSet = new LongHashSet(targets1);
         intersectionSet.retainAll(targets2);
@@ -37,6 +67,9 @@ public final class Intersections {
 
     // assume both are sorted
     public static long intersection3(long[] targets1, long[] targets2) {
+        if (VECTORIZED != null) {
+            return VECTORIZED.intersection(targets1, targets2, targets1.length, targets2.length);
+        }
         int len2;
         if ((len2 = targets2.length) == 0) return 0;
         int off2 = 0;
@@ -59,6 +92,9 @@ public final class Intersections {
     public static long intersectionArraysWithLength(long[] targets1, long[] targets2, int len1, int len2) {
         assert len1 <= targets1.length;
         assert len2 <= targets2.length;
+        if (VECTORIZED != null) {
+            return VECTORIZED.intersection(targets1, targets2, len1, len2);
+        }
         if (len2 == 0) return 0;
         int off2 = 0;
         long intersection = 0;
@@ -82,6 +118,9 @@ public final class Intersections {
     // idea, compute differences, when 0 then equal?
     // assume both are sorted
     public static long intersection4(long[] targets1, long[] targets2) {
+        if (VECTORIZED != null) {
+            return VECTORIZED.intersection(targets1, targets2, targets1.length, targets2.length);
+        }
         if (targets2.length == 0) return 0;
         int off2 = 0;
         long intersection = 0;
@@ -105,6 +144,9 @@ public final class Intersections {
     }
 
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
+        if (VECTORIZED != null) {
+            return VECTORIZED.sumSquareDelta(vector1, vector2, len);
+        }
         double result = 0;
         for (int i = 0; i < len; i++) {
             double delta = vector1[i] - vector2[i];
@@ -114,6 +156,9 @@ public final class Intersections {
     }
 
     public static float sumSquareDelta(float[] vector1, float[] vector2, int len) {
+        if (VECTORIZED != null) {
+            return VECTORIZED.sumSquareDelta(vector1, vector2, len);
+        }
         float result = 0;
         for (int i = 0; i < len; i++) {
             float delta = vector1[i] - vector2[i];
@@ -135,6 +180,9 @@ public final class Intersections {
     }
 
     public static double pearson(double[] vector1, double[] vector2, int len) {
+        if (VECTORIZED != null) {
+            return VECTORIZED.pearson(vector1, vector2, len);
+        }
         double vector1Sum = 0.0;
         double vector2Sum = 0.0;
         for (int i = 0; i < len; i++) {
@@ -162,6 +210,9 @@ public final class Intersections {
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
+        if (VECTORIZED != null) {
+            return VECTORIZED.cosine(vector1, vector2, len);
+        }
         double dotProduct = 0D;
         double xLength = 0D;
         double yLength = 0D;
@@ -180,6 +231,9 @@ public final class Intersections {
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
+        if (VECTORIZED != null) {
+            return VECTORIZED.cosine(vector1, vector2, len);
+        }
         float dotProduct = 0F;
         float xLength = 0F;
         float yLength = 0F;
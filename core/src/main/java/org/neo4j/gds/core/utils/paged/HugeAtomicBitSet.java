@@ -191,6 +191,31 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Returns the index of the first set bit that is greater than or equal to the given index,
+     * or -1 if there is no such bit.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    public long nextSetBit(long index) {
+        if (index >= numBits) {
+            return -1;
+        }
+
+        long wordIndex = index / NUM_BITS;
+        // shifting by the index only keeps the bits at or above the index within the word
+        long word = bits.get(wordIndex) & (-1L << index);
+
+        while (word == 0) {
+            if (++wordIndex >= bits.size()) {
+                return -1;
+            }
+            word = bits.get(wordIndex);
+        }
+
+        return wordIndex * NUM_BITS + Long.numberOfTrailingZeros(word);
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
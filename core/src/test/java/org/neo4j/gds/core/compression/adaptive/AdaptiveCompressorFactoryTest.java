@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.adaptive;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.AdjacencyCompressionObjective;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveCompressorFactoryTest {
+
+    private static final int NODE_COUNT = 1_000;
+    private static final int DEGREE = 500;
+
+    @Test
+    void shouldSelectLayoutFromObservedDegrees() {
+        var factory = adaptiveFactory();
+        var degrees = new DegreeBuckets();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            degrees.record(DEGREE);
+        }
+
+        factory.init(() -> degrees);
+        var adjacencyList = compressAndBuild(factory);
+
+        assertThat(adjacencyList.memoryInfo().layout()).contains(AdjacencyLayout.PACKED);
+        assertAdjacency(adjacencyList);
+    }
+
+    @Test
+    void shouldFallBackToConfiguredLayoutWithoutObservedDegrees() {
+        var factory = adaptiveFactory();
+
+        factory.init();
+        var adjacencyList = compressAndBuild(factory);
+
+        assertThat(adjacencyList.memoryInfo().layout()).contains(AdjacencyLayout.VAR_LONG);
+        assertAdjacency(adjacencyList);
+    }
+
+    @Test
+    void shouldCountRelationshipsOfTheBuffer() {
+        var factory = adaptiveFactory();
+        factory.init(DegreeBuckets::new);
+        factory.relationshipCounter().add(42);
+
+        assertThat(factory.build(false).relationshipCount()).isEqualTo(42);
+    }
+
+    private static AdjacencyCompressorFactory adaptiveFactory() {
+        return AdjacencyListBehavior.adaptive(
+            () -> NODE_COUNT,
+            PropertyMappings.of(),
+            new Aggregation[]{Aggregation.NONE},
+            AdjacencyCompressionObjective.MEMORY
+        );
+    }
+
+    private static AdjacencyList compressAndBuild(AdjacencyCompressorFactory factory) {
+        try (var compressor = factory.createCompressor()) {
+            for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+                var relationships = compressor.compress(nodeId, targets(nodeId), null, DEGREE);
+                factory.relationshipCounter().add(relationships);
+            }
+        }
+        var adjacency = factory.build(false);
+        assertThat(adjacency.relationshipCount()).isEqualTo((long) NODE_COUNT * DEGREE);
+        return adjacency.adjacency();
+    }
+
+    private static void assertAdjacency(AdjacencyList adjacencyList) {
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            assertThat(adjacencyList.degree(nodeId)).isEqualTo(DEGREE);
+            var cursor = adjacencyList.adjacencyCursor(nodeId);
+            var actual = new long[DEGREE];
+            for (int i = 0; i < DEGREE; i++) {
+                actual[i] = cursor.nextVLong();
+            }
+            assertThat(actual).containsExactly(targets(nodeId));
+        }
+    }
+
+    private static long[] targets(long nodeId) {
+        return LongStream.range(0, DEGREE).map(i -> (nodeId + 2 * i) % NODE_COUNT).sorted().toArray();
+    }
+}
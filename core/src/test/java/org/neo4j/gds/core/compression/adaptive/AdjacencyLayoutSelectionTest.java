@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.adaptive;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.compression.AdjacencyCompressionObjective;
+import org.neo4j.gds.core.compression.AdjacencyLayout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.core.compression.AdjacencyCompressionObjective.MEMORY;
+import static org.neo4j.gds.core.compression.AdjacencyCompressionObjective.SPEED;
+
+class AdjacencyLayoutSelectionTest {
+
+    @Test
+    void shouldBucketDegreesByBitLength() {
+        var degrees = new DegreeBuckets();
+        degrees.record(0);
+        degrees.record(1);
+        degrees.record(2);
+        degrees.record(3);
+        degrees.record(1024);
+
+        assertThat(degrees.nodeCount(0)).isEqualTo(0);
+        assertThat(degrees.nodeCount(1)).isEqualTo(1);
+        assertThat(degrees.nodeCount(2)).isEqualTo(2);
+        assertThat(degrees.relationshipCount(2)).isEqualTo(5);
+        assertThat(degrees.meanDegree(2)).isEqualTo(3);
+        assertThat(degrees.nodeCount(11)).isEqualTo(1);
+        assertThat(degrees.relationshipCount()).isEqualTo(1030);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdjacencyCompressionObjective.class)
+    void shouldPackDenseLowCardinalityTypes(AdjacencyCompressionObjective objective) {
+        var degrees = degrees(1_000, 500);
+
+        assertThat(AdjacencyLayoutSelection.select(degrees, 1_000, objective)).isEqualTo(AdjacencyLayout.PACKED);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdjacencyCompressionObjective.class)
+    void shouldVarLongEncodeSparseTypesOverLargeIdSpaces(AdjacencyCompressionObjective objective) {
+        var degrees = degrees(1_000, 2);
+
+        assertThat(AdjacencyLayoutSelection.select(degrees, 1L << 30, objective)).isEqualTo(AdjacencyLayout.VAR_LONG);
+    }
+
+    @Test
+    void shouldMixLayoutsForSkewedDegreesWhenOptimizingForMemory() {
+        var degrees = skewedDegrees();
+
+        assertThat(AdjacencyLayoutSelection.select(degrees, 1L << 20, MEMORY)).isEqualTo(AdjacencyLayout.MIXED);
+    }
+
+    @Test
+    void shouldPreferFasterLayoutWithinToleranceWhenOptimizingForSpeed() {
+        var degrees = skewedDegrees();
+        long nodeCount = 1L << 20;
+
+        var layout = AdjacencyLayoutSelection.select(degrees, nodeCount, SPEED);
+
+        assertThat(layout).isEqualTo(AdjacencyLayout.PACKED);
+        assertThat(AdjacencyLayoutSelection.estimatedBytesPerRelationship(layout, degrees, nodeCount))
+            .isGreaterThan(AdjacencyLayoutSelection.estimatedBytesPerRelationship(
+                AdjacencyLayout.MIXED,
+                degrees,
+                nodeCount
+            ));
+    }
+
+    @Test
+    void shouldSelectUncompressedIfCompressionDoesNotPayOff() {
+        var degrees = degrees(1_000, 1);
+
+        assertThat(AdjacencyLayoutSelection.select(degrees, 1L << 40, SPEED)).isEqualTo(AdjacencyLayout.UNCOMPRESSED);
+        assertThat(AdjacencyLayoutSelection.select(degrees, 1L << 40, MEMORY)).isEqualTo(AdjacencyLayout.VAR_LONG);
+    }
+
+    @Test
+    void shouldEstimateUncompressedSize() {
+        var degrees = skewedDegrees();
+
+        assertThat(AdjacencyLayoutSelection.estimatedBytesPerRelationship(
+            AdjacencyLayout.UNCOMPRESSED,
+            degrees,
+            1L << 20
+        )).isEqualTo(Long.BYTES);
+    }
+
+    private static DegreeBuckets degrees(int nodes, int degree) {
+        var degrees = new DegreeBuckets();
+        for (int i = 0; i < nodes; i++) {
+            degrees.record(degree);
+        }
+        return degrees;
+    }
+
+    private static DegreeBuckets skewedDegrees() {
+        var degrees = degrees(100_000, 3);
+        for (int i = 0; i < 10; i++) {
+            degrees.record(100_000);
+        }
+        return degrees;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.properties;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.loading.DictionaryDoubleCodec;
+import org.neo4j.gds.core.loading.Float32DoubleCodec;
+import org.neo4j.gds.core.loading.TrimmedDoubleCodec;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.Random;
+import java.util.function.LongToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdjacencyPropertiesCompressionTest {
+
+    @Test
+    void shouldTrimIntegralValues() {
+        var properties = ArrayProperties.generate(1000, 100, i -> i % 2 == 0 ? i : -i * 0.5);
+
+        var codec = AdjacencyPropertiesCompression.selectCodec(properties, properties.degrees());
+
+        assertThat(codec).containsSame(TrimmedDoubleCodec.instance());
+        assertRoundTrip(properties);
+    }
+
+    @Test
+    void shouldUseDictionaryForFewDistinctValues() {
+        var random = new Random(42);
+        var categories = new double[]{0.1, 0.25, 0.7, Math.PI};
+        var properties = ArrayProperties.generate(1000, 10, i -> categories[random.nextInt(categories.length)]);
+
+        var codec = AdjacencyPropertiesCompression.selectCodec(properties, properties.degrees());
+
+        assertThat(codec).get().isInstanceOf(DictionaryDoubleCodec.class);
+        assertThat(((DictionaryDoubleCodec) codec.get()).dictionarySize()).isEqualTo(categories.length);
+        assertRoundTrip(properties);
+    }
+
+    @Test
+    void shouldUseMultiByteCodesForLargeDictionaries() {
+        var properties = ArrayProperties.generate(1000, 100, i -> (i % 1000) * 0.1);
+
+        var codec = AdjacencyPropertiesCompression.selectCodec(properties, properties.degrees());
+
+        assertThat(codec).get().isInstanceOf(DictionaryDoubleCodec.class);
+        assertThat(((DictionaryDoubleCodec) codec.get()).dictionarySize()).isEqualTo(1000);
+        assertRoundTrip(properties);
+    }
+
+    @Test
+    void shouldKeepIncompressibleValues() {
+        var random = new Random(42);
+        var properties = ArrayProperties.generate(1000, 100, i -> random.nextDouble());
+
+        assertThat(AdjacencyPropertiesCompression.selectCodec(properties, properties.degrees())).isEmpty();
+
+        GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.enableAndRun(() -> assertThat(
+            AdjacencyPropertiesCompression.compress(properties, properties.degrees())
+        ).isSameAs(properties));
+    }
+
+    @Test
+    void shouldUseFloatsIfLossyCompressionIsEnabled() {
+        var random = new Random(42);
+        var properties = ArrayProperties.generate(1000, 100, i -> random.nextDouble());
+
+        GdsFeatureToggles.USE_LOSSY_ADJACENCY_PROPERTIES.enableAndRun(() -> assertThat(
+            AdjacencyPropertiesCompression.selectCodec(properties, properties.degrees())
+        ).containsSame(Float32DoubleCodec.instance()));
+    }
+
+    @Test
+    void shouldNotCompressIfDisabled() {
+        var properties = new ArrayProperties(new double[][]{{1.0, 2.0}});
+
+        assertThat(AdjacencyPropertiesCompression.compress(properties, properties.degrees())).isSameAs(properties);
+    }
+
+    @Test
+    void shouldStoreValuesAcrossPages() {
+        var properties = ArrayProperties.generate(100, BumpAllocator.PAGE_SIZE / 50, i -> i % 1000);
+        var compressed = AdjacencyPropertiesCompression.encode(
+            properties,
+            properties.degrees(),
+            TrimmedDoubleCodec.instance()
+        );
+
+        assertThat(compressed.memoryInfo().pages()).isGreaterThan(1);
+        assertSameValues(properties, compressed);
+    }
+
+    @Test
+    void shouldStoreHighDegreeNodesOnSeparatePages() {
+        var properties = new ArrayProperties(new double[][]{
+            {1.0, 2.0},
+            new Random(42).doubles(BumpAllocator.PAGE_SIZE).toArray(),
+            {3.0},
+        });
+        var compressed = AdjacencyPropertiesCompression.encode(
+            properties,
+            properties.degrees(),
+            TrimmedDoubleCodec.instance()
+        );
+
+        assertThat(compressed.memoryInfo().pages()).isEqualTo(2);
+        assertSameValues(properties, compressed);
+    }
+
+    @Test
+    void shouldReadCompressedPropertiesOfProjectedGraph() {
+        GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.enableAndRun(() -> {
+            var graph = GdlFactory
+                .of("(a)-[:REL {w: 1.0}]->(b), (a)-[:REL {w: 2.0}]->(c), (b)-[:REL {w: 3.5}]->(c), (c)-[:REL {w: 1.0}]->(a)")
+                .build()
+                .getUnion();
+
+            assertThat(graph.relationshipProperty(graph.toMappedNodeId(0), graph.toMappedNodeId(2))).isEqualTo(2.0);
+            assertThat(graph.relationshipProperty(graph.toMappedNodeId(1), graph.toMappedNodeId(2))).isEqualTo(3.5);
+            assertThat(graph.relationshipProperty(graph.toMappedNodeId(2), graph.toMappedNodeId(0))).isEqualTo(1.0);
+        });
+    }
+
+    private static void assertRoundTrip(ArrayProperties properties) {
+        var codec = AdjacencyPropertiesCompression.selectCodec(properties, properties.degrees()).orElseThrow();
+        assertSameValues(properties, AdjacencyPropertiesCompression.encode(properties, properties.degrees(), codec));
+    }
+
+    private static void assertSameValues(ArrayProperties expected, AdjacencyProperties actual) {
+        PropertyCursor reuse = actual.rawPropertyCursor();
+        for (int node = 0; node < expected.values.length; node++) {
+            var cursor = actual.propertyCursor(reuse, node);
+            for (double value : expected.values[node]) {
+                assertThat(cursor.hasNextLong()).isTrue();
+                assertThat(Double.longBitsToDouble(cursor.nextLong())).isEqualTo(value);
+            }
+            assertThat(cursor.hasNextLong()).isFalse();
+        }
+    }
+
+    private static final class ArrayProperties implements AdjacencyProperties {
+
+        private final double[][] values;
+
+        static ArrayProperties generate(int nodeCount, int degree, LongToDoubleFunction value) {
+            var values = new double[nodeCount][degree];
+            long index = 0;
+            for (double[] nodeValues : values) {
+                for (int i = 0; i < degree; i++) {
+                    nodeValues[i] = value.applyAsDouble(index++);
+                }
+            }
+            return new ArrayProperties(values);
+        }
+
+        ArrayProperties(double[][] values) {
+            this.values = values;
+        }
+
+        HugeIntArray degrees() {
+            var degrees = HugeIntArray.newArray(values.length);
+            degrees.setAll(node -> values[(int) node].length);
+            return degrees;
+        }
+
+        @Override
+        public PropertyCursor propertyCursor(long node, double fallbackValue) {
+            var cursor = new Cursor();
+            cursor.values = values[(int) node];
+            return cursor;
+        }
+
+        @Override
+        public PropertyCursor rawPropertyCursor() {
+            return new Cursor();
+        }
+
+        private static final class Cursor implements PropertyCursor {
+            private double[] values;
+            private int index;
+
+            @Override
+            public void init(long index, int degree) {
+            }
+
+            @Override
+            public boolean hasNextLong() {
+                return index < values.length;
+            }
+
+            @Override
+            public long nextLong() {
+                return Double.doubleToRawLongBits(values[index++]);
+            }
+
+            @Override
+            public void close() {
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.varlong;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapCompressedAdjacencyListTest {
+
+    @Test
+    void shouldStoreTopologyOffHeap() {
+        // spans several decoding blocks
+        var targets = LongStream.range(0, 200).map(i -> i * 1337).toArray();
+
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() -> TransientCsrListTest.withAdjacencyList(
+            TransientCsrListTest.idMap(targets),
+            targets,
+            adjacencyList -> {
+                assertThat(adjacencyList).isInstanceOf(OffHeapCompressedAdjacencyList.class);
+                assertThat(adjacencyList.memoryInfo().bytesOffHeap().orElse(0L)).isPositive();
+
+                var cursor = adjacencyList.adjacencyCursor(0);
+                assertThat(cursor.size()).isEqualTo(targets.length);
+                for (long expected = 0; expected < targets.length; expected++) {
+                    assertThat(cursor.nextVLong()).isEqualTo(expected);
+                }
+                assertThat(cursor.hasNextVLong()).isFalse();
+            }
+        ));
+    }
+
+    @Test
+    void preventUseAfterFree() {
+        var targets = LongStream.range(0, 100).toArray();
+
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() -> {
+            var adjacencyList = (OffHeapCompressedAdjacencyList) TransientCsrListTest.adjacencyListFromTargets(
+                TransientCsrListTest.idMap(targets),
+                targets
+            );
+            AdjacencyCursor rawCursor = adjacencyList.rawAdjacencyCursor();
+
+            assertThatCode(adjacencyList::free).doesNotThrowAnyException();
+            assertThatCode(adjacencyList::free).doesNotThrowAnyException();
+            assertThatThrownBy(() -> adjacencyList.adjacencyCursor(0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("This page has already been freed.");
+            assertThatThrownBy(() -> rawCursor.init(0, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("This page has already been freed.");
+        });
+    }
+}
@@ -428,6 +428,8 @@ class TransientCsrListTest {
         consumer.accept(adjacencyList);
         if (adjacencyList instanceof PackedAdjacencyList) {
             ((PackedAdjacencyList) adjacencyList).free();
+        } else if (adjacencyList instanceof OffHeapCompressedAdjacencyList) {
+            ((OffHeapCompressedAdjacencyList) adjacencyList).free();
         }
     }
 
@@ -446,7 +448,7 @@ class TransientCsrListTest {
         return relationshipsBuilder.build().topology().adjacencyList();
     }
 
-    private static IdMap idMap(long[] targets) {
+    static IdMap idMap(long[] targets) {
         var nodesBuilder = GraphFactory.initNodesBuilder()
             .maxOriginalId(targets[targets.length - 1])
             .build();
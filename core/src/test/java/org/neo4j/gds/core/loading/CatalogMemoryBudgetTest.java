@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.extension.GdlSupportPerMethodExtension.DATABASE_ID;
+
+@GdlExtension
+class CatalogMemoryBudgetTest {
+
+    private static final String USER_NAME = "alice";
+
+    @GdlGraph
+    private static final String TEST_GRAPH =
+        "(a:A)-[:T]->(b:A)-[:T]->(c:B)";
+
+    @GdlGraph(graphNamePrefix = "other")
+    private static final String OTHER_GRAPH =
+        "(a:A)-[:T]->(b:A)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private GraphStore otherGraphStore;
+
+    @TempDir
+    Path spillLocation;
+
+    private InMemorySpiller spiller;
+
+    @BeforeEach
+    void setup() {
+        spiller = new InMemorySpiller();
+        // every graph store exceeds the budget, so all but the last accessed one get spilled
+        GraphStoreCatalog.setMemoryBudget(new CatalogMemoryBudget(0, spillLocation, spiller));
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        GraphStoreCatalog.removeMemoryBudget();
+    }
+
+    @Test
+    void shouldSpillLeastRecentlyUsedGraphStore() {
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g1").spilled()).isFalse();
+
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), otherGraphStore);
+
+        var storageInfo = GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g1");
+        assertThat(storageInfo.spilled()).isTrue();
+        assertThat(storageInfo.evictionCount()).isEqualTo(1);
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g2").spilled()).isFalse();
+
+        var spilledGraphStore = GraphStoreCatalog.getGraphStores(USER_NAME)
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getKey().graphName().equals("g1"))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElseThrow();
+        assertThat(spilledGraphStore).isInstanceOf(SpilledGraphStore.class);
+        assertThat(spilledGraphStore.nodeCount()).isEqualTo(graphStore.nodeCount());
+        assertThat(spilledGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertThat(spilledGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThatThrownBy(spilledGraphStore::getUnion).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReloadSpilledGraphStoreOnAccess() {
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), otherGraphStore);
+
+        var reloaded = GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "g1").graphStore();
+
+        assertThat(reloaded).isSameAs(graphStore);
+        var storageInfo = GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g1");
+        assertThat(storageInfo.spilled()).isFalse();
+        assertThat(storageInfo.reloadCount()).isEqualTo(1);
+        // making room for the reloaded graph store
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g2").spilled()).isTrue();
+        assertThat(spiller.spilled).hasSize(1);
+    }
+
+    @Test
+    void shouldNotSpillWithinBudget() {
+        GraphStoreCatalog.setMemoryBudget(new CatalogMemoryBudget(Long.MAX_VALUE, spillLocation, spiller));
+
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), otherGraphStore);
+
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g1").spilled()).isFalse();
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g2").spilled()).isFalse();
+        assertThat(spiller.spilled).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteSpilledGraphStoreOnDrop() throws IOException {
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), otherGraphStore);
+        assertThat(spiller.spilled).hasSize(1);
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), "g1", removed -> {}, true);
+
+        try (var files = Files.list(spillLocation)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldReattachSpilledGraphStoreWhenItIsMutated() {
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), otherGraphStore);
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g1").spilled()).isTrue();
+
+        // an algorithm that obtained the graph store before it was spilled writes its results
+        graphStore.addNodeLabel(NodeLabel.of("C"));
+
+        var storageInfo = GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g1");
+        assertThat(storageInfo.spilled()).isFalse();
+        assertThat(storageInfo.reloadCount()).isEqualTo(0);
+        assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "g1").graphStore().nodeLabels())
+            .contains(NodeLabel.of("C"));
+    }
+
+    @Test
+    void shouldRejectMutationOfSpilledGraphStoreThatHasBeenReloaded() {
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), otherGraphStore);
+
+        // reloading from disk creates a new graph store
+        var reloadedGraphStore = GdlFactory.of(TEST_GRAPH).build();
+        spiller.reloadAs = reloadedGraphStore;
+        assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "g1").graphStore()).isSameAs(reloadedGraphStore);
+
+        // an algorithm that obtained the graph store before it was spilled writes its results
+        assertThatThrownBy(() -> graphStore.addNodeLabel(NodeLabel.of("C")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Graph `g1` was spilled to disk and reloaded while it was in use");
+        assertThat(graphStore.nodeLabels()).doesNotContain(NodeLabel.of("C"));
+        assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "g1").graphStore()).isSameAs(reloadedGraphStore);
+    }
+
+    @Test
+    void shouldNotTrackSpilledGraphStoreAfterDrop() {
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), otherGraphStore);
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), "g1", removed -> {}, true);
+        graphStore.addNodeLabel(NodeLabel.of("C"));
+
+        assertThat(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, "g1")).isFalse();
+    }
+
+    @Test
+    void shouldNotEnforceBudgetWhenAccessingGraphStoreOnHeap() {
+        GraphStoreCatalog.setMemoryBudget(new CatalogMemoryBudget(Long.MAX_VALUE, spillLocation, spiller));
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), otherGraphStore);
+        GraphStoreCatalog.setMemoryBudget(new CatalogMemoryBudget(0, spillLocation, spiller));
+
+        GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "g1");
+
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g2").spilled()).isFalse();
+        assertThat(spiller.spilled).isEmpty();
+    }
+
+    @Test
+    void shouldCountSharedDataOnce() {
+        var key = SharedGraphStores.key(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), Set.of(), 7, DATABASE_ID, 42);
+        SharedGraphStores.register(key, graphStore);
+        var sharedGraphStore = SharedGraphStores.acquire(key).orElseThrow();
+        var sharedData = SharedGraphStores.dataSharedWithOlderEntry(sharedGraphStore).orElseThrow();
+        var budget = MemoryUsage.sizeOf(graphStore) + MemoryUsage.sizeOfExcluding(sharedGraphStore, sharedData);
+        GraphStoreCatalog.setMemoryBudget(new CatalogMemoryBudget(budget, spillLocation, spiller));
+
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), sharedGraphStore);
+
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g1").spilled()).isFalse();
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g2").spilled()).isFalse();
+        assertThat(spiller.spilled).isEmpty();
+    }
+
+    @Test
+    void shouldSpillGraphStoresWithSharedDataLast() {
+        var key = SharedGraphStores.key(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), Set.of(), 7, DATABASE_ID, 42);
+        SharedGraphStores.register(key, graphStore);
+        var sharedGraphStore = SharedGraphStores.acquire(key).orElseThrow();
+        var sharedData = SharedGraphStores.dataSharedWithOlderEntry(sharedGraphStore).orElseThrow();
+        // larger than the other graph store, which is all that needs to be spilled
+        var newestGraphStore = GdlFactory.of(TEST_GRAPH).build();
+        var budget = MemoryUsage.sizeOf(graphStore)
+            + MemoryUsage.sizeOfExcluding(sharedGraphStore, sharedData)
+            + MemoryUsage.sizeOf(newestGraphStore);
+        GraphStoreCatalog.setMemoryBudget(new CatalogMemoryBudget(budget, spillLocation, spiller));
+
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g1"), graphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "g2"), sharedGraphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "other"), otherGraphStore);
+        GraphStoreCatalog.set(GraphProjectConfig.emptyWithName(USER_NAME, "newest"), newestGraphStore);
+
+        // spilling one of the least recently used graph stores would not free the data they share
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g1").spilled()).isFalse();
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "g2").spilled()).isFalse();
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "other").spilled()).isTrue();
+        assertThat(GraphStoreCatalog.storageInfo(USER_NAME, DATABASE_ID, "newest").spilled()).isFalse();
+    }
+
+    private static final class InMemorySpiller implements GraphStoreSpiller {
+
+        private final Map<Path, GraphStore> spilled = new HashMap<>();
+
+        // if set, reloading returns this graph store instead of the spilled one
+        private @Nullable GraphStore reloadAs;
+
+        @Override
+        public void spill(GraphStore graphStore, Path location) {
+            try {
+                Files.createDirectories(location);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            spilled.put(location, graphStore);
+        }
+
+        @Override
+        public GraphStore reload(Path location) {
+            var graphStore = spilled.remove(location);
+            return reloadAs == null ? graphStore : reloadAs;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class DictionaryDoubleCodecTest extends DoubleCodecTestBase {
+
+    private static final double[] DICTIONARY = IntStream.range(0, 1000).mapToDouble(i -> i * 0.25).toArray();
+
+    DictionaryDoubleCodecTest() {
+        super(new DictionaryDoubleCodec(DICTIONARY));
+    }
+
+    @Test
+    void shouldUseShortCodesForDictionaryValues() {
+        var codec = new DictionaryDoubleCodec(DICTIONARY);
+
+        assertThat(codec.compressDouble(0.0)).hasSize(1);
+        assertThat(codec.compressDouble(31.5)).hasSize(1);
+        assertThat(codec.compressDouble(31.75)).hasSize(2);
+        assertThat(codec.compressDouble(249.75)).hasSize(2);
+        assertThat(codec.compressDouble(0.1)).hasSize(9);
+    }
+
+    @Test
+    void shouldRoundTripEveryDictionaryValue() {
+        var codec = new DictionaryDoubleCodec(DICTIONARY);
+
+        // codes that are multiples of 128 start with a zero byte
+        for (double value : DICTIONARY) {
+            var compressed = codec.compressDouble(value);
+            assertThat(codec.compressedSize(compressed, 0)).isEqualTo(compressed.length);
+            assertThat(codec.decompressDouble(compressed, 0)).isEqualTo(value);
+        }
+        assertThat(codec.decompressDouble(codec.compressDouble(0.1), 0)).isEqualTo(0.1);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Float32DoubleCodecTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 1.0, -42.0, 0.15, 1337.42, 16_777_216.0, 1e30, Double.NaN, Double.POSITIVE_INFINITY})
+    void shouldRoundTripWithFloatPrecision(double value) {
+        var codec = Float32DoubleCodec.instance();
+        var compressed = codec.compressDouble(value);
+
+        assertThat(compressed).hasSize(Float.BYTES);
+        assertThat(codec.compressedSize(compressed, 0)).isEqualTo(Float.BYTES);
+        assertThat(codec.decompressDouble(compressed, 0)).isEqualTo(Double.valueOf((float) value));
+    }
+}
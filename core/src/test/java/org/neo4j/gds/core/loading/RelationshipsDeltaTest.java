@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.overlay.OverlayAdjacencyList;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class RelationshipsDeltaTest {
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+
+    private static final String GRAPH =
+        "  (a), (b), (c), (d)" +
+        ", (a)-[:REL { w: 1.0 }]->(b)" +
+        ", (a)-[:REL { w: 2.0 }]->(c)" +
+        ", (b)-[:REL { w: 3.0 }]->(c)" +
+        ", (c)-[:REL { w: 4.0 }]->(c)";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldInsertAndDeleteRelationships(int concurrency) {
+        var factory = GdlFactory.of(GRAPH);
+        var graphStore = factory.build();
+
+        var delta = RelationshipsDelta.of(graphStore, REL);
+        delta.insert(factory.nodeId("d"), factory.nodeId("a"), 5.0);
+        delta.insert(factory.nodeId("c"), factory.nodeId("d"), 6.0);
+        delta.delete(factory.nodeId("a"), factory.nodeId("c"));
+        delta.delete(factory.nodeId("c"), factory.nodeId("c"));
+
+        var result = delta.mergeInto(graphStore, concurrency);
+
+        assertThat(result.insertedRelationships()).isEqualTo(2);
+        assertThat(result.deletedRelationships()).isEqualTo(2);
+        assertThat(result.relationshipCount()).isEqualTo(4);
+
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (b), (c), (d)" +
+                ", (a)-[:REL { w: 1.0 }]->(b)" +
+                ", (b)-[:REL { w: 3.0 }]->(c)" +
+                ", (d)-[:REL { w: 5.0 }]->(a)" +
+                ", (c)-[:REL { w: 6.0 }]->(d)"
+            ),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldOverlayChangedNodes() {
+        var factory = GdlFactory.of(GRAPH);
+        var graphStore = factory.build();
+
+        var delta = RelationshipsDelta.of(graphStore, REL);
+        delta.insert(factory.nodeId("d"), factory.nodeId("a"), 5.0);
+        delta.delete(factory.nodeId("a"), factory.nodeId("c"));
+        delta.mergeInto(graphStore, 1, Long.MAX_VALUE);
+
+        var adjacencyList = graphStore.getGraph(REL).relationshipTopologies().get(REL).adjacencyList();
+        assertThat(adjacencyList).isInstanceOf(OverlayAdjacencyList.class);
+        var overlay = (OverlayAdjacencyList) adjacencyList;
+        assertThat(overlay.overlaidNodes().cardinality()).isEqualTo(2);
+
+        var nextDelta = RelationshipsDelta.of(graphStore, REL);
+        nextDelta.insert(factory.nodeId("d"), factory.nodeId("b"), 6.0);
+        nextDelta.delete(factory.nodeId("c"), factory.nodeId("c"));
+        var result = nextDelta.mergeInto(graphStore, 1, Long.MAX_VALUE);
+
+        assertThat(result.insertedRelationships()).isEqualTo(1);
+        assertThat(result.deletedRelationships()).isEqualTo(1);
+        assertThat(result.relationshipCount()).isEqualTo(4);
+
+        // the overlay is extended, not stacked
+        var nextAdjacencyList = graphStore.getGraph(REL).relationshipTopologies().get(REL).adjacencyList();
+        assertThat(((OverlayAdjacencyList) nextAdjacencyList).base()).isSameAs(overlay.base());
+        assertThat(((OverlayAdjacencyList) nextAdjacencyList).overlaidNodes().cardinality()).isEqualTo(3);
+
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (b), (c), (d)" +
+                ", (a)-[:REL { w: 1.0 }]->(b)" +
+                ", (b)-[:REL { w: 3.0 }]->(c)" +
+                ", (d)-[:REL { w: 5.0 }]->(a)" +
+                ", (d)-[:REL { w: 6.0 }]->(b)"
+            ),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, Long.MAX_VALUE})
+    void shouldKeepAggregatedValues(long maxOverlaidNodes) {
+        var factory = GdlFactory.builder()
+            .graphProjectConfig(ImmutableGraphProjectFromGdlConfig.builder()
+                .graphName("graph")
+                .gdlGraph(
+                    "  (a), (b), (c)" +
+                    ", (a)-[:REL { w: 1.0 }]->(b)" +
+                    ", (a)-[:REL { w: 1.0 }]->(b)" +
+                    ", (a)-[:REL { w: 1.0 }]->(b)" +
+                    ", (b)-[:REL { w: 1.0 }]->(c)"
+                )
+                .aggregation(Aggregation.COUNT)
+                .build())
+            .build();
+        var graphStore = factory.build();
+
+        var delta = RelationshipsDelta.of(graphStore, REL);
+        delta.insert(factory.nodeId("a"), factory.nodeId("b"), 42.0);
+        delta.insert(factory.nodeId("c"), factory.nodeId("a"), 42.0);
+        var result = delta.mergeInto(graphStore, 1, maxOverlaidNodes);
+
+        // the insertion between a and b is aggregated into the existing relationship
+        assertThat(result.insertedRelationships()).isEqualTo(1);
+        assertThat(result.relationshipCount()).isEqualTo(3);
+
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (b), (c)" +
+                ", (a)-[:REL { w: 4.0 }]->(b)" +
+                ", (b)-[:REL { w: 1.0 }]->(c)" +
+                ", (c)-[:REL { w: 1.0 }]->(a)"
+            ),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+        assertThat(graphStore.schema().relationshipSchema().get(REL).properties().get("w").aggregation())
+            .isEqualTo(Aggregation.COUNT);
+    }
+
+    @Test
+    void shouldMergeUndirectedRelationships() {
+        var factory = GdlFactory.builder()
+            .graphProjectConfig(ImmutableGraphProjectFromGdlConfig.builder()
+                .graphName("graph")
+                .gdlGraph(GRAPH)
+                .orientation(Orientation.UNDIRECTED)
+                .build())
+            .build();
+        var graphStore = factory.build();
+
+        var delta = RelationshipsDelta.of(graphStore, REL);
+        delta.insert(factory.nodeId("d"), factory.nodeId("a"), 5.0);
+        delta.delete(factory.nodeId("c"), factory.nodeId("b"));
+
+        delta.mergeInto(graphStore, 1);
+
+        assertThat(graphStore.schema().relationshipSchema().get(REL).direction()).isEqualTo(Direction.UNDIRECTED);
+        assertGraphEquals(
+            fromGdl(
+                "  (a), (b), (c), (d)" +
+                ", (a)-[:REL { w: 1.0 }]->(b)" +
+                ", (a)-[:REL { w: 2.0 }]->(c)" +
+                ", (c)-[:REL { w: 4.0 }]->(c)" +
+                ", (d)-[:REL { w: 5.0 }]->(a)",
+                Orientation.UNDIRECTED
+            ),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldKeepInverseIndex() {
+        var factory = GdlFactory.builder()
+            .graphProjectConfig(ImmutableGraphProjectFromGdlConfig.builder()
+                .graphName("graph")
+                .gdlGraph(GRAPH)
+                .indexInverse(true)
+                .build())
+            .build();
+        var graphStore = factory.build();
+
+        var delta = RelationshipsDelta.of(graphStore, REL);
+        delta.insert(factory.nodeId("d"), factory.nodeId("a"), 5.0);
+        delta.mergeInto(graphStore, 1);
+
+        assertThat(graphStore.inverseIndexedRelationshipTypes()).containsExactly(REL);
+        var graph = graphStore.getGraph(REL);
+        assertThat(graph.degreeInverse(graph.toMappedNodeId(factory.nodeId("a")))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreUnknownNodes() {
+        var factory = GdlFactory.of(GRAPH);
+        var graphStore = factory.build();
+
+        var delta = RelationshipsDelta.of(graphStore, REL);
+        delta.insert(factory.nodeId("a"), 1337, 5.0);
+        delta.delete(1337, factory.nodeId("a"));
+
+        var result = delta.mergeInto(graphStore, 1);
+
+        assertThat(result.insertedRelationships()).isZero();
+        assertThat(result.deletedRelationships()).isZero();
+        assertThat(result.relationshipCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldValidateInput() {
+        GraphStore graphStore = GdlFactory.of(GRAPH).build();
+
+        assertThatThrownBy(() -> RelationshipsDelta.of(graphStore, RelationshipType.of("FOO")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown relationship type `FOO`");
+
+        var delta = RelationshipsDelta.of(graphStore, REL);
+        assertThatThrownBy(() -> delta.insert(0, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected 1 property values for relationship type `REL`, but got 0.");
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.extension.GdlSupportPerMethodExtension.DATABASE_ID;
+
+@GdlExtension
+class SharedGraphStoresTest {
+
+    private static final String USER_NAME = "alice";
+
+    private static final Set<String> ROLES = Set.of("reader");
+
+    @GdlGraph
+    private static final String TEST_GRAPH =
+        "(a:A)-[:T]->(b:A)-[:T]->(c:B)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void keyIgnoresGraphName() {
+        var key = key(GraphProjectConfig.emptyWithName(USER_NAME, "g1"));
+        var sameKey = key(GraphProjectConfig.emptyWithName(USER_NAME, "g2"));
+        var otherTransaction = SharedGraphStores.key(
+            GraphProjectConfig.emptyWithName(USER_NAME, "g1"),
+            ROLES,
+            7,
+            DATABASE_ID,
+            43
+        );
+        var otherUser = key(GraphProjectConfig.emptyWithName("bob", "g1"));
+
+        assertThat(key).isEqualTo(sameKey);
+        assertThat(key).isNotEqualTo(otherTransaction);
+        assertThat(key).isNotEqualTo(otherUser);
+    }
+
+    @Test
+    void keyDependsOnPrivileges() {
+        var config = GraphProjectConfig.emptyWithName(USER_NAME, "g1");
+        var key = key(config);
+        var otherRoles = SharedGraphStores.key(config, Set.of("reader", "admin"), 7, DATABASE_ID, 42);
+        var changedPrivileges = SharedGraphStores.key(config, ROLES, 8, DATABASE_ID, 42);
+
+        assertThat(key).isNotEqualTo(otherRoles);
+        assertThat(key).isNotEqualTo(changedPrivileges);
+    }
+
+    @Test
+    void shouldShareDataOfRegisteredGraphStore() {
+        var key = key(GraphProjectConfig.emptyWithName(USER_NAME, "g1"));
+        assertThat(SharedGraphStores.acquire(key)).isEmpty();
+
+        SharedGraphStores.register(key, graphStore);
+
+        var sharedGraphStore = SharedGraphStores.acquire(key).orElseThrow();
+        assertThat(sharedGraphStore).isNotSameAs(graphStore);
+        assertThat(sharedGraphStore.nodes()).isSameAs(graphStore.nodes());
+        assertThat(sharedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertThat(SharedGraphStores.referenceCount(key)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReleaseSharedDataWhenLastGraphIsDropped() {
+        var config = GraphProjectConfig.emptyWithName(USER_NAME, "g1");
+        var otherConfig = GraphProjectConfig.emptyWithName(USER_NAME, "g2");
+        var key = key(config);
+
+        GraphStoreCatalog.set(config, graphStore);
+        SharedGraphStores.register(key, graphStore);
+        GraphStoreCatalog.set(otherConfig, SharedGraphStores.acquire(key).orElseThrow());
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), "g1", removed -> {}, true);
+        assertThat(SharedGraphStores.referenceCount(key)).isEqualTo(1);
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), "g2", removed -> {}, true);
+        assertThat(SharedGraphStores.referenceCount(key)).isEqualTo(0);
+        assertThat(SharedGraphStores.acquire(key)).isEmpty();
+    }
+
+    @Test
+    void shouldAttributeSharedDataToOldestGraph() {
+        var config = GraphProjectConfig.emptyWithName(USER_NAME, "g1");
+        var otherConfig = GraphProjectConfig.emptyWithName(USER_NAME, "g2");
+        var key = key(config);
+
+        GraphStoreCatalog.set(config, graphStore);
+        SharedGraphStores.register(key, graphStore);
+        var sharedGraphStore = SharedGraphStores.acquire(key).orElseThrow();
+        GraphStoreCatalog.set(otherConfig, sharedGraphStore);
+
+        assertThat(SharedGraphStores.dataSharedWithOlderEntry(graphStore)).isEmpty();
+        assertThat(SharedGraphStores.dataSharedWithOlderEntry(sharedGraphStore))
+            .hasValueSatisfying(sharedData -> assertThat(sharedData.nodes()).isSameAs(graphStore.nodes()));
+
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), "g1", removed -> {}, true);
+        assertThat(SharedGraphStores.dataSharedWithOlderEntry(sharedGraphStore)).isEmpty();
+    }
+
+    @Test
+    void shouldNotShareNodeLabelMutations() {
+        var key = key(GraphProjectConfig.emptyWithName(USER_NAME, "g1"));
+        SharedGraphStores.register(key, graphStore);
+        var sharedGraphStore = SharedGraphStores.acquire(key).orElseThrow();
+
+        var newLabel = NodeLabel.of("C");
+        sharedGraphStore.addNodeLabel(newLabel);
+        sharedGraphStore.nodes().addNodeIdToLabel(0, newLabel);
+
+        assertThat(sharedGraphStore.nodeLabels()).contains(newLabel);
+        assertThat(sharedGraphStore.nodes().hasLabel(0, newLabel)).isTrue();
+        for (long nodeId = 1; nodeId < graphStore.nodeCount(); nodeId++) {
+            assertThat(sharedGraphStore.nodes().nodeLabels(nodeId))
+                .containsExactlyInAnyOrderElementsOf(graphStore.nodes().nodeLabels(nodeId));
+        }
+        assertThat(graphStore.nodeLabels()).doesNotContain(newLabel);
+        assertThat(SharedGraphStores.acquire(key).orElseThrow().nodeLabels()).doesNotContain(newLabel);
+    }
+
+    private static SharedGraphStores.ProjectionKey key(GraphProjectConfig config) {
+        return SharedGraphStores.key(config, ROLES, 7, DATABASE_ID, 42);
+    }
+}
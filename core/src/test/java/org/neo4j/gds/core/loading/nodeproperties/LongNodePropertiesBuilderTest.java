@@ -20,8 +20,12 @@
 package org.neo4j.gds.core.loading.nodeproperties;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.gds.TestSupport.idMap;
@@ -55,4 +59,44 @@ public class LongNodePropertiesBuilderTest {
             assertThat(longNodeProperties.longValue(i)).isEqualTo(i * 1337L);
         }
     }
+
+    @Test
+    void shouldStorePropertiesInFileBackedArray(@TempDir Path directory) {
+        int nodeCount = 10;
+        var defaultValue = DefaultValue.of(10L);
+
+        var originalIds = new long[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            originalIds[i] = i * 42L;
+        }
+
+        var idMap = idMap(originalIds);
+
+        var builder = LongNodePropertiesBuilder.of(
+            defaultValue,
+            ConcurrencyConfig.DEFAULT_CONCURRENCY
+        );
+
+        // leave the last node without a value
+        for (int i = 0; i < nodeCount - 1; i++) {
+            builder.set(originalIds[i], i * 1337L);
+        }
+
+        var previousDirectory = GdsFeatureToggles.FILE_BACKED_ARRAYS_DIRECTORY.getAndSet(directory);
+        try {
+            GdsFeatureToggles.USE_FILE_BACKED_NODE_PROPERTIES.enableAndRun(() -> {
+                var longNodeProperties = builder.build(nodeCount, idMap, idMap.highestOriginalId());
+
+                assertThat(longNodeProperties).isInstanceOf(LongNodePropertiesBuilder.FileBackedLongNodePropertyValues.class);
+                assertThat(longNodeProperties.nodeCount()).isEqualTo(nodeCount);
+                for (int i = 0; i < nodeCount - 1; i++) {
+                    assertThat(longNodeProperties.longValue(i)).isEqualTo(i * 1337L);
+                }
+                assertThat(longNodeProperties.longValue(nodeCount - 1)).isEqualTo(10L);
+                assertThat(longNodeProperties.getMaxLongPropertyValue()).hasValue((nodeCount - 2) * 1337L);
+            });
+        } finally {
+            GdsFeatureToggles.FILE_BACKED_ARRAYS_DIRECTORY.set(previousDirectory);
+        }
+    }
 }
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class IntersectionTest {
 
@@ -76,4 +77,20 @@ class IntersectionTest {
             assertEquals(row[2][0], Intersections.intersection4(row[0],row[1]), Arrays.toString(row));
         }
     }
+
+    @Test
+    void vectorizedKernelsShouldBeSelectedWhenAvailable() {
+        assumeTrue(
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+            "The Vector API is not available on this JVM"
+        );
+        assumeTrue(Intersections.isVectorized(), "The platform does not offer SIMD registers");
+
+        long[] targets1 = {1, 2, 4, 5, 9};
+        long[] targets2 = {1, 3, 4, 9};
+
+        assertEquals(3, Intersections.intersection3(targets1, targets2));
+        assertEquals(3, Intersections.intersection4(targets1, targets2));
+        assertEquals(2, Intersections.intersectionArraysWithLength(targets1, targets2, 4, 3));
+    }
 }
@@ -48,6 +48,7 @@ public enum SyntaxMode {
     GRAPH_EXPORT("graph-export-syntax"),
     PROJECT_SAMPLE("project-sample-syntax"),
     GRAPH_FILTER("graph-filter-syntax"),
+    GRAPH_REORDER("graph-reorder-syntax"),
     REMOVE_NODE_PROPERTY("include-with-drop-node-property"),
     REMOVE_RELATIONSHIP_TYPE("include-with-drop-relationship-type"),
     WRITE_RELATIONSHIP_PROPERTIES("include-with-write-multiple-properties"),
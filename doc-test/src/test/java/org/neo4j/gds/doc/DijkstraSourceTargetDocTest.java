@@ -21,6 +21,7 @@ package org.neo4j.gds.doc;
 
 import org.neo4j.gds.catalog.GraphProjectProc;
 import org.neo4j.gds.functions.AsNodeFunc;
+import org.neo4j.gds.paths.landmarks.LandmarksMutateProc;
 import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraMutateProc;
 import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraStreamProc;
 import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraWriteProc;
@@ -40,6 +41,7 @@ class DijkstraSourceTargetDocTest extends SingleFileDocTestBase {
             ShortestPathDijkstraStreamProc.class,
             ShortestPathDijkstraWriteProc.class,
             ShortestPathDijkstraMutateProc.class,
+            LandmarksMutateProc.class,
             GraphProjectProc.class
         );
     }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.graphreordering;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.ElementProjection;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.config.ElementTypeValidator;
+import org.neo4j.gds.config.JobIdConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@Configuration
+public interface GraphReorderConfig extends BaseConfig, ConcurrencyConfig, JobIdConfig {
+
+    @Configuration.ConvertWith(method = "org.neo4j.gds.graphreordering.NodeOrdering#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.graphreordering.NodeOrdering#toString")
+    default NodeOrdering ordering() {
+        return NodeOrdering.DEGREE;
+    }
+
+    /**
+     * A node property that holds a community id per node, required for the {@link NodeOrdering#COMMUNITY} ordering.
+     */
+    Optional<String> communityProperty();
+
+    /**
+     * The relationship types that are traversed to compute the ordering.
+     * All relationship types are part of the reordered graph.
+     */
+    @Value.Default
+    default List<String> relationshipTypes() {
+        return Collections.singletonList(ElementProjection.PROJECT_ALL);
+    }
+
+    @Configuration.Ignore
+    default Collection<RelationshipType> internalRelationshipTypes(GraphStore graphStore) {
+        return ElementTypeValidator.resolveTypes(graphStore, relationshipTypes());
+    }
+
+    @Configuration.Ignore
+    default Set<String> outputFieldDenylist() {
+        return Set.of("jobId", "concurrency", "sudo");
+    }
+
+    @Configuration.Check
+    default void validateCommunityProperty() {
+        if (ordering() == NodeOrdering.COMMUNITY && communityProperty().isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` ordering requires a `communityProperty`.",
+                NodeOrdering.COMMUNITY
+            ));
+        }
+    }
+
+    static GraphReorderConfig of(CypherMapWrapper config) {
+        return new GraphReorderConfigImpl(config);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.graphreordering;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.beta.filter.GraphStoreFilter;
+import org.neo4j.gds.beta.filter.ImmutableFilteredNodes;
+import org.neo4j.gds.beta.filter.NodesFilter;
+import org.neo4j.gds.beta.filter.RelationshipsFilter;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Creates a copy of a graph store where the node ids follow a {@link NodeOrdering} that improves memory locality.
+ * Nodes that are accessed together, like neighbours or members of the same community, get close ids.
+ * Therefore, their entries in node property arrays and their adjacency lists are likely to share cache lines and pages.
+ * The id map, all node properties and all relationships are remapped to the new ids, graph properties are copied.
+ */
+public class GraphReorderConstructor {
+    private final GraphReorderConfig config;
+    private final GraphStore inputGraphStore;
+    private final ProgressTracker progressTracker;
+
+    public GraphReorderConstructor(
+        GraphReorderConfig config,
+        GraphStore inputGraphStore,
+        ProgressTracker progressTracker
+    ) {
+        this.config = config;
+        this.inputGraphStore = inputGraphStore;
+        this.progressTracker = progressTracker;
+    }
+
+    public GraphStore compute() {
+        progressTracker.beginSubTask("Reorder graph");
+
+        var order = computeOrder();
+        var idMap = computeIdMap(order);
+
+        var nodePropertyStore = NodesFilter.filterNodeProperties(
+            inputGraphStore,
+            idMap,
+            config.concurrency(),
+            progressTracker
+        );
+
+        var relationships = RelationshipsFilter.filterRelationships(
+            inputGraphStore,
+            Expression.Literal.TrueLiteral.INSTANCE,
+            inputGraphStore.nodes(),
+            idMap,
+            config.concurrency(),
+            Map.of(),
+            DefaultPool.INSTANCE,
+            progressTracker
+        );
+
+        var schema = GraphStoreFilter.filterSchema(
+            inputGraphStore.schema(),
+            ImmutableFilteredNodes.of(idMap, nodePropertyStore),
+            relationships.keySet()
+        );
+
+        var outputGraphStore = new GraphStoreBuilder()
+            .databaseInfo(inputGraphStore.databaseInfo())
+            .capabilities(inputGraphStore.capabilities())
+            .schema(schema)
+            .nodes(ImmutableNodes.of(schema.nodeSchema(), idMap, nodePropertyStore))
+            .relationshipImportResult(RelationshipImportResult.of(relationships))
+            .concurrency(config.concurrency())
+            .build();
+
+        for (var graphPropertyKey : inputGraphStore.graphPropertyKeys()) {
+            outputGraphStore.addGraphProperty(
+                graphPropertyKey,
+                inputGraphStore.graphProperty(graphPropertyKey).values()
+            );
+        }
+
+        progressTracker.endSubTask("Reorder graph");
+
+        return outputGraphStore;
+    }
+
+    private HugeLongArray computeOrder() {
+        progressTracker.beginSubTask("Compute node order");
+
+        var graph = inputGraphStore.getGraph(config.internalRelationshipTypes(inputGraphStore), Optional.empty());
+        var order = switch (config.ordering()) {
+            case DEGREE -> NodeOrderings.degree(graph, progressTracker);
+            case RCM -> NodeOrderings.reverseCuthillMcKee(graph, progressTracker);
+            case COMMUNITY -> NodeOrderings.community(graph, communities(graph), progressTracker);
+        };
+
+        progressTracker.endSubTask("Compute node order");
+        return order;
+    }
+
+    private NodePropertyValues communities(Graph graph) {
+        var communityProperty = config.communityProperty().orElseThrow();
+        if (!inputGraphStore.hasNodeProperty(communityProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Community property `%s` not found in graph with node properties: %s.",
+                communityProperty,
+                inputGraphStore.nodePropertyKeys()
+            ));
+        }
+        var communities = graph.nodeProperties(communityProperty);
+        if (communities.valueType() != ValueType.LONG) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Community property `%s` must be of type `%s`, but was `%s`.",
+                communityProperty,
+                ValueType.LONG,
+                communities.valueType()
+            ));
+        }
+        return communities;
+    }
+
+    /**
+     * The new id map is built by a single thread that adds the nodes in their new order,
+     * which makes the id map assign consecutive ids in that order.
+     */
+    private IdMap computeIdMap(HugeLongArray order) {
+        progressTracker.beginSubTask("Construct node id map");
+
+        var inputNodes = inputGraphStore.nodes();
+        boolean hasLabelInformation = !inputGraphStore.nodeLabels().isEmpty();
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .idMapBuilderType(inputNodes.typeId())
+            .nodeCount(inputNodes.nodeCount())
+            .maxOriginalId(inputNodes.highestOriginalId())
+            .concurrency(1)
+            .hasProperties(false)
+            .hasLabelInformation(hasLabelInformation)
+            .deduplicateIds(false)
+            .build();
+
+        for (long newId = 0; newId < order.size(); newId++) {
+            long mappedId = order.get(newId);
+            long originalId = inputNodes.toOriginalNodeId(mappedId);
+            if (hasLabelInformation) {
+                nodesBuilder.addNode(originalId, NodeLabelTokens.of(inputNodes.nodeLabels(mappedId)));
+            } else {
+                nodesBuilder.addNode(originalId);
+            }
+        }
+        progressTracker.logSteps(order.size());
+
+        var idMap = nodesBuilder.build().idMap();
+        progressTracker.endSubTask("Construct node id map");
+
+        return idMap;
+    }
+
+    public static Task progressTask(GraphStore graphStore) {
+        return Tasks.task(
+            "Reorder graph",
+            Tasks.leaf("Compute node order", graphStore.nodeCount()),
+            Tasks.leaf("Construct node id map", graphStore.nodeCount()),
+            Tasks.leaf("Filter node properties", graphStore.nodeCount()),
+            Tasks.iterativeFixed(
+                "Filter relationship properties",
+                () -> List.of(Tasks.leaf("Relationship type", graphStore.relationshipCount())),
+                graphStore.relationshipTypes().size()
+            )
+        );
+    }
+}
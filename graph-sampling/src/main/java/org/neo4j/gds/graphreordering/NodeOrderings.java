@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.graphreordering;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeSerialIndirectMergeSort;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+
+/**
+ * Computes a permutation of the nodes of a graph where position {@code i} holds
+ * the current id of the node that gets the new id {@code i}.
+ */
+final class NodeOrderings {
+
+    static HugeLongArray degree(Graph graph, ProgressTracker progressTracker) {
+        var order = identity(graph.nodeCount());
+        HugeSerialIndirectMergeSort.sort(order, node -> -graph.degree(node));
+        progressTracker.logSteps(graph.nodeCount());
+        return order;
+    }
+
+    static HugeLongArray community(Graph graph, NodePropertyValues communities, ProgressTracker progressTracker) {
+        var order = identity(graph.nodeCount());
+        HugeSerialIndirectMergeSort.sort(order, node -> -graph.degree(node));
+        // the merge sort is stable, nodes of a community stay ordered by degree
+        HugeSerialIndirectMergeSort.sort(order, communities::longValue);
+        progressTracker.logSteps(graph.nodeCount());
+        return order;
+    }
+
+    /**
+     * Traverses the graph breadth-first, starting from a node with the lowest degree and visiting the
+     * neighbours of a node in ascending order of their degree. The traversal is restarted for every
+     * component that has not been reached. The final order is reversed, which keeps the bandwidth
+     * of the adjacency matrix low.
+     */
+    static HugeLongArray reverseCuthillMcKee(Graph graph, ProgressTracker progressTracker) {
+        long nodeCount = graph.nodeCount();
+
+        var startCandidates = identity(nodeCount);
+        HugeSerialIndirectMergeSort.sort(startCandidates, graph::degree);
+
+        var order = HugeLongArray.newArray(nodeCount);
+        var visited = HugeAtomicBitSet.create(nodeCount);
+        var neighbours = new LongArrayList();
+        var sortKeys = new long[0];
+        long head = 0;
+        long tail = 0;
+
+        for (long i = 0; i < nodeCount; i++) {
+            long start = startCandidates.get(i);
+            if (visited.getAndSet(start)) {
+                continue;
+            }
+            order.set(tail++, start);
+
+            while (head < tail) {
+                long node = order.get(head++);
+
+                neighbours.clear();
+                graph.forEachRelationship(node, (source, target) -> {
+                    if (!visited.getAndSet(target)) {
+                        neighbours.add(target);
+                    }
+                    return true;
+                });
+
+                int neighbourCount = neighbours.size();
+                if (sortKeys.length < neighbourCount) {
+                    sortKeys = new long[neighbourCount];
+                }
+                // the degree goes into the upper bits and the position in the neighbour list into the lower bits
+                for (int n = 0; n < neighbourCount; n++) {
+                    sortKeys[n] = ((long) graph.degree(neighbours.get(n)) << 32) | n;
+                }
+                Arrays.sort(sortKeys, 0, neighbourCount);
+                for (int n = 0; n < neighbourCount; n++) {
+                    order.set(tail++, neighbours.get((int) sortKeys[n]));
+                }
+
+                progressTracker.logSteps(1);
+            }
+        }
+
+        for (long left = 0, right = nodeCount - 1; left < right; left++, right--) {
+            long node = order.get(left);
+            order.set(left, order.get(right));
+            order.set(right, node);
+        }
+
+        return order;
+    }
+
+    private static HugeLongArray identity(long nodeCount) {
+        var order = HugeLongArray.newArray(nodeCount);
+        order.setAll(node -> node);
+        return order;
+    }
+
+    private NodeOrderings() {}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.graphreordering;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.Orientation.UNDIRECTED;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphReorderConstructorTest {
+
+    @GdlGraph(graphNamePrefix = "natural")
+    private static final String DB_CYPHER = "CREATE" +
+        "  (a:N {prop: 42, community: 1})" +
+        ", (b:N {prop: 43, community: 0})" +
+        ", (c:M {prop: 44, community: 1})" +
+        ", (d:M {prop: 45, community: 0})" +
+        ", (e:M {prop: 46, community: 1})" +
+        ", (a)-[:R1 {cost: 1.0}]->(b)" +
+        ", (c)-[:R1 {cost: 2.0}]->(a)" +
+        ", (c)-[:R1 {cost: 3.0}]->(b)" +
+        ", (c)-[:R1 {cost: 4.0}]->(d)" +
+        ", (e)-[:R2]->(c)";
+
+    // a path with ids that are scattered along the path
+    @GdlGraph(graphNamePrefix = "path", orientation = UNDIRECTED)
+    private static final String PATH_CYPHER = "CREATE" +
+        "  (a), (f), (c), (h), (e), (b), (g), (d)" +
+        ", (a)-[:R]->(b)" +
+        ", (b)-[:R]->(c)" +
+        ", (c)-[:R]->(d)" +
+        ", (d)-[:R]->(e)" +
+        ", (e)-[:R]->(f)" +
+        ", (f)-[:R]->(g)" +
+        ", (g)-[:R]->(h)";
+
+    @Inject
+    private GraphStore naturalGraphStore;
+
+    @Inject
+    private IdFunction naturalIdFunction;
+
+    @Inject
+    private GraphStore pathGraphStore;
+
+    @ParameterizedTest
+    @EnumSource(NodeOrdering.class)
+    void shouldPreserveTheGraph(NodeOrdering ordering) {
+        var config = GraphReorderConfigImpl.builder()
+            .ordering(ordering)
+            .communityProperty("community")
+            .concurrency(1)
+            .build();
+
+        var reordered = new GraphReorderConstructor(config, naturalGraphStore, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(reordered.nodeCount()).isEqualTo(naturalGraphStore.nodeCount());
+        assertThat(reordered.relationshipTypes()).isEqualTo(naturalGraphStore.relationshipTypes());
+        assertThat(reordered.nodePropertyKeys()).isEqualTo(naturalGraphStore.nodePropertyKeys());
+        assertGraphEquals(naturalGraphStore.getUnion(), reordered.getUnion());
+        for (var label : List.of(NodeLabel.of("N"), NodeLabel.of("M"))) {
+            assertGraphEquals(naturalGraphStore.getGraph(label), reordered.getGraph(label));
+        }
+    }
+
+    @Test
+    void shouldOrderByDegree() {
+        var config = GraphReorderConfigImpl.builder().concurrency(1).build();
+
+        var reordered = new GraphReorderConstructor(config, naturalGraphStore, ProgressTracker.NULL_TRACKER).compute();
+
+        var nodes = reordered.nodes();
+        assertThat(nodes.toOriginalNodeId(0)).isEqualTo(naturalIdFunction.of("c"));
+        assertThat(nodes.toOriginalNodeId(1)).isIn(naturalIdFunction.of("a"), naturalIdFunction.of("e"));
+        assertThat(nodes.toOriginalNodeId(2)).isIn(naturalIdFunction.of("a"), naturalIdFunction.of("e"));
+    }
+
+    @Test
+    void shouldOrderByCommunity() {
+        var config = GraphReorderConfigImpl.builder()
+            .ordering(NodeOrdering.COMMUNITY)
+            .communityProperty("community")
+            .concurrency(1)
+            .build();
+
+        var reordered = new GraphReorderConstructor(config, naturalGraphStore, ProgressTracker.NULL_TRACKER).compute();
+
+        var communities = reordered.nodeProperty("community").values();
+        assertThat(communities.longValue(0)).isEqualTo(0L);
+        assertThat(communities.longValue(1)).isEqualTo(0L);
+        assertThat(communities.longValue(2)).isEqualTo(1L);
+        // the node with the highest degree comes first within its community
+        assertThat(reordered.nodes().toOriginalNodeId(2)).isEqualTo(naturalIdFunction.of("c"));
+    }
+
+    @Test
+    void shouldPlaceNeighboursNextToEachOtherWithRcm() {
+        var config = GraphReorderConfigImpl.builder()
+            .ordering(NodeOrdering.RCM)
+            .concurrency(1)
+            .build();
+
+        var reordered = new GraphReorderConstructor(config, pathGraphStore, ProgressTracker.NULL_TRACKER).compute();
+
+        var graph = reordered.getUnion();
+        var distances = new HashSet<Long>();
+        graph.forEachNode(node -> {
+            graph.forEachRelationship(node, (source, target) -> {
+                distances.add(Math.abs(source - target));
+                return true;
+            });
+            return true;
+        });
+        assertThat(distances).containsExactly(1L);
+    }
+
+    @Test
+    void shouldRequireCommunityPropertyForCommunityOrdering() {
+        assertThatThrownBy(() -> GraphReorderConfigImpl.builder().ordering(NodeOrdering.COMMUNITY).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires a `communityProperty`");
+    }
+
+    @Test
+    void shouldFailOnMissingCommunityProperty() {
+        var config = GraphReorderConfigImpl.builder()
+            .ordering(NodeOrdering.COMMUNITY)
+            .communityProperty("missing")
+            .build();
+
+        var constructor = new GraphReorderConstructor(config, naturalGraphStore, ProgressTracker.NULL_TRACKER);
+
+        assertThatThrownBy(constructor::compute)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Community property `missing` not found");
+    }
+}
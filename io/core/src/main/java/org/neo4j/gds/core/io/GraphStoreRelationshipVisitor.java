@@ -69,14 +69,18 @@ public class GraphStoreRelationshipVisitor extends RelationshipVisitor {
                         .collect(Collectors.toList());
                     RelationshipType relationshipType = RelationshipType.of(relationshipTypeString);
 
-                    var relBuilder = relationshipBuilderSupplier.get()
-                        .relationshipType(relationshipType)
-                        .propertyConfigs(propertyConfigs)
-                        .indexInverse(inverseIndexedRelationshipTypes.contains(relationshipType))
-                        // TODO Shouldnt we warn on dangling relationships?
-                        .skipDanglingRelationships(true)
-                        .build();
-                    relationshipBuilders.put(relationshipTypeString, relBuilder);
+                    // The builder is shared between the visitors of all import tasks,
+                    // as the relationships of one type can be spread across multiple files.
+                    var relBuilder = relationshipBuilders.computeIfAbsent(
+                        relationshipTypeString,
+                        (ignore) -> relationshipBuilderSupplier.get()
+                            .relationshipType(relationshipType)
+                            .propertyConfigs(propertyConfigs)
+                            .indexInverse(inverseIndexedRelationshipTypes.contains(relationshipType))
+                            // TODO Shouldnt we warn on dangling relationships?
+                            .skipDanglingRelationships(true)
+                            .build()
+                    );
                     return RelationshipBuilderFromVisitor.of(
                         propertyConfigs.size(),
                         relBuilder,
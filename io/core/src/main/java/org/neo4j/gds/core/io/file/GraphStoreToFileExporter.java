@@ -37,10 +37,13 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.internal.batchimport.InputIterator;
 import org.neo4j.internal.batchimport.input.Collector;
 import org.neo4j.internal.batchimport.input.Input;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import org.neo4j.logging.Log;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
@@ -168,7 +171,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
 
         var tasks = ParallelUtil.tasks(
             concurrency,
-            (index) -> new ElementImportRunner<>(nodeVisitorSupplier.apply(index), nodeInputIterator, progressTracker)
+            (index) -> exportRunner(nodeVisitorSupplier.apply(index), nodeInputIterator, progressTracker)
         );
 
         RunWithConcurrency.builder()
@@ -189,7 +192,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
 
         var tasks = ParallelUtil.tasks(
             concurrency,
-            (index) -> new ElementImportRunner<>(
+            (index) -> exportRunner(
                 relationshipVisitorSupplier.apply(index),
                 relationshipInputIterator,
                 progressTracker
@@ -216,7 +219,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
 
             var tasks = ParallelUtil.tasks(
                 concurrency,
-                (index) -> new ElementImportRunner<>(
+                (index) -> exportRunner(
                     graphPropertyVisitorSupplier.apply(index),
                     graphPropertyInputIterator,
                     progressTracker
@@ -232,6 +235,23 @@ public class GraphStoreToFileExporter extends GraphStoreExporter {
         }
     }
 
+    /**
+     * The visitors are created per export task, so they are closed once the task is done
+     * to release the files they are writing to.
+     */
+    private static <T extends InputEntityVisitor.Adapter & Flushable> Runnable exportRunner(
+        T visitor,
+        InputIterator inputIterator,
+        ProgressTracker progressTracker
+    ) {
+        var runner = new ElementImportRunner<>(visitor, inputIterator, progressTracker);
+        return () -> {
+            try (visitor) {
+                runner.run();
+            }
+        };
+    }
+
     private void exportUserName() {
         try (var userInfoVisitor = userInfoVisitorSupplier.get()) {
             userInfoVisitor.export(parameters.username());
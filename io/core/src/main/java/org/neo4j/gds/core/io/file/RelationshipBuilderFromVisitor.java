@@ -48,6 +48,14 @@ public abstract class RelationshipBuilderFromVisitor {
 
     public abstract void addFromVisitor();
 
+    static double doubleValue(Object value) {
+        // parsed values are numbers already, avoid a round trip through their string
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return Double.parseDouble(value.toString());
+    }
+
     private static final class NoPropertiesBuilder extends RelationshipBuilderFromVisitor {
 
         NoPropertiesBuilder(RelationshipsBuilder delegate, RelationshipVisitor visitor) {
@@ -73,7 +81,7 @@ public abstract class RelationshipBuilderFromVisitor {
 
         @Override
         public void accept(String key, Object value) {
-            delegate.add(visitor.startNode(), visitor.endNode(), Double.parseDouble(value.toString()));
+            delegate.add(visitor.startNode(), visitor.endNode(), doubleValue(value));
         }
     }
 
@@ -99,7 +107,7 @@ public abstract class RelationshipBuilderFromVisitor {
 
         @Override
         public void accept(String key, Object value) {
-            propertyValues[propertyIndex++] = Double.parseDouble(value.toString());
+            propertyValues[propertyIndex++] = doubleValue(value);
         }
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.io.file.binary.BinaryToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.binary.GraphStoreToBinaryExporter;
+import org.neo4j.gds.core.loading.GraphStoreSpiller;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.logging.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Spills graph stores of the graph catalog using the binary file export,
+ * which includes the metadata needed to restore the graph store as it was.
+ */
+public final class BinaryGraphStoreSpiller implements GraphStoreSpiller {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final int concurrency;
+    private final Log log;
+
+    public BinaryGraphStoreSpiller(int concurrency, Log log) {
+        this.concurrency = concurrency;
+        this.log = log;
+    }
+
+    @Override
+    public void spill(GraphStore graphStore, Path location) {
+        try {
+            Files.createDirectories(location);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        GraphStoreToBinaryExporter.create(
+            graphStore,
+            new GraphStoreToFileExporterParameters(
+                location.getFileName().toString(),
+                "",
+                true,
+                true,
+                RelationshipType.ALL_RELATIONSHIPS,
+                concurrency,
+                BATCH_SIZE
+            ),
+            location,
+            Optional.empty(),
+            TaskRegistryFactory.empty(),
+            log,
+            DefaultPool.INSTANCE
+        ).run();
+    }
+
+    @Override
+    public GraphStore reload(Path location) {
+        return new BinaryToGraphStoreImporter(concurrency, location, log, EmptyTaskRegistryFactory.INSTANCE)
+            .run()
+            .graphStore();
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A block of values for a single property, stored in a primitive array matching its {@link ValueType}.
+ * Each column tracks which rows carry a value in a presence bitset; missing rows are
+ * written as absent and read back as the default value of the property.
+ */
+abstract class BinaryColumn {
+
+    private final long[] presence;
+
+    BinaryColumn() {
+        this.presence = new long[presenceWords(BinaryColumnWriter.BLOCK_SIZE)];
+    }
+
+    static BinaryColumn of(ValueType valueType, DefaultValue defaultValue) {
+        switch (valueType) {
+            case LONG:
+                return new LongColumn(defaultValue.longValue());
+            case DOUBLE:
+                return new DoubleColumn(defaultValue.doubleValue());
+            case STRING:
+                var defaultString = defaultValue.getObject();
+                return new StringColumn(defaultString == null ? null : defaultString.toString());
+            case LONG_ARRAY:
+                return new LongArrayColumn(defaultValue.longArrayValue());
+            case DOUBLE_ARRAY:
+                return new DoubleArrayColumn(defaultValue.doubleArrayValue());
+            case FLOAT_ARRAY:
+                return new FloatArrayColumn(defaultValue.floatArrayValue());
+            default:
+                throw new IllegalArgumentException("Unsupported value type " + valueType);
+        }
+    }
+
+    private static int presenceWords(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    /**
+     * Sets the value of the given row, {@code null} marks the value as missing.
+     */
+    void set(int row, Object value) {
+        if (value == null) {
+            presence[row >>> 6] &= ~(1L << row);
+        } else {
+            presence[row >>> 6] |= 1L << row;
+            setValue(row, value);
+        }
+    }
+
+    void write(DataOutput out, int rows) throws IOException {
+        int words = presenceWords(rows);
+        for (int word = 0; word < words; word++) {
+            out.writeLong(presence[word]);
+        }
+        for (int row = 0; row < rows; row++) {
+            if (isPresent(row)) {
+                writeValue(out, row);
+            }
+        }
+        Arrays.fill(presence, 0, words, 0L);
+    }
+
+    void read(DataInput in, int rows) throws IOException {
+        int words = presenceWords(rows);
+        for (int word = 0; word < words; word++) {
+            presence[word] = in.readLong();
+        }
+        for (int row = 0; row < rows; row++) {
+            if (isPresent(row)) {
+                readValue(in, row);
+            } else {
+                setDefault(row);
+            }
+        }
+    }
+
+    private boolean isPresent(int row) {
+        return (presence[row >>> 6] & (1L << row)) != 0;
+    }
+
+    abstract Object get(int row);
+
+    abstract void setValue(int row, Object value);
+
+    abstract void setDefault(int row);
+
+    abstract void writeValue(DataOutput out, int row) throws IOException;
+
+    abstract void readValue(DataInput in, int row) throws IOException;
+
+    static void writeVLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVLong(DataInput in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7FL) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static final class LongColumn extends BinaryColumn {
+        private final long defaultValue;
+        private final long[] values;
+
+        LongColumn(long defaultValue) {
+            this.defaultValue = defaultValue;
+            this.values = new long[BinaryColumnWriter.BLOCK_SIZE];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = ((Number) value).longValue();
+        }
+
+        @Override
+        void setDefault(int row) {
+            values[row] = defaultValue;
+        }
+
+        @Override
+        void writeValue(DataOutput out, int row) throws IOException {
+            writeVLong(out, zigZag(values[row]));
+        }
+
+        @Override
+        void readValue(DataInput in, int row) throws IOException {
+            values[row] = unZigZag(readVLong(in));
+        }
+    }
+
+    static final class DoubleColumn extends BinaryColumn {
+        private final double defaultValue;
+        private final double[] values;
+
+        DoubleColumn(double defaultValue) {
+            this.defaultValue = defaultValue;
+            this.values = new double[BinaryColumnWriter.BLOCK_SIZE];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = ((Number) value).doubleValue();
+        }
+
+        @Override
+        void setDefault(int row) {
+            values[row] = defaultValue;
+        }
+
+        @Override
+        void writeValue(DataOutput out, int row) throws IOException {
+            out.writeDouble(values[row]);
+        }
+
+        @Override
+        void readValue(DataInput in, int row) throws IOException {
+            values[row] = in.readDouble();
+        }
+    }
+
+    /**
+     * Strings are written as their var-long encoded UTF-8 byte length followed by the bytes,
+     * which in contrast to modified UTF-8 has no length limit.
+     */
+    static final class StringColumn extends BinaryColumn {
+        private final String defaultValue;
+        private final String[] values;
+
+        StringColumn(String defaultValue) {
+            this.defaultValue = defaultValue;
+            this.values = new String[BinaryColumnWriter.BLOCK_SIZE];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = value.toString();
+        }
+
+        @Override
+        void setDefault(int row) {
+            values[row] = defaultValue;
+        }
+
+        @Override
+        void writeValue(DataOutput out, int row) throws IOException {
+            var bytes = values[row].getBytes(StandardCharsets.UTF_8);
+            writeVLong(out, bytes.length);
+            out.write(bytes);
+            values[row] = null;
+        }
+
+        @Override
+        void readValue(DataInput in, int row) throws IOException {
+            var bytes = new byte[Math.toIntExact(readVLong(in))];
+            in.readFully(bytes);
+            values[row] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    static final class LongArrayColumn extends BinaryColumn {
+        private final long[] defaultValue;
+        private final long[][] values;
+
+        LongArrayColumn(long[] defaultValue) {
+            this.defaultValue = defaultValue;
+            this.values = new long[BinaryColumnWriter.BLOCK_SIZE][];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = (long[]) value;
+        }
+
+        @Override
+        void setDefault(int row) {
+            values[row] = defaultValue;
+        }
+
+        @Override
+        void writeValue(DataOutput out, int row) throws IOException {
+            var longs = values[row];
+            writeVLong(out, longs.length);
+            for (long l : longs) {
+                writeVLong(out, zigZag(l));
+            }
+            values[row] = null;
+        }
+
+        @Override
+        void readValue(DataInput in, int row) throws IOException {
+            var longs = new long[Math.toIntExact(readVLong(in))];
+            for (int i = 0; i < longs.length; i++) {
+                longs[i] = unZigZag(readVLong(in));
+            }
+            values[row] = longs;
+        }
+    }
+
+    static final class DoubleArrayColumn extends BinaryColumn {
+        private final double[] defaultValue;
+        private final double[][] values;
+
+        DoubleArrayColumn(double[] defaultValue) {
+            this.defaultValue = defaultValue;
+            this.values = new double[BinaryColumnWriter.BLOCK_SIZE][];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = (double[]) value;
+        }
+
+        @Override
+        void setDefault(int row) {
+            values[row] = defaultValue;
+        }
+
+        @Override
+        void writeValue(DataOutput out, int row) throws IOException {
+            var doubles = values[row];
+            writeVLong(out, doubles.length);
+            for (double d : doubles) {
+                out.writeDouble(d);
+            }
+            values[row] = null;
+        }
+
+        @Override
+        void readValue(DataInput in, int row) throws IOException {
+            var doubles = new double[Math.toIntExact(readVLong(in))];
+            for (int i = 0; i < doubles.length; i++) {
+                doubles[i] = in.readDouble();
+            }
+            values[row] = doubles;
+        }
+    }
+
+    static final class FloatArrayColumn extends BinaryColumn {
+        private final float[] defaultValue;
+        private final float[][] values;
+
+        FloatArrayColumn(float[] defaultValue) {
+            this.defaultValue = defaultValue;
+            this.values = new float[BinaryColumnWriter.BLOCK_SIZE][];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = (float[]) value;
+        }
+
+        @Override
+        void setDefault(int row) {
+            values[row] = defaultValue;
+        }
+
+        @Override
+        void writeValue(DataOutput out, int row) throws IOException {
+            var floats = values[row];
+            writeVLong(out, floats.length);
+            for (float f : floats) {
+                out.writeFloat(f);
+            }
+            values[row] = null;
+        }
+
+        @Override
+        void readValue(DataInput in, int row) throws IOException {
+            var floats = new float[Math.toIntExact(readVLong(in))];
+            for (int i = 0; i < floats.length; i++) {
+                floats[i] = in.readFloat();
+            }
+            values[row] = floats;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryColumn.readVLong;
+import static org.neo4j.gds.core.io.file.binary.BinaryColumn.unZigZag;
+
+/**
+ * Reads the column blocks written by {@link BinaryColumnWriter}.
+ */
+final class BinaryColumnReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Inflater inflater;
+    private final DataInputStream in;
+    private final long[][] idColumns;
+    private final BinaryColumn[] propertyColumns;
+
+    private int rows;
+
+    BinaryColumnReader(Path path, int idColumnCount, ValueType[] valueTypes, DefaultValue[] defaultValues) throws IOException {
+        this.inflater = new Inflater();
+        try {
+            this.in = new DataInputStream(new InflaterInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE),
+                inflater,
+                BUFFER_SIZE
+            ));
+        } catch (IOException e) {
+            inflater.end();
+            throw e;
+        }
+        this.idColumns = new long[idColumnCount][BinaryColumnWriter.BLOCK_SIZE];
+        this.propertyColumns = new BinaryColumn[valueTypes.length];
+        for (int column = 0; column < valueTypes.length; column++) {
+            propertyColumns[column] = BinaryColumn.of(valueTypes[column], defaultValues[column]);
+        }
+        this.rows = 0;
+    }
+
+    /**
+     * Reads the next block and returns the number of rows in it, or 0 if the end of the file is reached.
+     */
+    int nextBlock() throws IOException {
+        rows = (int) readVLong(in);
+        if (rows == 0) {
+            return 0;
+        }
+
+        for (long[] idColumn : idColumns) {
+            long previous = 0;
+            for (int row = 0; row < rows; row++) {
+                previous += unZigZag(readVLong(in));
+                idColumn[row] = previous;
+            }
+        }
+
+        for (BinaryColumn propertyColumn : propertyColumns) {
+            propertyColumn.read(in, rows);
+        }
+
+        return rows;
+    }
+
+    long id(int idColumn, int row) {
+        return idColumns[idColumn][row];
+    }
+
+    Object property(int propertyColumn, int row) {
+        return propertyColumns[propertyColumn].get(row);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            in.close();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryColumn.writeVLong;
+import static org.neo4j.gds.core.io.file.binary.BinaryColumn.zigZag;
+
+/**
+ * Writes rows of ids and properties as a sequence of column blocks.
+ * <p>
+ * Every block starts with its row count, followed by the id columns, which are
+ * delta and var-long encoded, followed by one {@link BinaryColumn} per property.
+ * Property columns start with a presence bitset, so that missing values can be replaced by the
+ * default value of the property on import. The file is terminated by an empty block.
+ * The whole stream is deflated using the fastest compression level.
+ */
+final class BinaryColumnWriter implements Flushable, AutoCloseable {
+
+    static final int BLOCK_SIZE = 8192;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Deflater deflater;
+    private final DataOutputStream out;
+    private final long[][] idColumns;
+    private final BinaryColumn[] propertyColumns;
+
+    private int rows;
+
+    BinaryColumnWriter(Path path, int idColumnCount, ValueType[] valueTypes) {
+        this.deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            this.out = new DataOutputStream(new DeflaterOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE),
+                deflater,
+                BUFFER_SIZE
+            ));
+        } catch (IOException e) {
+            deflater.end();
+            throw new RuntimeException("Could not create binary data file", e);
+        }
+        this.idColumns = new long[idColumnCount][BLOCK_SIZE];
+        this.propertyColumns = new BinaryColumn[valueTypes.length];
+        for (int column = 0; column < valueTypes.length; column++) {
+            // default values are only applied on import
+            propertyColumns[column] = BinaryColumn.of(valueTypes[column], valueTypes[column].fallbackValue());
+        }
+        this.rows = 0;
+    }
+
+    void id(int idColumn, long id) {
+        idColumns[idColumn][rows] = id;
+    }
+
+    void property(int propertyColumn, Object value) {
+        propertyColumns[propertyColumn].set(rows, value);
+    }
+
+    void endRow() throws IOException {
+        if (++rows == BLOCK_SIZE) {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBlock();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBlock();
+            // an empty block marks the end of the file
+            writeVLong(out, 0);
+            out.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+
+        writeVLong(out, rows);
+
+        for (long[] idColumn : idColumns) {
+            long previous = 0;
+            for (int row = 0; row < rows; row++) {
+                writeVLong(out, zigZag(idColumn[row] - previous));
+                previous = idColumn[row];
+            }
+        }
+
+        for (BinaryColumn propertyColumn : propertyColumns) {
+            propertyColumn.write(out, rows);
+        }
+
+        rows = 0;
+    }
+}
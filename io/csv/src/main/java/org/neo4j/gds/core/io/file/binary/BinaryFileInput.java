@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.io.GraphStoreInput;
+import org.neo4j.gds.core.io.file.FileHeader;
+import org.neo4j.gds.core.io.file.FileInput;
+import org.neo4j.gds.core.io.file.GraphInfo;
+import org.neo4j.gds.core.io.file.HeaderProperty;
+import org.neo4j.gds.core.io.file.MappedListIterator;
+import org.neo4j.gds.core.io.file.NodeFileHeader;
+import org.neo4j.gds.core.io.file.RelationshipFileHeader;
+import org.neo4j.gds.core.io.file.csv.CsvFileInput;
+import org.neo4j.gds.core.io.file.csv.CsvImportFileUtil;
+import org.neo4j.gds.core.loading.Capabilities;
+import org.neo4j.internal.batchimport.InputIterable;
+import org.neo4j.internal.batchimport.InputIterator;
+import org.neo4j.internal.batchimport.input.Collector;
+import org.neo4j.internal.batchimport.input.IdType;
+import org.neo4j.internal.batchimport.input.Input;
+import org.neo4j.internal.batchimport.input.InputChunk;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
+import org.neo4j.internal.batchimport.input.PropertySizeCalculator;
+import org.neo4j.internal.batchimport.input.ReadableGroups;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reads nodes and relationships from the binary column files written by {@link GraphStoreToBinaryExporter}.
+ * Metadata and graph properties are stored in the CSV format and are read through {@link CsvFileInput}.
+ */
+final class BinaryFileInput implements FileInput {
+
+    static final String DATA_FILE_EXTENSION = "bin";
+
+    private final Path importPath;
+    private final CsvFileInput metadataInput;
+
+    BinaryFileInput(Path importPath) {
+        this.importPath = importPath;
+        this.metadataInput = new CsvFileInput(importPath);
+    }
+
+    @Override
+    public InputIterable nodes(Collector badCollector) {
+        var labelMapping = metadataInput.labelMapping();
+        Function<String, String> labelMappingFunction = labelMapping.isPresent()
+            ? labelMapping.get()::get
+            : Functions.identity();
+
+        Map<NodeFileHeader, List<Path>> headerToDataFilesMapping = CsvImportFileUtil
+            .nodeHeaderToFileMapping(importPath, DATA_FILE_EXTENSION)
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(
+                entry -> CsvImportFileUtil.parseNodeHeader(entry.getKey(), labelMappingFunction),
+                Map.Entry::getValue
+            ));
+
+        var nodeSchema = metadataInput.nodeSchema();
+        return () -> new BlockImporter<>(headerToDataFilesMapping, () -> new NodeBlockChunk(nodeSchema));
+    }
+
+    @Override
+    public InputIterable relationships(Collector badCollector) {
+        Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping = CsvImportFileUtil
+            .relationshipHeaderToFileMapping(importPath, DATA_FILE_EXTENSION)
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(
+                entry -> CsvImportFileUtil.parseRelationshipHeader(entry.getKey()),
+                Map.Entry::getValue
+            ));
+
+        var relationshipSchema = metadataInput.relationshipSchema();
+        return () -> new BlockImporter<>(
+            headerToDataFilesMapping,
+            () -> new RelationshipBlockChunk(relationshipSchema)
+        );
+    }
+
+    @Override
+    public InputIterable graphProperties() {
+        return metadataInput.graphProperties();
+    }
+
+    @Override
+    public IdType idType() {
+        return metadataInput.idType();
+    }
+
+    @Override
+    public ReadableGroups groups() {
+        return metadataInput.groups();
+    }
+
+    @Override
+    public Input.Estimates calculateEstimates(PropertySizeCalculator propertySizeCalculator) {
+        return null;
+    }
+
+    @Override
+    public String userName() {
+        return metadataInput.userName();
+    }
+
+    @Override
+    public GraphInfo graphInfo() {
+        return metadataInput.graphInfo();
+    }
+
+    @Override
+    public MutableNodeSchema nodeSchema() {
+        return metadataInput.nodeSchema();
+    }
+
+    @Override
+    public Optional<HashMap<String, String>> labelMapping() {
+        return metadataInput.labelMapping();
+    }
+
+    @Override
+    public MutableRelationshipSchema relationshipSchema() {
+        return metadataInput.relationshipSchema();
+    }
+
+    @Override
+    public Map<String, PropertySchema> graphPropertySchema() {
+        return metadataInput.graphPropertySchema();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return metadataInput.capabilities();
+    }
+
+    static final class BlockImporter<HEADER extends FileHeader<?, ?>> implements InputIterator {
+
+        private final MappedListIterator<HEADER, Path> entryIterator;
+        private final Supplier<BlockChunk<HEADER, ?, ?>> chunkSupplier;
+
+        BlockImporter(
+            Map<HEADER, List<Path>> headerToDataFilesMapping,
+            Supplier<BlockChunk<HEADER, ?, ?>> chunkSupplier
+        ) {
+            this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
+            this.chunkSupplier = chunkSupplier;
+        }
+
+        @Override
+        public InputChunk newChunk() {
+            return chunkSupplier.get();
+        }
+
+        @Override
+        public synchronized boolean next(InputChunk chunk) throws IOException {
+            if (entryIterator.hasNext()) {
+                Pair<HEADER, Path> entry = entryIterator.next();
+
+                assert chunk instanceof BlockChunk;
+                @SuppressWarnings("unchecked")
+                var blockChunk = (BlockChunk<HEADER, ?, ?>) chunk;
+                blockChunk.initialize(entry.getKey(), entry.getValue());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    abstract static class BlockChunk<
+        HEADER extends FileHeader<SCHEMA, PROPERTY_SCHEMA>,
+        SCHEMA,
+        PROPERTY_SCHEMA extends PropertySchema> implements InputChunk, GraphStoreInput.LastProgress {
+
+        private final SCHEMA schema;
+        private final int idColumnCount;
+
+        HEADER header;
+        String[] propertyKeys;
+        BinaryColumnReader reader;
+        int rows;
+        int row;
+
+        BlockChunk(SCHEMA schema, int idColumnCount) {
+            this.schema = schema;
+            this.idColumnCount = idColumnCount;
+        }
+
+        void initialize(HEADER header, Path path) throws IOException {
+            close();
+
+            this.header = header;
+            var propertySchemas = header.schemaForIdentifier(schema);
+            var headerProperties = header
+                .propertyMappings()
+                .stream()
+                .sorted(Comparator.comparingInt(HeaderProperty::position))
+                .toArray(HeaderProperty[]::new);
+
+            this.propertyKeys = new String[headerProperties.length];
+            var valueTypes = new ValueType[headerProperties.length];
+            var defaultValues = new DefaultValue[headerProperties.length];
+            for (int i = 0; i < headerProperties.length; i++) {
+                var propertyKey = headerProperties[i].propertyKey();
+                propertyKeys[i] = propertyKey;
+                valueTypes[i] = headerProperties[i].valueType();
+                defaultValues[i] = propertySchemas.get(propertyKey).defaultValue();
+            }
+
+            this.reader = new BinaryColumnReader(path, idColumnCount, valueTypes, defaultValues);
+            this.rows = 0;
+            this.row = 0;
+        }
+
+        @Override
+        public boolean next(InputEntityVisitor visitor) throws IOException {
+            if (row == rows) {
+                rows = reader.nextBlock();
+                row = 0;
+                if (rows == 0) {
+                    return false;
+                }
+            }
+
+            visitRow(row, visitor);
+            for (int column = 0; column < propertyKeys.length; column++) {
+                visitor.property(propertyKeys[column], reader.property(column, row));
+            }
+            visitor.endOfEntity();
+
+            row++;
+            return true;
+        }
+
+        abstract void visitRow(int row, InputEntityVisitor visitor);
+
+        @Override
+        public void close() throws IOException {
+            if (reader != null) {
+                reader.close();
+                reader = null;
+            }
+        }
+
+        @Override
+        public long lastProgress() {
+            return 1;
+        }
+    }
+
+    static class NodeBlockChunk extends BlockChunk<NodeFileHeader, MutableNodeSchema, PropertySchema> {
+
+        NodeBlockChunk(MutableNodeSchema nodeSchema) {
+            super(nodeSchema, 1);
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) {
+            visitor.labels(header.nodeLabels());
+            visitor.id(reader.id(0, row));
+        }
+    }
+
+    static class RelationshipBlockChunk extends BlockChunk<RelationshipFileHeader, MutableRelationshipSchema, RelationshipPropertySchema> {
+
+        RelationshipBlockChunk(MutableRelationshipSchema relationshipSchema) {
+            super(relationshipSchema, 2);
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) {
+            visitor.type(header.relationshipType());
+            visitor.startId(reader.id(0, row));
+            visitor.endId(reader.id(1, row));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.io.file.RelationshipVisitor;
+import org.neo4j.gds.core.io.file.csv.JacksonFileAppender;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.neo4j.gds.core.io.file.csv.CsvRelationshipVisitor.END_ID_COLUMN_NAME;
+import static org.neo4j.gds.core.io.file.csv.CsvRelationshipVisitor.START_ID_COLUMN_NAME;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes relationships into binary column files. The header files are shared with the CSV format,
+ * so that the metadata of an export stays human-readable.
+ */
+public class BinaryRelationshipVisitor extends RelationshipVisitor {
+
+    private final Path fileLocation;
+    private final Set<String> headerFiles;
+    private final int visitorId;
+    private final Map<String, BinaryColumnWriter> columnWriters;
+
+    private int currentColumn;
+
+    BinaryRelationshipVisitor(
+        Path fileLocation,
+        RelationshipSchema relationshipSchema,
+        Set<String> headerFiles,
+        int visitorId
+    ) {
+        super(relationshipSchema);
+        this.fileLocation = fileLocation;
+        this.headerFiles = headerFiles;
+        this.visitorId = visitorId;
+        this.columnWriters = new HashMap<>();
+    }
+
+    @Override
+    protected void exportElement() {
+        var columnWriter = getColumnWriter();
+        try {
+            columnWriter.id(0, startNode());
+            columnWriter.id(1, endNode());
+            currentColumn = 0;
+            forEachProperty((key, value) -> columnWriter.property(currentColumn++, value));
+            columnWriter.endRow();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        columnWriters.values().forEach(columnWriter -> {
+            try {
+                columnWriter.close();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public void flush() throws IOException {
+        for (var columnWriter : columnWriters.values()) {
+            columnWriter.flush();
+        }
+    }
+
+    private BinaryColumnWriter getColumnWriter() {
+        return columnWriters.computeIfAbsent(relationshipType(), (ignore) -> {
+            var fileName = formatWithLocale("relationships_%s", relationshipType());
+            var headerFileName = formatWithLocale("%s_header.csv", fileName);
+            var dataFileName = formatWithLocale("%s_%d.%s", fileName, visitorId, BinaryFileInput.DATA_FILE_EXTENSION);
+
+            var propertySchema = new ArrayList<>(getPropertySchema());
+            propertySchema.sort(Comparator.comparing(PropertySchema::key));
+            if (headerFiles.add(headerFileName)) {
+                writeHeaderFile(headerFileName, propertySchema);
+            }
+
+            var valueTypes = propertySchema.stream().map(PropertySchema::valueType).toArray(ValueType[]::new);
+            return new BinaryColumnWriter(fileLocation.resolve(dataFileName), 2, valueTypes);
+        });
+    }
+
+    private void writeHeaderFile(String headerFileName, List<RelationshipPropertySchema> propertySchema) {
+        try (var headerAppender = JacksonFileAppender.of(
+            fileLocation.resolve(headerFileName),
+            propertySchema,
+            csvSchemaBuilder -> csvSchemaBuilder
+                .addNumberColumn(START_ID_COLUMN_NAME)
+                .addNumberColumn(END_ID_COLUMN_NAME)
+        )) {
+            headerAppender.startLine();
+            headerAppender.append(START_ID_COLUMN_NAME);
+            headerAppender.append(END_ID_COLUMN_NAME);
+            for (RelationshipPropertySchema schema : propertySchema) {
+                headerAppender.append(formatWithLocale("%s:%s", schema.key(), schema.valueType().csvName()));
+            }
+            headerAppender.endLine();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write header file", e);
+        }
+    }
+}
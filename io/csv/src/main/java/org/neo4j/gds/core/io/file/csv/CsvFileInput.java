@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.core.io.file.csv;
 
-import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvParser;
@@ -52,14 +51,26 @@ import org.neo4j.internal.batchimport.input.PropertySizeCalculator;
 import org.neo4j.internal.batchimport.input.ReadableGroups;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-final class CsvFileInput implements FileInput {
+/**
+ * Reads a graph store from the CSV files written by {@link GraphStoreToCsvExporter}.
+ * <p>
+ * The data files are split into byte ranges of {@link #DEFAULT_CHUNK_SIZE} bytes which are
+ * handed out to the import tasks one at a time, so even a single large file is parsed in parallel.
+ * Each range is read through a {@link MappedCsvLineReader}.
+ */
+public final class CsvFileInput implements FileInput {
+
+    static final long DEFAULT_CHUNK_SIZE = 8L * 1024 * 1024;
 
     private static final char COLUMN_SEPARATOR = ',';
     private static final String ARRAY_ELEMENT_SEPARATOR = ";";
@@ -80,6 +91,7 @@ final class CsvFileInput implements FileInput {
         );
 
     private final Path importPath;
+    private final long chunkSize;
     private final String userName;
     private final GraphInfo graphInfo;
     private final MutableNodeSchema nodeSchema;
@@ -88,8 +100,13 @@ final class CsvFileInput implements FileInput {
     private final Map<String, PropertySchema> graphPropertySchema;
     private final Capabilities capabilities;
 
-    CsvFileInput(Path importPath) {
+    public CsvFileInput(Path importPath) {
+        this(importPath, DEFAULT_CHUNK_SIZE);
+    }
+
+    CsvFileInput(Path importPath, long chunkSize) {
         this.importPath = importPath;
+        this.chunkSize = chunkSize;
         this.userName = new UserInfoLoader(importPath).load();
         this.graphInfo = new GraphInfoLoader(importPath, CSV_MAPPER).load();
         this.nodeSchema = new NodeSchemaLoader(importPath).load();
@@ -102,14 +119,14 @@ final class CsvFileInput implements FileInput {
     @Override
     public InputIterable nodes(Collector badCollector) {
         Map<Path, List<Path>> pathMapping = CsvImportFileUtil.nodeHeaderToFileMapping(importPath);
-        Map<NodeFileHeader, List<Path>> headerToDataFilesMapping = pathMapping.entrySet()
+        Map<NodeFileHeader, List<FileRange>> headerToDataFilesMapping = pathMapping.entrySet()
             .stream()
             .collect(Collectors.toMap(
                 entry -> CsvImportFileUtil.parseNodeHeader(
                     entry.getKey(),
                     labelMapping.isPresent() ? labelMapping.get()::get : Functions.identity()
                 ),
-                Map.Entry::getValue
+                entry -> FileRange.split(entry.getValue(), chunkSize)
             ));
 
         return () -> new NodeImporter(headerToDataFilesMapping, nodeSchema);
@@ -118,9 +135,9 @@ final class CsvFileInput implements FileInput {
     @Override
     public InputIterable relationships(Collector badCollector) {
         Map<Path, List<Path>> pathMapping = CsvImportFileUtil.relationshipHeaderToFileMapping(importPath);
-        Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
+        Map<RelationshipFileHeader, List<FileRange>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportFileUtil.parseRelationshipHeader(entry.getKey()),
-            Map.Entry::getValue
+            entry -> FileRange.split(entry.getValue(), chunkSize)
         ));
 
         return () -> new RelationshipImporter(headerToDataFilesMapping, relationshipSchema);
@@ -131,7 +148,7 @@ final class CsvFileInput implements FileInput {
         var pathMapping = CsvImportFileUtil.graphPropertyHeaderToFileMapping(importPath);
         var headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportFileUtil.parseGraphPropertyHeader(entry.getKey()),
-            Map.Entry::getValue
+            entry -> FileRange.split(entry.getValue(), chunkSize)
         ));
 
         return () -> new GraphPropertyImporter(headerToDataFilesMapping, graphPropertySchema);
@@ -192,11 +209,11 @@ final class CsvFileInput implements FileInput {
         SCHEMA,
         PROPERTY_SCHEMA extends PropertySchema> implements InputIterator {
 
-        private final MappedListIterator<HEADER, Path> entryIterator;
+        private final MappedListIterator<HEADER, FileRange> entryIterator;
         final SCHEMA elementSchema;
 
         FileImporter(
-            Map<HEADER, List<Path>> headerToDataFilesMapping,
+            Map<HEADER, List<FileRange>> headerToDataFilesMapping,
             SCHEMA elementSchema
         ) {
             this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
@@ -206,7 +223,7 @@ final class CsvFileInput implements FileInput {
         @Override
         public synchronized boolean next(InputChunk chunk) throws IOException {
             if (entryIterator.hasNext()) {
-                Pair<HEADER, Path> entry = entryIterator.next();
+                Pair<HEADER, FileRange> entry = entryIterator.next();
 
                 assert chunk instanceof LineChunk;
                 var header = entry.getKey();
@@ -224,7 +241,7 @@ final class CsvFileInput implements FileInput {
     static class NodeImporter extends FileImporter<NodeFileHeader, MutableNodeSchema, PropertySchema> {
 
         NodeImporter(
-            Map<NodeFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<NodeFileHeader, List<FileRange>> headerToDataFilesMapping,
             MutableNodeSchema nodeSchema
         ) {
             super(headerToDataFilesMapping, nodeSchema);
@@ -239,7 +256,7 @@ final class CsvFileInput implements FileInput {
     static class RelationshipImporter extends FileImporter<RelationshipFileHeader, MutableRelationshipSchema, RelationshipPropertySchema> {
 
         RelationshipImporter(
-            Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<RelationshipFileHeader, List<FileRange>> headerToDataFilesMapping,
             MutableRelationshipSchema relationshipSchema
         ) {
             super(headerToDataFilesMapping, relationshipSchema);
@@ -255,7 +272,7 @@ final class CsvFileInput implements FileInput {
 
 
         GraphPropertyImporter(
-            Map<GraphPropertyFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<GraphPropertyFileHeader, List<FileRange>> headerToDataFilesMapping,
             Map<String, PropertySchema> graphPropertySchema
         ) {
             super(headerToDataFilesMapping, graphPropertySchema);
@@ -276,38 +293,34 @@ final class CsvFileInput implements FileInput {
 
         HEADER header;
         Map<String, PROPERTY_SCHEMA> propertySchemas;
-        MappingIterator<String[]> lineIterator;
+        MappedCsvLineReader lineReader;
 
         LineChunk(SCHEMA schema) {
             this.schema = schema;
         }
 
-        void initialize(HEADER header, Path path) throws IOException {
+        void initialize(HEADER header, FileRange range) throws IOException {
             this.header = header;
             this.propertySchemas = header.schemaForIdentifier(schema);
-            this.lineIterator = LINE_READER.readValues(path.toFile());
+            this.lineReader = new MappedCsvLineReader(range.path(), range.start(), range.end());
         }
 
         @Override
         public boolean next(InputEntityVisitor visitor) throws IOException {
-            if (lineIterator.hasNext()) {
-                String[] lineArray = lineIterator.next();
-                // Ignore empty lines
-                if (lineArray.length != 0) {
-                    visitLine(lineArray, header, visitor);
-                }
+            // empty lines are skipped by the reader
+            if (lineReader.nextLine()) {
+                visitLine(lineReader, header, visitor);
                 return true;
             }
             return false;
         }
 
-        abstract void visitLine(String[] lineArray, HEADER header, InputEntityVisitor visitor) throws IOException;
+        abstract void visitLine(MappedCsvLineReader line, HEADER header, InputEntityVisitor visitor) throws IOException;
 
         @Override
-        public void close() throws IOException {
-            if (lineIterator != null) {
-                lineIterator.close();
-            }
+        public void close() {
+            // the mapping is released once the reader becomes unreachable
+            lineReader = null;
         }
 
         @Override
@@ -323,11 +336,11 @@ final class CsvFileInput implements FileInput {
         }
 
         @Override
-        void visitLine(String[] lineArray, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
+        void visitLine(MappedCsvLineReader line, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
             visitor.labels(header.nodeLabels());
-            visitor.id(CsvImportParsingUtil.parseId(lineArray[0]));
+            visitor.id(line.longValue(0));
 
-            visitProperties(header, propertySchemas, visitor, lineArray);
+            visitProperties(header, propertySchemas, visitor, line);
 
             visitor.endOfEntity();
         }
@@ -340,12 +353,12 @@ final class CsvFileInput implements FileInput {
         }
 
         @Override
-        void visitLine(String[] lineArray, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
+        void visitLine(MappedCsvLineReader line, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
             visitor.type(header.relationshipType());
-            visitor.startId(CsvImportParsingUtil.parseId(lineArray[0]));
-            visitor.endId(CsvImportParsingUtil.parseId(lineArray[1]));
+            visitor.startId(line.longValue(0));
+            visitor.endId(line.longValue(1));
 
-            visitProperties(header, propertySchemas, visitor, lineArray);
+            visitProperties(header, propertySchemas, visitor, line);
 
             visitor.endOfEntity();
         }
@@ -359,9 +372,9 @@ final class CsvFileInput implements FileInput {
 
         @Override
         void visitLine(
-            String[] lineArray, GraphPropertyFileHeader header, InputEntityVisitor visitor
+            MappedCsvLineReader line, GraphPropertyFileHeader header, InputEntityVisitor visitor
         ) throws IOException {
-            visitProperties(header, propertySchemas, visitor, lineArray);
+            visitProperties(header, propertySchemas, visitor, line);
             visitor.endOfEntity();
         }
     }
@@ -370,14 +383,41 @@ final class CsvFileInput implements FileInput {
         FileHeader<?, PROPERTY_SCHEMA> header,
         Map<String, PROPERTY_SCHEMA> propertySchemas,
         InputEntityVisitor visitor,
-        String[] parsedLine
+        MappedCsvLineReader line
     ) throws IOException {
         for (HeaderProperty headerProperty : header.propertyMappings()) {
-            var stringProperty = parsedLine[headerProperty.position()];
             var propertyKey = headerProperty.propertyKey();
             var defaultValue = propertySchemas.get(propertyKey).defaultValue();
-            var value = CsvImportParsingUtil.parseProperty(stringProperty, headerProperty.valueType(), defaultValue, ARRAY_READER);
+            var value = CsvImportParsingUtil.parseProperty(
+                line,
+                headerProperty.position(),
+                headerProperty.valueType(),
+                defaultValue,
+                ARRAY_READER
+            );
             visitor.property(propertyKey, value);
         }
     }
+
+    /**
+     * A byte range of a data file, lines belong to the range that contains their first byte.
+     */
+    record FileRange(Path path, long start, long end) {
+
+        static List<FileRange> split(List<Path> paths, long chunkSize) {
+            var ranges = new ArrayList<FileRange>();
+            for (Path path : paths) {
+                long size;
+                try {
+                    size = Files.size(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                for (long start = 0; start < size; start += chunkSize) {
+                    ranges.add(new FileRange(path, start, Math.min(size, start + chunkSize)));
+                }
+            }
+            return ranges;
+        }
+    }
 }
@@ -33,7 +33,7 @@ import java.util.function.UnaryOperator;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
-class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
+public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
 
     static final String GRAPH_PROPERTY_DATA_FILE_NAME_TEMPLATE = "graph_property_%s_%d.csv";
     private static final String GRAPH_PROPERTY_HEADER_FILE_NAME_TEMPLATE = "graph_property_%s_header.csv";
@@ -39,9 +39,10 @@ import java.util.function.Function;
 
 import static org.neo4j.gds.core.io.file.csv.CsvFileInput.LINE_READER;
 
-final class CsvImportFileUtil {
+public final class CsvImportFileUtil {
 
     private static final ObjectReader HEADER_FILE_READER = LINE_READER;
+    private static final String CSV_FILE_EXTENSION = "csv";
 
     private CsvImportFileUtil() {}
 
@@ -87,15 +88,23 @@ final class CsvImportFileUtil {
     }
 
     public static Map<Path, List<Path>> nodeHeaderToFileMapping(Path csvDirectory) {
-        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getNodeHeaderFiles);
+        return nodeHeaderToFileMapping(csvDirectory, CSV_FILE_EXTENSION);
+    }
+
+    public static Map<Path, List<Path>> nodeHeaderToFileMapping(Path directory, String dataFileExtension) {
+        return headerToFileMapping(directory, CsvImportFileUtil::getNodeHeaderFiles, dataFileExtension);
     }
 
     public static Map<Path, List<Path>> relationshipHeaderToFileMapping(Path csvDirectory) {
-        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getRelationshipHeaderFiles);
+        return relationshipHeaderToFileMapping(csvDirectory, CSV_FILE_EXTENSION);
+    }
+
+    public static Map<Path, List<Path>> relationshipHeaderToFileMapping(Path directory, String dataFileExtension) {
+        return headerToFileMapping(directory, CsvImportFileUtil::getRelationshipHeaderFiles, dataFileExtension);
     }
 
     public static Map<Path, List<Path>> graphPropertyHeaderToFileMapping(Path csvDirectory) {
-        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getGraphPropertyHeaderFiles);
+        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getGraphPropertyHeaderFiles, CSV_FILE_EXTENSION);
     }
 
     public static List<Path> getNodeHeaderFiles(Path csvDirectory) {
@@ -115,11 +124,15 @@ final class CsvImportFileUtil {
 
     private static Map<Path, List<Path>> headerToFileMapping(
         Path csvDirectory,
-        Function<Path, Collection<Path>> headerPaths
+        Function<Path, Collection<Path>> headerPaths,
+        String dataFileExtension
     ) {
         Map<Path, List<Path>> headerToDataFileMapping = new HashMap<>();
         for (Path headerFile : headerPaths.apply(csvDirectory)) {
-            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)");
+            String dataFilePattern = headerFile
+                .getFileName()
+                .toString()
+                .replace("_header.csv", "(_\\d+)\\." + dataFileExtension);
             List<Path> dataPaths = headerToDataFileMapping.computeIfAbsent(
                 headerFile,
                 path -> new ArrayList<>()
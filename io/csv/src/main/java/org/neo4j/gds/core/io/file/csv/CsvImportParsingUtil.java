@@ -74,6 +74,27 @@ final class CsvImportParsingUtil {
         return valueType.accept(PARSING_VISITOR).parse(value, defaultValue, arrayReader);
     }
 
+    /**
+     * Parses longs and doubles directly from the mapped line, other values are parsed from their string.
+     * Missing and blank fields are replaced by the default value.
+     */
+    static Object parseProperty(
+        MappedCsvLineReader line,
+        int field,
+        ValueType valueType,
+        DefaultValue defaultValue,
+        ObjectReader arrayReader
+    ) throws IOException {
+        if (valueType == ValueType.LONG) {
+            return line.isBlank(field) ? defaultValue.longValue() : line.longValue(field);
+        }
+        if (valueType == ValueType.DOUBLE) {
+            return line.isBlank(field) ? defaultValue.doubleValue() : line.doubleValue(field);
+        }
+        var value = field < line.fieldCount() ? line.stringValue(field) : "";
+        return parseProperty(value, valueType, defaultValue, arrayReader);
+    }
+
     static long parseId(String value) {
         return Long.parseLong(value);
     }
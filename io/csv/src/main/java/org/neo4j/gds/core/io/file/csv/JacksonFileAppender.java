@@ -37,14 +37,14 @@ import java.util.function.UnaryOperator;
 import static org.neo4j.gds.api.DefaultValue.INTEGER_DEFAULT_FALLBACK;
 import static org.neo4j.gds.api.DefaultValue.LONG_DEFAULT_FALLBACK;
 
-final class JacksonFileAppender implements Flushable, AutoCloseable {
+public final class JacksonFileAppender implements Flushable, AutoCloseable {
 
     private final CsvGenerator csvEncoder;
     private final CsvSchema csvSchema;
 
     private int currentColumnIndex = 0;
 
-    static <PROPERTY_SCHEMA extends PropertySchema> JacksonFileAppender of(
+    public static <PROPERTY_SCHEMA extends PropertySchema> JacksonFileAppender of(
         Path filePath,
         List<PROPERTY_SCHEMA> propertySchemas,
         UnaryOperator<CsvSchema.Builder> schemaEnricher
@@ -110,7 +110,7 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         }
     }
 
-    void append(String value) throws IOException {
+    public void append(String value) throws IOException {
         setFieldName();
         csvEncoder.writeString(value);
     }
@@ -152,12 +152,12 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         }
     }
 
-    void startLine() throws IOException {
+    public void startLine() throws IOException {
         currentColumnIndex = 0;
         csvEncoder.writeStartObject();
     }
 
-    void endLine() throws IOException {
+    public void endLine() throws IOException {
         csvEncoder.writeEndObject();
     }
 
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the lines of a byte range of a CSV file through a memory mapping.
+ * <p>
+ * A line belongs to the range that contains its first byte, so the ranges of a file
+ * can be read independently of each other: the reader skips the line that started
+ * in the previous range and finishes the last line even if it reaches into the next range.
+ * <p>
+ * The mapping covers the range and a few bytes beyond it for the last line.
+ * It is only extended when a line runs past the end of the mapping.
+ * <p>
+ * Fields are only located when a line is read. Ids and numeric values are parsed
+ * directly from the mapped bytes, only other values are decoded into strings.
+ */
+final class MappedCsvLineReader {
+
+    private static final byte COLUMN_SEPARATOR = ',';
+    private static final byte QUOTE = '"';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    // bytes mapped beyond the end of the range, doubled whenever a line does not fit
+    private static final int DEFAULT_LINE_LENGTH = 1 << 16;
+
+    // mantissas up to 2^53 and powers of ten up to 10^22 are exact doubles
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_EXACT_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final Path path;
+    private final long mappingStart;
+    private final long fileSize;
+    private final int end;
+
+    private MappedByteBuffer buffer;
+    private int limit;
+    private boolean mappedToEndOfFile;
+
+    private int position;
+    private int fieldCount;
+    private int[] fieldStarts;
+    private int[] fieldEnds;
+    private boolean[] quoted;
+
+    MappedCsvLineReader(Path path, long start, long end) throws IOException {
+        this(path, start, end, DEFAULT_LINE_LENGTH);
+    }
+
+    MappedCsvLineReader(Path path, long start, long end, int lineLength) throws IOException {
+        this.path = path;
+        this.fileSize = Files.size(path);
+        // map the byte before the range to see whether the range starts with a new line
+        this.mappingStart = start == 0 ? 0 : start - 1;
+        this.end = (int) Math.min(end - mappingStart, Integer.MAX_VALUE);
+        map((long) this.end + lineLength);
+        this.fieldStarts = new int[8];
+        this.fieldEnds = new int[8];
+        this.quoted = new boolean[8];
+        this.position = 0;
+
+        if (start > 0) {
+            // skip the line that started in the previous range, it may end beyond this range
+            while (position < this.end && buffer.get(position) != LINE_FEED) {
+                position++;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Advances to the next non-empty line that starts within the range.
+     *
+     * @return false if there are no more lines in the range
+     */
+    boolean nextLine() {
+        while (position < end) {
+            splitLine();
+            if (fieldCount > 1 || fieldEnds[0] > fieldStarts[0] || quoted[0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Missing fields are treated as blank.
+     */
+    boolean isBlank(int field) {
+        if (field >= fieldCount) {
+            return true;
+        }
+        for (int i = fieldStarts[field]; i < fieldEnds[field]; i++) {
+            if (!Character.isWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long longValue(int field) {
+        checkField(field);
+        int from = fieldStarts[field];
+        int to = fieldEnds[field];
+        if (from == to) {
+            throw numberFormatException(field);
+        }
+
+        boolean negative = buffer.get(from) == '-';
+        int i = negative || buffer.get(from) == '+' ? from + 1 : from;
+        if (i == to) {
+            throw numberFormatException(field);
+        }
+
+        // accumulate negatively to be able to parse Long.MIN_VALUE
+        long limitValue = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limitValue / 10;
+        long result = 0;
+        for (; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                throw numberFormatException(field);
+            }
+            result *= 10;
+            if (result < limitValue + digit) {
+                throw numberFormatException(field);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    double doubleValue(int field) {
+        checkField(field);
+        int from = fieldStarts[field];
+        int to = fieldEnds[field];
+
+        boolean negative = from < to && buffer.get(from) == '-';
+        int i = from < to && (negative || buffer.get(from) == '+') ? from + 1 : from;
+
+        // fast path for plain decimals whose digits fit into an exact double
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && fractionDigits == -1) {
+                fractionDigits = 0;
+            } else if (b >= '0' && b <= '9' && digits < MAX_EXACT_DIGITS) {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fractionDigits != -1) {
+                    fractionDigits++;
+                }
+            } else {
+                return Double.parseDouble(stringValue(field));
+            }
+        }
+
+        if (digits == 0 || mantissa > MAX_EXACT_MANTISSA || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(stringValue(field));
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    String stringValue(int field) {
+        checkField(field);
+        var bytes = new byte[fieldEnds[field] - fieldStarts[field]];
+        buffer.get(fieldStarts[field], bytes);
+        var value = new String(bytes, StandardCharsets.UTF_8);
+        return quoted[field] ? value.replace("\"\"", "\"") : value;
+    }
+
+    private void splitLine() {
+        while (!splitLineWithinMapping()) {
+            extendMapping();
+        }
+    }
+
+    /**
+     * @return false if the line runs past the end of the mapping before the end of the file
+     */
+    private boolean splitLineWithinMapping() {
+        fieldCount = 0;
+        int pos = position;
+        while (true) {
+            if (pos < limit && buffer.get(pos) == QUOTE) {
+                int fieldStart = ++pos;
+                while (true) {
+                    if (pos >= limit) {
+                        if (!mappedToEndOfFile) {
+                            return false;
+                        }
+                        throw new IllegalArgumentException(formatWithLocale(
+                            "Unterminated quoted field in `%s`.",
+                            path
+                        ));
+                    }
+                    if (buffer.get(pos) == QUOTE) {
+                        if (pos + 1 == limit && !mappedToEndOfFile) {
+                            // the next byte decides whether the quote is escaped
+                            return false;
+                        }
+                        if (pos + 1 < limit && buffer.get(pos + 1) == QUOTE) {
+                            pos += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    pos++;
+                }
+                addField(fieldStart, pos, true);
+                // ignore anything between the closing quote and the next separator
+                while (pos < limit && buffer.get(pos) != COLUMN_SEPARATOR && buffer.get(pos) != LINE_FEED) {
+                    pos++;
+                }
+            } else {
+                int fieldStart = pos;
+                while (pos < limit && buffer.get(pos) != COLUMN_SEPARATOR && buffer.get(pos) != LINE_FEED) {
+                    pos++;
+                }
+                int fieldEnd = pos;
+                if (fieldEnd > fieldStart && buffer.get(fieldEnd - 1) == CARRIAGE_RETURN) {
+                    fieldEnd--;
+                }
+                addField(fieldStart, fieldEnd, false);
+            }
+
+            if (pos >= limit || buffer.get(pos) == LINE_FEED) {
+                break;
+            }
+            pos++;
+        }
+
+        if (pos >= limit && !mappedToEndOfFile) {
+            return false;
+        }
+        position = pos + 1;
+        return true;
+    }
+
+    private void extendMapping() {
+        if (limit == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Line starting at byte %d of `%s` exceeds the maximum line length of %d bytes.",
+                mappingStart + position,
+                path,
+                Integer.MAX_VALUE
+            ));
+        }
+        try {
+            map(2L * limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the given number of bytes from the start of the mapping, bounded by the end of the file.
+     * Positions stay valid as the mapping always starts at the same byte.
+     */
+    private void map(long size) throws IOException {
+        long mappingSize = Math.min(Math.min(size, fileSize - mappingStart), Integer.MAX_VALUE);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, mappingStart, mappingSize);
+        }
+        this.limit = (int) mappingSize;
+        this.mappedToEndOfFile = mappingStart + mappingSize == fileSize;
+    }
+
+    private void addField(int start, int end, boolean isQuoted) {
+        if (fieldCount == fieldStarts.length) {
+            int newLength = fieldCount * 2;
+            fieldStarts = Arrays.copyOf(fieldStarts, newLength);
+            fieldEnds = Arrays.copyOf(fieldEnds, newLength);
+            quoted = Arrays.copyOf(quoted, newLength);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        quoted[fieldCount] = isQuoted;
+        fieldCount++;
+    }
+
+    private void checkField(int field) {
+        if (field >= fieldCount) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected at least %d fields but the line in `%s` only has %d.",
+                field + 1,
+                path,
+                fieldCount
+            ));
+        }
+    }
+
+    private NumberFormatException numberFormatException(int field) {
+        return new NumberFormatException(formatWithLocale("For input string: \"%s\"", stringValue(field)));
+    }
+}
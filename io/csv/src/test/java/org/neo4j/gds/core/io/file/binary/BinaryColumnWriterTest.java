@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryColumnWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRoundTripStringsLongerThanModifiedUtf8Limit() throws IOException {
+        var file = directory.resolve("strings.bin");
+        var longString = "ä".repeat(100_000);
+        var valueTypes = new ValueType[]{ValueType.STRING};
+
+        try (var writer = new BinaryColumnWriter(file, 1, valueTypes)) {
+            writer.id(0, 0);
+            writer.property(0, longString);
+            writer.endRow();
+            writer.id(0, 1);
+            writer.property(0, null);
+            writer.endRow();
+        }
+
+        try (var reader = new BinaryColumnReader(file, 1, valueTypes, new DefaultValue[]{DefaultValue.of("default")})) {
+            assertThat(reader.nextBlock()).isEqualTo(2);
+            assertThat(reader.property(0, 0)).isEqualTo(longString);
+            assertThat(reader.property(0, 1)).isEqualTo("default");
+            assertThat(reader.nextBlock()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    void shouldRoundTripPrimitiveColumnsAcrossBlocks() throws IOException {
+        var file = directory.resolve("primitives.bin");
+        var valueTypes = new ValueType[]{ValueType.LONG, ValueType.DOUBLE, ValueType.LONG_ARRAY};
+        int rowCount = BinaryColumnWriter.BLOCK_SIZE + 42;
+
+        try (var writer = new BinaryColumnWriter(file, 1, valueTypes)) {
+            for (int row = 0; row < rowCount; row++) {
+                writer.id(0, row);
+                writer.property(0, row % 3 == 0 ? null : -row);
+                writer.property(1, row / 2D);
+                writer.property(2, new long[]{row, -row});
+                writer.endRow();
+            }
+        }
+
+        var defaultValues = new DefaultValue[]{DefaultValue.of(7L), DefaultValue.of(0D), DefaultValue.of(new long[0])};
+        try (var reader = new BinaryColumnReader(file, 1, valueTypes, defaultValues)) {
+            int offset = 0;
+            int rows;
+            while ((rows = reader.nextBlock()) > 0) {
+                for (int row = 0; row < rows; row++) {
+                    long id = offset + row;
+                    assertThat(reader.id(0, row)).isEqualTo(id);
+                    assertThat(reader.property(0, row)).isEqualTo(id % 3 == 0 ? 7L : -id);
+                    assertThat(reader.property(1, row)).isEqualTo(id / 2D);
+                    assertThat(reader.property(2, row)).isEqualTo(new long[]{id, -id});
+                }
+                offset += rows;
+            }
+            assertThat(offset).isEqualTo(rowCount);
+        }
+    }
+}
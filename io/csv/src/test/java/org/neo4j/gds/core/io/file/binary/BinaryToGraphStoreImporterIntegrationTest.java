@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterParameters;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.logging.NullLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class BinaryToGraphStoreImporterIntegrationTest {
+
+    private static final String GRAPH_WITH_PROPERTIES =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42, prop3: [0.30000001192092896D, 0.20000000298023224D], prop4: [1L, -2L]})" +
+        ", (b:A:B { prop1: 1, prop2: 43})" +
+        ", (c:A:C { prop1: 2, prop2: 44, prop3: [-0.04D] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @TempDir
+    Path graphLocation;
+
+    private static Stream<Arguments> concurrencyLabelMappingArgs() {
+        return Stream.of(
+            Arguments.of(1, false),
+            Arguments.of(4, false),
+            Arguments.of(1, true),
+            Arguments.of(4, true)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("concurrencyLabelMappingArgs")
+    void shouldImportProperties(int concurrency, boolean useLabelMapping) {
+        var graphStore = GdlFactory.of(GRAPH_WITH_PROPERTIES).build();
+
+        export(graphStore, concurrency, useLabelMapping);
+
+        var importer = new BinaryToGraphStoreImporter(
+            concurrency,
+            graphLocation,
+            Neo4jProxy.testLog(),
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+        var importedGraphStore = importer.run().graphStore();
+
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldWriteBinaryDataFiles() throws IOException {
+        var graphStore = GdlFactory.of(GRAPH_WITH_PROPERTIES).build();
+
+        export(graphStore, 1, false);
+
+        try (var files = Files.list(graphLocation)) {
+            assertThat(files.map(path -> path.getFileName().toString()).collect(Collectors.toList()))
+                .contains(
+                    "nodes_A_B_header.csv",
+                    "nodes_A_B_0.bin",
+                    "relationships_REL1_header.csv",
+                    "relationships_REL1_0.bin"
+                )
+                .noneMatch(fileName -> fileName.matches("^(nodes|relationships)_.*_\\d+\\.csv$"));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportGraphSpanningMultipleBlocks(int concurrency) {
+        var nodeCount = 3 * BinaryColumnWriter.BLOCK_SIZE + 17;
+        var gdl = new StringBuilder("CREATE ");
+        gdl.append(IntStream.range(0, nodeCount)
+            .mapToObj(i -> i % 3 == 0
+                ? "(n" + i + ":A { prop: " + (i - nodeCount / 2) + " })"
+                : "(n" + i + ":A)")
+            .collect(Collectors.joining(", ")));
+        for (int i = 1; i < nodeCount; i++) {
+            gdl.append(", (n").append(i).append(")-[:REL { weight: ").append(i * 0.5).append(" }]->(n")
+                .append((i * 7919L) % nodeCount).append(")");
+        }
+        var graphStore = GdlFactory.of(gdl.toString()).build();
+
+        export(graphStore, concurrency, false);
+
+        var importer = new BinaryToGraphStoreImporter(
+            concurrency,
+            graphLocation,
+            Neo4jProxy.testLog(),
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+        var importedGraphStore = importer.run().graphStore();
+
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldImportGraphWithNoLabels() {
+        var graphStore = GdlFactory.of("()-[]->()").build();
+
+        export(graphStore, 4, false);
+
+        var importer = new BinaryToGraphStoreImporter(4, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraphStore = importer.run().graphStore();
+
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldImportGraphProperties() {
+        var graphStore = GdlFactory.of(GRAPH_WITH_PROPERTIES).build();
+        addLongGraphProperty(graphStore);
+
+        export(graphStore, 4, false);
+
+        var importer = new BinaryToGraphStoreImporter(4, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraphStore = importer.run().graphStore();
+
+        assertThat(importedGraphStore.graphPropertyKeys()).containsExactly("longProp");
+        assertThat(importedGraphStore.graphProperty("longProp").values().longValues().toArray())
+            .containsExactlyInAnyOrder(LongStream.range(0, 10_000).toArray());
+    }
+
+    private void export(GraphStore graphStore, int concurrency, boolean useLabelMapping) {
+        GraphStoreToBinaryExporter.create(
+            graphStore,
+            new GraphStoreToFileExporterParameters(
+                "my-export",
+                "",
+                true,
+                useLabelMapping,
+                RelationshipType.ALL_RELATIONSHIPS,
+                concurrency,
+                10_000
+            ),
+            graphLocation,
+            Optional.empty(),
+            TaskRegistryFactory.empty(),
+            NullLog.getInstance(),
+            DefaultPool.INSTANCE
+        ).run();
+    }
+
+    private void addLongGraphProperty(GraphStore graphStore) {
+        graphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 10_000);
+            }
+
+            @Override
+            public long valueCount() {
+                return 10_000;
+            }
+        });
+    }
+}
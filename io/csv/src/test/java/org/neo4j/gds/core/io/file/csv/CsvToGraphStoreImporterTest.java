@@ -23,8 +23,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.io.file.FileInput;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 
 import java.net.URISyntaxException;
@@ -53,23 +55,29 @@ class CsvToGraphStoreImporterTest {
         var graphStore = userGraphStore.graphStore();
 
         assertThat(userGraphStore.userName()).isEqualTo("UserA");
+        assertGraphEquals(expectedGraph(), graphStore.getUnion());
+    }
 
-        var expectedGraph = TestSupport.fromGdl(
-            "  (n0:A {thisisaverylongnameintentionallytotriggerquoting: 21, prop2: [0.1, 0.00002]})" +
-            ", (n1:A {thisisaverylongnameintentionallytotriggerquoting: 42, prop2: [0.3, -0.4]})" +
-            ", (n2:A {thisisaverylongnameintentionallytotriggerquoting: 23, prop2: [0.5]})" +
-            ", (n3:A {thisisaverylongnameintentionallytotriggerquoting: 24, prop2: NULL})" +
-            ", (:A { thisisaverylongnameintentionallytotriggerquoting: 25, prop2: [0.6, 0.7]})" +
-            ", (:B)" +
-            ", (:B)" +
-            ", (:B)" +
-            ", (:B)" +
-            ", (:B)" +
-            ", (n0)-[:REL {weight: 1.5, height: 2.2}]->(n1)-[:REL {weight: 4.0, height: 2.3}]->(n2)-[:REL {weight: 4.2, height: 2.4}]->(n3)" +
-            ", (n1)-[:REL1]->(n2)-[:REL1]->(n3)"
-        );
-        var actualGraph = graphStore.getUnion();
-        assertGraphEquals(expectedGraph, actualGraph);
+    @ParameterizedTest
+    @ValueSource(longs = {1, 5, 16})
+    void shouldImportFromFileRanges(long chunkSize) throws URISyntaxException {
+        // lines span multiple ranges, each line must be imported exactly once
+        var importer = new CsvToGraphStoreImporter(
+            4,
+            importPath(),
+            Neo4jProxy.testLog(),
+            EmptyTaskRegistryFactory.INSTANCE
+        ) {
+            @Override
+            protected FileInput fileInput(Path importPath) {
+                return new CsvFileInput(importPath, chunkSize);
+            }
+        };
+        var graphStore = importer.run().graphStore();
+
+        assertGraphEquals(expectedGraph(), graphStore.getUnion());
+        assertThat(graphStore.graphProperty("prop1").values().longValues().toArray())
+            .containsExactlyInAnyOrder(LongStream.range(0, 10).toArray());
     }
 
     @Test
@@ -106,6 +114,23 @@ class CsvToGraphStoreImporterTest {
         log.assertContainsMessage(TestLog.INFO, "Csv import :: Finished");
     }
 
+    private static Graph expectedGraph() {
+        return TestSupport.fromGdl(
+            "  (n0:A {thisisaverylongnameintentionallytotriggerquoting: 21, prop2: [0.1, 0.00002]})" +
+            ", (n1:A {thisisaverylongnameintentionallytotriggerquoting: 42, prop2: [0.3, -0.4]})" +
+            ", (n2:A {thisisaverylongnameintentionallytotriggerquoting: 23, prop2: [0.5]})" +
+            ", (n3:A {thisisaverylongnameintentionallytotriggerquoting: 24, prop2: NULL})" +
+            ", (:A { thisisaverylongnameintentionallytotriggerquoting: 25, prop2: [0.6, 0.7]})" +
+            ", (:B)" +
+            ", (:B)" +
+            ", (:B)" +
+            ", (:B)" +
+            ", (:B)" +
+            ", (n0)-[:REL {weight: 1.5, height: 2.2}]->(n1)-[:REL {weight: 4.0, height: 2.3}]->(n2)-[:REL {weight: 4.2, height: 2.4}]->(n3)" +
+            ", (n1)-[:REL1]->(n2)-[:REL1]->(n3)"
+        );
+    }
+
     private Path importPath() throws URISyntaxException {
         var uri = Objects.requireNonNull(getClass().getClassLoader().getResource("CsvToGraphStoreImporterTest")).toURI();
         return Paths.get(uri);
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedCsvLineReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 7, 100})
+    void shouldReadEachLineOnceAcrossRanges(long chunkSize) throws IOException {
+        var file = write("1,2\n\n33,44\r\n555,666\n7,8");
+
+        var lines = new ArrayList<List<Long>>();
+        for (var range : CsvFileInput.FileRange.split(List.of(file), chunkSize)) {
+            var reader = new MappedCsvLineReader(range.path(), range.start(), range.end());
+            while (reader.nextLine()) {
+                lines.add(List.of(reader.longValue(0), reader.longValue(1)));
+            }
+        }
+
+        assertThat(lines).containsExactly(List.of(1L, 2L), List.of(33L, 44L), List.of(555L, 666L), List.of(7L, 8L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 5, 100})
+    void shouldExtendTheMappingForLinesBeyondIt(long chunkSize) throws IOException {
+        var file = write("1,\"a\"\"b\"\n22,\"" + "c".repeat(50) + "\"\n333,d\n");
+
+        var lines = new ArrayList<List<String>>();
+        for (var range : CsvFileInput.FileRange.split(List.of(file), chunkSize)) {
+            // map a single byte beyond the range, lines that cross the end of the range extend the mapping
+            var reader = new MappedCsvLineReader(range.path(), range.start(), range.end(), 1);
+            while (reader.nextLine()) {
+                lines.add(List.of(reader.stringValue(0), reader.stringValue(1)));
+            }
+        }
+
+        assertThat(lines).containsExactly(
+            List.of("1", "a\"b"),
+            List.of("22", "c".repeat(50)),
+            List.of("333", "d")
+        );
+    }
+
+    @Test
+    void shouldReadQuotedAndBlankFields() throws IOException {
+        var file = write("\"1\",,\"a,\"\"b\"\"\",  \n");
+        var reader = new MappedCsvLineReader(file, 0, Files.size(file));
+
+        assertThat(reader.nextLine()).isTrue();
+        assertThat(reader.fieldCount()).isEqualTo(4);
+        assertThat(reader.longValue(0)).isEqualTo(1L);
+        assertThat(reader.isBlank(1)).isTrue();
+        assertThat(reader.stringValue(2)).isEqualTo("a,\"b\"");
+        assertThat(reader.isBlank(3)).isTrue();
+        assertThat(reader.isBlank(4)).isTrue();
+        assertThat(reader.nextLine()).isFalse();
+    }
+
+    @Test
+    void shouldParseLongs() throws IOException {
+        var file = write(Long.MIN_VALUE + "," + Long.MAX_VALUE + ",-0,+42\n");
+        var reader = new MappedCsvLineReader(file, 0, Files.size(file));
+
+        assertThat(reader.nextLine()).isTrue();
+        assertThat(reader.longValue(0)).isEqualTo(Long.MIN_VALUE);
+        assertThat(reader.longValue(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(reader.longValue(2)).isEqualTo(0L);
+        assertThat(reader.longValue(3)).isEqualTo(42L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"9223372036854775808", "-9223372036854775809", "1.0", "-", "x"})
+    void shouldRejectInvalidLongs(String value) throws IOException {
+        var file = write(value);
+        var reader = new MappedCsvLineReader(file, 0, Files.size(file));
+
+        assertThat(reader.nextLine()).isTrue();
+        assertThatThrownBy(() -> reader.longValue(0))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessageContaining(value);
+    }
+
+    @Test
+    void shouldParseDoublesLikeTheJdk() throws IOException {
+        var random = new Random(42);
+        var values = new ArrayList<String>(List.of(
+            "0", "-0.0", "1.", "0.1", "4.2", "1e10", "0.2E-4", "NaN", "-Infinity",
+            "123456789012345678901234567890", "0.30000000000000004", "4.9E-324", " 1.5 "
+        ));
+        for (int i = 0; i < 1000; i++) {
+            values.add(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10)));
+            values.add(String.valueOf(random.nextInt(1_000_000) / 1000.0));
+        }
+        var file = write(String.join(",", values));
+        var reader = new MappedCsvLineReader(file, 0, Files.size(file));
+
+        assertThat(reader.nextLine()).isTrue();
+        for (int i = 0; i < values.size(); i++) {
+            // compare the bits to tell NaN and negative zero apart
+            assertThat(Double.doubleToLongBits(reader.doubleValue(i)))
+                .as(values.get(i))
+                .isEqualTo(Double.doubleToLongBits(Double.parseDouble(values.get(i))));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        var file = tempDir.resolve("data.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
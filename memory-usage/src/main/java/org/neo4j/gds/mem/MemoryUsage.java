@@ -41,6 +41,8 @@ import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.OptionalLong;
 
 import static java.lang.Integer.numberOfTrailingZeros;
@@ -315,6 +317,30 @@ public final class MemoryUsage {
         }
     }
 
+    /**
+     * The size of the objects reachable from {@code thing} that are not also reachable from {@code excluded}.
+     */
+    public static long sizeOfExcluding(Object thing, Object excluded) {
+        if (!VmInfoHolder.VM_INFO_AVAILABLE) {
+            return -1L;
+        }
+
+        try {
+            var excludedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+            new GraphWalker(record -> excludedObjects.add(record.obj())).walk(excluded);
+
+            long[] size = {0L};
+            new GraphWalker(record -> {
+                if (!excludedObjects.contains(record.obj())) {
+                    size[0] += record.size();
+                }
+            }).walk(thing);
+            return size[0];
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
     public static OptionalLong sizeOfObject(Object thing) {
         long size = sizeOf(thing);
         return size == -1 ? OptionalLong.empty() : OptionalLong.of(size);
@@ -21,7 +21,9 @@ package org.neo4j.gds.mem;
 
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class MemoryUsageTest {
 
@@ -30,6 +32,16 @@ class MemoryUsageTest {
         assertThatCode(() -> MemoryUsage.sizeOf(new JOLMightFail())).doesNotThrowAnyException();
     }
 
+    @Test
+    void shouldNotCountObjectsReachableFromExcluded() {
+        var shared = new long[1000];
+        var thing = new Object[]{shared, new long[10]};
+        assumeTrue(MemoryUsage.sizeOf(thing) != -1L);
+
+        assertThat(MemoryUsage.sizeOfExcluding(thing, new Object[]{shared}))
+            .isEqualTo(MemoryUsage.sizeOf(thing) - MemoryUsage.sizeOfLongArray(1000));
+    }
+
     // The nested recursive ThreadLocal causes JOL to be unable to access some attributes of the class on the ZULU JVM
     private static final class JOLMightFail {
         private final ThreadLocal<JOLMightFail> threadLocal;
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import org.neo4j.gds.collections.ha.HugeByteArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.ml.models.Features;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * Feature vectors quantized into at most {@link #MAX_NUMBER_OF_BINS} bins per feature.
+ * <p>
+ * The bin boundaries are approximate quantiles of each feature, estimated from an evenly spaced sample
+ * of the feature vectors. A value belongs to bin {@code b} if it is smaller than {@link #threshold(int, int)}
+ * of bin {@code b} and not smaller than the threshold of bin {@code b - 1}.
+ * Since the bins are independent of any particular tree, they can be shared by all trees of a forest.
+ * The original feature vectors remain accessible, so instances can be passed wherever {@link Features} are expected.
+ */
+public final class BinnedFeatures implements Features {
+
+    public static final int MAX_NUMBER_OF_BINS = 256;
+
+    // Upper bound of feature vectors to look at when estimating quantiles.
+    static final int QUANTILE_SAMPLE_SIZE = 100_000;
+
+    private final Features features;
+    private final int featureDimension;
+    private final double[][] thresholds;
+    private final HugeByteArray bins;
+
+    private BinnedFeatures(Features features, int featureDimension, double[][] thresholds, HugeByteArray bins) {
+        this.features = features;
+        this.featureDimension = featureDimension;
+        this.thresholds = thresholds;
+        this.bins = bins;
+    }
+
+    public static BinnedFeatures of(Features features, int numberOfBins, int concurrency) {
+        assert numberOfBins >= 2 && numberOfBins <= MAX_NUMBER_OF_BINS;
+
+        int featureDimension = features.featureDimension();
+        var thresholds = new double[featureDimension][];
+        for (int featureIdx = 0; featureIdx < featureDimension; featureIdx++) {
+            thresholds[featureIdx] = quantileThresholds(features, featureIdx, numberOfBins);
+        }
+
+        var bins = HugeByteArray.newArray(features.size() * featureDimension);
+        ParallelUtil.parallelForEachNode(
+            features.size(),
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            featureVectorIdx -> {
+                var featureVector = features.get(featureVectorIdx);
+                for (int featureIdx = 0; featureIdx < featureDimension; featureIdx++) {
+                    int bin = binOf(thresholds[featureIdx], featureVector[featureIdx]);
+                    bins.set(featureVectorIdx * featureDimension + featureIdx, (byte) bin);
+                }
+            }
+        );
+
+        return new BinnedFeatures(features, featureDimension, thresholds, bins);
+    }
+
+    public static MemoryRange memoryEstimation(long numberOfFeatureVectors, MemoryRange featureDimension, int numberOfBins) {
+        return MemoryRange.of(sizeOfInstance(BinnedFeatures.class))
+            .add(featureDimension.times(sizeOfDoubleArray(numberOfBins - 1)))
+            .add(MemoryRange.of(
+                sizeOfObjectArray(featureDimension.min) + HugeByteArray.memoryEstimation(numberOfFeatureVectors * featureDimension.min),
+                sizeOfObjectArray(featureDimension.max) + HugeByteArray.memoryEstimation(numberOfFeatureVectors * featureDimension.max)
+            ));
+    }
+
+    @Override
+    public long size() {
+        return features.size();
+    }
+
+    @Override
+    public double[] get(long id) {
+        return features.get(id);
+    }
+
+    @Override
+    public int featureDimension() {
+        return featureDimension;
+    }
+
+    int numberOfBins(int featureIdx) {
+        return thresholds[featureIdx].length + 1;
+    }
+
+    int bin(long featureVectorIdx, int featureIdx) {
+        return Byte.toUnsignedInt(bins.get(featureVectorIdx * featureDimension + featureIdx));
+    }
+
+    /**
+     * The exclusive upper bound of the feature values in the given bin.
+     * Not defined for the last bin, which is unbounded.
+     */
+    double threshold(int featureIdx, int bin) {
+        return thresholds[featureIdx][bin];
+    }
+
+    private static double[] quantileThresholds(Features features, int featureIdx, int numberOfBins) {
+        int sampleSize = (int) Math.min(features.size(), QUANTILE_SAMPLE_SIZE);
+        if (sampleSize == 0) {
+            return new double[0];
+        }
+
+        var values = new double[sampleSize];
+        for (int i = 0; i < sampleSize; i++) {
+            values[i] = features.get(i * features.size() / sampleSize)[featureIdx];
+        }
+        Arrays.sort(values);
+
+        var thresholds = new double[numberOfBins - 1];
+        int numberOfThresholds = 0;
+        double previous = values[0];
+        for (int bin = 1; bin < numberOfBins; bin++) {
+            double candidate = values[(int) ((long) bin * sampleSize / numberOfBins)];
+            // Equal quantiles would produce empty bins, and a threshold at the minimum would leave the first bin empty.
+            if (candidate > previous) {
+                thresholds[numberOfThresholds++] = candidate;
+                previous = candidate;
+            }
+        }
+
+        return Arrays.copyOf(thresholds, numberOfThresholds);
+    }
+
+    private static int binOf(double[] thresholds, double value) {
+        int idx = Arrays.binarySearch(thresholds, value);
+        // An exact match belongs to the bin above the threshold, otherwise take the insertion point.
+        return idx >= 0 ? idx + 1 : -(idx + 1);
+    }
+}
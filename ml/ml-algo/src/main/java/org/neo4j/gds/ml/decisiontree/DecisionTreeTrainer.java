@@ -36,7 +36,7 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
     private final Features features;
     private final DecisionTreeTrainerConfig config;
     private final FeatureBagger featureBagger;
-    private Splitter splitter;
+    private SplitFinder splitter;
 
     DecisionTreeTrainer(
         Features features,
@@ -77,7 +77,9 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
                 HugeLongArray.memoryEstimation(numberOfTrainingSamples / maxItemsOnStack) * maxItemsOnStack
             ));
 
-        var splitterEstimation = Splitter.memoryEstimation(numberOfTrainingSamples, sizeOfImpurityData);
+        var splitterEstimation = config.numberOfBins()
+            .map(numberOfBins -> HistogramSplitter.memoryEstimation(numberOfBins, sizeOfImpurityData))
+            .orElseGet(() -> Splitter.memoryEstimation(numberOfTrainingSamples, sizeOfImpurityData));
 
         return predictorEstimation
             .add(maxStackSize)
@@ -111,13 +113,7 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
     }
 
     public DecisionTreePredictor<PREDICTION> train(ReadOnlyHugeLongArray trainSetIndices) {
-        splitter = new Splitter(
-            trainSetIndices.size(),
-            impurityCriterion,
-            featureBagger,
-            features,
-            config.minLeafSize()
-        );
+        splitter = createSplitter(trainSetIndices.size());
         var stack = new ArrayDeque<StackRecord<PREDICTION>>();
         TreeNode<PREDICTION> root;
 
@@ -176,6 +172,24 @@ public abstract class DecisionTreeTrainer<PREDICTION extends Number> {
 
     protected abstract PREDICTION toTerminal(Group group);
 
+    private SplitFinder createSplitter(long trainSetSize) {
+        if (config.numberOfBins().isEmpty()) {
+            return new Splitter(
+                trainSetSize,
+                impurityCriterion,
+                featureBagger,
+                features,
+                config.minLeafSize()
+            );
+        }
+
+        // Features which are already binned, for example by a random forest, are shared instead of binned again.
+        var binnedFeatures = features instanceof BinnedFeatures
+            ? (BinnedFeatures) features
+            : BinnedFeatures.of(features, config.numberOfBins().get(), 1);
+        return new HistogramSplitter(impurityCriterion, binnedFeatures, featureBagger, config.minLeafSize());
+    }
+
     private TreeNode<PREDICTION> splitAndPush(
         Deque<StackRecord<PREDICTION>> stack,
         Group group,
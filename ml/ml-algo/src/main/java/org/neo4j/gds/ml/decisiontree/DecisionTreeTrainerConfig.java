@@ -21,6 +21,8 @@ package org.neo4j.gds.ml.decisiontree;
 
 import org.neo4j.gds.annotation.Configuration;
 
+import java.util.Optional;
+
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration
@@ -41,6 +43,10 @@ public interface DecisionTreeTrainerConfig {
         return 1;
     }
 
+    @Configuration.IntegerRange(min = 2, max = BinnedFeatures.MAX_NUMBER_OF_BINS)
+    // If set, splits are searched among quantile bins of the feature values instead of among all sorted values.
+    Optional<Integer> numberOfBins();
+
     @Configuration.Check
     default void validateMinSizes() {
         if (minLeafSize() >= minSplitSize()) {
@@ -90,6 +90,33 @@ public class Entropy implements ImpurityCriterion {
         updateImpurityData(label, newGroupSize, newClassCount, entropyImpurityData);
     }
 
+    @Override
+    public void incrementalImpurity(ImpurityData addend, ImpurityData impurityData) {
+        mergeImpurityData((EntropyImpurityData) addend, 1, (EntropyImpurityData) impurityData);
+    }
+
+    @Override
+    public void decrementalImpurity(ImpurityData subtrahend, ImpurityData impurityData) {
+        mergeImpurityData((EntropyImpurityData) subtrahend, -1, (EntropyImpurityData) impurityData);
+    }
+
+    private static void mergeImpurityData(EntropyImpurityData other, long sign, EntropyImpurityData impurityData) {
+        var classCounts = impurityData.classCounts();
+        long newGroupSize = impurityData.groupSize() + sign * other.groupSize();
+
+        double newImpurity = 0;
+        for (int label = 0; label < classCounts.length; label++) {
+            classCounts[label] += sign * other.classCounts()[label];
+            if (classCounts[label] == 0L) continue;
+
+            double p = (double) classCounts[label] / newGroupSize;
+            newImpurity -= p * Math.log(p);
+        }
+
+        impurityData.setGroupSize(newGroupSize);
+        impurityData.setImpurity(newImpurity / LN_2);
+    }
+
     private static void updateImpurityData(
         int label,
         long newGroupSize,
@@ -85,6 +85,31 @@ public class GiniIndex implements ImpurityCriterion {
         updateImpurityData(label, newGroupSize, newClassCount, giniImpurityData);
     }
 
+    @Override
+    public void incrementalImpurity(ImpurityData addend, ImpurityData impurityData) {
+        mergeImpurityData((GiniImpurityData) addend, 1, (GiniImpurityData) impurityData);
+    }
+
+    @Override
+    public void decrementalImpurity(ImpurityData subtrahend, ImpurityData impurityData) {
+        mergeImpurityData((GiniImpurityData) subtrahend, -1, (GiniImpurityData) impurityData);
+    }
+
+    private static void mergeImpurityData(GiniImpurityData other, long sign, GiniImpurityData impurityData) {
+        var classCounts = impurityData.classCounts();
+        long sumOfSquares = 0;
+        for (int label = 0; label < classCounts.length; label++) {
+            classCounts[label] += sign * other.classCounts()[label];
+            sumOfSquares += classCounts[label] * classCounts[label];
+        }
+
+        long newGroupSize = impurityData.groupSize() + sign * other.groupSize();
+        impurityData.setGroupSize(newGroupSize);
+        impurityData.setImpurity(
+            newGroupSize == 0 ? 0 : 1.0 - (double) sumOfSquares / (newGroupSize * newGroupSize)
+        );
+    }
+
     private static void updateImpurityData(int label, long newGroupSize, long newClassCount, GiniImpurityData impurityData) {
         long groupSizeSquared = impurityData.groupSize() * impurityData.groupSize();
         long newGroupSizeSquared = newGroupSize * newGroupSize;
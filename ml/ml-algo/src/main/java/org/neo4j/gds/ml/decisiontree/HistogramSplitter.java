@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * Finds splits among the bins of {@link BinnedFeatures} instead of among all sorted feature values.
+ * <p>
+ * For every feature, the impurity data of each bin is accumulated in a single pass over the group.
+ * Candidate splits are then evaluated by moving whole bins from the right to the left child, where the
+ * right child is always the parent minus its left sibling. This makes split finding linear in the group
+ * size and the number of bins, rather than requiring a sort per feature.
+ */
+final class HistogramSplitter implements SplitFinder {
+
+    private final ImpurityCriterion impurityCriterion;
+    private final BinnedFeatures binnedFeatures;
+    private final FeatureBagger featureBagger;
+    private final int minLeafSize;
+
+    private final ImpurityCriterion.ImpurityData emptyImpurityData;
+    // Owned by a single tree trainer, so the histogram buffers can be reused across all tree nodes.
+    private final ImpurityCriterion.ImpurityData[] histogram;
+    private final ImpurityCriterion.ImpurityData leftImpurityData;
+    private final ImpurityCriterion.ImpurityData rightImpurityData;
+
+    HistogramSplitter(
+        ImpurityCriterion impurityCriterion,
+        BinnedFeatures binnedFeatures,
+        FeatureBagger featureBagger,
+        int minLeafSize
+    ) {
+        this.impurityCriterion = impurityCriterion;
+        this.binnedFeatures = binnedFeatures;
+        this.featureBagger = featureBagger;
+        this.minLeafSize = minLeafSize;
+        this.emptyImpurityData = newImpurityData();
+        this.histogram = new ImpurityCriterion.ImpurityData[BinnedFeatures.MAX_NUMBER_OF_BINS];
+        this.leftImpurityData = newImpurityData();
+        this.rightImpurityData = newImpurityData();
+    }
+
+    static long memoryEstimation(int numberOfBins, long sizeOfImpurityData) {
+        return sizeOfInstance(HistogramSplitter.class)
+               + sizeOfObjectArray(BinnedFeatures.MAX_NUMBER_OF_BINS)
+               // histogram, left, right and best left and right impurity data
+               + (numberOfBins + 5L) * sizeOfImpurityData;
+    }
+
+    @Override
+    public DecisionTreeTrainer.Split findBestSplit(Group group) {
+        int bestFeatureIdx = -1;
+        int bestBin = -1;
+        double bestImpurity = Double.MAX_VALUE;
+
+        var bestLeftImpurityData = newImpurityData();
+        var bestRightImpurityData = newImpurityData();
+
+        for (int featureIdx : featureBagger.sample()) {
+            int numberOfBins = binnedFeatures.numberOfBins(featureIdx);
+            if (numberOfBins < 2) {
+                continue;
+            }
+
+            accumulateHistogram(group, featureIdx, numberOfBins);
+
+            emptyImpurityData.copyTo(leftImpurityData);
+            group.impurityData().copyTo(rightImpurityData);
+
+            // The last bin can never be moved to the left, as that would leave the right child empty.
+            for (int bin = 0; bin < numberOfBins - 1; bin++) {
+                var binImpurityData = histogram[bin];
+                if (binImpurityData.groupSize() == 0) {
+                    continue;
+                }
+
+                impurityCriterion.incrementalImpurity(binImpurityData, leftImpurityData);
+                impurityCriterion.decrementalImpurity(binImpurityData, rightImpurityData);
+
+                if (rightImpurityData.groupSize() < minLeafSize) {
+                    break;
+                }
+                if (leftImpurityData.groupSize() < minLeafSize) {
+                    continue;
+                }
+
+                double combinedImpurity = impurityCriterion.combinedImpurity(leftImpurityData, rightImpurityData);
+                if (combinedImpurity < bestImpurity) {
+                    bestFeatureIdx = featureIdx;
+                    bestBin = bin;
+                    bestImpurity = combinedImpurity;
+                    leftImpurityData.copyTo(bestLeftImpurityData);
+                    rightImpurityData.copyTo(bestRightImpurityData);
+                }
+            }
+        }
+
+        if (bestFeatureIdx == -1) {
+            return ImmutableSplit.of(
+                bestFeatureIdx,
+                Double.NaN,
+                ImmutableGroups.of(
+                    group,
+                    ImmutableGroup.of(HugeLongArray.of(), 0, 0, bestRightImpurityData)
+                )
+            );
+        }
+
+        return partition(group, bestFeatureIdx, bestBin, bestLeftImpurityData, bestRightImpurityData);
+    }
+
+    private void accumulateHistogram(Group group, int featureIdx, int numberOfBins) {
+        for (int bin = 0; bin < numberOfBins; bin++) {
+            if (histogram[bin] == null) {
+                histogram[bin] = newImpurityData();
+            } else {
+                emptyImpurityData.copyTo(histogram[bin]);
+            }
+        }
+
+        var array = group.array();
+        long endIdx = group.startIdx() + group.size();
+        for (long idx = group.startIdx(); idx < endIdx; idx++) {
+            long featureVectorIdx = array.get(idx);
+            impurityCriterion.incrementalImpurity(
+                featureVectorIdx,
+                histogram[binnedFeatures.bin(featureVectorIdx, featureIdx)]
+            );
+        }
+    }
+
+    private DecisionTreeTrainer.Split partition(
+        Group group,
+        int featureIdx,
+        int lastLeftBin,
+        ImpurityCriterion.ImpurityData leftImpurityData,
+        ImpurityCriterion.ImpurityData rightImpurityData
+    ) {
+        var leftChildArray = HugeLongArray.newArray(leftImpurityData.groupSize());
+        var rightChildArray = HugeLongArray.newArray(rightImpurityData.groupSize());
+
+        long leftIdx = 0;
+        long rightIdx = 0;
+        var array = group.array();
+        long endIdx = group.startIdx() + group.size();
+        for (long idx = group.startIdx(); idx < endIdx; idx++) {
+            long featureVectorIdx = array.get(idx);
+            if (binnedFeatures.bin(featureVectorIdx, featureIdx) <= lastLeftBin) {
+                leftChildArray.set(leftIdx++, featureVectorIdx);
+            } else {
+                rightChildArray.set(rightIdx++, featureVectorIdx);
+            }
+        }
+
+        return ImmutableSplit.of(
+            featureIdx,
+            binnedFeatures.threshold(featureIdx, lastLeftBin),
+            ImmutableGroups.of(
+                ImmutableGroup.of(leftChildArray, 0, leftIdx, leftImpurityData),
+                ImmutableGroup.of(rightChildArray, 0, rightIdx, rightImpurityData)
+            )
+        );
+    }
+
+    private ImpurityCriterion.ImpurityData newImpurityData() {
+        return impurityCriterion.groupImpurity(HugeLongArray.of(), 0, 0);
+    }
+}
@@ -28,6 +28,18 @@ public interface ImpurityCriterion {
 
     void decrementalImpurity(long featureVectorIdx, ImpurityData impurityData);
 
+    /**
+     * Adds all feature vectors represented by `addend` to `impurityData`, as if each of them
+     * had been added with {@link #incrementalImpurity(long, ImpurityData)}.
+     */
+    void incrementalImpurity(ImpurityData addend, ImpurityData impurityData);
+
+    /**
+     * Removes all feature vectors represented by `subtrahend` from `impurityData`, as if each of them
+     * had been removed with {@link #decrementalImpurity(long, ImpurityData)}.
+     */
+    void decrementalImpurity(ImpurityData subtrahend, ImpurityData impurityData);
+
     default double combinedImpurity(ImpurityData leftImpurityData, ImpurityData rightImpurityData) {
         long totalSize = leftImpurityData.groupSize() + rightImpurityData.groupSize();
         double leftWeight = (double) leftImpurityData.groupSize() / totalSize;
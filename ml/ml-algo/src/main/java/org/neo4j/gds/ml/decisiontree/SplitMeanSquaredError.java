@@ -83,6 +83,32 @@ public class SplitMeanSquaredError implements ImpurityCriterion {
         updateImpurityData(sum, sumOfSquares, groupSize, mseImpurityData);
     }
 
+    @Override
+    public void incrementalImpurity(ImpurityData addend, ImpurityData impurityData) {
+        mergeImpurityData((MSEImpurityData) addend, 1, (MSEImpurityData) impurityData);
+    }
+
+    @Override
+    public void decrementalImpurity(ImpurityData subtrahend, ImpurityData impurityData) {
+        mergeImpurityData((MSEImpurityData) subtrahend, -1, (MSEImpurityData) impurityData);
+    }
+
+    private static void mergeImpurityData(MSEImpurityData other, int sign, MSEImpurityData mseImpurityData) {
+        double sum = mseImpurityData.sum() + sign * other.sum();
+        double sumOfSquares = mseImpurityData.sumOfSquares() + sign * other.sumOfSquares();
+        long groupSize = mseImpurityData.groupSize() + sign * other.groupSize();
+
+        if (groupSize == 0) {
+            mseImpurityData.setImpurity(0);
+            mseImpurityData.setSum(0);
+            mseImpurityData.setSumOfSquares(0);
+            mseImpurityData.setGroupSize(0);
+            return;
+        }
+
+        updateImpurityData(sum, sumOfSquares, groupSize, mseImpurityData);
+    }
+
     private static void updateImpurityData(double sum, double sumOfSquares, long groupSize, MSEImpurityData mseImpurityData) {
         double mean = sum / groupSize;
         double mse = sumOfSquares / groupSize - mean * mean;
@@ -25,7 +25,7 @@ import org.neo4j.gds.ml.models.Features;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 
-public class Splitter {
+public class Splitter implements SplitFinder {
 
     private final ImpurityCriterion impurityCriterion;
     private final Features features;
@@ -53,7 +53,8 @@ public class Splitter {
                + 4 * HugeLongArray.memoryEstimation(numberOfTrainingSamples);
     }
 
-    DecisionTreeTrainer.Split findBestSplit(Group group) {
+    @Override
+    public DecisionTreeTrainer.Split findBestSplit(Group group) {
         int bestIdx = -1;
         double bestValue = Double.MAX_VALUE;
         double bestImpurity = Double.MAX_VALUE;
@@ -34,6 +34,7 @@ import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.LogLevel;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.decisiontree.BinnedFeatures;
 import org.neo4j.gds.ml.decisiontree.ClassifierImpurityCriterionType;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeClassifierTrainer;
 import org.neo4j.gds.ml.decisiontree.DecisionTreePredictor;
@@ -102,7 +103,7 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
         int minNumberOfBaggedFeatures = (int) Math.ceil(config.maxFeaturesRatio((int) featureDimension.min) * featureDimension.min);
         int maxNumberOfBaggedFeatures = (int) Math.ceil(config.maxFeaturesRatio((int) featureDimension.max) * featureDimension.max);
 
-        return MemoryEstimations.builder("Training")
+        var builder = MemoryEstimations.builder("Training")
             // estimating the final forest produced
             .add(RandomForestClassifierData.memoryEstimation(numberOfTrainingSamples, config))
             .rangePerNode(
@@ -128,8 +129,18 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
                             config.numberOfSamplesRatio()
                         )
                     ).times(concurrency)
+            );
+
+        config.numberOfBins().ifPresent(numberOfBins -> builder.rangePerNode(
+            "Binned features",
+            nodeCount -> BinnedFeatures.memoryEstimation(
+                numberOfTrainingSamples.applyAsLong(nodeCount),
+                featureDimension,
+                numberOfBins
             )
-            .build();
+        ));
+
+        return builder.build();
     }
 
     public RandomForestClassifier train(
@@ -144,7 +155,12 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
         var decisionTreeTrainConfig = DecisionTreeTrainerConfigImpl.builder()
             .maxDepth(config.maxDepth())
             .minSplitSize(config.minSplitSize())
+            .numberOfBins(config.numberOfBins())
             .build();
+        // Binning only depends on the feature vectors, so it is done once and shared by all trees of the forest.
+        Features treeFeatures = config.numberOfBins()
+            .<Features>map(numberOfBins -> BinnedFeatures.of(allFeatureVectors, numberOfBins, concurrency))
+            .orElse(allFeatureVectors);
 
         int numberOfDecisionTrees = config.numberOfDecisionTrees();
         var impurityCriterion = initializeImpurityCriterion(allLabels);
@@ -156,7 +172,7 @@ public class RandomForestClassifierTrainer implements ClassifierTrainer {
                 decisionTreeTrainConfig,
                 config,
                 random.split(),
-                allFeatureVectors,
+                treeFeatures,
                 allLabels,
                 numberOfClasses,
                 impurityCriterion,
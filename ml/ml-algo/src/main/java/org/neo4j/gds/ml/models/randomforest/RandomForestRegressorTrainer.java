@@ -31,6 +31,7 @@ import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.LogLevel;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.decisiontree.BinnedFeatures;
 import org.neo4j.gds.ml.decisiontree.DecisionTreePredictor;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeRegressorTrainer;
 import org.neo4j.gds.ml.decisiontree.DecisionTreeTrainerConfig;
@@ -84,7 +85,7 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
         int minNumberOfBaggedFeatures = (int) Math.ceil(config.maxFeaturesRatio((int) featureDimension.min) * featureDimension.min);
         int maxNumberOfBaggedFeatures = (int) Math.ceil(config.maxFeaturesRatio((int) featureDimension.max) * featureDimension.max);
 
-        return MemoryEstimations.builder("Training")
+        var builder = MemoryEstimations.builder("Training")
             // estimating the final forest produced
             .add(RandomForestRegressorData.memoryEstimation(numberOfTrainingSamples, config))
             .rangePerNode(
@@ -106,8 +107,18 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
                             config.numberOfSamplesRatio()
                         )
                     ).times(concurrency)
+            );
+
+        config.numberOfBins().ifPresent(numberOfBins -> builder.rangePerNode(
+            "Binned features",
+            nodeCount -> BinnedFeatures.memoryEstimation(
+                numberOfTrainingSamples.applyAsLong(nodeCount),
+                featureDimension,
+                numberOfBins
             )
-            .build();
+        ));
+
+        return builder.build();
     }
 
     public RandomForestRegressor train(
@@ -118,7 +129,12 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
         var decisionTreeTrainConfig = DecisionTreeTrainerConfigImpl.builder()
             .maxDepth(config.maxDepth())
             .minSplitSize(config.minSplitSize())
+            .numberOfBins(config.numberOfBins())
             .build();
+        // Binning only depends on the feature vectors, so it is done once and shared by all trees of the forest.
+        Features treeFeatures = config.numberOfBins()
+            .<Features>map(numberOfBins -> BinnedFeatures.of(allFeatureVectors, numberOfBins, concurrency))
+            .orElse(allFeatureVectors);
 
         int numberOfDecisionTrees = config.numberOfDecisionTrees();
         var impurityCriterion = new SplitMeanSquaredError(targets);
@@ -130,7 +146,7 @@ public class RandomForestRegressorTrainer implements RegressorTrainer {
                 decisionTreeTrainConfig,
                 config,
                 random.split(),
-                allFeatureVectors,
+                treeFeatures,
                 targets,
                 impurityCriterion,
                 trainSet,
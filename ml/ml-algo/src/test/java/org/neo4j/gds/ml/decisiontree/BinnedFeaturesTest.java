@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.ml.models.FeaturesFactory;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinnedFeaturesTest {
+
+    @Test
+    void shouldBinByQuantiles() {
+        var featureVectorArray = HugeObjectArray.newArray(double[].class, 10);
+        featureVectorArray.setAll(idx -> new double[]{9 - idx, 42});
+        var features = FeaturesFactory.wrap(featureVectorArray);
+
+        var binnedFeatures = BinnedFeatures.of(features, 4, 4);
+
+        assertThat(binnedFeatures.numberOfBins(0)).isEqualTo(4);
+        assertThat(binnedFeatures.threshold(0, 0)).isEqualTo(2D);
+        assertThat(binnedFeatures.threshold(0, 1)).isEqualTo(5D);
+        assertThat(binnedFeatures.threshold(0, 2)).isEqualTo(7D);
+
+        var expectedBins = new int[]{3, 3, 3, 2, 2, 1, 1, 1, 0, 0};
+        assertThat(IntStream.range(0, 10).map(idx -> binnedFeatures.bin(idx, 0)).toArray()).containsExactly(expectedBins);
+    }
+
+    @Test
+    void shouldUseSingleBinForConstantFeature() {
+        var featureVectorArray = HugeObjectArray.newArray(double[].class, 10);
+        featureVectorArray.setAll(idx -> new double[]{idx, 42});
+        var features = FeaturesFactory.wrap(featureVectorArray);
+
+        var binnedFeatures = BinnedFeatures.of(features, 4, 1);
+
+        assertThat(binnedFeatures.numberOfBins(1)).isEqualTo(1);
+        assertThat(IntStream.range(0, 10).map(idx -> binnedFeatures.bin(idx, 1)).toArray()).containsOnly(0);
+    }
+
+    @Test
+    void shouldSupportMaximumNumberOfBins() {
+        var featureVectorArray = HugeObjectArray.newArray(double[].class, 1000);
+        featureVectorArray.setAll(idx -> new double[]{idx});
+        var features = FeaturesFactory.wrap(featureVectorArray);
+
+        var binnedFeatures = BinnedFeatures.of(features, BinnedFeatures.MAX_NUMBER_OF_BINS, 1);
+
+        assertThat(binnedFeatures.numberOfBins(0)).isEqualTo(BinnedFeatures.MAX_NUMBER_OF_BINS);
+        assertThat(binnedFeatures.bin(0, 0)).isEqualTo(0);
+        assertThat(binnedFeatures.bin(999, 0)).isEqualTo(BinnedFeatures.MAX_NUMBER_OF_BINS - 1);
+    }
+}
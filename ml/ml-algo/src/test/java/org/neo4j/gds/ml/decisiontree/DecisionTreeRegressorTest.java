@@ -123,6 +123,41 @@ class DecisionTreeRegressorTest {
         assertThat(decisionTreeRegressor.predict(featureVector)).isCloseTo(expectedPrediction, Offset.offset(0.01D));
     }
 
+    private static Stream<Arguments> histogramPredictionParameters() {
+        // Deeper trees can differ, as histogram thresholds are placed at the smallest value of the right child.
+        return predictionWithoutSamplingParameters().filter(arguments -> (int) arguments.get()[2] <= 3);
+    }
+
+    @ParameterizedTest
+    @MethodSource("histogramPredictionParameters")
+    void shouldMakeSamePredictionWithHistogramSplits(
+        double[] featureVector,
+        double expectedPrediction,
+        int maxDepth,
+        int minSplitSize
+    ) {
+        // With at least as many bins as distinct feature values, binning does not lose any split candidates.
+        var decisionTreeTrainer = new DecisionTreeRegressorTrainer(
+            mse,
+            features,
+            targets,
+            DecisionTreeTrainerConfigImpl.builder()
+                .maxDepth(maxDepth)
+                .minSplitSize(minSplitSize)
+                .numberOfBins(32)
+                .build(),
+            new FeatureBagger(new SplittableRandom(), featureVector.length, 1)
+        );
+
+        HugeLongArray mutableFeatureVectors = HugeLongArray.newArray(features.size());
+        mutableFeatureVectors.setAll(idx -> idx);
+        var featureVectors = ReadOnlyHugeLongArray.of(mutableFeatureVectors);
+
+        var decisionTreeRegressor = decisionTreeTrainer.train(featureVectors);
+
+        assertThat(decisionTreeRegressor.predict(featureVector)).isCloseTo(expectedPrediction, Offset.offset(0.01D));
+    }
+
     @Test
     void indexSamplingShouldWork() {
         var decisionTreeTrainConfig = DecisionTreeTrainerConfigImpl.builder()
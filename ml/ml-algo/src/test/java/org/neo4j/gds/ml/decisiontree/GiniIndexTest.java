@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.decisiontree;
 
 import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -186,6 +187,26 @@ class GiniIndexTest {
         assertThat(impurityData.groupSize()).isEqualTo(size);
     }
 
+    @Test
+    void shouldMergeImpurityData() {
+        var labels = HugeIntArray.of(1, 0, 0, 0, 1);
+        var giniIndexLoss = new GiniIndex(labels, 2);
+        var impurityData = giniIndexLoss.groupImpurity(HugeLongArray.of(2, 0, 3), 0, 3);
+        var otherImpurityData = giniIndexLoss.groupImpurity(HugeLongArray.of(1, 4), 0, 2);
+
+        giniIndexLoss.incrementalImpurity(otherImpurityData, impurityData);
+
+        assertThat(impurityData.impurity()).isCloseTo(0.48, Offset.offset(0.00001D));
+        assertThat(impurityData.classCounts()).containsExactly(3, 2);
+        assertThat(impurityData.groupSize()).isEqualTo(5);
+
+        giniIndexLoss.decrementalImpurity(otherImpurityData, impurityData);
+
+        assertThat(impurityData.impurity()).isCloseTo(0.444444, Offset.offset(0.00001D));
+        assertThat(impurityData.classCounts()).containsExactly(2, 1);
+        assertThat(impurityData.groupSize()).isEqualTo(3);
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
         "  10,  104",
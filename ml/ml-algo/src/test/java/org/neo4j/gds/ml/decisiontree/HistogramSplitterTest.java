@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.ml.models.Features;
+import org.neo4j.gds.ml.models.FeaturesFactory;
+
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistogramSplitterTest {
+
+    private static final long NUM_SAMPLES = 10;
+    private static final int NUM_FEATURES = 2;
+
+    private final HugeIntArray allLabels = HugeIntArray.newArray(NUM_SAMPLES);
+    private final FeatureBagger featureBagger = new FeatureBagger(new SplittableRandom(42), NUM_FEATURES, 1.0);
+    private GiniIndex giniIndexLoss;
+    private Features features;
+
+    @BeforeEach
+    void setup() {
+        allLabels.setAll(idx -> idx >= 5 ? 1 : 0);
+
+        HugeObjectArray<double[]> featureVectorArray = HugeObjectArray.newArray(
+            double[].class,
+            NUM_SAMPLES
+        );
+
+        featureVectorArray.set(0, new double[]{2.771244718, 1.784783929});
+        featureVectorArray.set(1, new double[]{1.728571309, 1.169761413});
+        featureVectorArray.set(2, new double[]{3.678319846, 3.31281357});
+        featureVectorArray.set(3, new double[]{6.961043357, 2.61995032});
+        featureVectorArray.set(4, new double[]{6.999208922, 2.209014212});
+
+        featureVectorArray.set(5, new double[]{7.497545867, 3.162953546});
+        featureVectorArray.set(6, new double[]{9.00220326, 3.339047188});
+        featureVectorArray.set(7, new double[]{7.444542326, 0.476683375});
+        featureVectorArray.set(8, new double[]{10.12493903, 3.234550982});
+        featureVectorArray.set(9, new double[]{6.642287351, 3.319983761});
+
+        features = FeaturesFactory.wrap(featureVectorArray);
+
+        giniIndexLoss = new GiniIndex(allLabels, 2);
+    }
+
+    private static Stream<Arguments> bestSplitParams() {
+        return Stream.of(
+            // Enough bins for every distinct value, so this is the same split as without binning.
+            Arguments.of(16, 1, 7.444542326, new long[]{0, 1, 2, 3, 4, 9}, new long[]{5, 6, 7, 8}),
+            Arguments.of(4, 1, 7.497545867, new long[]{0, 1, 2, 3, 4, 7, 9}, new long[]{5, 6, 8}),
+            // The leftmost bin of the first feature only holds two vectors.
+            Arguments.of(4, 3, 7.497545867, new long[]{0, 1, 2, 3, 4, 7, 9}, new long[]{5, 6, 8})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("bestSplitParams")
+    void shouldFindBestSplit(
+        int numberOfBins,
+        int minLeafSize,
+        double expectedValue,
+        long[] expectedLeftChild,
+        long[] expectedRightChild
+    ) {
+        var binnedFeatures = BinnedFeatures.of(features, numberOfBins, 1);
+        var splitter = new HistogramSplitter(giniIndexLoss, binnedFeatures, featureBagger, minLeafSize);
+
+        var groupArray = HugeLongArray.newArray(NUM_SAMPLES);
+        groupArray.setAll(idx -> idx);
+        var group = ImmutableGroup.of(groupArray, 0, NUM_SAMPLES, giniIndexLoss.groupImpurity(groupArray, 0, NUM_SAMPLES));
+
+        var split = splitter.findBestSplit(group);
+
+        assertThat(split.index()).isEqualTo(0);
+        assertThat(split.value()).isCloseTo(expectedValue, Offset.offset(1e-9));
+
+        var left = split.groups().left();
+        assertThat(left.array().toArray()).containsExactly(expectedLeftChild);
+        assertThat(left.impurityData().groupSize()).isEqualTo(expectedLeftChild.length);
+
+        var right = split.groups().right();
+        assertThat(right.array().toArray()).containsExactly(expectedRightChild);
+        assertThat(right.impurityData().groupSize()).isEqualTo(expectedRightChild.length);
+    }
+
+    @Test
+    void shouldNotSplitIfLeavesWouldBeTooSmall() {
+        var binnedFeatures = BinnedFeatures.of(features, 4, 1);
+        var splitter = new HistogramSplitter(giniIndexLoss, binnedFeatures, featureBagger, 3);
+
+        var groupArray = HugeLongArray.of(0, 1, 5, 8);
+        var group = ImmutableGroup.of(groupArray, 0, 4, giniIndexLoss.groupImpurity(groupArray, 0, 4));
+
+        var split = splitter.findBestSplit(group);
+
+        assertThat(split.index()).isEqualTo(-1);
+        assertThat(split.groups().left().size()).isEqualTo(4);
+        assertThat(split.groups().right().size()).isEqualTo(0);
+    }
+
+    @Test
+    void memoryEstimation() {
+        assertThat(HistogramSplitter.memoryEstimation(16, 20))
+            .isLessThan(HistogramSplitter.memoryEstimation(256, 20));
+    }
+}
@@ -183,6 +183,29 @@ class SplitMeanSquareErrorTest {
         assertThat(impurityData.groupSize()).isEqualTo(size);
     }
 
+    @Test
+    void shouldMergeImpurityData() {
+        var mseLoss = new SplitMeanSquaredError(HugeDoubleArray.of(1, 3.2, 12.9, 5, 28.1));
+        var impurityData = mseLoss.groupImpurity(HugeLongArray.of(0, 2), 0, 2);
+        var otherImpurityData = mseLoss.groupImpurity(HugeLongArray.of(1, 4, 3), 0, 3);
+        var expectedMerged = mseLoss.groupImpurity(HugeLongArray.of(0, 2, 1, 4, 3), 0, 5);
+        var expectedOriginal = mseLoss.groupImpurity(HugeLongArray.of(0, 2), 0, 2);
+
+        mseLoss.incrementalImpurity(otherImpurityData, impurityData);
+
+        assertThat(impurityData.impurity()).isCloseTo(expectedMerged.impurity(), Offset.offset(0.00001D));
+        assertThat(impurityData.sum()).isCloseTo(expectedMerged.sum(), Offset.offset(0.00001D));
+        assertThat(impurityData.sumOfSquares()).isCloseTo(expectedMerged.sumOfSquares(), Offset.offset(0.00001D));
+        assertThat(impurityData.groupSize()).isEqualTo(5);
+
+        mseLoss.decrementalImpurity(otherImpurityData, impurityData);
+
+        assertThat(impurityData.impurity()).isCloseTo(expectedOriginal.impurity(), Offset.offset(0.00001D));
+        assertThat(impurityData.sum()).isCloseTo(expectedOriginal.sum(), Offset.offset(0.00001D));
+        assertThat(impurityData.sumOfSquares()).isCloseTo(expectedOriginal.sumOfSquares(), Offset.offset(0.00001D));
+        assertThat(impurityData.groupSize()).isEqualTo(2);
+    }
+
     @Test
     void shouldEstimateMemory() {
         assertThat(SplitMeanSquaredError.memoryEstimation())
@@ -134,6 +134,33 @@ class RandomForestRegressorTest {
         assertThat(randomForestRegressor.predict(featureVector)).isCloseTo(3.61, Offset.offset(0.01D));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void usingHistogramSplits(int concurrency) {
+        var randomForestTrainer = new RandomForestRegressorTrainer(
+            concurrency,
+            RandomForestRegressorTrainerConfigImpl
+                .builder()
+                .maxDepth(1)
+                .minSplitSize(2)
+                .maxFeaturesRatio(1.0D)
+                .numberOfDecisionTrees(1)
+                .numberOfSamplesRatio(0.0)
+                .numberOfBins(16)
+                .build(),
+            Optional.of(42L),
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER,
+            LogLevel.INFO
+        );
+
+        var randomForestRegressor = randomForestTrainer.train(allFeatureVectors, targets, trainSet);
+
+        var featureVector = new double[]{8.0, 0.0};
+
+        assertThat(randomForestRegressor.predict(featureVector)).isCloseTo(4.175, Offset.offset(0.01D));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void considerTrainSet(int concurrency) {
@@ -33,9 +33,11 @@ import org.neo4j.gds.api.GraphStoreFactory;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.compression.AdjacencyCompressionObjective;
 
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -76,6 +78,17 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
         return PropertyMappings.of();
     }
 
+    /**
+     * If set, every relationship type picks its own adjacency list layout,
+     * optimizing either for memory or for decoding speed.
+     */
+    @Configuration.ConvertWith(
+        method = "org.neo4j.gds.core.compression.AdjacencyCompressionObjective#parse",
+        inverse = Configuration.ConvertWith.INVERSE_IS_TO_MAP
+    )
+    @Configuration.ToMapValue("org.neo4j.gds.core.compression.AdjacencyCompressionObjective#toString")
+    Optional<AdjacencyCompressionObjective> adjacencyCompression();
+
     @Configuration.Ignore
     @Override
     default GraphStoreFactory.Supplier graphStoreFactory() {
@@ -109,7 +109,8 @@ final class ScanningRelationshipsImporter extends ScanningRecordsImporter<Relati
                         projection,
                         dimensions.relationshipTypeTokenMapping().get(relationshipType),
                         dimensions.relationshipPropertyTokens(),
-                        !graphProjectConfig.validateRelationships()
+                        !graphProjectConfig.validateRelationships(),
+                        graphProjectConfig.adjacencyCompression()
                     );
 
                     var importer = new SingleTypeRelationshipImporterBuilder()
@@ -161,7 +162,8 @@ final class ScanningRelationshipsImporter extends ScanningRecordsImporter<Relati
             inverseProjection,
             dimensions.relationshipTypeTokenMapping().get(relationshipType),
             dimensions.relationshipPropertyTokens(),
-            !graphProjectConfig.validateRelationships()
+            !graphProjectConfig.validateRelationships(),
+            graphProjectConfig.adjacencyCompression()
         );
 
         var inverseImporter = new SingleTypeRelationshipImporterBuilder()
@@ -32,13 +32,16 @@ import org.neo4j.gds.RelationshipProjections;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.AdjacencyCompressionObjective;
 
+import java.util.Optional;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.ElementProjection.PROJECT_ALL;
@@ -172,4 +175,49 @@ class GraphProjectFromStoreConfigTest {
         assertTrue(allProperties.contains("bar"));
         assertEquals(0, graphProjectConfig.relationshipProperties().numberOfMappings());
     }
+
+    @Test
+    void testAdjacencyCompressionIsOptional() {
+        GraphProjectFromStoreConfig graphProjectConfig = GraphProjectFromStoreConfigImpl.builder()
+            .username("")
+            .graphName("graph")
+            .nodeProjections(NodeProjections.all())
+            .relationshipProjections(RelationshipProjections.ALL)
+            .build();
+
+        assertTrue(graphProjectConfig.adjacencyCompression().isEmpty());
+        assertFalse(graphProjectConfig.toMap().containsKey("adjacencyCompression"));
+    }
+
+    @Test
+    void testAdjacencyCompressionSurvivesPropertyNormalization() {
+        var propertyMappings = PropertyMappings.of(PropertyMapping.of("foo", "foo", DefaultValue.of(0.0), Aggregation.NONE));
+
+        GraphProjectFromStoreConfig graphProjectConfig = GraphProjectFromStoreConfigImpl.builder()
+            .username("")
+            .graphName("graph")
+            .nodeProjections(NodeProjections.all())
+            .relationshipProjections(RelationshipProjections.ALL)
+            .relationshipProperties(propertyMappings)
+            .adjacencyCompression("memory")
+            .build();
+
+        assertEquals(Optional.of(AdjacencyCompressionObjective.MEMORY), graphProjectConfig.adjacencyCompression());
+        assertEquals("MEMORY", graphProjectConfig.toMap().get("adjacencyCompression"));
+    }
+
+    @Test
+    void testThrowOnUnknownAdjacencyCompression() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
+            GraphProjectFromStoreConfigImpl.builder()
+                .username("")
+                .graphName("graph")
+                .nodeProjections(NodeProjections.all())
+                .relationshipProjections(RelationshipProjections.ALL)
+                .adjacencyCompression("smallest")
+                .build()
+        );
+
+        assertThat(ex.getMessage(), allOf(containsString("SMALLEST"), containsString("MEMORY, SPEED")));
+    }
 }
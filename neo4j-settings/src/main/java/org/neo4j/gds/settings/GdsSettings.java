@@ -34,4 +34,12 @@ public final class GdsSettings {
     public static Setting<Boolean> validateUsingMaxMemoryEstimation() {
         return MemoryEstimationSettings.validate_using_max_memory_estimation;
     }
+
+    public static Setting<Long> graphCatalogMemoryBudget() {
+        return GraphCatalogSettings.memory_budget_setting;
+    }
+
+    public static Setting<Path> graphCatalogSpillLocation() {
+        return GraphCatalogSettings.spill_location_setting;
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.settings;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.nio.file.Path;
+
+import static org.neo4j.configuration.SettingValueParsers.BYTES;
+import static org.neo4j.configuration.SettingValueParsers.PATH;
+import static org.neo4j.gds.compat.SettingProxy.newBuilder;
+
+@ServiceProvider
+public class GraphCatalogSettings implements SettingsDeclaration {
+
+    @Description("Sets the amount of heap the graph catalog may use. " +
+                 "When exceeded, the least recently used graphs are spilled to disk and reloaded on their next use. " +
+                 "Disabled if not set.")
+    @SuppressWarnings("WeakerAccess")
+    public static final Setting<Long> memory_budget_setting = newBuilder(
+        "gds.graph_catalog.memory_budget",
+        BYTES,
+        null
+    ).build();
+
+    @Description("Sets the directory that graphs are spilled to when the graph catalog exceeds its memory budget. " +
+                 "Defaults to a temporary directory.")
+    @SuppressWarnings("WeakerAccess")
+    public static final Setting<Path> spill_location_setting = newBuilder(
+        "gds.graph_catalog.spill_location",
+        PATH,
+        null
+    ).build();
+
+}
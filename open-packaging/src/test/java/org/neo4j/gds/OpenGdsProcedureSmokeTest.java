@@ -274,6 +274,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.graph.generate",
         "gds.graph.filter",
+        "gds.alpha.graph.reorder",
 
         "gds.k1coloring.mutate",
         "gds.k1coloring.mutate.estimate",
@@ -390,6 +391,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.graph.relationships.toUndirected.estimate",
 
         "gds.graph.relationships.drop",
+        "gds.alpha.graph.relationships.update",
         "gds.graph.drop",
         "gds.graph.exists",
         "gds.graph.list",
@@ -456,6 +458,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.shortestPath.dijkstra.mutate.estimate",
         "gds.shortestPath.dijkstra.write",
         "gds.shortestPath.dijkstra.write.estimate",
+        "gds.alpha.shortestPath.landmarks.mutate",
+        "gds.alpha.shortestPath.contractionHierarchy.mutate",
+        "gds.alpha.shortestPath.contractionHierarchy.stream",
 
         "gds.shortestPath.yens.stream",
         "gds.shortestPath.yens.stream.estimate",
@@ -573,7 +578,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 418;
+        int expectedCount = 423;
         assertEquals(
             expectedCount,
             returnedRows,
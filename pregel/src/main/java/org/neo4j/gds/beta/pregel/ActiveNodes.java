@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * The nodes that need to be computed in the current superstep, i.e. nodes that
+ * did not vote to halt or that received a message in the previous superstep.
+ * <p>
+ * While a superstep is running, nodes are activated for the next superstep.
+ * Each set of active nodes is backed by a bit set. As long as only few nodes
+ * are active, the set additionally keeps a list of the active node ids, which
+ * is sorted when the superstep starts. Sparse sets are iterated via that list,
+ * dense sets by skipping over the empty words of the bit set. That way, the
+ * cost of a superstep tracks the number of active nodes instead of the number
+ * of nodes in the graph.
+ */
+public final class ActiveNodes {
+
+    // A set of active nodes is sparse if it contains less than nodeCount / SPARSE_DIVISOR nodes.
+    static final int SPARSE_DIVISOR = 1024;
+
+    private final int sparseCapacity;
+
+    private HugeAtomicBitSet current;
+    private long[] currentSparse;
+    private int currentSparseSize;
+    private boolean isCurrentDense;
+
+    private HugeAtomicBitSet next;
+    private long[] nextSparse;
+    private final AtomicInteger nextSparseSize;
+
+    public static ActiveNodes create(long nodeCount) {
+        int sparseCapacity = sparseCapacity(nodeCount);
+        return new ActiveNodes(
+            sparseCapacity,
+            HugeAtomicBitSet.create(nodeCount),
+            new long[sparseCapacity],
+            HugeAtomicBitSet.create(nodeCount),
+            new long[sparseCapacity]
+        );
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ActiveNodes.class)
+            .perNode("active node bits", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+            .perNode(
+                "sparse active nodes",
+                nodeCount -> 2 * MemoryUsage.sizeOfLongArray(sparseCapacity(nodeCount))
+            )
+            .build();
+    }
+
+    private ActiveNodes(
+        int sparseCapacity,
+        HugeAtomicBitSet current,
+        long[] currentSparse,
+        HugeAtomicBitSet next,
+        long[] nextSparse
+    ) {
+        this.sparseCapacity = sparseCapacity;
+        this.current = current;
+        this.currentSparse = currentSparse;
+        this.next = next;
+        this.nextSparse = nextSparse;
+        this.nextSparseSize = new AtomicInteger(0);
+    }
+
+    /**
+     * Marks the given node as active in the next superstep.
+     * Can be called concurrently.
+     */
+    public void activate(long nodeId) {
+        // The plain read avoids contended writes for nodes that receive many messages.
+        if (next.get(nodeId) || next.getAndSet(nodeId)) {
+            return;
+        }
+        // Once the set is dense, the list is no longer maintained.
+        if (nextSparseSize.get() < sparseCapacity) {
+            int index = nextSparseSize.getAndIncrement();
+            if (index < sparseCapacity) {
+                nextSparse[index] = nodeId;
+            }
+        }
+    }
+
+    /**
+     * Makes the nodes activated during the last superstep the current active nodes
+     * and resets the set that collects the activations for the next superstep.
+     * Must not be called while a superstep is running.
+     */
+    void advance() {
+        var previous = current;
+        var previousSparse = currentSparse;
+        if (isCurrentDense) {
+            previous.clear();
+        } else {
+            for (int i = 0; i < currentSparseSize; i++) {
+                previous.clear(previousSparse[i]);
+            }
+        }
+
+        this.current = next;
+        this.currentSparse = nextSparse;
+        int activatedNodes = nextSparseSize.get();
+        this.isCurrentDense = activatedNodes >= sparseCapacity;
+        this.currentSparseSize = isCurrentDense ? 0 : activatedNodes;
+        if (!isCurrentDense) {
+            Arrays.sort(currentSparse, 0, currentSparseSize);
+        }
+
+        this.next = previous;
+        this.nextSparse = previousSparse;
+        this.nextSparseSize.set(0);
+    }
+
+    /**
+     * Calls the consumer for each active node in the given range in increasing order.
+     */
+    void forEach(long startNode, long endNode, LongConsumer consumer) {
+        if (isCurrentDense) {
+            long nodeId = current.nextSetBit(startNode);
+            while (nodeId != -1 && nodeId < endNode) {
+                consumer.accept(nodeId);
+                nodeId = current.nextSetBit(nodeId + 1);
+            }
+        } else {
+            int index = Arrays.binarySearch(currentSparse, 0, currentSparseSize, startNode);
+            // A negative index encodes the insertion point, i.e. the first node greater than the start node.
+            for (index = index < 0 ? -(index + 1) : index; index < currentSparseSize; index++) {
+                long nodeId = currentSparse[index];
+                if (nodeId >= endNode) {
+                    break;
+                }
+                consumer.accept(nodeId);
+            }
+        }
+    }
+
+    @TestOnly
+    boolean isDense() {
+        return isCurrentDense;
+    }
+
+    private static int sparseCapacity(long nodeCount) {
+        return (int) Math.min(nodeCount / SPARSE_DIVISOR, HugeArrays.MAX_ARRAY_LENGTH);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+
+class AsyncLongQueueMessenger implements Messenger<PrimitiveAsyncLongQueues.Iterator> {
+
+    private final PrimitiveAsyncLongQueues queues;
+    private final int messageWidth;
+
+    AsyncLongQueueMessenger(long nodeCount) {
+        this(nodeCount, 1);
+    }
+
+    AsyncLongQueueMessenger(long nodeCount, int messageWidth) {
+        this.queues = PrimitiveAsyncLongQueues.of(nodeCount, messageWidth, messageWidth);
+        this.messageWidth = messageWidth;
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return PrimitiveAsyncLongQueues.memoryEstimation();
+    }
+
+    static MemoryEstimation memoryEstimation(int messageWidth) {
+        return PrimitiveAsyncLongQueues.memoryEstimation(messageWidth);
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        if (iteration > 0) {
+            queues.compact();
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw Messages.unsupportedMessageType(PregelSchema.MessageType.DOUBLE);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long message) {
+        assert message != PrimitiveAsyncLongQueues.EMPTY_MESSAGE;
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] message) {
+        assert message.length == messageWidth;
+        assert message[messageWidth - 1] != PrimitiveAsyncLongQueues.EMPTY_MESSAGE;
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public PrimitiveAsyncLongQueues.Iterator messageIterator() {
+        return new PrimitiveAsyncLongQueues.Iterator(queues);
+    }
+
+    @Override
+    public void initMessageIterator(
+        PrimitiveAsyncLongQueues.Iterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        messageIterator.init(nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+    }
+
+}
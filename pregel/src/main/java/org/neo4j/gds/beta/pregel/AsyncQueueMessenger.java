@@ -24,15 +24,25 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterator> {
 
     private final PrimitiveAsyncDoubleQueues queues;
+    private final int messageWidth;
 
     AsyncQueueMessenger(long nodeCount) {
-        this.queues = PrimitiveAsyncDoubleQueues.of(nodeCount);
+        this(nodeCount, 1);
+    }
+
+    AsyncQueueMessenger(long nodeCount, int messageWidth) {
+        this.queues = PrimitiveAsyncDoubleQueues.of(nodeCount, messageWidth, messageWidth);
+        this.messageWidth = messageWidth;
     }
 
     static MemoryEstimation memoryEstimation() {
         return PrimitiveAsyncDoubleQueues.memoryEstimation();
     }
 
+    static MemoryEstimation memoryEstimation(int messageWidth) {
+        return PrimitiveAsyncDoubleQueues.memoryEstimation(messageWidth);
+    }
+
     @Override
     public void initIteration(int iteration) {
         if (iteration > 0) {
@@ -46,6 +56,13 @@ class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterat
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == messageWidth;
+        assert !Double.isNaN(message[messageWidth - 1]);
+        queues.push(targetNodeId, message);
+    }
+
     @Override
     public PrimitiveAsyncDoubleQueues.Iterator messageIterator() {
         return new PrimitiveAsyncDoubleQueues.Iterator(queues);
@@ -30,7 +30,8 @@ public interface BasePregelComputation<C extends PregelConfig> {
      * A node property can be composed of multiple primitive
      * values, such as double or long, as well as arrays of
      * those. Each part of that composite schema is named
-     * by a unique key.
+     * by a unique key. The schema also declares the type
+     * of the messages sent between nodes, which defaults to double.
      * <br>
      * Example:
      * <pre>
@@ -38,6 +39,7 @@ public interface BasePregelComputation<C extends PregelConfig> {
      *      return new PregelSchema.Builder()
      *          .add("key", ValueType.LONG)
      *          .add("privateKey", ValueType.LONG, Visibility.PRIVATE)
+     *          .messageType(MessageType.LONG_ARRAY, 2)
      *          .build();
      * }
      * </pre>
@@ -68,6 +70,16 @@ public interface BasePregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * The counterpart of {@link #reducer()} for computations that exchange
+     * messages of type {@link PregelSchema.MessageType#LONG} or
+     * {@link PregelSchema.MessageType#LONG_ARRAY}. Array messages are
+     * reduced element-wise.
+     */
+    default Optional<LongReducer> longReducer() {
+        return Optional.empty();
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
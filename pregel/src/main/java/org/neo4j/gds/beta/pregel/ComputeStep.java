@@ -25,6 +25,8 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.function.LongConsumer;
+
 public interface ComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -34,6 +36,8 @@ public interface ComputeStep<
 
     HugeAtomicBitSet voteBits();
 
+    ActiveNodes activeNodes();
+
     InitFunction<CONFIG, INIT_CONTEXT> initFunction();
 
     ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction();
@@ -59,8 +63,9 @@ public interface ComputeStep<
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var activeNodes = activeNodes();
 
-        nodeBatch.consume(nodeId -> {
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 initFunction().init(initContext);
@@ -72,8 +77,18 @@ public interface ComputeStep<
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computeFunction().compute(computeContext, messages);
+                if (!voteBits.get(nodeId)) {
+                    activeNodes.activate(nodeId);
+                }
             }
-        });
+        };
+
+        if (computeContext.isInitialSuperstep()) {
+            nodeBatch.consume(computeNode);
+        } else {
+            // All other nodes voted to halt and did not receive a message.
+            activeNodes.forEach(nodeBatch.startNode(), nodeBatch.startNode() + nodeBatch.nodeCount(), computeNode);
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
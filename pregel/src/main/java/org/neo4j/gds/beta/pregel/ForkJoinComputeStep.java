@@ -48,6 +48,7 @@ public final class ForkJoinComputeStep<
     private final COMPUTE_CONTEXT computeContext;
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
+    private final ActiveNodes activeNodes;
     private final Messenger<ITERATOR> messenger;
     private Partition nodeBatch;
     private final MutableInt iteration;
@@ -64,6 +65,7 @@ public final class ForkJoinComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        ActiveNodes activeNodes,
         @Nullable CountedCompleter<Void> parent,
         AtomicBoolean sentMessage,
         ProgressTracker progressTracker
@@ -75,6 +77,7 @@ public final class ForkJoinComputeStep<
         this.computeContextSupplier = computeContextSupplier;
         this.iteration = iteration;
         this.voteBits = voteBits;
+        this.activeNodes = activeNodes;
         this.nodeBatch = nodeBatch;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
@@ -108,6 +111,7 @@ public final class ForkJoinComputeStep<
                 nodeValue,
                 messenger,
                 voteBits,
+                activeNodes,
                 this,
                 hasSentMessage,
                 progressTracker
@@ -131,6 +135,11 @@ public final class ForkJoinComputeStep<
         return voteBits;
     }
 
+    @Override
+    public ActiveNodes activeNodes() {
+        return activeNodes;
+    }
+
     @Override
     public InitFunction<CONFIG, INIT_CONTEXT> initFunction() {
         return initFunction;
@@ -49,10 +49,11 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        ActiveNodes activeNodes,
         ForkJoinPool forkJoinPool,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, activeNodes, progressTracker);
         this.forkJoinPool = forkJoinPool;
     }
 
@@ -63,6 +64,9 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
 
     @Override
     public void initIteration(int iteration) {
+        if (iteration > 0) {
+            activeNodes.advance();
+        }
         this.sentMessage = new AtomicBoolean(false);
         MutableInt mutableIteration = new MutableInt(iteration);
         Partition partition = Partition.of(0, graph.nodeCount());
@@ -108,6 +112,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             iteration,
             Optional.empty(),
             progressTracker
@@ -123,6 +128,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             null,
             hasSentMessages,
             progressTracker
@@ -149,6 +155,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             iteration,
             Optional.empty(),
             progressTracker
@@ -164,6 +171,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             null,
             hasSentMessages,
             progressTracker
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+
+/**
+ * A messenger implementation that is backed by two long arrays used
+ * to send and receive messages. The messenger can only be applied in
+ * combination with a {@link LongReducer}
+ * which atomically reduces all incoming messages into a single one.
+ * Fixed-width array messages are reduced element-wise.
+ */
+public class LongReducingMessenger implements Messenger<LongReducingMessenger.SingleMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final LongReducer reducer;
+    private final int messageWidth;
+
+    private HugeAtomicLongArray sendArray;
+    private HugeAtomicLongArray receiveArray;
+
+    LongReducingMessenger(Graph graph, PregelConfig config, LongReducer reducer) {
+        this(graph, config, reducer, 1);
+    }
+
+    LongReducingMessenger(Graph graph, PregelConfig config, LongReducer reducer, int messageWidth) {
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.messageWidth = messageWidth;
+
+        var size = graph.nodeCount() * messageWidth;
+        this.receiveArray = HugeAtomicLongArray.of(size, ParalleLongPageCreator.passThrough(config.concurrency()));
+        this.sendArray = HugeAtomicLongArray.of(size, ParalleLongPageCreator.passThrough(config.concurrency()));
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(1);
+    }
+
+    static MemoryEstimation memoryEstimation(int messageWidth) {
+        return MemoryEstimations.builder(LongReducingMessenger.class)
+            .perNode("send array", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount * messageWidth))
+            .perNode("receive array", nodeCount -> HugeAtomicLongArray.memoryEstimation(nodeCount * messageWidth))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        int concurrency = config.concurrency();
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            nodeId -> {
+                for (long idx = nodeId * messageWidth; idx < (nodeId + 1) * messageWidth; idx++) {
+                    sendArray.set(idx, reducer.identity());
+                }
+            }
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw Messages.unsupportedMessageType(PregelSchema.MessageType.DOUBLE);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long message) {
+        sendArray.update(
+            targetNodeId,
+            current -> reducer.reduce(current, message)
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] message) {
+        assert message.length == messageWidth;
+        long offset = targetNodeId * messageWidth;
+        for (int i = 0; i < messageWidth; i++) {
+            long value = message[i];
+            sendArray.update(
+                offset + i,
+                current -> reducer.reduce(current, value)
+            );
+        }
+    }
+
+    @Override
+    public LongReducingMessenger.SingleMessageIterator messageIterator() {
+        return new SingleMessageIterator(messageWidth);
+    }
+
+    @Override
+    public void initMessageIterator(
+        LongReducingMessenger.SingleMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        if (messageWidth == 1) {
+            var message = receiveArray.getAndReplace(nodeId, reducer.identity());
+            messageIterator.init(message, message != reducer.identity());
+            return;
+        }
+
+        // An array message was received if any of its elements has been reduced.
+        var buffer = messageIterator.buffer;
+        boolean hasMessage = false;
+        long offset = nodeId * messageWidth;
+        for (int i = 0; i < messageWidth; i++) {
+            buffer[i] = receiveArray.getAndReplace(offset + i, reducer.identity());
+            hasMessage |= buffer[i] != reducer.identity();
+        }
+        messageIterator.init(reducer.identity(), hasMessage);
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    static class SingleMessageIterator implements Messages.MessageIterator {
+
+        final long[] buffer;
+
+        boolean hasNext;
+        long message;
+
+        SingleMessageIterator(int messageWidth) {
+            this.buffer = new long[messageWidth];
+        }
+
+        void init(long value, boolean hasNext) {
+            this.message = value;
+            this.hasNext = hasNext;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            hasNext = false;
+            return message;
+        }
+
+        @Override
+        public long[] nextLongArray() {
+            hasNext = false;
+            return buffer;
+        }
+    }
+}
@@ -24,6 +24,16 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The messages received by a node in a superstep.
+ * <p>
+ * Depending on the {@link PregelSchema.MessageType} declared in the schema, messages
+ * are read via {@link #doubleIterator()}, {@link #longIterator()}, {@link #doubleArrayIterator()}
+ * or {@link #longArrayIterator()}. Array iterators return the same array instance for every
+ * message, which is overwritten by the next call to {@code next()}.
+ */
 public final class Messages implements Iterable<Double> {
 
     @NotNull
@@ -34,12 +44,35 @@ public final class Messages implements Iterable<Double> {
 
     public interface MessageIterator extends PrimitiveIterator.OfDouble {
         boolean isEmpty();
+
+        @Override
+        default double nextDouble() {
+            throw unsupportedMessageType(PregelSchema.MessageType.DOUBLE);
+        }
+
+        default long nextLong() {
+            throw unsupportedMessageType(PregelSchema.MessageType.LONG);
+        }
+
+        default double[] nextDoubleArray() {
+            throw unsupportedMessageType(PregelSchema.MessageType.DOUBLE_ARRAY);
+        }
+
+        default long[] nextLongArray() {
+            throw unsupportedMessageType(PregelSchema.MessageType.LONG_ARRAY);
+        }
     }
 
     private final MessageIterator iterator;
+    private final PrimitiveIterator.OfLong longIterator;
+    private final Iterator<double[]> doubleArrayIterator;
+    private final Iterator<long[]> longArrayIterator;
 
     Messages(MessageIterator iterator) {
         this.iterator = iterator;
+        this.longIterator = new LongIterator(iterator);
+        this.doubleArrayIterator = new DoubleArrayIterator(iterator);
+        this.longArrayIterator = new LongArrayIterator(iterator);
     }
 
     @NotNull
@@ -47,7 +80,83 @@ public final class Messages implements Iterable<Double> {
         return iterator;
     }
 
+    @NotNull
+    public PrimitiveIterator.OfLong longIterator() {
+        return longIterator;
+    }
+
+    @NotNull
+    public Iterator<double[]> doubleArrayIterator() {
+        return doubleArrayIterator;
+    }
+
+    @NotNull
+    public Iterator<long[]> longArrayIterator() {
+        return longArrayIterator;
+    }
+
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    static UnsupportedOperationException unsupportedMessageType(PregelSchema.MessageType messageType) {
+        return new UnsupportedOperationException(formatWithLocale(
+            "Messages of type `%s` are not supported. The message type needs to be declared in the Pregel schema.",
+            messageType
+        ));
+    }
+
+    private static final class LongIterator implements PrimitiveIterator.OfLong {
+        private final MessageIterator iterator;
+
+        LongIterator(MessageIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            return iterator.nextLong();
+        }
+    }
+
+    private static final class DoubleArrayIterator implements Iterator<double[]> {
+        private final MessageIterator iterator;
+
+        DoubleArrayIterator(MessageIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public double[] next() {
+            return iterator.nextDoubleArray();
+        }
+    }
+
+    private static final class LongArrayIterator implements Iterator<long[]> {
+        private final MessageIterator iterator;
+
+        LongArrayIterator(MessageIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long[] next() {
+            return iterator.nextLongArray();
+        }
+    }
 }
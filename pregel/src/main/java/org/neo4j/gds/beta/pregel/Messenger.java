@@ -25,6 +25,18 @@ public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void sendTo(long targetNodeId, double message);
 
+    default void sendTo(long targetNodeId, long message) {
+        throw Messages.unsupportedMessageType(PregelSchema.MessageType.LONG);
+    }
+
+    default void sendTo(long targetNodeId, double[] message) {
+        throw Messages.unsupportedMessageType(PregelSchema.MessageType.DOUBLE_ARRAY);
+    }
+
+    default void sendTo(long targetNodeId, long[] message) {
+        throw Messages.unsupportedMessageType(PregelSchema.MessageType.LONG_ARRAY);
+    }
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
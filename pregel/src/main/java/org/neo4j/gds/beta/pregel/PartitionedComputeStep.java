@@ -41,6 +41,7 @@ public final class PartitionedComputeStep<
     private final ProgressTracker progressTracker;
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
+    private final ActiveNodes activeNodes;
     private final Messenger<ITERATOR> messenger;
 
     private final MutableInt iteration;
@@ -56,6 +57,7 @@ public final class PartitionedComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        ActiveNodes activeNodes,
         MutableInt iteration,
         MutableBoolean hasSentMessage,
         ProgressTracker progressTracker
@@ -66,6 +68,7 @@ public final class PartitionedComputeStep<
         this.computeContext = computeContext;
         this.nodeValue = nodeValue;
         this.voteBits = voteBits;
+        this.activeNodes = activeNodes;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
         this.progressTracker = progressTracker;
@@ -84,6 +87,11 @@ public final class PartitionedComputeStep<
         return voteBits;
     }
 
+    @Override
+    public ActiveNodes activeNodes() {
+        return activeNodes;
+    }
+
     @Override
     public InitFunction<CONFIG, INIT_CONTEXT> initFunction() {
         return initFunction;
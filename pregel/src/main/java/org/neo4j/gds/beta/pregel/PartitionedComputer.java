@@ -53,11 +53,12 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        ActiveNodes activeNodes,
         int concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
-        super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
+        super(graph, computation, config, nodeValues, messenger, voteBits, activeNodes, progressTracker);
         this.executorService = executorService;
         this.concurrency = concurrency;
     }
@@ -69,6 +70,9 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
 
     @Override
     public void initIteration(int iteration) {
+        if (iteration > 0) {
+            activeNodes.advance();
+        }
         for (var computeStep : computeSteps) {
             computeStep.init(iteration);
         }
@@ -153,6 +157,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             iteration,
             Optional.of(hasSentMessages),
             progressTracker
@@ -167,6 +172,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             iteration,
             hasSentMessages,
             progressTracker
@@ -196,6 +202,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             iteration,
             Optional.of(hasSentMessages),
             progressTracker
@@ -210,6 +217,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             iteration,
             hasSentMessages,
             progressTracker
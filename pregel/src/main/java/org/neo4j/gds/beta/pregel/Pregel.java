@@ -38,6 +38,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
 public final class Pregel<CONFIG extends PregelConfig> {
 
@@ -80,11 +82,14 @@ public final class Pregel<CONFIG extends PregelConfig> {
             ));
         }
 
+        var schema = computation.schema(config);
+
         return new Pregel<>(
             graph,
             config,
             computation,
-            NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency()),
+            schema,
+            NodeValue.of(schema, graph.nodeCount(), config.concurrency()),
             executor,
             progressTracker
         );
@@ -94,20 +99,38 @@ public final class Pregel<CONFIG extends PregelConfig> {
         Map<String, ValueType> propertiesMap,
         boolean isQueueBased,
         boolean isAsync
+    ) {
+        return memoryEstimation(propertiesMap, isQueueBased, isAsync, PregelSchema.MessageType.DOUBLE, 1);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        boolean isQueueBased,
+        boolean isAsync,
+        PregelSchema.MessageType messageType,
+        int messageWidth
     ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
+            .add("active nodes", ActiveNodes.memoryEstimation())
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(propertiesMap));
 
+        boolean isLong = isLongMessage(messageType);
         if (isQueueBased) {
             if (isAsync) {
-                estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
+                estimationBuilder.add("message queues", isLong
+                    ? AsyncLongQueueMessenger.memoryEstimation(messageWidth)
+                    : AsyncQueueMessenger.memoryEstimation(messageWidth));
             } else {
-                estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
+                estimationBuilder.add("message queues", isLong
+                    ? SyncLongQueueMessenger.memoryEstimation(messageWidth)
+                    : SyncQueueMessenger.memoryEstimation(messageWidth));
             }
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            estimationBuilder.add("message arrays", isLong
+                ? LongReducingMessenger.memoryEstimation(messageWidth)
+                : ReducingMessenger.memoryEstimation(messageWidth));
         }
 
         return estimationBuilder.build();
@@ -137,6 +160,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
         final Graph graph,
         final CONFIG config,
         final BasePregelComputation<CONFIG> computation,
+        final PregelSchema schema,
         final NodeValue initialNodeValue,
         final ExecutorService executor,
         final ProgressTracker progressTracker
@@ -149,13 +173,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
         this.terminationFlag = TerminationFlag.RUNNING_TRUE;
 
-        var reducer = computation.reducer();
-
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        this.messenger = createMessenger(graph, config, computation, schema);
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -164,6 +182,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .nodeValues(nodeValues)
             .messenger(messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .activeNodes(ActiveNodes.create(graph.nodeCount()))
             .executorService(config.useForkJoin()
                 ? ExecutorServiceUtil.createForkJoinPool(config.concurrency())
                 : executor)
@@ -220,6 +239,52 @@ public final class Pregel<CONFIG extends PregelConfig> {
         messenger.release();
     }
 
+    private static <CONFIG extends PregelConfig> Messenger<?> createMessenger(
+        Graph graph,
+        CONFIG config,
+        BasePregelComputation<CONFIG> computation,
+        PregelSchema schema
+    ) {
+        var messageType = schema.messageType();
+        var messageWidth = schema.messageWidth();
+        var reducer = computation.reducer();
+        var longReducer = computation.longReducer();
+
+        if (isLongMessage(messageType)) {
+            if (reducer.isPresent()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The Pregel algorithm %s sends messages of type `%s` and requires a long reducer.",
+                    computation.getClass().getSimpleName(),
+                    messageType
+                ));
+            }
+            if (longReducer.isPresent()) {
+                return new LongReducingMessenger(graph, config, longReducer.get(), messageWidth);
+            }
+            return config.isAsynchronous()
+                ? new AsyncLongQueueMessenger(graph.nodeCount(), messageWidth)
+                : new SyncLongQueueMessenger(graph.nodeCount(), messageWidth);
+        }
+
+        if (longReducer.isPresent()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The Pregel algorithm %s sends messages of type `%s` and cannot use a long reducer.",
+                computation.getClass().getSimpleName(),
+                messageType
+            ));
+        }
+        if (reducer.isPresent()) {
+            return new ReducingMessenger(graph, config, reducer.get(), messageWidth);
+        }
+        return config.isAsynchronous()
+            ? new AsyncQueueMessenger(graph.nodeCount(), messageWidth)
+            : new SyncQueueMessenger(graph.nodeCount(), messageWidth);
+    }
+
+    private static boolean isLongMessage(PregelSchema.MessageType messageType) {
+        return messageType == PregelSchema.MessageType.LONG || messageType == PregelSchema.MessageType.LONG_ARRAY;
+    }
+
     private boolean runMasterComputeStep(int iteration) {
         var context = new MasterComputeContext<>(config, graph, iteration, nodeValues, executor, progressTracker);
         var didConverge = computation.masterCompute(context);
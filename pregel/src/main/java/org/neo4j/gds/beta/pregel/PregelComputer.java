@@ -36,6 +36,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final ActiveNodes activeNodes;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -45,6 +46,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        ActiveNodes activeNodes,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -53,6 +55,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.activeNodes = activeNodes;
         this.progressTracker = progressTracker;
     }
 
@@ -78,6 +81,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        ActiveNodes activeNodes,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -96,6 +100,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 nodeValues,
                 messenger,
                 voteBits,
+                activeNodes,
                 (ForkJoinPool) executorService,
                 progressTracker
             );
@@ -108,6 +113,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             nodeValues,
             messenger,
             voteBits,
+            activeNodes,
             config.concurrency(),
             executorService,
             progressTracker
@@ -28,6 +28,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 public interface PregelSchema {
 
@@ -35,8 +37,33 @@ public interface PregelSchema {
         PUBLIC, PRIVATE
     }
 
+    /**
+     * The type of the messages that are exchanged between nodes.
+     * Array messages have a fixed width that is declared together with the type.
+     */
+    enum MessageType {
+        DOUBLE, LONG, DOUBLE_ARRAY, LONG_ARRAY;
+
+        public boolean isArray() {
+            return this == DOUBLE_ARRAY || this == LONG_ARRAY;
+        }
+    }
+
     Set<Element> elements();
 
+    @Value.Default
+    default MessageType messageType() {
+        return MessageType.DOUBLE;
+    }
+
+    /**
+     * The number of elements in each array message, 1 for scalar messages.
+     */
+    @Value.Default
+    default int messageWidth() {
+        return 1;
+    }
+
     @Value.Auxiliary
     default Map<String, ValueType> propertiesMap() {
         return elements().stream().collect(Collectors.toMap(Element::propertyKey, Element::propertyType));
@@ -45,6 +72,8 @@ public interface PregelSchema {
     class Builder {
 
         private final Set<Element> elements = new HashSet<>();
+        private MessageType messageType = MessageType.DOUBLE;
+        private int messageWidth = 1;
 
         public PregelSchema.Builder add(String propertyKey, ValueType propertyType) {
             return add(propertyKey, propertyType, Visibility.PUBLIC);
@@ -55,8 +84,32 @@ public interface PregelSchema {
             return this;
         }
 
+        public PregelSchema.Builder messageType(MessageType messageType) {
+            return messageType(messageType, 1);
+        }
+
+        public PregelSchema.Builder messageType(MessageType messageType, int messageWidth) {
+            this.messageType = messageType;
+            this.messageWidth = messageWidth;
+            return this;
+        }
+
         public PregelSchema build() {
-            return ImmutablePregelSchema.of(elements);
+            if (messageType.isArray() && messageWidth < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Array messages of type `%s` require a positive width, but got %d.",
+                    messageType,
+                    messageWidth
+                ));
+            }
+            if (!messageType.isArray() && messageWidth != 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Scalar messages of type `%s` cannot have a width of %d.",
+                    messageType,
+                    messageWidth
+                ));
+            }
+            return ImmutablePregelSchema.of(elements, messageType, messageWidth);
         }
     }
 }
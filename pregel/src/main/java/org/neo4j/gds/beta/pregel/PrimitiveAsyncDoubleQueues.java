@@ -37,6 +37,8 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
 
     private final HugeIntArray heads;
     private final HugeCursor<double[][]> queuesCursor;
+    // Number of consecutive slots occupied by a single message.
+    private final int messageWidth;
 
     public static PrimitiveAsyncDoubleQueues of(long nodeCount) {
         return of(nodeCount, MIN_CAPACITY);
@@ -45,28 +47,38 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     public static PrimitiveAsyncDoubleQueues of(
         long nodeCount,
         int initialQueueCapacity
+    ) {
+        return of(nodeCount, initialQueueCapacity, 1);
+    }
+
+    public static PrimitiveAsyncDoubleQueues of(
+        long nodeCount,
+        int initialQueueCapacity,
+        int messageWidth
     ) {
         var heads = HugeIntArray.newArray(nodeCount);
         var tails = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
         var queues = HugeObjectArray.newArray(double[].class, nodeCount);
         var referenceCounts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
 
-        var capacity = Math.max(initialQueueCapacity, MIN_CAPACITY);
+        var capacity = Math.max(Math.max(initialQueueCapacity, messageWidth), MIN_CAPACITY);
         queues.setAll(value -> {
             var queue = new double[capacity];
             Arrays.fill(queue, EMPTY_MESSAGE);
             return queue;
         });
 
-        return new PrimitiveAsyncDoubleQueues(heads, tails, queues, referenceCounts);
+        return new PrimitiveAsyncDoubleQueues(heads, tails, queues, referenceCounts, messageWidth);
     }
 
     public static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(1);
+    }
+
+    public static MemoryEstimation memoryEstimation(int messageWidth) {
+        var queueSize = MemoryUsage.sizeOfDoubleArray(Math.max(MIN_CAPACITY, messageWidth));
         return MemoryEstimations.builder(PrimitiveAsyncDoubleQueues.class)
-            .perNode(
-                "queues",
-                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY))
-            )
+            .perNode("queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
             .perNode("heads", HugeIntArray::memoryEstimation)
             .perNode("tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
@@ -77,11 +89,13 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
         HugeIntArray heads,
         HugeAtomicLongArray tails,
         HugeObjectArray<double[]> queues,
-        HugeAtomicLongArray referenceCounts
+        HugeAtomicLongArray referenceCounts,
+        int messageWidth
     ) {
         super(queues, tails, referenceCounts);
         this.heads = heads;
         this.queuesCursor = queues.newCursor();
+        this.messageWidth = messageWidth;
     }
 
     public void compact() {
@@ -122,7 +136,10 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     private boolean isEmpty(double[] queue, int head, int tail) {
-        return head == queue.length || head > tail || Double.isNaN(queue[head]);
+        // Slots of a message are written in order, so the message
+        // is complete once its last slot has been written.
+        var lastSlot = head + messageWidth - 1;
+        return lastSlot >= queue.length || head > tail || Double.isNaN(queue[lastSlot]);
     }
 
     double pop(long nodeId) {
@@ -130,15 +147,19 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
         return queues.get(nodeId)[currentHead];
     }
 
+    void pop(long nodeId, double[] message) {
+        var currentHead = heads.getAndAdd(nodeId, messageWidth);
+        System.arraycopy(queues.get(nodeId), currentHead, message, 0, messageWidth);
+    }
+
     @Override
     void grow(long nodeId, int minCapacity) {
         var queue = this.queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        var newCapacity = grownCapacity(capacity, minCapacity);
         var resizedArray = Arrays.copyOf(queue, newCapacity);
         // Fill with NaN to indicate empty slots.
-        Arrays.fill(resizedArray, minCapacity - 1, newCapacity, EMPTY_MESSAGE);
+        Arrays.fill(resizedArray, capacity, newCapacity, EMPTY_MESSAGE);
         this.queues.set(nodeId, resizedArray);
     }
 
@@ -155,10 +176,14 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     public static class Iterator implements Messages.MessageIterator {
 
         private final PrimitiveAsyncDoubleQueues queues;
+        private final double[] buffer;
 
         private long nodeId;
 
-        public Iterator(PrimitiveAsyncDoubleQueues queues) {this.queues = queues;}
+        public Iterator(PrimitiveAsyncDoubleQueues queues) {
+            this.queues = queues;
+            this.buffer = new double[queues.messageWidth];
+        }
 
         void init(long nodeId) {
             this.nodeId = nodeId;
@@ -174,6 +199,12 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
             return queues.pop(nodeId);
         }
 
+        @Override
+        public double[] nextDoubleArray() {
+            queues.pop(nodeId, buffer);
+            return buffer;
+        }
+
         @Override
         public boolean isEmpty() {
             return queues.isEmpty(nodeId);
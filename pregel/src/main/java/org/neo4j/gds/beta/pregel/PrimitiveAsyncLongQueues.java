@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+public final class PrimitiveAsyncLongQueues extends PrimitiveLongQueues {
+    public static final double COMPACT_THRESHOLD = PrimitiveAsyncDoubleQueues.COMPACT_THRESHOLD;
+    // Marks empty slots, hence it cannot be sent as a message.
+    static final long EMPTY_MESSAGE = Long.MIN_VALUE;
+
+    private final HugeIntArray heads;
+    private final HugeCursor<long[][]> queuesCursor;
+    // Number of consecutive slots occupied by a single message.
+    private final int messageWidth;
+
+    public static PrimitiveAsyncLongQueues of(long nodeCount) {
+        return of(nodeCount, MIN_CAPACITY);
+    }
+
+    public static PrimitiveAsyncLongQueues of(
+        long nodeCount,
+        int initialQueueCapacity
+    ) {
+        return of(nodeCount, initialQueueCapacity, 1);
+    }
+
+    public static PrimitiveAsyncLongQueues of(
+        long nodeCount,
+        int initialQueueCapacity,
+        int messageWidth
+    ) {
+        var heads = HugeIntArray.newArray(nodeCount);
+        var tails = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
+        var queues = HugeObjectArray.newArray(long[].class, nodeCount);
+        var referenceCounts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
+
+        var capacity = Math.max(Math.max(initialQueueCapacity, messageWidth), MIN_CAPACITY);
+        queues.setAll(value -> {
+            var queue = new long[capacity];
+            Arrays.fill(queue, EMPTY_MESSAGE);
+            return queue;
+        });
+
+        return new PrimitiveAsyncLongQueues(heads, tails, queues, referenceCounts, messageWidth);
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(1);
+    }
+
+    public static MemoryEstimation memoryEstimation(int messageWidth) {
+        var queueSize = MemoryUsage.sizeOfLongArray(Math.max(MIN_CAPACITY, messageWidth));
+        return MemoryEstimations.builder(PrimitiveAsyncLongQueues.class)
+            .perNode("queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
+            .perNode("heads", HugeIntArray::memoryEstimation)
+            .perNode("tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    private PrimitiveAsyncLongQueues(
+        HugeIntArray heads,
+        HugeAtomicLongArray tails,
+        HugeObjectArray<long[]> queues,
+        HugeAtomicLongArray referenceCounts,
+        int messageWidth
+    ) {
+        super(queues, tails, referenceCounts);
+        this.heads = heads;
+        this.queuesCursor = queues.newCursor();
+        this.messageWidth = messageWidth;
+    }
+
+    public void compact() {
+        queues.initCursor(queuesCursor);
+
+        while (queuesCursor.next()) {
+            for (int i = queuesCursor.offset; i < queuesCursor.limit; i++) {
+                var queue = queuesCursor.array[i];
+                var tail = (int) tails.get(i);
+                var head = heads.get(i);
+
+                if (isEmpty(queue, head, tail) && head > 0) {
+                    // The queue is empty, we can reset head and tail to index 0
+                    // but we need to mark the previous entries as empty.
+                    Arrays.fill(queue, 0, tail, EMPTY_MESSAGE);
+                    heads.set(i, 0);
+                    tails.set(i, 0);
+                } else if (head > queue.length * COMPACT_THRESHOLD) {
+                    // The queue is not empty, we need to move the entries for
+                    // the next iteration to the beginning of the queue and fill
+                    // the remaining entries as empty.
+                    var length = tail - head;
+                    System.arraycopy(queue, head, queue, 0, length);
+                    Arrays.fill(queue, length, queue.length, EMPTY_MESSAGE);
+
+                    heads.set(i, 0);
+                    tails.set(i, length);
+                }
+            }
+        }
+    }
+
+    boolean isEmpty(long nodeId) {
+        var head = heads.get(nodeId);
+        var tail = (int) tails.get(nodeId);
+        var queue = queues.get(nodeId);
+        return isEmpty(queue, head, tail);
+    }
+
+    private boolean isEmpty(long[] queue, int head, int tail) {
+        // Slots of a message are written in order, so the message
+        // is complete once its last slot has been written.
+        var lastSlot = head + messageWidth - 1;
+        return lastSlot >= queue.length || head > tail || queue[lastSlot] == EMPTY_MESSAGE;
+    }
+
+    long pop(long nodeId) {
+        var currentHead = heads.getAndAdd(nodeId, 1);
+        return queues.get(nodeId)[currentHead];
+    }
+
+    void pop(long nodeId, long[] message) {
+        var currentHead = heads.getAndAdd(nodeId, messageWidth);
+        System.arraycopy(queues.get(nodeId), currentHead, message, 0, messageWidth);
+    }
+
+    @Override
+    void grow(long nodeId, int minCapacity) {
+        var queue = this.queues.get(nodeId);
+        var capacity = queue.length;
+        var newCapacity = grownCapacity(capacity, minCapacity);
+        var resizedArray = Arrays.copyOf(queue, newCapacity);
+        // Mark the new slots as empty.
+        Arrays.fill(resizedArray, capacity, newCapacity, EMPTY_MESSAGE);
+        this.queues.set(nodeId, resizedArray);
+    }
+
+    void release() {
+        super.release();
+        this.heads.release();
+    }
+
+    @TestOnly
+    long head(long nodeId) {
+        return heads.get(nodeId);
+    }
+
+    public static class Iterator implements Messages.MessageIterator {
+
+        private final PrimitiveAsyncLongQueues queues;
+        private final long[] buffer;
+
+        private long nodeId;
+
+        public Iterator(PrimitiveAsyncLongQueues queues) {
+            this.queues = queues;
+            this.buffer = new long[queues.messageWidth];
+        }
+
+        void init(long nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queues.isEmpty(nodeId);
+        }
+
+        @Override
+        public long nextLong() {
+            return queues.pop(nodeId);
+        }
+
+        @Override
+        public long[] nextLongArray() {
+            queues.pop(nodeId, buffer);
+            return buffer;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queues.isEmpty(nodeId);
+        }
+    }
+}
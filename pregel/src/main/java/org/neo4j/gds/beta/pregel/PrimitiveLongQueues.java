@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+public abstract class PrimitiveLongQueues extends PrimitiveQueues<long[]> {
+    // Used to insert into a single message queue array.
+    private static final VarHandle ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    PrimitiveLongQueues(
+        HugeObjectArray<long[]> queues,
+        HugeAtomicLongArray tails,
+        HugeAtomicLongArray referenceCounts
+    ) {
+        super(queues, tails, referenceCounts);
+    }
+
+    @Override
+    int capacity(long[] queue) {
+        return queue.length;
+    }
+
+    public void push(long nodeId, long message) {
+        int idx = reserve(nodeId, 1);
+
+        // Multiple threads can concurrently update the queue, we need
+        // to signal this with a shared reference to the array.
+        getSharedReference(nodeId);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Pushes a fixed-width array message, which occupies
+     * {@code message.length} consecutive slots of the queue.
+     */
+    public void push(long nodeId, long[] message) {
+        int idx = reserve(nodeId, message.length);
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        // The slots are written in order, so a reader that observes
+        // the last slot of a message also observes all previous slots.
+        for (int i = 0; i < message.length; i++) {
+            ARRAY_HANDLE.setVolatile(queue, idx + i, message[i]);
+        }
+        dropSharedReference(nodeId);
+    }
+}
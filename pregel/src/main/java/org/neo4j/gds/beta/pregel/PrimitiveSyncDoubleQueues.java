@@ -55,15 +55,14 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     public static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(1);
+    }
+
+    public static MemoryEstimation memoryEstimation(int messageWidth) {
+        var queueSize = MemoryUsage.sizeOfDoubleArray(Math.max(MIN_CAPACITY, messageWidth));
         return MemoryEstimations.builder(PrimitiveSyncDoubleQueues.class)
-            .perNode(
-                "current queues",
-                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY))
-            )
-            .perNode(
-                "previous queues",
-                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY))
-            )
+            .perNode("current queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
+            .perNode("previous queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
             .perNode("current tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("previous tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
@@ -101,10 +100,7 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     @Override
     void grow(long nodeId, int minCapacity) {
         var queue = queues.get(nodeId);
-        var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
-        queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
+        queues.set(nodeId, Arrays.copyOf(queue, grownCapacity(queue.length, minCapacity)));
     }
 
     @Override
@@ -116,10 +112,22 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
 
     static class Iterator implements Messages.MessageIterator {
 
+        private final int messageWidth;
+        private final double[] buffer;
+
         double[] queue;
         private int length;
         private int pos;
 
+        Iterator() {
+            this(1);
+        }
+
+        Iterator(int messageWidth) {
+            this.messageWidth = messageWidth;
+            this.buffer = new double[messageWidth];
+        }
+
         void init(double[] queue, int length) {
             this.queue = queue;
             this.pos = 0;
@@ -136,6 +144,13 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
             return queue[pos++];
         }
 
+        @Override
+        public double[] nextDoubleArray() {
+            System.arraycopy(queue, pos, buffer, 0, messageWidth);
+            pos += messageWidth;
+            return buffer;
+        }
+
         @Override
         public boolean isEmpty() {
             return length == 0;
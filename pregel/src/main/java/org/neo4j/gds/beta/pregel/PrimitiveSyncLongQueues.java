@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+public final class PrimitiveSyncLongQueues extends PrimitiveLongQueues {
+    // Represents the queues of the previous iteration.
+    // super.queues and prevQueues are being toggled after each iteration.
+    private HugeObjectArray<long[]> prevQueues;
+    private HugeAtomicLongArray prevTails;
+
+    public static PrimitiveSyncLongQueues of(long nodeCount) {
+        return of(nodeCount, MIN_CAPACITY);
+    }
+
+    public static PrimitiveSyncLongQueues of(long nodeCount, int initialQueueCapacity) {
+        var currentTails = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
+        var prevTails = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
+
+        var currentQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+        var prevQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+
+        var referenceCounts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(1));
+
+        var capacity = Math.max(initialQueueCapacity, MIN_CAPACITY);
+        currentQueues.setAll(value -> new long[capacity]);
+        prevQueues.setAll(value -> new long[capacity]);
+
+        return new PrimitiveSyncLongQueues(currentQueues, currentTails, prevQueues, prevTails, referenceCounts);
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(1);
+    }
+
+    public static MemoryEstimation memoryEstimation(int messageWidth) {
+        var queueSize = MemoryUsage.sizeOfLongArray(Math.max(MIN_CAPACITY, messageWidth));
+        return MemoryEstimations.builder(PrimitiveSyncLongQueues.class)
+            .perNode("current queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
+            .perNode("previous queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
+            .perNode("current tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("previous tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    private PrimitiveSyncLongQueues(
+        HugeObjectArray<long[]> currentQueues,
+        HugeAtomicLongArray currentTails,
+        HugeObjectArray<long[]> prevQueues,
+        HugeAtomicLongArray prevTails,
+        HugeAtomicLongArray referenceCounts
+    ) {
+        super(currentQueues, currentTails, referenceCounts);
+        this.prevQueues = prevQueues;
+        this.prevTails = prevTails;
+    }
+
+    void swapQueues() {
+        // swap tail indexes
+        var tmpTails = tails;
+        this.tails = prevTails;
+        this.prevTails = tmpTails;
+        this.tails.setAll(0);
+        // swap queues
+        var tmpQueues = queues;
+        this.queues = prevQueues;
+        this.prevQueues = tmpQueues;
+    }
+
+    void initIterator(Iterator iterator, long nodeId) {
+        iterator.init(prevQueues.get(nodeId), (int) prevTails.get(nodeId));
+    }
+
+    @Override
+    void grow(long nodeId, int minCapacity) {
+        var queue = queues.get(nodeId);
+        queues.set(nodeId, Arrays.copyOf(queue, grownCapacity(queue.length, minCapacity)));
+    }
+
+    @Override
+    void release() {
+        super.release();
+        this.prevTails.release();
+        this.prevQueues.release();
+    }
+
+    static class Iterator implements Messages.MessageIterator {
+
+        private final int messageWidth;
+        private final long[] buffer;
+
+        long[] queue;
+        private int length;
+        private int pos;
+
+        Iterator() {
+            this(1);
+        }
+
+        Iterator(int messageWidth) {
+            this.messageWidth = messageWidth;
+            this.buffer = new long[messageWidth];
+        }
+
+        void init(long[] queue, int length) {
+            this.queue = queue;
+            this.pos = 0;
+            this.length = length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pos < length;
+        }
+
+        @Override
+        public long nextLong() {
+            return queue[pos++];
+        }
+
+        @Override
+        public long[] nextLongArray() {
+            System.arraycopy(queue, pos, buffer, 0, messageWidth);
+            pos += messageWidth;
+            return buffer;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return length == 0;
+        }
+    }
+}
@@ -32,31 +32,43 @@ import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
  * to send and receive messages. The messenger can only be applied in
  * combination with a {@link Reducer}
  * which atomically reduces all incoming messages into a single one.
+ * Fixed-width array messages are reduced element-wise.
  */
 public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
 
     private final Graph graph;
     private final PregelConfig config;
     private final Reducer reducer;
+    private final int messageWidth;
 
     private HugeAtomicDoubleArray sendArray;
     private HugeAtomicDoubleArray receiveArray;
 
     ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+        this(graph, config, reducer, 1);
+    }
+
+    ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, int messageWidth) {
         assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
 
         this.graph = graph;
         this.config = config;
         this.reducer = reducer;
+        this.messageWidth = messageWidth;
 
-        this.receiveArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
-        this.sendArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
+        var size = graph.nodeCount() * messageWidth;
+        this.receiveArray = HugeAtomicDoubleArray.of(size, ParallelDoublePageCreator.passThrough(config.concurrency()));
+        this.sendArray = HugeAtomicDoubleArray.of(size, ParallelDoublePageCreator.passThrough(config.concurrency()));
     }
 
     static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(1);
+    }
+
+    static MemoryEstimation memoryEstimation(int messageWidth) {
         return MemoryEstimations.builder(ReducingMessenger.class)
-            .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
-            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("send array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * messageWidth))
+            .perNode("receive array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * messageWidth))
             .build();
     }
 
@@ -72,7 +84,11 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
             graph.nodeCount(),
             concurrency,
             TerminationFlag.RUNNING_TRUE,
-            nodeId -> sendArray.set(nodeId, reducer.identity())
+            nodeId -> {
+                for (long idx = nodeId * messageWidth; idx < (nodeId + 1) * messageWidth; idx++) {
+                    sendArray.set(idx, reducer.identity());
+                }
+            }
         );
     }
 
@@ -84,9 +100,22 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         );
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == messageWidth;
+        long offset = targetNodeId * messageWidth;
+        for (int i = 0; i < messageWidth; i++) {
+            double value = message[i];
+            sendArray.update(
+                offset + i,
+                current -> reducer.reduce(current, value)
+            );
+        }
+    }
+
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
-        return new SingleMessageIterator();
+        return new SingleMessageIterator(messageWidth);
     }
 
     @Override
@@ -95,8 +124,21 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         long nodeId,
         boolean isInitialIteration
     ) {
-        var message = receiveArray.getAndReplace(nodeId, reducer.identity());
-        messageIterator.init(message, message != reducer.identity());
+        if (messageWidth == 1) {
+            var message = receiveArray.getAndReplace(nodeId, reducer.identity());
+            messageIterator.init(message, message != reducer.identity());
+            return;
+        }
+
+        // An array message was received if any of its elements has been reduced.
+        var buffer = messageIterator.buffer;
+        boolean hasMessage = false;
+        long offset = nodeId * messageWidth;
+        for (int i = 0; i < messageWidth; i++) {
+            buffer[i] = receiveArray.getAndReplace(offset + i, reducer.identity());
+            hasMessage |= buffer[i] != reducer.identity();
+        }
+        messageIterator.init(Double.NaN, hasMessage);
     }
 
     @Override
@@ -107,9 +149,15 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
 
     static class SingleMessageIterator implements Messages.MessageIterator {
 
+        final double[] buffer;
+
         boolean hasNext;
         double message;
 
+        SingleMessageIterator(int messageWidth) {
+            this.buffer = new double[messageWidth];
+        }
+
         void init(double value, boolean hasNext) {
             this.message = value;
             this.hasNext = hasNext;
@@ -130,5 +178,11 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
             hasNext = false;
             return message;
         }
+
+        @Override
+        public double[] nextDoubleArray() {
+            hasNext = false;
+            return buffer;
+        }
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+
+class SyncLongQueueMessenger implements Messenger<PrimitiveSyncLongQueues.Iterator> {
+
+    private final PrimitiveSyncLongQueues queues;
+    private final int messageWidth;
+
+    SyncLongQueueMessenger(long nodeCount) {
+        this(nodeCount, 1);
+    }
+
+    SyncLongQueueMessenger(long nodeCount, int messageWidth) {
+        this.queues = PrimitiveSyncLongQueues.of(nodeCount, messageWidth);
+        this.messageWidth = messageWidth;
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return PrimitiveSyncLongQueues.memoryEstimation();
+    }
+
+    static MemoryEstimation memoryEstimation(int messageWidth) {
+        return PrimitiveSyncLongQueues.memoryEstimation(messageWidth);
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        queues.swapQueues();
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw Messages.unsupportedMessageType(PregelSchema.MessageType.DOUBLE);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long message) {
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long[] message) {
+        assert message.length == messageWidth;
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public PrimitiveSyncLongQueues.Iterator messageIterator() {
+        return new PrimitiveSyncLongQueues.Iterator(messageWidth);
+    }
+
+    @Override
+    public void initMessageIterator(PrimitiveSyncLongQueues.Iterator messageIterator, long nodeId, boolean isFirstIteration) {
+        queues.initIterator(messageIterator, nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+    }
+}
@@ -24,15 +24,25 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
+    private final int messageWidth;
 
     SyncQueueMessenger(long nodeCount) {
-        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount);
+        this(nodeCount, 1);
+    }
+
+    SyncQueueMessenger(long nodeCount, int messageWidth) {
+        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount, messageWidth);
+        this.messageWidth = messageWidth;
     }
 
     static MemoryEstimation memoryEstimation() {
         return PrimitiveSyncDoubleQueues.memoryEstimation();
     }
 
+    static MemoryEstimation memoryEstimation(int messageWidth) {
+        return PrimitiveSyncDoubleQueues.memoryEstimation(messageWidth);
+    }
+
     @Override
     public void initIteration(int iteration) {
         queues.swapQueues();
@@ -43,9 +53,15 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        assert message.length == messageWidth;
+        queues.push(targetNodeId, message);
+    }
+
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
-        return new PrimitiveSyncDoubleQueues.Iterator();
+        return new PrimitiveSyncDoubleQueues.Iterator(messageWidth);
     }
 
     @Override
@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.pregel.context;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.pregel.ActiveNodes;
 import org.neo4j.gds.beta.pregel.BasePregelComputation;
 import org.neo4j.gds.beta.pregel.Messenger;
 import org.neo4j.gds.beta.pregel.NodeValue;
@@ -39,6 +40,7 @@ import java.util.Optional;
 public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricContext<CONFIG> {
 
     private final HugeAtomicBitSet voteBits;
+    private final ActiveNodes activeNodes;
 
     private final Messenger<?> messenger;
     private final MutableInt iteration;
@@ -52,6 +54,7 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
                           NodeValue nodeValue,
                           Messenger<?> messenger,
                           HugeAtomicBitSet voteBits,
+                          ActiveNodes activeNodes,
                           MutableInt iteration,
                           Optional<MutableBoolean> hasSendMessage,
                           ProgressTracker progressTracker) {
@@ -62,6 +65,7 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
             : this::sendToNeighbors;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.activeNodes = activeNodes;
         this.iteration = iteration;
         this.hasSendMessage = hasSendMessage.orElse(new MutableBoolean(false));
     }
@@ -154,6 +158,63 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
      */
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
+        activeNodes.activate(targetNodeId);
+        this.hasSendMessage.setValue(true);
+    }
+
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * Requires messages of type {@link org.neo4j.gds.beta.pregel.PregelSchema.MessageType#LONG}.
+     * Relationship weights are not applied to long messages.
+     */
+    public void sendLongToNeighbors(long message) {
+        forEachNeighbor(targetNodeId -> sendLongTo(targetNodeId, message));
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     * Requires messages of type {@link org.neo4j.gds.beta.pregel.PregelSchema.MessageType#LONG}.
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        messenger.sendTo(targetNodeId, message);
+        activeNodes.activate(targetNodeId);
+        this.hasSendMessage.setValue(true);
+    }
+
+    /**
+     * Sends the given array message to all neighbors of the node.
+     * The array length must match the message width declared in the schema.
+     * Relationship weights are not applied to array messages.
+     */
+    public void sendToNeighbors(double[] message) {
+        forEachNeighbor(targetNodeId -> sendTo(targetNodeId, message));
+    }
+
+    /**
+     * Sends the given array message to the target node.
+     * The array length must match the message width declared in the schema.
+     */
+    public void sendTo(long targetNodeId, double[] message) {
+        messenger.sendTo(targetNodeId, message);
+        activeNodes.activate(targetNodeId);
+        this.hasSendMessage.setValue(true);
+    }
+
+    /**
+     * Sends the given array message to all neighbors of the node.
+     * The array length must match the message width declared in the schema.
+     */
+    public void sendToNeighbors(long[] message) {
+        forEachNeighbor(targetNodeId -> sendTo(targetNodeId, message));
+    }
+
+    /**
+     * Sends the given array message to the target node.
+     * The array length must match the message width declared in the schema.
+     */
+    public void sendTo(long targetNodeId, long[] message) {
+        messenger.sendTo(targetNodeId, message);
+        activeNodes.activate(targetNodeId);
         this.hasSendMessage.setValue(true);
     }
 
@@ -191,6 +252,7 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
             NodeValue nodeValue,
             Messenger<?> messenger,
             HugeAtomicBitSet voteBits,
+            ActiveNodes activeNodes,
             MutableInt iteration,
             Optional<MutableBoolean> hasSendMessage,
             ProgressTracker progressTracker
@@ -202,6 +264,7 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
                 nodeValue,
                 messenger,
                 voteBits,
+                activeNodes,
                 iteration,
                 hasSendMessage,
                 progressTracker
@@ -219,6 +282,27 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
             sendMessagesIncomingFunction.sendToIncomingNeighbors(nodeId, message);
         }
 
+        /**
+         * Sends the given long message to all incoming neighbors of the node.
+         */
+        public void sendLongToIncomingNeighbors(long message) {
+            forEachIncomingNeighbor(targetNodeId -> sendLongTo(targetNodeId, message));
+        }
+
+        /**
+         * Sends the given array message to all incoming neighbors of the node.
+         */
+        public void sendToIncomingNeighbors(double[] message) {
+            forEachIncomingNeighbor(targetNodeId -> sendTo(targetNodeId, message));
+        }
+
+        /**
+         * Sends the given array message to all incoming neighbors of the node.
+         */
+        public void sendToIncomingNeighbors(long[] message) {
+            forEachIncomingNeighbor(targetNodeId -> sendTo(targetNodeId, message));
+        }
+
         private void sendToIncomingNeighbors(long sourceNodeId, double message) {
             graph.forEachInverseRelationship(sourceNodeId, (ignored, targetNodeId) -> {
                 sendTo(targetNodeId, message);
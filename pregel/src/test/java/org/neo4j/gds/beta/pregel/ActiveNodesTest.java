@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Phaser;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveNodesTest {
+
+    @Test
+    void startsWithoutActiveNodes() {
+        var activeNodes = ActiveNodes.create(10_000);
+
+        assertThat(collect(activeNodes, 0, 10_000)).isEmpty();
+    }
+
+    @Test
+    void iteratesSparseNodesInOrder() {
+        var activeNodes = ActiveNodes.create(10_000);
+
+        activeNodes.activate(4242);
+        activeNodes.activate(42);
+        activeNodes.activate(1337);
+        activeNodes.activate(42);
+        activeNodes.advance();
+
+        assertThat(activeNodes.isDense()).isFalse();
+        assertThat(collect(activeNodes, 0, 10_000)).containsExactly(42L, 1337L, 4242L);
+        assertThat(collect(activeNodes, 42, 4242)).containsExactly(42L, 1337L);
+        assertThat(collect(activeNodes, 43, 10_000)).containsExactly(1337L, 4242L);
+        assertThat(collect(activeNodes, 1338, 4242)).isEmpty();
+    }
+
+    @Test
+    void switchesToDenseNodes() {
+        var nodeCount = 10_000;
+        var activeNodes = ActiveNodes.create(nodeCount);
+
+        var expected = LongStream.range(0, nodeCount).filter(nodeId -> nodeId % 3 == 0).toArray();
+        for (long nodeId : expected) {
+            activeNodes.activate(nodeId);
+        }
+        activeNodes.advance();
+
+        assertThat(activeNodes.isDense()).isTrue();
+        assertThat(collect(activeNodes, 0, nodeCount))
+            .containsExactly(LongStream.of(expected).boxed().toArray(Long[]::new));
+        assertThat(collect(activeNodes, 64, 70)).containsExactly(66L, 69L);
+    }
+
+    @Test
+    void advanceResetsTheNextSuperstep() {
+        var nodeCount = 10_000;
+        var activeNodes = ActiveNodes.create(nodeCount);
+
+        // dense, sparse, empty, sparse
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            activeNodes.activate(nodeId);
+        }
+        activeNodes.advance();
+        activeNodes.activate(7);
+        activeNodes.advance();
+        assertThat(collect(activeNodes, 0, nodeCount)).containsExactly(7L);
+
+        activeNodes.advance();
+        assertThat(activeNodes.isDense()).isFalse();
+        assertThat(collect(activeNodes, 0, nodeCount)).isEmpty();
+
+        activeNodes.activate(9_999);
+        activeNodes.advance();
+        assertThat(collect(activeNodes, 0, nodeCount)).containsExactly(9_999L);
+    }
+
+    @Test
+    void activatesConcurrently() {
+        var nodeCount = 100_000;
+        var activeNodes = ActiveNodes.create(nodeCount);
+        var concurrency = 4;
+        var phaser = new Phaser(concurrency + 1);
+
+        // every task activates the same nodes, the set needs to deduplicate them
+        IntStream.range(0, concurrency).mapToObj(taskOffset -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (long nodeId = 0; nodeId < 50; nodeId++) {
+                activeNodes.activate(nodeId * 1000);
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+        activeNodes.advance();
+
+        assertThat(activeNodes.isDense()).isFalse();
+        assertThat(collect(activeNodes, 0, nodeCount))
+            .containsExactly(LongStream.range(0, 50).map(nodeId -> nodeId * 1000).boxed().toArray(Long[]::new));
+    }
+
+    private static List<Long> collect(ActiveNodes activeNodes, long startNode, long endNode) {
+        var nodes = new ArrayList<Long>();
+        activeNodes.forEach(startNode, endNode, nodes::add);
+        return nodes;
+    }
+}
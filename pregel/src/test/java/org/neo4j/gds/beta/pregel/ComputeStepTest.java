@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.MemoryEstimateDefinition;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComputeStepTest {
+
+    private static final int NODE_COUNT = 10_000;
+
+    private Graph graph;
+    private PregelConfig config;
+
+    @BeforeEach
+    void setup() {
+        graph = RandomGraphGenerator.builder()
+            .nodeCount(NODE_COUNT)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+        config = PregelConfigImpl.builder().maxIterations(10).build();
+    }
+
+    @Test
+    void visitsAllNodesOfTheBatchInTheInitialSuperstep() {
+        var voteBits = HugeAtomicBitSet.create(NODE_COUNT);
+        var activeNodes = ActiveNodes.create(NODE_COUNT);
+        var messenger = new RecordingMessenger();
+        var computation = new RecordingComputation();
+
+        computeStep(computation, messenger, voteBits, activeNodes, 0, Partition.of(1000, 2000)).run();
+
+        var batchNodes = LongStream.range(1000, 3000).boxed().collect(Collectors.toList());
+        assertThat(messenger.visitedNodes).containsExactlyElementsOf(batchNodes);
+        assertThat(computation.computedNodes).containsExactlyElementsOf(batchNodes);
+        // every computed node voted to halt and is not scheduled for the next superstep
+        activeNodes.advance();
+        var scheduledNodes = new ArrayList<Long>();
+        activeNodes.forEach(0, NODE_COUNT, scheduledNodes::add);
+        assertThat(scheduledNodes).isEmpty();
+    }
+
+    // 3 active nodes are below the sparse threshold of NODE_COUNT / 1024, 100 active nodes are above
+    @ParameterizedTest
+    @ValueSource(ints = {3, 100})
+    void visitsOnlyActiveNodesAfterTheInitialSuperstep(int activeNodeCount) {
+        var voteBits = HugeAtomicBitSet.create(NODE_COUNT);
+        voteBits.set(0, NODE_COUNT);
+        var activeNodes = ActiveNodes.create(NODE_COUNT);
+
+        var expectedActiveNodes = new ArrayList<Long>();
+        long step = NODE_COUNT / activeNodeCount;
+        for (long nodeId = step / 2; nodeId < NODE_COUNT; nodeId += step) {
+            // active nodes did not vote to halt in the previous superstep
+            voteBits.clear(nodeId);
+            activeNodes.activate(nodeId);
+            expectedActiveNodes.add(nodeId);
+        }
+        activeNodes.advance();
+        assertThat(activeNodes.isDense()).isEqualTo(activeNodeCount >= NODE_COUNT / ActiveNodes.SPARSE_DIVISOR);
+
+        var messenger = new RecordingMessenger();
+        var computation = new RecordingComputation();
+        var batch = Partition.of(2500, 5000);
+
+        computeStep(computation, messenger, voteBits, activeNodes, 1, batch).run();
+
+        var expectedVisitedNodes = expectedActiveNodes
+            .stream()
+            .filter(nodeId -> nodeId >= 2500 && nodeId < 7500)
+            .collect(Collectors.toList());
+        assertThat(expectedVisitedNodes).isNotEmpty();
+        assertThat(messenger.visitedNodes).containsExactlyElementsOf(expectedVisitedNodes);
+        assertThat(computation.computedNodes).containsExactlyElementsOf(expectedVisitedNodes);
+    }
+
+    private PartitionedComputeStep<PregelConfig, Messages.MessageIterator, InitContext<PregelConfig>, ComputeContext<PregelConfig>> computeStep(
+        RecordingComputation computation,
+        RecordingMessenger messenger,
+        HugeAtomicBitSet voteBits,
+        ActiveNodes activeNodes,
+        int superstep,
+        Partition batch
+    ) {
+        var nodeValue = NodeValue.of(computation.schema(config), NODE_COUNT, 1);
+        var iteration = new MutableInt(superstep);
+        var hasSentMessage = new MutableBoolean(false);
+
+        return new PartitionedComputeStep<>(
+            computation::init,
+            computation::compute,
+            new InitContext<>(graph, config, nodeValue, ProgressTracker.NULL_TRACKER),
+            new ComputeContext<>(
+                graph,
+                config,
+                computation,
+                nodeValue,
+                messenger,
+                voteBits,
+                activeNodes,
+                iteration,
+                Optional.of(hasSentMessage),
+                ProgressTracker.NULL_TRACKER
+            ),
+            batch,
+            nodeValue,
+            messenger,
+            voteBits,
+            activeNodes,
+            iteration,
+            hasSentMessage,
+            ProgressTracker.NULL_TRACKER
+        );
+    }
+
+    private static final class RecordingComputation implements PregelComputation<PregelConfig> {
+
+        final List<Long> computedNodes = new ArrayList<>();
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add("value", ValueType.LONG).build();
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            computedNodes.add(context.nodeId());
+            context.voteToHalt();
+        }
+    }
+
+    /**
+     * Records every node the compute step looks at, regardless of whether the node is computed.
+     */
+    private static final class RecordingMessenger implements Messenger<Messages.MessageIterator> {
+
+        final List<Long> visitedNodes = new ArrayList<>();
+
+        @Override
+        public void initIteration(int iteration) {
+        }
+
+        @Override
+        public void sendTo(long targetNodeId, double message) {
+        }
+
+        @Override
+        public Messages.MessageIterator messageIterator() {
+            return new Messages.MessageIterator() {
+                @Override
+                public boolean isEmpty() {
+                    return true;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        public void initMessageIterator(Messages.MessageIterator messageIterator, long nodeId, boolean isFirstIteration) {
+            visitedNodes.add(nodeId);
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
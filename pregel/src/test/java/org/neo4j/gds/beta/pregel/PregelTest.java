@@ -57,6 +57,7 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -274,6 +275,56 @@ class PregelTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void computesOnlyActiveNodes(Partitioning partitioning, boolean isAsynchronous) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = PregelConfigImpl.builder()
+            .maxIterations(10_000)
+            .partitioning(partitioning)
+            .isAsynchronous(isAsynchronous)
+            .concurrency(4)
+            .build();
+
+        var computation = new HopDistanceComputation();
+        var result = Pregel.create(graph, config, computation, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER).run();
+
+        // breadth first search from node 0
+        var expected = new long[(int) graph.nodeCount()];
+        Arrays.fill(expected, -1);
+        expected[0] = 0;
+        var queue = new ArrayDeque<Long>();
+        queue.add(0L);
+        while (!queue.isEmpty()) {
+            long nodeId = queue.poll();
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                if (expected[(int) target] == -1) {
+                    expected[(int) target] = expected[(int) source] + 1;
+                    queue.add(target);
+                }
+                return true;
+            });
+        }
+
+        assertThat(result.didConverge()).isTrue();
+        assertThat(result.nodeValues().longProperties(HopDistanceComputation.KEY).toArray()).containsExactly(expected);
+        // after the initial superstep, only nodes that received a message are computed
+        long reachedNodes = Arrays.stream(expected).filter(distance -> distance > 0).count();
+        long computedAfterInitialSuperstep = computation.computedNodes.get() - graph.nodeCount();
+        assertThat(computedAfterInitialSuperstep).isGreaterThanOrEqualTo(reachedNodes);
+        if (!isAsynchronous) {
+            // every reached node sends once, so there are at most as many messages as relationships
+            assertThat(computedAfterInitialSuperstep).isLessThanOrEqualTo(graph.relationshipCount());
+        }
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
@@ -393,8 +444,8 @@ class PregelTest {
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441752L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442256L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7444640L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7445216L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -403,7 +454,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441824L
+                9444712L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -413,12 +464,12 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442328L
+                9445288L
             ),
 
             // queue based async
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3841688L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3842192L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3844584L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3845160L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -427,7 +478,7 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5841760L
+                5844656L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -437,12 +488,12 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5842264L
+                5845232L
             ),
 
             // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 244480L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 245056L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -451,7 +502,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2244552L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -461,7 +512,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2245128L
             )
         );
     }
@@ -640,6 +691,127 @@ class PregelTest {
         pregelJob.run();
     }
 
+    static Stream<Arguments> typedMessageTypes() {
+        return Stream.of(
+            PregelSchema.MessageType.LONG,
+            PregelSchema.MessageType.DOUBLE_ARRAY,
+            PregelSchema.MessageType.LONG_ARRAY
+        ).map(Arguments::of);
+    }
+
+    static Stream<Arguments> typedMessageModes() {
+        return Stream.of(
+            Arguments.of(false, false),
+            Arguments.of(true, false),
+            Arguments.of(false, true)
+        );
+    }
+
+    static Stream<Arguments> typedMessageArguments() {
+        return crossArguments(PregelTest::partitionings, PregelTest::typedMessageTypes, PregelTest::typedMessageModes);
+    }
+
+    @ParameterizedTest
+    @MethodSource("typedMessageArguments")
+    void sendsTypedMessages(
+        Partitioning partitioning,
+        PregelSchema.MessageType messageType,
+        boolean isAsynchronous,
+        boolean isReducing
+    ) {
+        var config = PregelConfigImpl.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TypedMessageComputation(messageType, isReducing),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        long big = TypedMessageComputation.BIG;
+
+        switch (messageType) {
+            case LONG:
+                assertThat(nodeValues.longArrayValue(TypedMessageComputation.LONG_RESULT, 0)).containsExactly(2 * big + 3);
+                assertThat(nodeValues.longArrayValue(TypedMessageComputation.LONG_RESULT, 1)).containsExactly(big);
+                assertThat(nodeValues.longArrayValue(TypedMessageComputation.LONG_RESULT, 2)).containsExactly(big);
+                break;
+            case LONG_ARRAY:
+                assertThat(nodeValues.longArrayValue(TypedMessageComputation.LONG_RESULT, 0))
+                    .containsExactly(2 * big + 3, -3);
+                assertThat(nodeValues.longArrayValue(TypedMessageComputation.LONG_RESULT, 1)).containsExactly(big, 0);
+                assertThat(nodeValues.longArrayValue(TypedMessageComputation.LONG_RESULT, 2)).containsExactly(big, 0);
+                break;
+            case DOUBLE_ARRAY:
+                assertThat(nodeValues.doubleArrayValue(TypedMessageComputation.DOUBLE_RESULT, 0))
+                    .containsExactly(4.0, -3.0);
+                assertThat(nodeValues.doubleArrayValue(TypedMessageComputation.DOUBLE_RESULT, 1))
+                    .containsExactly(0.5, 0.0);
+                assertThat(nodeValues.doubleArrayValue(TypedMessageComputation.DOUBLE_RESULT, 2))
+                    .containsExactly(0.5, 0.0);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected message type " + messageType);
+        }
+    }
+
+    @Test
+    void failsOnReducerMismatchingMessageType() {
+        var computation = new TypedMessageComputation(PregelSchema.MessageType.LONG, false) {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer.Sum());
+            }
+        };
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            PregelConfigImpl.builder().maxIterations(1).build(),
+            computation,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("sends messages of type `LONG` and requires a long reducer");
+    }
+
+    @Test
+    void failsOnUndeclaredMessageType() {
+        var config = PregelConfigImpl.builder().maxIterations(1).build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestPregelComputation() {
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    context.sendLongToNeighbors(42L);
+                }
+            },
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelJob::run)
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessage(
+                "Messages of type `LONG` are not supported. The message type needs to be declared in the Pregel schema."
+            );
+    }
+
+    @Test
+    void failsOnMissingArrayMessageWidth() {
+        assertThatThrownBy(() -> new PregelSchema.Builder().messageType(PregelSchema.MessageType.LONG_ARRAY, 0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Array messages of type `LONG_ARRAY` require a positive width, but got 0.");
+    }
+
     static Stream<Arguments> partitionings() {
         return Arrays.stream(Partitioning.values()).map(Arguments::of);
     }
@@ -717,6 +889,164 @@ class PregelTest {
         }
     }
 
+    static class HopDistanceComputation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "distance";
+
+        final AtomicLong computedNodes = new AtomicLong();
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.LONG)
+                .messageType(PregelSchema.MessageType.LONG)
+                .build();
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            computedNodes.incrementAndGet();
+
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, context.nodeId() == 0 ? 0L : -1L);
+                if (context.nodeId() == 0) {
+                    context.sendLongToNeighbors(1L);
+                }
+            } else {
+                long distance = Long.MAX_VALUE;
+                var iterator = messages.longIterator();
+                while (iterator.hasNext()) {
+                    distance = Math.min(distance, iterator.nextLong());
+                }
+                long current = context.longNodeValue(KEY);
+                if (current == -1 || distance < current) {
+                    context.setNodeValue(KEY, distance);
+                    context.sendLongToNeighbors(distance + 1);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class TypedMessageComputation implements PregelComputation<PregelConfig> {
+
+        // not exactly representable as a double
+        static final long BIG = (1L << 60) + 1;
+        static final String LONG_RESULT = "longResult";
+        static final String DOUBLE_RESULT = "doubleResult";
+
+        private final PregelSchema.MessageType messageType;
+        private final boolean isReducing;
+
+        TypedMessageComputation(PregelSchema.MessageType messageType, boolean isReducing) {
+            this.messageType = messageType;
+            this.isReducing = isReducing;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(LONG_RESULT, ValueType.LONG_ARRAY)
+                .add(DOUBLE_RESULT, ValueType.DOUBLE_ARRAY)
+                .messageType(messageType, messageType.isArray() ? 2 : 1)
+                .build();
+        }
+
+        @Override
+        public Optional<LongReducer> longReducer() {
+            return isReducing && messageType != PregelSchema.MessageType.DOUBLE_ARRAY
+                ? Optional.of(new LongReducer.Sum())
+                : Optional.empty();
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return isReducing && messageType == PregelSchema.MessageType.DOUBLE_ARRAY
+                ? Optional.of(new Reducer.Sum())
+                : Optional.empty();
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(LONG_RESULT, new long[2]);
+                context.setNodeValue(DOUBLE_RESULT, new double[2]);
+                // alice sends to her neighbors, bob and eve send to alice
+                send(context, context.nodeId(), context.nodeId() == 0);
+                return;
+            }
+
+            var longResult = context.longArrayNodeValue(LONG_RESULT);
+            var doubleResult = context.doubleArrayNodeValue(DOUBLE_RESULT);
+            switch (messageType) {
+                case LONG:
+                    var longMessages = messages.longIterator();
+                    while (longMessages.hasNext()) {
+                        longResult[0] += longMessages.nextLong();
+                    }
+                    context.setNodeValue(LONG_RESULT, new long[]{longResult[0]});
+                    break;
+                case LONG_ARRAY:
+                    messages.longArrayIterator().forEachRemaining(message -> {
+                        longResult[0] += message[0];
+                        longResult[1] += message[1];
+                    });
+                    context.setNodeValue(LONG_RESULT, longResult);
+                    break;
+                case DOUBLE_ARRAY:
+                    messages.doubleArrayIterator().forEachRemaining(message -> {
+                        doubleResult[0] += message[0];
+                        doubleResult[1] += message[1];
+                    });
+                    context.setNodeValue(DOUBLE_RESULT, doubleResult);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected message type " + messageType);
+            }
+            context.voteToHalt();
+        }
+
+        private void send(ComputeContext<PregelConfig> context, long nodeId, boolean toNeighbors) {
+            switch (messageType) {
+                case LONG:
+                    if (toNeighbors) {
+                        context.sendLongToNeighbors(BIG + nodeId);
+                    } else {
+                        context.sendLongTo(0, BIG + nodeId);
+                    }
+                    break;
+                case LONG_ARRAY:
+                    var longMessage = new long[]{BIG + nodeId, -nodeId};
+                    if (toNeighbors) {
+                        context.sendToNeighbors(longMessage);
+                    } else {
+                        context.sendTo(0, longMessage);
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    var doubleMessage = new double[]{nodeId + 0.5, -nodeId};
+                    if (toNeighbors) {
+                        context.sendToNeighbors(doubleMessage);
+                    } else {
+                        context.sendTo(0, doubleMessage);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected message type " + messageType);
+            }
+        }
+    }
+
     @Configuration
     public interface CompositeTestComputationConfig extends PregelConfig {
         String doubleProperty();
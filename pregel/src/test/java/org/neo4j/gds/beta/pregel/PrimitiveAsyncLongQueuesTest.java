@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveAsyncLongQueuesTest extends PrimitiveLongQueuesTest {
+
+    @Override
+    PrimitiveAsyncLongQueues getQueue(long nodeCount, int initialCapacity) {
+        return PrimitiveAsyncLongQueues.of(nodeCount, initialCapacity);
+    }
+
+    @Test
+    void isEmpty() {
+        var queues = PrimitiveAsyncLongQueues.of(1);
+        assertThat(queues.isEmpty(0)).isTrue();
+
+        queues.push(0, 0L);
+        assertThat(queues.isEmpty(0)).isFalse();
+
+        queues.pop(0);
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+
+    @Test
+    void isEmptyWorksAfterGrowing() {
+        var initialCapacity = 50;
+        var insertedElements = initialCapacity + 10;
+        var queues = PrimitiveAsyncLongQueues.of(1, initialCapacity);
+
+        for (int i = 0; i < insertedElements; i++) {
+            queues.push(0, Long.MAX_VALUE);
+        }
+
+        var popCount = 0;
+        while (!queues.isEmpty(0)) {
+            popCount++;
+            assertThat(queues.pop(0)).isEqualTo(Long.MAX_VALUE);
+        }
+
+        assertThat(popCount).isEqualTo(insertedElements);
+    }
+
+    @Test
+    void popArrayMessages() {
+        var queues = PrimitiveAsyncLongQueues.of(1, 42, 2);
+
+        for (int i = 0; i < 30; i++) {
+            queues.push(0, new long[]{i, -i});
+        }
+
+        var message = new long[2];
+        for (int i = 0; i < 30; i++) {
+            assertThat(queues.isEmpty(0)).isFalse();
+            queues.pop(0, message);
+            assertThat(message).containsExactly(i, -i);
+        }
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+
+    @Test
+    void compactNoneEmptyQueue() {
+        var queues = PrimitiveAsyncLongQueues.of(1, 50);
+
+        var minFillSize = Math.ceil(50 * PrimitiveAsyncLongQueues.COMPACT_THRESHOLD);
+
+        for (int i = 0; i < minFillSize; i++) {
+            queues.push(0, 42L);
+            queues.pop(0);
+        }
+
+        var fillSize = 5;
+        for (int i = 0; i < fillSize; i++) {
+            queues.push(0, (long) i);
+        }
+
+        queues.compact();
+
+        assertThat(queues.head(0)).isEqualTo(0);
+        assertThat(queues.tail(0)).isEqualTo(fillSize);
+
+        for (int i = 0; i < fillSize; i++) {
+            assertThat(queues.pop(0)).isEqualTo(i);
+        }
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+
+    @Test
+    void iterateArrayMessages() {
+        var queues = PrimitiveAsyncLongQueues.of(1, 42, 3);
+
+        queues.push(0, new long[]{1, 2, 3});
+        queues.push(0, new long[]{4, 5, 6});
+
+        var iterator = new PrimitiveAsyncLongQueues.Iterator(queues);
+        iterator.init(0);
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.nextLongArray()).containsExactly(1, 2, 3);
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.nextLongArray()).containsExactly(4, 5, 6);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
@@ -82,4 +82,32 @@ abstract class PrimitiveDoubleQueuesTest {
             .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
     }
 
+    @RepeatedTest(100)
+    void parallelPushArrayMessages() {
+        var queues = getQueue(1, 42);
+        var concurrency = 4;
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj((taskOffset) -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (int i = 0; i < 100; i++) {
+                double message = i + taskOffset * 100;
+                queues.push(0, new double[]{message, -message});
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        // the elements of a single message must not interleave with other messages
+        var values = new ArrayList<Long>();
+        for (int i = 0; i < queues.tail(0); i += 2) {
+            assertThat(queues.queue(0)[i + 1]).isEqualTo(-queues.queue(0)[i]);
+            values.add(Math.round(queues.queue(0)[i]));
+        }
+
+        assertThat(values)
+            .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveSyncLongQueuesTest extends PrimitiveLongQueuesTest {
+
+    @Override
+    PrimitiveSyncLongQueues getQueue(long nodeCount, int initialCapacity) {
+        return PrimitiveSyncLongQueues.of(nodeCount, initialCapacity);
+    }
+
+    @Test
+    void iterate() {
+        var queue = getQueue(1, 42);
+
+        for (long i = 0; i < 84; i++) {
+            queue.push(0, Long.MAX_VALUE - i);
+        }
+
+        queue.swapQueues();
+
+        var iterator = new PrimitiveSyncLongQueues.Iterator();
+        queue.initIterator(iterator, 0);
+
+        var values = LongStream.builder();
+        while (iterator.hasNext()) {
+            values.add(iterator.nextLong());
+        }
+
+        assertThat(values.build().toArray())
+            .containsExactly(LongStream.range(0, 84).map(i -> Long.MAX_VALUE - i).toArray());
+    }
+
+    @Test
+    void iterateArrayMessages() {
+        var queue = getQueue(1, 42);
+
+        queue.push(0, new long[]{1, 2, 3});
+        queue.push(0, new long[]{4, 5, 6});
+
+        queue.swapQueues();
+
+        var iterator = new PrimitiveSyncLongQueues.Iterator(3);
+        queue.initIterator(iterator, 0);
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.nextLongArray()).containsExactly(1, 2, 3);
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.nextLongArray()).containsExactly(4, 5, 6);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void iterateEmptyQueue() {
+        var queue = getQueue(1, 42);
+
+        queue.swapQueues();
+
+        var iterator = new PrimitiveSyncLongQueues.Iterator();
+        queue.initIterator(iterator, 0);
+
+        assertThat(iterator.hasNext()).isFalse();
+    }
+}
@@ -44,4 +44,19 @@ class ReducerTest {
         assertEquals(expected, reducer.reduce(arg0, arg1));
     }
 
+    static Stream<Arguments> longArguments() {
+        return Stream.of(
+            Arguments.of(new LongReducer.Sum(), Long.MAX_VALUE - 1, 1, Long.MAX_VALUE),
+            Arguments.of(new LongReducer.Min(), 42, 23, 23),
+            Arguments.of(new LongReducer.Max(), 42, 23, 42),
+            Arguments.of(new LongReducer.Count(), 42, 23, 43)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("longArguments")
+    void longReduce(LongReducer reducer, long arg0, long arg1, long expected) {
+        assertEquals(expected, reducer.reduce(arg0, arg1));
+    }
+
 }
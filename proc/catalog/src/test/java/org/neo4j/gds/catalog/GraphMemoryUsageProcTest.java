@@ -101,25 +101,24 @@ class GraphMemoryUsageProcTest extends BaseProcTest {
                         "total", allOf(instanceOf(Long.class), greaterThan(0L)),
                         "nodes", instanceOf(Map.class),
                         "adjacencyLists", Map.of(
-                            "REL", Map.of(
-                                "pages",
-                                allOf(instanceOf(Long.class), greaterThan(0L)),
-                                "bytesTotal",
-                                allOf(instanceOf(Long.class), greaterThan(0L)),
-                                "bytesOnHeap",
-                                allOf(instanceOf(Long.class), greaterThan(0L)),
-                                "bytesOffHeap",
-                                instanceOf(Long.class),
-                                "pageSizes",
-                                allOf(instanceOf(Map.class), hasEntry(equalTo("mean"), greaterThan(0D))),
-                                "heapAllocations",
-                                allOf(instanceOf(Map.class), hasEntry(equalTo("mean"), greaterThan(0D))),
-                                "nativeAllocations",
-                                instanceOf(Map.class),
-                                "headerBits",
-                                instanceOf(Map.class),
-                                "headerAllocations",
-                                instanceOf(Map.class)
+                            "REL", Map.ofEntries(
+                                Map.entry("pages", allOf(instanceOf(Long.class), greaterThan(0L))),
+                                Map.entry("bytesTotal", allOf(instanceOf(Long.class), greaterThan(0L))),
+                                Map.entry("bytesOnHeap", allOf(instanceOf(Long.class), greaterThan(0L))),
+                                Map.entry("bytesOffHeap", instanceOf(Long.class)),
+                                Map.entry("layout", "VAR_LONG"),
+                                Map.entry("bytesPerRelationship", allOf(instanceOf(Double.class), greaterThan(0D))),
+                                Map.entry(
+                                    "pageSizes",
+                                    allOf(instanceOf(Map.class), hasEntry(equalTo("mean"), greaterThan(0D)))
+                                ),
+                                Map.entry(
+                                    "heapAllocations",
+                                    allOf(instanceOf(Map.class), hasEntry(equalTo("mean"), greaterThan(0D)))
+                                ),
+                                Map.entry("nativeAllocations", instanceOf(Map.class)),
+                                Map.entry("headerBits", instanceOf(Map.class)),
+                                Map.entry("headerAllocations", instanceOf(Map.class))
                             ))
                     ),
                     "nodeCount", 100L,
@@ -146,6 +145,8 @@ class GraphMemoryUsageProcTest extends BaseProcTest {
                 r.put("bytesTotal", allOf(instanceOf(Long.class), greaterThan(0L)));
                 r.put("bytesOnHeap", allOf(instanceOf(Long.class), greaterThan(0L)));
                 r.put("bytesOffHeap", allOf(instanceOf(Long.class), greaterThanOrEqualTo(0L)));
+                r.put("layout", "PACKED");
+                r.put("bytesPerRelationship", allOf(instanceOf(Double.class), greaterThan(0D)));
                 r.put("pageSizes", instanceOf(Map.class));
                 r.put("heapAllocations", allOf(instanceOf(Map.class)));
                 r.put("nativeAllocations", instanceOf(Map.class));
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+class GraphReorderProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:N {prop: 42, community: 1})" +
+        ", (b:N {prop: 43, community: 0})" +
+        ", (c:M {prop: 44, community: 1})" +
+        ", (d:M {prop: 45, community: 0})" +
+        ", (e:M {prop: 46, community: 1})" +
+        ", (a)-[:R1 {cost: 1.0}]->(b)" +
+        ", (c)-[:R1 {cost: 2.0}]->(a)" +
+        ", (c)-[:R1 {cost: 3.0}]->(b)" +
+        ", (c)-[:R1 {cost: 4.0}]->(d)" +
+        ", (e)-[:R2 {cost: 5.0}]->(c)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphProjectProc.class,
+            GraphReorderProc.class,
+            GraphListProc.class,
+            GraphStreamNodePropertiesProc.class,
+            GraphStreamRelationshipPropertiesProc.class
+        );
+        runQuery(DB_CYPHER);
+        runQuery(
+            "CALL gds.graph.project('g', ['N', 'M'], {R1: {properties: 'cost'}, R2: {properties: 'cost'}}, " +
+            "{nodeProperties: ['prop', 'community']})"
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"DEGREE", "RCM", "COMMUNITY"})
+    void shouldReorderGraph(String ordering) {
+        var query = "CALL gds.alpha.graph.reorder('reordered', 'g', {ordering: $ordering, communityProperty: 'community'}) " +
+                    "YIELD graphName, fromGraphName, ordering, nodeCount, relationshipCount";
+
+        assertCypherResult(query, Map.of("ordering", ordering), List.of(Map.of(
+            "graphName", "reordered",
+            "fromGraphName", "g",
+            "ordering", ordering,
+            "nodeCount", 5L,
+            "relationshipCount", 5L
+        )));
+        assertGraphExists("reordered");
+
+        // node and relationship properties are attached to the same nodes as before
+        assertThat(nodeProperties("reordered")).isEqualTo(nodeProperties("g"));
+        assertThat(relationshipProperties("reordered")).isEqualTo(relationshipProperties("g"));
+    }
+
+    @Test
+    void shouldListReorderConfiguration() {
+        runQuery("CALL gds.alpha.graph.reorder('reordered', 'g', {ordering: 'rcm', relationshipTypes: ['R1']})");
+
+        runQueryWithRowConsumer("CALL gds.graph.list('reordered') YIELD configuration", row ->
+            assertThat(row.get("configuration"))
+                .asInstanceOf(MAP)
+                .containsEntry("ordering", "RCM")
+                .containsEntry("relationshipTypes", List.of("R1"))
+        );
+    }
+
+    @Test
+    void shouldFailForCommunityOrderingWithoutCommunityProperty() {
+        assertError(
+            "CALL gds.alpha.graph.reorder('reordered', 'g', {ordering: 'community'})",
+            "The `COMMUNITY` ordering requires a `communityProperty`."
+        );
+    }
+
+    @Test
+    void shouldFailIfGraphAlreadyExists() {
+        assertError(
+            "CALL gds.alpha.graph.reorder('g', 'g', {})",
+            "A graph with name 'g' already exists."
+        );
+    }
+
+    private Map<Long, Map<String, Object>> nodeProperties(String graphName) {
+        var properties = new HashMap<Long, Map<String, Object>>();
+        runQueryWithRowConsumer(
+            "CALL gds.graph.nodeProperties.stream($graphName, ['prop', 'community']) " +
+            "YIELD nodeId, nodeProperty, propertyValue",
+            Map.of("graphName", graphName),
+            row -> properties
+                .computeIfAbsent(row.getNumber("nodeId").longValue(), __ -> new HashMap<>())
+                .put(row.getString("nodeProperty"), row.get("propertyValue"))
+        );
+        return properties;
+    }
+
+    private Map<List<Object>, Object> relationshipProperties(String graphName) {
+        var properties = new HashMap<List<Object>, Object>();
+        runQueryWithRowConsumer(
+            "CALL gds.graph.relationshipProperty.stream($graphName, 'cost') " +
+            "YIELD sourceNodeId, targetNodeId, relationshipType, propertyValue",
+            Map.of("graphName", graphName),
+            row -> properties.put(
+                List.of(row.get("sourceNodeId"), row.get("targetNodeId"), row.get("relationshipType")),
+                row.get("propertyValue")
+            )
+        );
+        return properties;
+    }
+}
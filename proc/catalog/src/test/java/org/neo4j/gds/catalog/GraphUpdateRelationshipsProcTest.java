@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
+
+class GraphUpdateRelationshipsProcTest extends BaseProcTest {
+
+    @SuppressWarnings("unused")
+    @Neo4jGraph
+    static String DB_CYPHER = "CREATE" +
+                              "  (a:N), (b:N), (c:N)" +
+                              ", (a)-[:REL { w: 1.0 }]->(b)" +
+                              ", (b)-[:REL { w: 2.0 }]->(c)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphProjectProc.class,
+            GraphUpdateRelationshipsProc.class,
+            GraphStreamRelationshipPropertiesProc.class
+        );
+        runQuery("CALL gds.graph.project('graph', 'N', { REL: { properties: 'w' } })");
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldInsertAndDeleteRelationships() {
+        var query = "CALL gds.alpha.graph.relationships.update('graph', 'REL', $insertions, $deletions)";
+        var params = Map.<String, Object>of(
+            "insertions", List.of(Map.of(
+                "source", idFunction.of("c"),
+                "target", idFunction.of("a"),
+                "properties", Map.of("w", 3.0)
+            )),
+            "deletions", List.of(Map.of("source", idFunction.of("a"), "target", idFunction.of("b")))
+        );
+
+        var rowCount = runQueryWithRowConsumer(db, query, params, row -> {
+            assertThat(row.getString("graphName")).isEqualTo("graph");
+            assertThat(row.getString("relationshipType")).isEqualTo("REL");
+            assertThat(row.getNumber("relationshipsInserted")).asInstanceOf(LONG).isEqualTo(1L);
+            assertThat(row.getNumber("relationshipsDeleted")).asInstanceOf(LONG).isEqualTo(1L);
+            assertThat(row.getNumber("relationshipCount")).asInstanceOf(LONG).isEqualTo(2L);
+            assertThat(row.getNumber("updateMillis")).asInstanceOf(LONG).isGreaterThanOrEqualTo(0L);
+        });
+        assertThat(rowCount).isEqualTo(1L);
+
+        var relationships = new ArrayList<List<Object>>();
+        runQueryWithRowConsumer(
+            "CALL gds.graph.relationshipProperty.stream('graph', 'w')",
+            row -> relationships.add(List.of(
+                row.getNumber("sourceNodeId").longValue(),
+                row.getNumber("targetNodeId").longValue(),
+                row.getNumber("propertyValue").doubleValue()
+            ))
+        );
+        assertThat(relationships).containsExactlyInAnyOrder(
+            List.of(idFunction.of("b"), idFunction.of("c"), 2.0),
+            List.of(idFunction.of("c"), idFunction.of("a"), 3.0)
+        );
+    }
+
+    @Test
+    void shouldFailOnUnknownProperty() {
+        var query = "CALL gds.alpha.graph.relationships.update('graph', 'REL', $insertions)";
+        var params = Map.<String, Object>of(
+            "insertions", List.of(Map.of(
+                "source", idFunction.of("c"),
+                "target", idFunction.of("a"),
+                "properties", Map.of("foo", 3.0)
+            ))
+        );
+
+        assertThatThrownBy(() -> runQuery(query, params))
+            .rootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Relationship type `REL` has no property `foo`. Available properties are [w].");
+    }
+}
@@ -53,6 +53,10 @@ public interface LinkPredictionPredictPipelineBaseConfig extends
     ModelConfig {
 
     double DEFAULT_THRESHOLD = 0.0;
+    int DEFAULT_LSH_HASH_TABLES = 4;
+    int DEFAULT_LSH_HYPERPLANES = 16;
+    int DEFAULT_LSH_MAX_CANDIDATES_PER_NODE = 64;
+    int DEFAULT_LSH_RECALL_SAMPLE_SIZE = 0;
 
     @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
     default double sampleRate() {
@@ -126,6 +130,19 @@ public interface LinkPredictionPredictPipelineBaseConfig extends
 
     Optional<String> initialSampler();
 
+    //LSH strategy fields, the strategy uses topN and threshold like the exhaustive strategy
+    @Configuration.IntegerRange(min = 1, max = 64)
+    Optional<Integer> lshHashTables();
+
+    @Configuration.IntegerRange(min = 1, max = 20)
+    Optional<Integer> lshHyperplanes();
+
+    @Configuration.IntegerRange(min = 2)
+    Optional<Integer> lshMaxCandidatesPerNode();
+
+    @Configuration.IntegerRange(min = 0)
+    Optional<Integer> lshRecallSampleSize();
+
     @Configuration.Ignore
     default Optional<KnnSampler.SamplerType> derivedInitialSampler() {
         return initialSampler().map(KnnSampler.SamplerType::parse);
@@ -139,6 +156,14 @@ public interface LinkPredictionPredictPipelineBaseConfig extends
                 "threshold", threshold().isPresent()
             );
             validateStrategySpecificParameters(exhaustiveStrategyParameters, "equal to 1");
+
+            Map<String, Boolean> lshStrategyParameters = Map.of(
+                "lshHashTables", lshHashTables().isPresent(),
+                "lshHyperplanes", lshHyperplanes().isPresent(),
+                "lshMaxCandidatesPerNode", lshMaxCandidatesPerNode().isPresent(),
+                "lshRecallSampleSize", lshRecallSampleSize().isPresent()
+            );
+            validateStrategySpecificParameters(lshStrategyParameters, "equal to 1");
         } else {
             Map<String, Boolean> approximateStrategyParameters = Map.of(
                 "topK", topK().isPresent(),
@@ -150,6 +175,15 @@ public interface LinkPredictionPredictPipelineBaseConfig extends
             validateStrategySpecificParameters(approximateStrategyParameters, "less than 1");
 
             topN().orElseThrow(() -> MissingParameterExceptions.missingValueFor("topN", Collections.emptyList()));
+
+            if (isLshStrategy() && lshHashTablesOrDefault() * lshHyperplanesOrDefault() > Long.SIZE) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The product of 'lshHashTables' and 'lshHyperplanes' must not exceed %d, but got %d * %d.",
+                    Long.SIZE,
+                    lshHashTablesOrDefault(),
+                    lshHyperplanesOrDefault()
+                ));
+            }
         }
     }
 
@@ -211,7 +245,39 @@ public interface LinkPredictionPredictPipelineBaseConfig extends
     default double thresholdOrDefault() {
         return threshold().orElse(DEFAULT_THRESHOLD);
     }
-    
+
+    @Configuration.Ignore
+    default int lshHashTablesOrDefault() {
+        return lshHashTables().orElse(DEFAULT_LSH_HASH_TABLES);
+    }
+
+    @Configuration.Ignore
+    default int lshHyperplanesOrDefault() {
+        return lshHyperplanes().orElse(DEFAULT_LSH_HYPERPLANES);
+    }
+
+    @Configuration.Ignore
+    default int lshMaxCandidatesPerNodeOrDefault() {
+        return lshMaxCandidatesPerNode().orElse(DEFAULT_LSH_MAX_CANDIDATES_PER_NODE);
+    }
+
+    @Configuration.Ignore
+    default int lshRecallSampleSizeOrDefault() {
+        return lshRecallSampleSize().orElse(DEFAULT_LSH_RECALL_SAMPLE_SIZE);
+    }
+
+    /**
+     * The LSH strategy is an alternative to the exhaustive strategy and is selected by setting any of its parameters.
+     */
+    @Configuration.Ignore
+    default boolean isLshStrategy() {
+        return !isApproximateStrategy() && (
+            lshHashTables().isPresent()
+            || lshHyperplanes().isPresent()
+            || lshMaxCandidatesPerNode().isPresent()
+            || lshRecallSampleSize().isPresent()
+        );
+    }
 
     @Configuration.Ignore
     default boolean isApproximateStrategy() {
@@ -31,6 +31,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.ml.api.TrainingMethod;
+import org.neo4j.gds.ml.core.features.FeatureExtraction;
 import org.neo4j.gds.ml.linkmodels.LinkPredictionResult;
 import org.neo4j.gds.ml.models.Classifier;
 import org.neo4j.gds.ml.models.ClassifierFactory;
@@ -86,7 +87,7 @@ public class LinkPredictionPredictPipelineExecutor extends PredictPipelineExecut
         );
 
         var linkFeatureExtractor = LinkFeatureExtractor.of(graph, pipeline.featureSteps());
-        var linkPrediction = getLinkPredictionStrategy(graph, config.isApproximateStrategy(), linkFeatureExtractor);
+        var linkPrediction = getLinkPredictionStrategy(graph, linkFeatureExtractor);
         return linkPrediction.compute();
     }
 
@@ -105,15 +106,21 @@ public class LinkPredictionPredictPipelineExecutor extends PredictPipelineExecut
         LinkPredictionPredictPipelineBaseConfig config
     ) {
         var nodeCount = graphStore.nodeCount();
+        Task strategyTask;
+        if (config.isApproximateStrategy()) {
+            strategyTask = Tasks.task(
+                "Approximate link prediction",
+                KnnFactory.knnTaskTree(nodeCount, config.approximateParameters().finalize(nodeCount).maxIterations())
+            );
+        } else if (config.isLshStrategy()) {
+            strategyTask = LshLinkPrediction.progressTask(nodeCount, config);
+        } else {
+            strategyTask = Tasks.leaf("Exhaustive link prediction", nodeCount * nodeCount / 2);
+        }
         return Tasks.task(
             taskName,
             NodePropertyStepExecutor.tasks(pipeline.nodePropertySteps(), graphStore.relationshipCount()),
-            config.isApproximateStrategy()
-                ? Tasks.task(
-                "Approximate link prediction",
-                KnnFactory.knnTaskTree(nodeCount, config.approximateParameters().finalize(nodeCount).maxIterations())
-            )
-                : Tasks.leaf("Exhaustive link prediction", nodeCount * nodeCount / 2)
+            strategyTask
         );
     }
 
@@ -133,9 +140,14 @@ public class LinkPredictionPredictPipelineExecutor extends PredictPipelineExecut
             configuration.relationshipTypes()
         );
 
-        var strategyEstimation = configuration.isApproximateStrategy()
-            ? ApproximateLinkPrediction.estimate(configuration)
-            : ExhaustiveLinkPrediction.estimate(configuration, classifierData.featureDimension());
+        MemoryEstimation strategyEstimation;
+        if (configuration.isApproximateStrategy()) {
+            strategyEstimation = ApproximateLinkPrediction.estimate(configuration);
+        } else if (configuration.isLshStrategy()) {
+            strategyEstimation = LshLinkPrediction.estimate(configuration, classifierData.featureDimension());
+        } else {
+            strategyEstimation = ExhaustiveLinkPrediction.estimate(configuration, classifierData.featureDimension());
+        }
 
         MemoryRange classificationRange;
         // LR prediction requires no computation graph overhead in the binary case.
@@ -162,7 +174,6 @@ public class LinkPredictionPredictPipelineExecutor extends PredictPipelineExecut
 
     private LinkPrediction getLinkPredictionStrategy(
         Graph graph,
-        boolean isApproximateStrategy,
         LinkFeatureExtractor linkFeatureExtractor
     ) {
         if (linkFeatureExtractor.featureDimension() != classifier.data().featureDimension()) {
@@ -187,7 +198,7 @@ public class LinkPredictionPredictPipelineExecutor extends PredictPipelineExecut
         var sourceNodeFilter = LPNodeFilter.of(graph, sourceNodes);
         var targetNodeFilter = LPNodeFilter.of(graph, targetNodes);
 
-        if (isApproximateStrategy) {
+        if (config.isApproximateStrategy()) {
             return new ApproximateLinkPrediction(
                 classifier,
                 linkFeatureExtractor,
@@ -198,6 +209,32 @@ public class LinkPredictionPredictPipelineExecutor extends PredictPipelineExecut
                 progressTracker,
                 terminationFlag
             );
+        } else if (config.isLshStrategy()) {
+            var inputNodeProperties = pipeline
+                .featureSteps()
+                .stream()
+                .flatMap(step -> step.inputNodeProperties().stream())
+                .distinct()
+                .collect(Collectors.toList());
+
+            return new LshLinkPrediction(
+                classifier,
+                linkFeatureExtractor,
+                FeatureExtraction.propertyExtractors(graph, inputNodeProperties),
+                graph,
+                sourceNodeFilter,
+                targetNodeFilter,
+                config.concurrency(),
+                config.lshHashTablesOrDefault(),
+                config.lshHyperplanesOrDefault(),
+                config.lshMaxCandidatesPerNodeOrDefault(),
+                config.lshRecallSampleSizeOrDefault(),
+                config.topN().orElseThrow(),
+                config.thresholdOrDefault(),
+                config.randomSeed(),
+                progressTracker,
+                terminationFlag
+            );
         } else {
             return new ExhaustiveLinkPrediction(
                 classifier,
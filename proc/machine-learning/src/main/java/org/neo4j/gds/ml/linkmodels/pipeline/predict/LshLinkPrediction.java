@@ -0,0 +1,611 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels.pipeline.predict;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.queue.BoundedLongLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.features.FeatureConsumer;
+import org.neo4j.gds.ml.core.features.FeatureExtraction;
+import org.neo4j.gds.ml.core.features.FeatureExtractor;
+import org.neo4j.gds.ml.linkmodels.LinkPredictionResult;
+import org.neo4j.gds.ml.linkmodels.PredictedLink;
+import org.neo4j.gds.ml.models.Classifier;
+import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Link prediction which only scores node pairs that are proposed by locality-sensitive hashing.
+ *
+ * The input node properties of the link feature steps are hashed with random hyperplanes (SimHash).
+ * Each hash table uses its own set of hyperplanes and groups nodes into buckets of equal signature.
+ * Within a bucket, nodes are visited in a random order and each node is paired with a bounded window of its
+ * successors, so the number of scored pairs grows linearly with the node count instead of quadratically.
+ * A pair that was already scored in an earlier table, i.e. shared a bucket there and was within the window,
+ * is not scored again.
+ *
+ * To report the quality of the candidates, the best link of a few sampled nodes can be computed exhaustively
+ * and compared to the best link found through the hash tables. As this scores all nodes once per sampled node,
+ * it is disabled by default.
+ */
+public class LshLinkPrediction extends LinkPrediction {
+
+    private final List<FeatureExtractor> nodeFeatureExtractors;
+    private final int hashTables;
+    private final int hyperplanes;
+    private final int maxCandidatesPerNode;
+    private final int recallSampleSize;
+    private final int topN;
+    private final double threshold;
+    private final Optional<Long> randomSeed;
+    private final TerminationFlag terminationFlag;
+
+    public LshLinkPrediction(
+        Classifier classifier,
+        LinkFeatureExtractor linkFeatureExtractor,
+        List<FeatureExtractor> nodeFeatureExtractors,
+        Graph graph,
+        LPNodeFilter sourceNodeFilter,
+        LPNodeFilter targetNodeFilter,
+        int concurrency,
+        int hashTables,
+        int hyperplanes,
+        int maxCandidatesPerNode,
+        int recallSampleSize,
+        int topN,
+        double threshold,
+        Optional<Long> randomSeed,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(
+            classifier,
+            linkFeatureExtractor,
+            graph,
+            sourceNodeFilter,
+            targetNodeFilter,
+            concurrency,
+            progressTracker
+        );
+        this.nodeFeatureExtractors = nodeFeatureExtractors;
+        this.hashTables = hashTables;
+        this.hyperplanes = hyperplanes;
+        this.maxCandidatesPerNode = maxCandidatesPerNode;
+        this.recallSampleSize = recallSampleSize;
+        this.topN = topN;
+        this.threshold = threshold;
+        this.randomSeed = randomSeed;
+        this.terminationFlag = terminationFlag;
+    }
+
+    public static Task progressTask(long nodeCount, LinkPredictionPredictPipelineBaseConfig config) {
+        return Tasks.task(
+            "LSH link prediction",
+            Tasks.leaf("Hash nodes", nodeCount),
+            Tasks.leaf("Score candidates", nodeCount * config.lshHashTablesOrDefault()),
+            Tasks.leaf("Estimate recall", config.lshRecallSampleSizeOrDefault() * nodeCount)
+        );
+    }
+
+    public static MemoryEstimation estimate(LinkPredictionPredictPipelineBaseConfig config, int linkFeatureDimension) {
+        var bucketCount = 1L << config.lshHyperplanesOrDefault();
+        return MemoryEstimations.builder(LshLinkPrediction.class.getSimpleName())
+            .add("Priority queue", BoundedLongLongPriorityQueue.memoryEstimation(config.topN().orElseThrow()))
+            .perNode("Signatures", HugeLongArray::memoryEstimation)
+            .perNode("Bucket order", HugeLongArray::memoryEstimation)
+            .fixed("Bucket offsets", MemoryUsage.sizeOfLongArray(bucketCount + 1))
+            .perNode(
+                "Bucket positions",
+                nodeCount -> (config.lshHashTablesOrDefault() - 1) * HugeLongArray.memoryEstimation(nodeCount)
+            )
+            .perThread("Predict links operation", MemoryRange.of(MemoryUsage.sizeOfDoubleArray(linkFeatureDimension)))
+            .build();
+    }
+
+    @Override
+    LinkPredictionResult predictLinks(LinkPredictionSimilarityComputer linkPredictionSimilarityComputer) {
+        var random = new Random(randomSeed.orElseGet(() -> new Random().nextLong()));
+
+        progressTracker.beginSubTask("Hash nodes");
+        var signatures = HugeLongArray.newArray(graph.nodeCount());
+        long candidateNodeCount = computeSignatures(signatures, random);
+        progressTracker.endSubTask("Hash nodes");
+
+        var recallSample = sampleSourceNodes(random);
+        var bestSampleProbabilities = new double[recallSample.length];
+        Arrays.fill(bestSampleProbabilities, Double.NEGATIVE_INFINITY);
+
+        var predictionQueue = BoundedLongLongPriorityQueue.max(topN);
+        var linksConsidered = new LongAdder();
+
+        progressTracker.beginSubTask("Score candidates");
+        long scoringStart = System.nanoTime();
+        var bucketOrder = HugeLongArray.newArray(candidateNodeCount);
+        // the positions are only needed to skip pairs in later tables, so the last table does not keep them
+        var bucketPositions = new HugeLongArray[hashTables - 1];
+        for (int table = 0; table < hashTables; table++) {
+            if (table < bucketPositions.length) {
+                bucketPositions[table] = HugeLongArray.newArray(graph.nodeCount());
+            }
+            var bucketOffsets = fillBuckets(
+                signatures,
+                table,
+                bucketOrder,
+                table < bucketPositions.length ? bucketPositions[table] : null,
+                candidateNodeCount,
+                random
+            );
+            scoreBuckets(
+                linkPredictionSimilarityComputer,
+                signatures,
+                table,
+                bucketOrder,
+                bucketOffsets,
+                bucketPositions,
+                candidateNodeCount,
+                predictionQueue,
+                linksConsidered,
+                recallSample,
+                bestSampleProbabilities
+            );
+        }
+        long scoringNanos = System.nanoTime() - scoringStart;
+        progressTracker.endSubTask("Score candidates");
+
+        progressTracker.beginSubTask("Estimate recall");
+        double estimatedRecall = estimateRecall(
+            linkPredictionSimilarityComputer,
+            recallSample,
+            bestSampleProbabilities
+        );
+        progressTracker.endSubTask("Estimate recall");
+
+        return new Result(predictionQueue, linksConsidered.longValue(), scoringNanos, estimatedRecall);
+    }
+
+    private boolean isCandidate(long nodeId) {
+        return sourceNodeFilter.test(nodeId) || targetNodeFilter.test(nodeId);
+    }
+
+    private long signature(HugeLongArray signatures, long nodeId, int table) {
+        return (signatures.get(nodeId) >>> (table * hyperplanes)) & ((1L << hyperplanes) - 1);
+    }
+
+    /**
+     * Computes one bit per hyperplane and hash table for every candidate node.
+     * The features are centered first, as otherwise non-negative properties would all fall on the same side
+     * of most hyperplanes.
+     *
+     * @return the number of candidate nodes
+     */
+    private long computeSignatures(HugeLongArray signatures, Random random) {
+        int dimension = FeatureExtraction.featureCount(nodeFeatureExtractors);
+        var planes = new double[hashTables * hyperplanes][dimension];
+        for (double[] plane : planes) {
+            for (int i = 0; i < dimension; i++) {
+                plane[i] = random.nextGaussian();
+            }
+        }
+
+        var sums = new ArrayList<double[]>();
+        var candidateCount = new LongAdder();
+        var sumTasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> {
+                var sum = new double[dimension];
+                sums.add(sum);
+                return (Runnable) () -> {
+                    var features = new double[dimension];
+                    var consumer = new ArrayFeatureConsumer(features);
+                    partition.consume(nodeId -> {
+                        if (!isCandidate(nodeId)) return;
+                        FeatureExtraction.extract(nodeId, 0, nodeFeatureExtractors, consumer);
+                        for (int i = 0; i < dimension; i++) {
+                            sum[i] += features[i];
+                        }
+                        candidateCount.increment();
+                    });
+                };
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(sumTasks)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        var mean = new double[dimension];
+        long candidates = candidateCount.longValue();
+        for (double[] sum : sums) {
+            for (int i = 0; i < dimension; i++) {
+                mean[i] += sum[i] / Math.max(candidates, 1);
+            }
+        }
+
+        var signatureTasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var features = new double[dimension];
+                var consumer = new ArrayFeatureConsumer(features);
+                partition.consume(nodeId -> {
+                    if (isCandidate(nodeId)) {
+                        FeatureExtraction.extract(nodeId, 0, nodeFeatureExtractors, consumer);
+                        long bits = 0L;
+                        for (int plane = 0; plane < planes.length; plane++) {
+                            double dot = 0;
+                            for (int i = 0; i < dimension; i++) {
+                                dot += (features[i] - mean[i]) * planes[plane][i];
+                            }
+                            if (dot >= 0) {
+                                bits |= 1L << plane;
+                            }
+                        }
+                        signatures.set(nodeId, bits);
+                    }
+                });
+                progressTracker.logSteps(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(signatureTasks)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        return candidates;
+    }
+
+    /**
+     * Counting sort of the candidate nodes by their signature in the given table.
+     * Nodes are visited in a random permutation, so that the windows within a bucket differ between tables.
+     * If {@code bucketPositions} is given, it receives the position of every candidate node in {@code bucketOrder}.
+     *
+     * @return the offsets of the buckets in {@code bucketOrder}, with one extra entry marking the end
+     */
+    private long[] fillBuckets(
+        HugeLongArray signatures,
+        int table,
+        HugeLongArray bucketOrder,
+        @Nullable HugeLongArray bucketPositions,
+        long candidateNodeCount,
+        Random random
+    ) {
+        var bucketOffsets = new long[(1 << hyperplanes) + 1];
+        if (candidateNodeCount == 0) {
+            return bucketOffsets;
+        }
+        long nodeCount = graph.nodeCount();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (isCandidate(nodeId)) {
+                bucketOffsets[(int) signature(signatures, nodeId, table) + 1]++;
+            }
+        }
+        for (int bucket = 1; bucket < bucketOffsets.length; bucket++) {
+            bucketOffsets[bucket] += bucketOffsets[bucket - 1];
+        }
+
+        var insertPositions = Arrays.copyOf(bucketOffsets, bucketOffsets.length - 1);
+        long step = coprimeStep(nodeCount, random);
+        long nodeId = Math.floorMod(random.nextLong(), nodeCount);
+        for (long i = 0; i < nodeCount; i++) {
+            if (isCandidate(nodeId)) {
+                int bucket = (int) signature(signatures, nodeId, table);
+                if (bucketPositions != null) {
+                    bucketPositions.set(nodeId, insertPositions[bucket]);
+                }
+                bucketOrder.set(insertPositions[bucket]++, nodeId);
+            }
+            nodeId += step;
+            if (nodeId >= nodeCount) {
+                nodeId -= nodeCount;
+            }
+        }
+        return bucketOffsets;
+    }
+
+    private static long coprimeStep(long nodeCount, Random random) {
+        if (nodeCount <= 2) {
+            return 1;
+        }
+        long step;
+        do {
+            step = 1 + Math.floorMod(random.nextLong(), nodeCount - 1);
+        } while (gcd(step, nodeCount) != 1);
+        return step;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long tmp = a % b;
+            a = b;
+            b = tmp;
+        }
+        return a;
+    }
+
+    private void scoreBuckets(
+        LinkPredictionSimilarityComputer linkPredictionSimilarityComputer,
+        HugeLongArray signatures,
+        int table,
+        HugeLongArray bucketOrder,
+        long[] bucketOffsets,
+        HugeLongArray[] bucketPositions,
+        long candidateNodeCount,
+        BoundedLongLongPriorityQueue predictionQueue,
+        LongAdder linksConsidered,
+        long[] recallSample,
+        double[] bestSampleProbabilities
+    ) {
+        int window = window();
+
+        Supplier<LongConsumer> scorerSupplier = () -> {
+            var concurrentGraph = graph.concurrentCopy();
+            return position -> {
+                long first = bucketOrder.get(position);
+                long bucketEnd = bucketOffsets[(int) signature(signatures, first, table) + 1];
+                long windowEnd = Math.min(bucketEnd, position + 1 + window);
+                for (long otherPosition = position + 1; otherPosition < windowEnd; otherPosition++) {
+                    long second = bucketOrder.get(otherPosition);
+                    if (scoredInEarlierTable(signatures, bucketPositions, first, second, table)) continue;
+                    if (!matchesFilters(first, second)) continue;
+                    if (concurrentGraph.exists(first, second)) continue;
+
+                    long sourceId = Math.min(first, second);
+                    long targetId = Math.max(first, second);
+                    var probability = linkPredictionSimilarityComputer.similarity(sourceId, targetId);
+                    linksConsidered.increment();
+                    recordSampleProbability(recallSample, bestSampleProbabilities, sourceId, probability);
+                    recordSampleProbability(recallSample, bestSampleProbabilities, targetId, probability);
+                    if (probability < threshold) continue;
+
+                    synchronized (predictionQueue) {
+                        predictionQueue.offer(sourceId, targetId, probability);
+                    }
+                }
+                progressTracker.logSteps(1);
+            };
+        };
+
+        try (var localScorer = CloseableThreadLocal.withInitial(scorerSupplier)) {
+            ParallelUtil.parallelForEachNode(
+                candidateNodeCount,
+                concurrency,
+                terminationFlag,
+                position -> localScorer.get().accept(position)
+            );
+        }
+        progressTracker.logSteps(graph.nodeCount() - candidateNodeCount);
+    }
+
+    private int window() {
+        // every node pairs with its successors in the bucket and is paired by its predecessors,
+        // so the window is half of the candidates a node may get from a single table
+        return Math.max(1, maxCandidatesPerNode / (2 * hashTables));
+    }
+
+    /**
+     * A pair was scored in an earlier table if both nodes shared a bucket there and were at most a window apart.
+     * Pairs that merely shared a bucket might not have been scored, as the window only covers part of the bucket.
+     */
+    private boolean scoredInEarlierTable(
+        HugeLongArray signatures,
+        HugeLongArray[] bucketPositions,
+        long first,
+        long second,
+        int table
+    ) {
+        int window = window();
+        for (int earlierTable = 0; earlierTable < table; earlierTable++) {
+            if (signature(signatures, first, earlierTable) != signature(signatures, second, earlierTable)) {
+                continue;
+            }
+            var positions = bucketPositions[earlierTable];
+            if (Math.abs(positions.get(first) - positions.get(second)) <= window) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesFilters(long first, long second) {
+        return first != second && (
+            sourceNodeFilter.test(first) && targetNodeFilter.test(second)
+            || sourceNodeFilter.test(second) && targetNodeFilter.test(first)
+        );
+    }
+
+    private static void recordSampleProbability(
+        long[] recallSample,
+        double[] bestSampleProbabilities,
+        long nodeId,
+        double probability
+    ) {
+        int sampleIndex = Arrays.binarySearch(recallSample, nodeId);
+        if (sampleIndex >= 0) {
+            synchronized (bestSampleProbabilities) {
+                bestSampleProbabilities[sampleIndex] = Math.max(bestSampleProbabilities[sampleIndex], probability);
+            }
+        }
+    }
+
+    /**
+     * Reservoir sample of source nodes, sorted by node id.
+     */
+    private long[] sampleSourceNodes(Random random) {
+        var sample = new long[recallSampleSize];
+        int sampled = 0;
+        long seen = 0;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (!sourceNodeFilter.test(nodeId)) continue;
+            if (sampled < recallSampleSize) {
+                sample[sampled++] = nodeId;
+            } else {
+                long replace = Math.floorMod(random.nextLong(), seen + 1);
+                if (replace < recallSampleSize) {
+                    sample[(int) replace] = nodeId;
+                }
+            }
+            seen++;
+        }
+        var result = Arrays.copyOf(sample, sampled);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * The fraction of sampled nodes, for which the candidates contained a link as likely as their best link.
+     * Nodes whose best link is below the threshold are not taken into account.
+     */
+    private double estimateRecall(
+        LinkPredictionSimilarityComputer linkPredictionSimilarityComputer,
+        long[] recallSample,
+        double[] bestSampleProbabilities
+    ) {
+        int relevant = 0;
+        int found = 0;
+        for (int sampleIndex = 0; sampleIndex < recallSample.length; sampleIndex++) {
+            long sourceId = recallSample[sampleIndex];
+            var partitionBest = new ArrayList<double[]>();
+            var tasks = PartitionUtils.rangePartition(
+                concurrency,
+                graph.nodeCount(),
+                partition -> {
+                    var best = new double[]{Double.NEGATIVE_INFINITY};
+                    partitionBest.add(best);
+                    return (Runnable) () -> {
+                        var concurrentGraph = graph.concurrentCopy();
+                        partition.consume(targetId -> {
+                            if (!matchesFilters(sourceId, targetId)) return;
+                            if (concurrentGraph.exists(sourceId, targetId)) return;
+                            var probability = linkPredictionSimilarityComputer.similarity(
+                                Math.min(sourceId, targetId),
+                                Math.max(sourceId, targetId)
+                            );
+                            best[0] = Math.max(best[0], probability);
+                        });
+                        progressTracker.logSteps(partition.nodeCount());
+                    };
+                },
+                Optional.empty()
+            );
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .terminationFlag(terminationFlag)
+                .run();
+
+            double exhaustiveBest = partitionBest
+                .stream()
+                .mapToDouble(best -> best[0])
+                .max()
+                .orElse(Double.NEGATIVE_INFINITY);
+            if (exhaustiveBest == Double.NEGATIVE_INFINITY || exhaustiveBest < threshold) continue;
+
+            relevant++;
+            if (bestSampleProbabilities[sampleIndex] >= exhaustiveBest) {
+                found++;
+            }
+        }
+        progressTracker.logSteps((recallSampleSize - recallSample.length) * graph.nodeCount());
+
+        return relevant == 0 ? Double.NaN : (double) found / relevant;
+    }
+
+    private static final class ArrayFeatureConsumer implements FeatureConsumer {
+        private final double[] features;
+
+        ArrayFeatureConsumer(double[] features) {
+            this.features = features;
+        }
+
+        @Override
+        public void acceptScalar(long nodeOffset, int offset, double value) {
+            features[offset] = value;
+        }
+
+        @Override
+        public void acceptArray(long nodeOffset, int offset, double[] values) {
+            System.arraycopy(values, 0, features, offset, values.length);
+        }
+    }
+
+    static class Result implements LinkPredictionResult {
+        private final BoundedLongLongPriorityQueue predictionQueue;
+        private final Map<String, Object> samplingStats;
+
+        Result(
+            BoundedLongLongPriorityQueue predictionQueue,
+            long linksConsidered,
+            long scoringNanos,
+            double estimatedRecall
+        ) {
+            this.predictionQueue = predictionQueue;
+            this.samplingStats = Map.of(
+                "strategy", "lsh",
+                "linksConsidered", linksConsidered,
+                "linksConsideredPerSecond", scoringNanos == 0 ? 0L : (long) (linksConsidered / (scoringNanos / 1e9)),
+                "estimatedRecall", estimatedRecall
+            );
+        }
+
+        @Override
+        public Stream<PredictedLink> stream() {
+            var links = new ArrayList<PredictedLink>(predictionQueue.size());
+            predictionQueue.foreach((sourceId, targetId, probability) -> links.add(PredictedLink.of(
+                sourceId,
+                targetId,
+                probability
+            )));
+            return links.stream();
+        }
+
+        @Override
+        public Map<String, Object> samplingStats() {
+            return samplingStats;
+        }
+    }
+}
@@ -78,6 +78,22 @@ class LinkPredictionPredictPipelineBaseConfigTest {
                 ),
                 "Configuration parameters ['deltaThreshold', 'initialSampler', 'maxIterations', 'randomJoins', 'topK'] " +
                 "may only be set if parameter 'sampleRate' is less than 1."
+            ),
+            Arguments.of(
+                Map.of("modelName", "testModel",
+                    "sampleRate", 0.5,
+                    "lshHashTables", 2,
+                    "lshMaxCandidatesPerNode", 10
+                ),
+                "Configuration parameters ['lshHashTables', 'lshMaxCandidatesPerNode'] " +
+                "may only be set if parameter 'sampleRate' is equal to 1."
+            ),
+            Arguments.of(
+                Map.of("modelName", "testModel",
+                    "topN", 10,
+                    "lshHashTables", 5
+                ),
+                "The product of 'lshHashTables' and 'lshHyperplanes' must not exceed 64, but got 5 * 16."
             )
         );
     }
@@ -147,6 +163,24 @@ class LinkPredictionPredictPipelineBaseConfigTest {
         assertThat(approximateConfig.randomSeed()).isEqualTo(Optional.of(42L));
     }
 
+    @Test
+    void deriveLshStrategy() {
+        var exhaustiveConfig = new LinkPredictionPredictPipelineBaseConfigImpl(
+            "user",
+            CypherMapWrapper.create(Map.of("modelName", "testModel", "topN", 42, "graphName", "g"))
+        );
+        var lshConfig = new LinkPredictionPredictPipelineBaseConfigImpl(
+            "user",
+            CypherMapWrapper.create(Map.of("modelName", "testModel", "topN", 42, "lshHyperplanes", 8, "graphName", "g"))
+        );
+
+        assertThat(exhaustiveConfig.isLshStrategy()).isFalse();
+        assertThat(lshConfig.isLshStrategy()).isTrue();
+        assertThat(lshConfig.lshHashTablesOrDefault()).isEqualTo(4);
+        assertThat(lshConfig.lshHyperplanesOrDefault()).isEqualTo(8);
+        assertThat(lshConfig.lshMaxCandidatesPerNodeOrDefault()).isEqualTo(64);
+    }
+
     @Test
     void failOnMissingTopN() {
         assertThatThrownBy(() -> new LinkPredictionPredictPipelineBaseConfigImpl(
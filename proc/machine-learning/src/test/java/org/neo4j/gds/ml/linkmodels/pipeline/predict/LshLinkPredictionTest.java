@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.linkmodels.pipeline.predict;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.features.FeatureExtraction;
+import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.linkmodels.PredictedLink;
+import org.neo4j.gds.ml.models.logisticregression.ImmutableLogisticRegressionData;
+import org.neo4j.gds.ml.models.logisticregression.LogisticRegressionClassifier;
+import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
+import org.neo4j.gds.ml.pipeline.linkPipeline.linkfunctions.L2FeatureStep;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.ml.linkmodels.pipeline.predict.ApproximateLinkPredictionTest.compareWithPrecision;
+
+@GdlExtension
+class LshLinkPredictionTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    static String GDL = "CREATE " +
+                        "  (n0:N {a: 1.0, b: 0.8, c: 1.0})" +
+                        ", (n1:N {a: 2.0, b: 1.0, c: 1.0})" +
+                        ", (n2:N {a: 3.0, b: 1.5, c: 1.0})" +
+                        ", (n3:N {a: 0.0, b: 2.8, c: 1.0})" +
+                        ", (n4:N {a: 1.0, b: 0.9, c: 1.0})" +
+                        ", (n1)-[:T]->(n2)" +
+                        ", (n3)-[:T]->(n4)" +
+                        ", (n1)-[:T]->(n3)" +
+                        ", (n2)-[:T]->(n4)";
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED, graphNamePrefix = "identical")
+    static String identicalGdl = "CREATE " +
+                                 "  (n0:N {a: 1.0, b: 0.8, c: 1.0})" +
+                                 ", (n1:N {a: 1.0, b: 0.8, c: 1.0})" +
+                                 ", (n2:N {a: 1.0, b: 0.8, c: 1.0})" +
+                                 ", (n3:N {a: 1.0, b: 0.8, c: 1.0})" +
+                                 ", (n4:N {a: 1.0, b: 0.8, c: 1.0})" +
+                                 ", (n1)-[:T]->(n2)" +
+                                 ", (n3)-[:T]->(n4)" +
+                                 ", (n1)-[:T]->(n3)" +
+                                 ", (n2)-[:T]->(n4)";
+
+    private static final double[] WEIGHTS = new double[]{2.0, 1.0, -3.0};
+
+    // all non-adjacent pairs of the graph, as scored by the exhaustive strategy
+    private static final List<PredictedLink> EXHAUSTIVE_LINKS = List.of(
+        PredictedLink.of(0, 4, 0.497),
+        PredictedLink.of(1, 4, 0.118),
+        PredictedLink.of(0, 1, 0.115),
+        PredictedLink.of(0, 3, 0.002),
+        PredictedLink.of(0, 2, 2.054710330936739E-4),
+        PredictedLink.of(2, 3, 2.8102289384435153E-9)
+    );
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private GraphStore identicalGraphStore;
+
+    @ParameterizedTest
+    @CsvSource(value = {"1, 1", "1, 4", "4, 1", "4, 4"})
+    void shouldOnlyPredictNonAdjacentPairs(int hashTables, int concurrency) {
+        var linkPrediction = lshLinkPrediction(graphStore, hashTables, 2, 64, 0.0, concurrency);
+
+        var predictionResult = linkPrediction.compute();
+        var predictedLinks = predictionResult.stream().collect(Collectors.toList());
+
+        assertThat(predictedLinks)
+            .usingElementComparator(compareWithPrecision(1e-3))
+            .isSubsetOf(EXHAUSTIVE_LINKS);
+        assertThat(predictionResult.samplingStats())
+            .containsEntry("strategy", "lsh")
+            .containsEntry("linksConsidered", (long) predictedLinks.size())
+            .containsKeys("linksConsideredPerSecond", "estimatedRecall");
+        assertThat((double) predictionResult.samplingStats().get("estimatedRecall")).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    void shouldConsiderAllPairsOfIdenticalNodes() {
+        var linkPrediction = lshLinkPrediction(identicalGraphStore, 4, 16, 64, 0.0, 4);
+
+        var predictionResult = linkPrediction.compute();
+
+        assertThat(predictionResult.samplingStats())
+            .containsEntry("linksConsidered", 6L)
+            .containsEntry("estimatedRecall", 1.0);
+        assertThat(predictionResult.stream().map(link -> List.of(link.sourceId(), link.targetId())))
+            .containsExactlyInAnyOrder(
+                List.of(0L, 1L),
+                List.of(0L, 2L),
+                List.of(0L, 3L),
+                List.of(0L, 4L),
+                List.of(1L, 4L),
+                List.of(2L, 3L)
+            );
+    }
+
+    @Test
+    void shouldBoundCandidatesPerNode() {
+        // a window of a single successor per bucket yields at most one pair per node
+        var linkPrediction = lshLinkPrediction(identicalGraphStore, 1, 16, 2, 0.0, 1);
+
+        var predictionResult = linkPrediction.compute();
+
+        assertThat((long) predictionResult.samplingStats().get("linksConsidered")).isLessThanOrEqualTo(4L);
+    }
+
+    @Test
+    void shouldNotScorePairsTwice() {
+        // identical nodes share a bucket in every table, but a window of one successor covers only part of it,
+        // so later tables have to score the pairs that earlier tables left out
+        var linkPrediction = lshLinkPrediction(identicalGraphStore, 16, 4, 32, 0.0, 1);
+
+        var predictionResult = linkPrediction.compute();
+        var predictedLinks = predictionResult
+            .stream()
+            .map(link -> List.of(link.sourceId(), link.targetId()))
+            .collect(Collectors.toList());
+
+        assertThat(predictedLinks).doesNotHaveDuplicates();
+        assertThat((long) predictionResult.samplingStats().get("linksConsidered"))
+            .isEqualTo(predictedLinks.size())
+            .isLessThanOrEqualTo(6L);
+    }
+
+    @Test
+    void shouldRespectThreshold() {
+        var linkPrediction = lshLinkPrediction(identicalGraphStore, 4, 16, 64, 0.6, 4);
+
+        var predictionResult = linkPrediction.compute();
+
+        // identical nodes have a L2 feature of zero, which the model scores with 0.5
+        assertThat(predictionResult.stream()).isEmpty();
+        assertThat(predictionResult.samplingStats()).containsEntry("linksConsidered", 6L);
+        assertThat((double) predictionResult.samplingStats().get("estimatedRecall")).isNaN();
+    }
+
+    @Test
+    void estimateGrowsWithBucketCount() {
+        var configBuilder = LinkPredictionPredictPipelineBaseConfigImpl.builder()
+            .topN(10)
+            .modelUser("DUMMY")
+            .modelName("DUMMY")
+            .graphName("DUMMY");
+        var dimensions = GraphDimensions.of(100, 1000);
+
+        var smallEstimate = LshLinkPrediction
+            .estimate(configBuilder.lshHashTables(3).lshHyperplanes(16).build(), 10)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+        var largeEstimate = LshLinkPrediction
+            .estimate(configBuilder.lshHyperplanes(20).build(), 10)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        assertThat(largeEstimate.max - smallEstimate.max).isEqualTo(
+            MemoryUsage.sizeOfLongArray((1 << 20) + 1) - MemoryUsage.sizeOfLongArray((1 << 16) + 1)
+        );
+    }
+
+    private LshLinkPrediction lshLinkPrediction(
+        GraphStore graphStore,
+        int hashTables,
+        int hyperplanes,
+        int maxCandidatesPerNode,
+        double threshold,
+        int concurrency
+    ) {
+        var modelData = ImmutableLogisticRegressionData.of(
+            2,
+            new Weights<>(new Matrix(WEIGHTS, 1, WEIGHTS.length)),
+            Weights.ofVector(0.0)
+        );
+
+        Graph graph = graphStore.getGraph(
+            NodeLabel.listOf("N"),
+            RelationshipType.listOf("T"),
+            Optional.empty()
+        );
+        var nodeFilter = LPNodeFilter.of(graph, graphStore.getGraph(NodeLabel.of("N")));
+
+        return new LshLinkPrediction(
+            LogisticRegressionClassifier.from(modelData),
+            LinkFeatureExtractor.of(graph, List.of(new L2FeatureStep(List.of("a", "b", "c")))),
+            FeatureExtraction.propertyExtractors(graph, List.of("a", "b", "c")),
+            graph,
+            nodeFilter,
+            nodeFilter,
+            concurrency,
+            hashTables,
+            hyperplanes,
+            maxCandidatesPerNode,
+            5,
+            6,
+            threshold,
+            Optional.of(42L),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+}
@@ -144,6 +144,51 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.useOffHeapAdjacencyList")
+    @Description("Toggle whether compressed adjacency lists should be stored off-heap during graph creation.")
+    public void useOffHeapAdjacencyList(@Name(value = "useOffHeapAdjacencyList") boolean useOffHeapAdjacencyList) {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.toggle(useOffHeapAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.useOffHeapAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store compressed adjacency lists off-heap during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseOffHeapAdjacencyList() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useCompressedAdjacencyProperties")
+    @Description("Toggle whether relationship properties should be compressed during graph creation.")
+    public void useCompressedAdjacencyProperties(@Name(value = "useCompressedAdjacencyProperties") boolean useCompressedAdjacencyProperties) {
+        GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.toggle(useCompressedAdjacencyProperties);
+    }
+
+    @Internal
+    @Procedure("gds.features.useCompressedAdjacencyProperties.reset")
+    @Description("Set the default behaviour of whether to compress relationship properties during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseCompressedAdjacencyProperties() {
+        GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useLossyAdjacencyProperties")
+    @Description("Toggle whether compressed relationship properties may be stored with single precision.")
+    public void useLossyAdjacencyProperties(@Name(value = "useLossyAdjacencyProperties") boolean useLossyAdjacencyProperties) {
+        GdsFeatureToggles.USE_LOSSY_ADJACENCY_PROPERTIES.toggle(useLossyAdjacencyProperties);
+    }
+
+    @Internal
+    @Procedure("gds.features.useLossyAdjacencyProperties.reset")
+    @Description("Set the default behaviour of whether compressed relationship properties may be stored with single precision. That value is returned.")
+    public Stream<FeatureState> resetUseLossyAdjacencyProperties() {
+        GdsFeatureToggles.USE_LOSSY_ADJACENCY_PROPERTIES.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_LOSSY_ADJACENCY_PROPERTIES.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.enableArrowDatabaseImport")
     @Description("Enables support for importing Neo4j databases via the GDS Arrow Flight Server.")
@@ -159,6 +204,21 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.ENABLE_ARROW_DATABASE_IMPORT.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.enableGraphStoreSharing")
+    @Description("Toggle whether identical native projections share their data.")
+    public void enableGraphStoreSharing(@Name(value = "enableGraphStoreSharing") boolean enableGraphStoreSharing) {
+        GdsFeatureToggles.ENABLE_GRAPH_STORE_SHARING.toggle(enableGraphStoreSharing);
+    }
+
+    @Internal
+    @Procedure("gds.features.enableGraphStoreSharing.reset")
+    @Description("Set the default behaviour of whether identical native projections share their data. That value is returned.")
+    public Stream<FeatureState> resetEnableGraphStoreSharing() {
+        GdsFeatureToggles.ENABLE_GRAPH_STORE_SHARING.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.ENABLE_GRAPH_STORE_SHARING.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.pagesPerThread.reset")
     @Description("Set the value of pages per thread to the default. That value is returned.")
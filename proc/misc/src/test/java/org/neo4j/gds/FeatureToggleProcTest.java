@@ -40,7 +40,11 @@ import static org.neo4j.gds.utils.GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY;
 import static org.neo4j.gds.utils.GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY_DEFAULT_SETTING;
 import static org.neo4j.gds.utils.GdsFeatureToggles.ENABLE_ADJACENCY_COMPRESSION_MEMORY_TRACKING;
 import static org.neo4j.gds.utils.GdsFeatureToggles.ENABLE_ARROW_DATABASE_IMPORT;
+import static org.neo4j.gds.utils.GdsFeatureToggles.ENABLE_GRAPH_STORE_SHARING;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_COMPRESSED_ADJACENCY_PROPERTIES;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_LOSSY_ADJACENCY_PROPERTIES;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST;
@@ -127,6 +131,81 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_MIXED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUseOffHeapAdjacencyList() {
+        var useOffHeapAdjacencyList = USE_OFF_HEAP_ADJACENCY_LIST.isEnabled();
+        runQuery(
+            "CALL gds.features.useOffHeapAdjacencyList($value)",
+            Map.of("value", !useOffHeapAdjacencyList)
+        );
+        assertEquals(!useOffHeapAdjacencyList, USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+        runQuery(
+            "CALL gds.features.useOffHeapAdjacencyList($value)",
+            Map.of("value", useOffHeapAdjacencyList)
+        );
+        assertEquals(useOffHeapAdjacencyList, USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUseOffHeapAdjacencyList() {
+        USE_OFF_HEAP_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.useOffHeapAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void toggleUseCompressedAdjacencyProperties() {
+        var useCompressedAdjacencyProperties = USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled();
+        runQuery(
+            "CALL gds.features.useCompressedAdjacencyProperties($value)",
+            Map.of("value", !useCompressedAdjacencyProperties)
+        );
+        assertEquals(!useCompressedAdjacencyProperties, USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled());
+        runQuery(
+            "CALL gds.features.useCompressedAdjacencyProperties($value)",
+            Map.of("value", useCompressedAdjacencyProperties)
+        );
+        assertEquals(useCompressedAdjacencyProperties, USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void resetUseCompressedAdjacencyProperties() {
+        USE_COMPRESSED_ADJACENCY_PROPERTIES.reset();
+        assertCypherResult(
+            "CALL gds.features.useCompressedAdjacencyProperties.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_COMPRESSED_ADJACENCY_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void toggleUseLossyAdjacencyProperties() {
+        var useLossyAdjacencyProperties = USE_LOSSY_ADJACENCY_PROPERTIES.isEnabled();
+        runQuery(
+            "CALL gds.features.useLossyAdjacencyProperties($value)",
+            Map.of("value", !useLossyAdjacencyProperties)
+        );
+        assertEquals(!useLossyAdjacencyProperties, USE_LOSSY_ADJACENCY_PROPERTIES.isEnabled());
+        runQuery(
+            "CALL gds.features.useLossyAdjacencyProperties($value)",
+            Map.of("value", useLossyAdjacencyProperties)
+        );
+        assertEquals(useLossyAdjacencyProperties, USE_LOSSY_ADJACENCY_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void resetUseLossyAdjacencyProperties() {
+        USE_LOSSY_ADJACENCY_PROPERTIES.reset();
+        assertCypherResult(
+            "CALL gds.features.useLossyAdjacencyProperties.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_LOSSY_ADJACENCY_PROPERTIES.isEnabled());
+    }
+
     @ParameterizedTest
     @EnumSource(value = GdsFeatureToggles.AdjacencyPackingStrategy.class)
     void toggleAdjacencyPackingStrategy(GdsFeatureToggles.AdjacencyPackingStrategy strategy) {
@@ -209,6 +288,25 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertTrue(ENABLE_ARROW_DATABASE_IMPORT.isEnabled());
     }
 
+    @Test
+    void toggleEnableGraphStoreSharing() {
+        var enableGraphStoreSharing = ENABLE_GRAPH_STORE_SHARING.isEnabled();
+        runQuery("CALL gds.features.enableGraphStoreSharing($value)", Map.of("value", !enableGraphStoreSharing));
+        assertEquals(!enableGraphStoreSharing, ENABLE_GRAPH_STORE_SHARING.isEnabled());
+        runQuery("CALL gds.features.enableGraphStoreSharing($value)", Map.of("value", enableGraphStoreSharing));
+        assertEquals(enableGraphStoreSharing, ENABLE_GRAPH_STORE_SHARING.isEnabled());
+    }
+
+    @Test
+    void resetEnableGraphStoreSharing() {
+        ENABLE_GRAPH_STORE_SHARING.reset();
+        assertCypherResult(
+            "CALL gds.features.enableGraphStoreSharing.reset()",
+            List.of(Map.of("enabled", true))
+        );
+        assertTrue(ENABLE_GRAPH_STORE_SHARING.isEnabled());
+    }
+
     @Test
     void togglePagesPerThread() {
         var pagesPerThread = GdsFeatureToggles.PAGES_PER_THREAD.get();
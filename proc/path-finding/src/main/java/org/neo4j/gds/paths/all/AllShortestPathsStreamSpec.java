@@ -66,15 +66,18 @@ public class AllShortestPathsStreamSpec implements AlgorithmSpec<MSBFSASPAlgorit
                 AllShortestPathsConfig configuration,
                 ProgressTracker progressTracker
             ) {
+                var sourceNodes = configuration.sourceNodes().stream().mapToLong(graph::toMappedNodeId).toArray();
                 if (configuration.hasRelationshipWeightProperty()) {
                     return new WeightedAllShortestPaths(
                         graph,
+                        sourceNodes,
                         DefaultPool.INSTANCE,
                         configuration.concurrency()
                     );
                 } else {
                     return new MSBFSAllShortestPaths(
                         graph,
+                        sourceNodes,
                         configuration.concurrency(),
                         DefaultPool.INSTANCE
                     );
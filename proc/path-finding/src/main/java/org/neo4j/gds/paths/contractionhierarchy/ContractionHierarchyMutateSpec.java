@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.MutateComputationResultConsumer;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.procedures.algorithms.configuration.NewConfigFunction;
+import org.neo4j.gds.result.AbstractResultBuilder;
+
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
+import static org.neo4j.gds.paths.contractionhierarchy.Constants.MUTATE_DESCRIPTION;
+
+@GdsCallable(
+    name = "gds.alpha.shortestPath.contractionHierarchy.mutate",
+    description = MUTATE_DESCRIPTION,
+    executionMode = MUTATE_RELATIONSHIP
+)
+public class ContractionHierarchyMutateSpec implements AlgorithmSpec<ContractionHierarchy, ContractionHierarchyResult, ContractionHierarchyMutateConfig, Stream<ContractionHierarchyMutateResult>, ContractionHierarchyAlgorithmFactory> {
+
+    @Override
+    public String name() {
+        return "ContractionHierarchyMutate";
+    }
+
+    @Override
+    public ContractionHierarchyAlgorithmFactory algorithmFactory(ExecutionContext executionContext) {
+        return new ContractionHierarchyAlgorithmFactory();
+    }
+
+    @Override
+    public NewConfigFunction<ContractionHierarchyMutateConfig> newConfigFunction() {
+        return (__, config) -> ContractionHierarchyMutateConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<ContractionHierarchy, ContractionHierarchyResult, ContractionHierarchyMutateConfig, Stream<ContractionHierarchyMutateResult>> computationResultConsumer() {
+        return new MutateComputationResultConsumer<>(this::resultBuilder) {
+            @Override
+            protected void updateGraphStore(
+                AbstractResultBuilder<?> resultBuilder,
+                ComputationResult<ContractionHierarchy, ContractionHierarchyResult, ContractionHierarchyMutateConfig> computationResult,
+                ExecutionContext executionContext
+            ) {
+                computationResult.result().ifPresent(result -> {
+                    var graphStore = computationResult.graphStore();
+                    graphStore.addRelationshipType(result.hierarchy());
+                    ContractionHierarchyCatalog.register(
+                        graphStore,
+                        RelationshipType.of(computationResult.config().mutateRelationshipType()),
+                        result.baseRelationshipTypes()
+                    );
+                    resultBuilder.withRelationshipsWritten(result.hierarchy().topology().elementCount());
+                });
+            }
+        };
+    }
+
+    private AbstractResultBuilder<ContractionHierarchyMutateResult> resultBuilder(
+        ComputationResult<ContractionHierarchy, ContractionHierarchyResult, ContractionHierarchyMutateConfig> computationResult,
+        ExecutionContext executionContext
+    ) {
+        var builder = new ContractionHierarchyMutateResult.Builder();
+        computationResult.result().ifPresent(result -> builder.withShortcutCount(result.shortcutCount()));
+        return builder;
+    }
+}
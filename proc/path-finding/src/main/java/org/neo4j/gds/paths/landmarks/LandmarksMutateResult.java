@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.result.AbstractResultBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@SuppressWarnings("unused")
+public class LandmarksMutateResult {
+    public final List<Long> landmarks;
+    public final long preProcessingMillis;
+    public final long computeMillis;
+    public final long mutateMillis;
+    public final long nodePropertiesWritten;
+
+    public final Map<String, Object> configuration;
+
+    LandmarksMutateResult(
+        List<Long> landmarks,
+        long preProcessingMillis,
+        long computeMillis,
+        long mutateMillis,
+        long nodePropertiesWritten,
+        Map<String, Object> configuration
+    ) {
+        this.landmarks = landmarks;
+        this.preProcessingMillis = preProcessingMillis;
+        this.computeMillis = computeMillis;
+        this.mutateMillis = mutateMillis;
+        this.nodePropertiesWritten = nodePropertiesWritten;
+        this.configuration = configuration;
+    }
+
+    static final class Builder extends AbstractResultBuilder<LandmarksMutateResult> {
+
+        private long[] landmarks = new long[0];
+
+        Builder withLandmarks(long[] landmarks) {
+            this.landmarks = landmarks;
+            return this;
+        }
+
+        @Override
+        public LandmarksMutateResult build() {
+            return new LandmarksMutateResult(
+                Arrays.stream(landmarks).boxed().collect(Collectors.toList()),
+                preProcessingMillis,
+                computeMillis,
+                mutateMillis,
+                nodePropertiesWritten,
+                config.toMap()
+            );
+        }
+    }
+}
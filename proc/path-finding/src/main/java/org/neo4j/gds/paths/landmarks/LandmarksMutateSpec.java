@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.neo4j.gds.MutatePropertyComputationResultConsumer;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.core.write.ImmutableNodeProperty;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.procedures.algorithms.configuration.NewConfigFunction;
+import org.neo4j.gds.result.AbstractResultBuilder;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
+import static org.neo4j.gds.paths.landmarks.LandmarksMutateProc.DESCRIPTION;
+
+@GdsCallable(
+    name = "gds.alpha.shortestPath.landmarks.mutate",
+    description = DESCRIPTION,
+    executionMode = MUTATE_NODE_PROPERTY
+)
+public class LandmarksMutateSpec implements AlgorithmSpec<Landmarks, LandmarksResult, LandmarksMutateConfig, Stream<LandmarksMutateResult>, LandmarksAlgorithmFactory<LandmarksMutateConfig>> {
+
+    @Override
+    public String name() {
+        return "LandmarksMutate";
+    }
+
+    @Override
+    public LandmarksAlgorithmFactory<LandmarksMutateConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new LandmarksAlgorithmFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<LandmarksMutateConfig> newConfigFunction() {
+        return (__, config) -> LandmarksMutateConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<Landmarks, LandmarksResult, LandmarksMutateConfig, Stream<LandmarksMutateResult>> computationResultConsumer() {
+        return new MutatePropertyComputationResultConsumer<>(
+            computationResult -> List.of(ImmutableNodeProperty.of(
+                computationResult.config().mutateProperty(),
+                NodePropertyValuesAdapter.adapt(computationResult.result().orElseThrow().distances())
+            )),
+            this::resultBuilder
+        );
+    }
+
+    private AbstractResultBuilder<LandmarksMutateResult> resultBuilder(
+        ComputationResult<Landmarks, LandmarksResult, LandmarksMutateConfig> computationResult,
+        ExecutionContext executionContext
+    ) {
+        var builder = new LandmarksMutateResult.Builder();
+        computationResult.result().ifPresent(result -> {
+            var graph = computationResult.graph();
+            var landmarks = new long[result.landmarks().length];
+            for (int i = 0; i < landmarks.length; i++) {
+                landmarks[i] = graph.toOriginalNodeId(result.landmarks()[i]);
+            }
+            builder.withLandmarks(landmarks);
+        });
+        return builder;
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
@@ -31,7 +32,6 @@ import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.procedures.algorithms.configuration.NewConfigFunction;
 import org.neo4j.gds.procedures.algorithms.pathfinding.SpanningTreeMutateResult;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningGraph;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmFactory;
@@ -47,7 +47,7 @@ import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
     description = Constants.SPANNING_TREE_DESCRIPTION,
     executionMode = MUTATE_RELATIONSHIP
 )
-public class SpanningTreeMutateSpec implements AlgorithmSpec<Prim, SpanningTree, SpanningTreeMutateConfig, Stream<SpanningTreeMutateResult>, SpanningTreeAlgorithmFactory<SpanningTreeMutateConfig>> {
+public class SpanningTreeMutateSpec implements AlgorithmSpec<Algorithm<SpanningTree>, SpanningTree, SpanningTreeMutateConfig, Stream<SpanningTreeMutateResult>, SpanningTreeAlgorithmFactory<SpanningTreeMutateConfig>> {
 
     @Override
     public String name() {
@@ -65,7 +65,7 @@ public class SpanningTreeMutateSpec implements AlgorithmSpec<Prim, SpanningTree,
 
     }
 
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeMutateConfig, Stream<SpanningTreeMutateResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeMutateConfig, Stream<SpanningTreeMutateResult>> computationResultConsumer() {
 
         return (computationResult, executionContext) -> {
             SpanningTreeMutateResult.Builder builder = new SpanningTreeMutateResult.Builder();
@@ -19,13 +19,13 @@
  */
 package org.neo4j.gds.paths.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.procedures.algorithms.configuration.NewConfigFunction;
 import org.neo4j.gds.procedures.algorithms.pathfinding.SpanningTreeStatsResult;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmFactory;
 import org.neo4j.gds.spanningtree.SpanningTreeStatsConfig;
@@ -40,7 +40,7 @@ import static org.neo4j.gds.executor.ExecutionMode.STATS;
     description = Constants.SPANNING_TREE_DESCRIPTION,
     executionMode = STATS
 )
-public class SpanningTreeStatsSpec implements AlgorithmSpec<Prim, SpanningTree, SpanningTreeStatsConfig, Stream<SpanningTreeStatsResult>, SpanningTreeAlgorithmFactory<SpanningTreeStatsConfig>> {
+public class SpanningTreeStatsSpec implements AlgorithmSpec<Algorithm<SpanningTree>, SpanningTree, SpanningTreeStatsConfig, Stream<SpanningTreeStatsResult>, SpanningTreeAlgorithmFactory<SpanningTreeStatsConfig>> {
 
     @Override
     public String name() {
@@ -58,7 +58,7 @@ public class SpanningTreeStatsSpec implements AlgorithmSpec<Prim, SpanningTree,
 
     }
 
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeStatsConfig, Stream<SpanningTreeStatsResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeStatsConfig, Stream<SpanningTreeStatsResult>> computationResultConsumer() {
 
         return (computationResult, executionContext) -> {
 
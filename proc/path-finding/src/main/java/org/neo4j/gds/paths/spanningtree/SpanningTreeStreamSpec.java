@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
@@ -26,7 +27,6 @@ import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.procedures.algorithms.configuration.NewConfigFunction;
 import org.neo4j.gds.procedures.algorithms.pathfinding.SpanningTreeStreamResult;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmFactory;
 import org.neo4j.gds.spanningtree.SpanningTreeStreamConfig;
@@ -43,7 +43,7 @@ import static org.neo4j.gds.executor.ExecutionMode.STREAM;
     description = Constants.SPANNING_TREE_DESCRIPTION,
     executionMode = STREAM
 )
-public class SpanningTreeStreamSpec implements AlgorithmSpec<Prim, SpanningTree, SpanningTreeStreamConfig, Stream<SpanningTreeStreamResult>, SpanningTreeAlgorithmFactory<SpanningTreeStreamConfig>> {
+public class SpanningTreeStreamSpec implements AlgorithmSpec<Algorithm<SpanningTree>, SpanningTree, SpanningTreeStreamConfig, Stream<SpanningTreeStreamResult>, SpanningTreeAlgorithmFactory<SpanningTreeStreamConfig>> {
 
     @Override
     public String name() {
@@ -61,7 +61,7 @@ public class SpanningTreeStreamSpec implements AlgorithmSpec<Prim, SpanningTree,
 
     }
 
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeStreamConfig, Stream<SpanningTreeStreamResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeStreamConfig, Stream<SpanningTreeStreamResult>> computationResultConsumer() {
         return (computationResult, executionContext) -> runWithExceptionLogging(
             "Result streaming failed",
             executionContext.log(),
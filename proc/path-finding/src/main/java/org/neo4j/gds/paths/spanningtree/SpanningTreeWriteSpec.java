@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.spanningtree;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.ProgressTimer;
@@ -29,7 +30,6 @@ import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.procedures.algorithms.configuration.NewConfigFunction;
 import org.neo4j.gds.procedures.algorithms.pathfinding.SpanningTreeWriteResult;
-import org.neo4j.gds.spanningtree.Prim;
 import org.neo4j.gds.spanningtree.SpanningGraph;
 import org.neo4j.gds.spanningtree.SpanningTree;
 import org.neo4j.gds.spanningtree.SpanningTreeAlgorithmFactory;
@@ -45,7 +45,7 @@ import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
     description = Constants.SPANNING_TREE_DESCRIPTION,
     executionMode = MUTATE_RELATIONSHIP)
 public class SpanningTreeWriteSpec implements
-    AlgorithmSpec<Prim, SpanningTree, SpanningTreeWriteConfig, Stream<SpanningTreeWriteResult>, SpanningTreeAlgorithmFactory<SpanningTreeWriteConfig>> {
+    AlgorithmSpec<Algorithm<SpanningTree>, SpanningTree, SpanningTreeWriteConfig, Stream<SpanningTreeWriteResult>, SpanningTreeAlgorithmFactory<SpanningTreeWriteConfig>> {
 
     @Override
     public String name() {
@@ -63,7 +63,7 @@ public class SpanningTreeWriteSpec implements
 
     }
 
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeWriteConfig, Stream<SpanningTreeWriteResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeWriteConfig, Stream<SpanningTreeWriteResult>> computationResultConsumer() {
 
         return (computationResult, executionContext) -> {
             SpanningTreeWriteResult.Builder builder = new SpanningTreeWriteResult.Builder();
@@ -73,7 +73,7 @@ public class SpanningTreeWriteSpec implements
             }
 
             Graph graph = computationResult.graph();
-            Prim prim = computationResult.algorithm();
+            Algorithm<SpanningTree> algorithm = computationResult.algorithm();
             SpanningTree spanningTree = computationResult.result().get();
             SpanningTreeWriteConfig config = computationResult.config();
 
@@ -88,7 +88,7 @@ public class SpanningTreeWriteSpec implements
                 executionContext.relationshipExporterBuilder()
                     .withGraph(spanningGraph)
                     .withIdMappingOperator(spanningGraph::toOriginalNodeId)
-                    .withTerminationFlag(prim.getTerminationFlag())
+                    .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(
                         AlgorithmSpecProgressTrackerProvider.createProgressTracker(
                             name(),
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.Username;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractionHierarchyProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+                                            "  (a:Label)" +
+                                            ", (b:Label)" +
+                                            ", (c:Label)" +
+                                            ", (d:Label)" +
+                                            ", (e:Label)" +
+                                            ", (f:Label)" +
+                                            ", (a)-[:TYPE {cost: 4}]->(b)" +
+                                            ", (a)-[:TYPE {cost: 2}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 5}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 10}]->(d)" +
+                                            ", (c)-[:TYPE {cost: 3}]->(e)" +
+                                            ", (d)-[:TYPE {cost: 11}]->(f)" +
+                                            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            ContractionHierarchyMutateProc.class,
+            ContractionHierarchyStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .withNodeLabel("Label")
+            .withRelationshipType("TYPE", Orientation.UNDIRECTED)
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldMutateHierarchy() {
+        var rowCount = runQueryWithRowConsumer(mutateQuery(), row -> {
+            assertThat(row.getNumber("relationshipsWritten").longValue()).isPositive();
+            assertThat(row.getNumber("shortcutCount").longValue()).isNotNegative();
+        });
+        assertThat(rowCount).isEqualTo(1L);
+
+        var graphStore = GraphStoreCatalog
+            .get(Username.EMPTY_USERNAME.username(), db.databaseName(), DEFAULT_GRAPH_NAME)
+            .graphStore();
+        assertThat(graphStore.hasRelationshipType(RelationshipType.of("CH"))).isTrue();
+        assertThat(graphStore.relationshipPropertyKeys(RelationshipType.of("CH")))
+            .containsExactlyInAnyOrderElementsOf(ContractionHierarchy.PROPERTY_KEYS);
+        assertThat(graphStore.graphPropertyKeys())
+            .containsExactly(ContractionHierarchyCatalog.graphPropertyKey(
+                RelationshipType.of("CH"),
+                RelationshipType.of("TYPE")
+            ));
+    }
+
+    @Test
+    void shouldStreamShortestPath() {
+        runQuery(mutateQuery());
+
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.contractionHierarchy")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("hierarchyRelationshipType", "CH")
+            .yields("totalCost", "nodeIds", "costs");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("totalCost").doubleValue()).isEqualTo(20.0);
+            assertThat((List<?>) row.get("nodeIds")).isEqualTo(List.of(
+                idFunction.of("a"),
+                idFunction.of("c"),
+                idFunction.of("e"),
+                idFunction.of("d"),
+                idFunction.of("f")
+            ));
+            assertThat((List<?>) row.get("costs")).isEqualTo(List.of(0.0, 2.0, 5.0, 9.0, 20.0));
+        });
+        assertThat(rowCount).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldFailOnRelationshipTypeThatIsNoHierarchy() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.contractionHierarchy")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("f"))
+            .addParameter("hierarchyRelationshipType", "TYPE")
+            .yields();
+
+        assertError(query, "Relationship type `TYPE` is not a contraction hierarchy.");
+    }
+
+    private static String mutateQuery() {
+        return GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.contractionHierarchy")
+            .mutateMode()
+            .addParameter("mutateRelationshipType", "CH")
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("relationshipsWritten", "shortcutCount");
+    }
+}
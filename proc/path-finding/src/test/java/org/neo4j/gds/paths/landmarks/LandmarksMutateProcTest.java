@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.Username;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraStreamProc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LandmarksMutateProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+                                            "  (a:Label)" +
+                                            ", (b:Label)" +
+                                            ", (c:Label)" +
+                                            ", (d:Label)" +
+                                            ", (e:Label)" +
+                                            ", (f:Label)" +
+                                            ", (a)-[:TYPE {cost: 4}]->(b)" +
+                                            ", (a)-[:TYPE {cost: 2}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 5}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 10}]->(d)" +
+                                            ", (c)-[:TYPE {cost: 3}]->(e)" +
+                                            ", (d)-[:TYPE {cost: 11}]->(f)" +
+                                            ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            LandmarksMutateProc.class,
+            ShortestPathDijkstraStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .withNodeLabel("Label")
+            .withRelationshipType("TYPE", Orientation.UNDIRECTED)
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldMutateLandmarkDistances() {
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.landmarks")
+            .mutateMode()
+            .addParameter("landmarkCount", 2)
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "landmarks")
+            .addParameter("randomSeed", 42)
+            .yields("landmarks", "nodePropertiesWritten");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat((List<?>) row.get("landmarks")).hasSize(2);
+            assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(6L);
+        });
+        assertThat(rowCount).isEqualTo(1L);
+
+        var graphStore = GraphStoreCatalog
+            .get(Username.EMPTY_USERNAME.username(), db.databaseName(), DEFAULT_GRAPH_NAME)
+            .graphStore();
+        var distances = graphStore.nodeProperty("landmarks").values();
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            // distances from and to both landmarks, which are equal on an undirected graph
+            var nodeDistances = distances.doubleArrayValue(nodeId);
+            assertThat(nodeDistances).hasSize(4);
+            assertThat(nodeDistances[0]).isEqualTo(nodeDistances[2]);
+            assertThat(nodeDistances[1]).isEqualTo(nodeDistances[3]);
+        }
+    }
+
+    @Test
+    void shouldUseLandmarkDistancesForShortestPaths() {
+        runQuery(GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.landmarks")
+            .mutateMode()
+            .addParameter("landmarkCount", 2)
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "landmarks")
+            .yields());
+
+        var expectedNodeIds = List.of(
+            idFunction.of("a"),
+            idFunction.of("c"),
+            idFunction.of("e"),
+            idFunction.of("d"),
+            idFunction.of("f")
+        );
+
+        for (var bidirectional : List.of(false, true)) {
+            var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+                .algo("gds.shortestPath.dijkstra")
+                .streamMode()
+                .addParameter("sourceNode", idFunction.of("a"))
+                .addParameter("targetNode", idFunction.of("f"))
+                .addParameter("relationshipWeightProperty", "cost")
+                .addParameter("landmarkProperty", "landmarks")
+                .addParameter("bidirectional", bidirectional)
+                .yields("totalCost", "nodeIds");
+
+            var rowCount = runQueryWithRowConsumer(query, row -> {
+                assertThat(row.getNumber("totalCost").doubleValue()).isEqualTo(20.0);
+                assertThat((List<?>) row.get("nodeIds")).isEqualTo(expectedNodeIds);
+            });
+            assertThat(rowCount).isEqualTo(1L);
+        }
+    }
+}
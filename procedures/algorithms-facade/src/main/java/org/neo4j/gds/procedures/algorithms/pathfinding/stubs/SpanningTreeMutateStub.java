@@ -59,7 +59,7 @@ public class SpanningTreeMutateStub implements MutateStub<SpanningTreeMutateConf
             username,
             configuration,
             SpanningTreeMutateConfig::of,
-            __ -> estimationMode().spanningTreeEstimation()
+            config -> estimationMode().spanningTreeEstimation(config)
         );
     }
 
@@ -69,7 +69,7 @@ public class SpanningTreeMutateStub implements MutateStub<SpanningTreeMutateConf
             graphName,
             configuration,
             SpanningTreeMutateConfig::of,
-            __ -> estimationMode().spanningTreeEstimation()
+            config -> estimationMode().spanningTreeEstimation(config)
         );
     }
 
@@ -26,6 +26,7 @@ import org.neo4j.gds.applications.ApplicationsFacade;
 import org.neo4j.gds.applications.graphstorecatalog.CatalogBusinessFacade;
 import org.neo4j.gds.applications.graphstorecatalog.GraphGenerationStats;
 import org.neo4j.gds.applications.graphstorecatalog.GraphMemoryUsage;
+import org.neo4j.gds.applications.graphstorecatalog.GraphReorderResult;
 import org.neo4j.gds.applications.graphstorecatalog.GraphProjectMemoryUsageService;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertiesResult;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertyOrPropertiesResultProducer;
@@ -37,12 +38,15 @@ import org.neo4j.gds.applications.graphstorecatalog.MutateLabelResult;
 import org.neo4j.gds.applications.graphstorecatalog.NodePropertiesWriteResult;
 import org.neo4j.gds.applications.graphstorecatalog.RandomWalkSamplingResult;
 import org.neo4j.gds.applications.graphstorecatalog.TopologyResult;
+import org.neo4j.gds.applications.graphstorecatalog.UpdateRelationshipsResult;
 import org.neo4j.gds.applications.graphstorecatalog.WriteLabelResult;
 import org.neo4j.gds.applications.graphstorecatalog.WriteRelationshipPropertiesResult;
 import org.neo4j.gds.applications.graphstorecatalog.WriteRelationshipResult;
 import org.neo4j.gds.beta.filter.GraphFilterResult;
 import org.neo4j.gds.core.loading.GraphDropNodePropertiesResult;
 import org.neo4j.gds.core.loading.GraphDropRelationshipResult;
+import org.neo4j.gds.core.loading.GraphStoreCatalogService;
+import org.neo4j.gds.core.loading.GraphStoreWithConfig;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
 import org.neo4j.gds.core.utils.warnings.UserLogEntry;
 import org.neo4j.gds.core.utils.warnings.UserLogRegistryFactory;
@@ -86,6 +90,7 @@ public class CatalogProcedureFacade {
     private final DatabaseId databaseId;
     private final GraphDatabaseService graphDatabaseService;
     private final GraphProjectMemoryUsageService graphProjectMemoryUsageService;
+    private final GraphStoreCatalogService graphStoreCatalogService;
     private final NodeLabelExporterBuilder nodeLabelExporterBuilder;
     private final NodePropertyExporterBuilder nodePropertyExporterBuilder;
     private final ProcedureReturnColumns procedureReturnColumns;
@@ -109,6 +114,7 @@ public class CatalogProcedureFacade {
         DatabaseId databaseId,
         GraphDatabaseService graphDatabaseService,
         GraphProjectMemoryUsageService graphProjectMemoryUsageService,
+        GraphStoreCatalogService graphStoreCatalogService,
         NodeLabelExporterBuilder nodeLabelExporterBuilder,
         NodePropertyExporterBuilder nodePropertyExporterBuilder,
         ProcedureReturnColumns procedureReturnColumns,
@@ -126,6 +132,7 @@ public class CatalogProcedureFacade {
         this.databaseId = databaseId;
         this.graphDatabaseService = graphDatabaseService;
         this.graphProjectMemoryUsageService = graphProjectMemoryUsageService;
+        this.graphStoreCatalogService = graphStoreCatalogService;
         this.nodeLabelExporterBuilder = nodeLabelExporterBuilder;
         this.nodePropertyExporterBuilder = nodePropertyExporterBuilder;
         this.procedureReturnColumns = procedureReturnColumns;
@@ -208,11 +215,13 @@ public class CatalogProcedureFacade {
         // we convert here from domain type to Neo4j display type
         var computeGraphSize = procedureReturnColumns.contains("memoryUsage")
             || procedureReturnColumns.contains("sizeInBytes");
+        var displayStorage = procedureReturnColumns.contains("storage");
         return results.stream().map(p -> GraphInfoWithHistogram.of(
             p.getLeft().config(),
             p.getLeft().graphStore(),
             p.getRight(),
-            computeGraphSize
+            computeGraphSize,
+            displayStorage ? storage(p.getLeft()) : null
         ));
     }
 
@@ -367,6 +376,26 @@ public class CatalogProcedureFacade {
         return Stream.of(result);
     }
 
+    public Stream<UpdateRelationshipsResult> updateRelationships(
+        String graphName,
+        String relationshipType,
+        List<Map<String, Object>> insertions,
+        List<Map<String, Object>> deletions,
+        Map<String, Object> configuration
+    ) {
+        var result = catalog().updateRelationships(
+            user,
+            databaseId,
+            graphName,
+            relationshipType,
+            insertions,
+            deletions,
+            configuration
+        );
+
+        return Stream.of(result);
+    }
+
     public Stream<GraphDropGraphPropertiesResult> dropGraphProperty(
         String graphName,
         String graphProperty,
@@ -620,6 +649,24 @@ public class CatalogProcedureFacade {
         return Stream.of(result);
     }
 
+    public Stream<GraphReorderResult> reorderGraph(
+        String graphName,
+        String originGraphName,
+        Map<String, Object> configuration
+    ) {
+        var result = catalog().reorderGraph(
+            user,
+            databaseId,
+            taskRegistryFactory,
+            userLogRegistryFactory,
+            graphName,
+            originGraphName,
+            configuration
+        );
+
+        return Stream.of(result);
+    }
+
     public Stream<RandomWalkSamplingResult> sampleCommonNeighbourAwareRandomWalk(
         String graphName,
         String originGraphName,
@@ -699,6 +746,13 @@ public class CatalogProcedureFacade {
         return graphName;
     }
 
+    /**
+     * Whether the graph is on heap or spilled to disk, this does not reload spilled graphs.
+     */
+    private Map<String, Object> storage(GraphStoreWithConfig graphStoreWithConfig) {
+        return graphStoreCatalogService.storageInfo(graphStoreWithConfig).toMap();
+    }
+
     private CatalogBusinessFacade catalog() {
         return applicationsFacade.catalog();
     }
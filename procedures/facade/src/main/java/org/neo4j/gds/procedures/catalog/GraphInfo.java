@@ -22,6 +22,7 @@ package org.neo4j.gds.procedures.catalog;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.loading.DegreeDistribution;
+import org.neo4j.gds.core.loading.SharedGraphStores;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import java.time.ZonedDateTime;
@@ -79,7 +80,10 @@ public class GraphInfo {
         GraphProjectConfig graphProjectConfig,
         GraphStore graphStore
     ) {
-        var sizeInBytes = MemoryUsage.sizeOf(graphStore);
+        // data shared with other graphs is only counted for the oldest of them
+        var sizeInBytes = SharedGraphStores.dataSharedWithOlderEntry(graphStore)
+            .map(sharedData -> MemoryUsage.sizeOfExcluding(graphStore, sharedData))
+            .orElseGet(() -> MemoryUsage.sizeOf(graphStore));
 
         var memoryUsage = sizeInBytes >= 0
             ? MemoryUsage.humanReadable(sizeInBytes)
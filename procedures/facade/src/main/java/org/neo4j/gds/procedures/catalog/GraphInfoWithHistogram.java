@@ -28,10 +28,12 @@ import java.util.Map;
 public class GraphInfoWithHistogram extends GraphInfo {
 
     public final Map<String, Object> degreeDistribution;
+    public final Map<String, Object> storage;
 
     public GraphInfoWithHistogram(
         GraphInfo graphInfo,
-        Map<String, Object> degreeDistribution
+        Map<String, Object> degreeDistribution,
+        Map<String, Object> storage
     ) {
         super(
             graphInfo.graphName,
@@ -48,22 +50,25 @@ public class GraphInfoWithHistogram extends GraphInfo {
             graphInfo.schemaWithOrientation
         );
         this.degreeDistribution = degreeDistribution;
+        this.storage = storage;
     }
 
     /**
      * @param degreeDistribution null implies not including it
      * @param computeGraphSize   selects what kind of GraphInfo to create
+     * @param storage            null implies not including it
      */
     public static GraphInfoWithHistogram of(
         GraphProjectConfig graphProjectConfig,
         GraphStore graphStore,
         Map<String, Object> degreeDistribution,
-        boolean computeGraphSize
+        boolean computeGraphSize,
+        Map<String, Object> storage
     ) {
         var graphInfo = computeGraphSize
             ? withMemoryUsage(graphProjectConfig, graphStore)
             : withoutMemoryUsage(graphProjectConfig, graphStore);
 
-        return new GraphInfoWithHistogram(graphInfo, degreeDistribution);
+        return new GraphInfoWithHistogram(graphInfo, degreeDistribution, storage);
     }
 }
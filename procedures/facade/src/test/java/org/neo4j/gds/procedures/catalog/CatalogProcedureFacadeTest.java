@@ -61,6 +61,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -85,6 +86,7 @@ class CatalogProcedureFacadeTest {
             null,
             null,
             null,
+            null,
             new User("current user", false),
             null,
             null,
@@ -126,6 +128,7 @@ class CatalogProcedureFacadeTest {
             null,
             null,
             null,
+            null,
             new User("current user", false),
             null,
             userLogStore,
@@ -154,6 +157,7 @@ class CatalogProcedureFacadeTest {
             null,
             null,
             null,
+            null,
             procedureReturnColumns,
             null,
             null,
@@ -190,6 +194,7 @@ class CatalogProcedureFacadeTest {
             null,
             null,
             null,
+            null,
             procedureReturnColumns,
             null,
             null,
@@ -238,6 +243,7 @@ class CatalogProcedureFacadeTest {
             null,
             null,
             null,
+            null,
             procedureReturnColumns,
             null,
             null,
@@ -277,6 +283,7 @@ class CatalogProcedureFacadeTest {
             null,
             null,
             null,
+            null,
             procedureReturnColumns,
             null,
             null,
@@ -484,6 +491,14 @@ class CatalogProcedureFacadeTest {
             throw new UnsupportedOperationException("TODO");
         }
 
+        @Override
+        public void updateRelationshipType(
+            RelationshipType relationshipType,
+            UnaryOperator<SingleTypeRelationships> updateFunction
+        ) {
+            throw new UnsupportedOperationException("TODO");
+        }
+
         @Override
         public void addInverseIndex(
             RelationshipType relationshipType,
@@ -55,6 +55,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * Just enough of a graph store to illustrate some GraphInfo translation.
@@ -355,6 +356,14 @@ class DummyGraphStore implements GraphStore {
         throw new UnsupportedOperationException("TODO");
     }
 
+    @Override
+    public void updateRelationshipType(
+        RelationshipType relationshipType,
+        UnaryOperator<SingleTypeRelationships> updateFunction
+    ) {
+        throw new UnsupportedOperationException("TODO");
+    }
+
     @Override
     public void addInverseIndex(
         RelationshipType relationshipType,
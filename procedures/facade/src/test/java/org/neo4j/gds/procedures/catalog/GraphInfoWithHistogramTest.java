@@ -21,6 +21,7 @@ package org.neo4j.gds.procedures.catalog;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.ImmutableStorageInfo;
 import org.neo4j.gds.projection.GraphProjectFromStoreConfig;
 
 import java.time.ZoneId;
@@ -74,7 +75,8 @@ class GraphInfoWithHistogramTest {
             graphProjectConfig,
             graphStore,
             degreeDistribution,
-            false
+            false,
+            ImmutableStorageInfo.of(true, 2, 1).toMap()
         );
 
         assertThat(graphInfoWithHistogram.creationTime).isEqualTo(creationTime);
@@ -125,6 +127,16 @@ class GraphInfoWithHistogramTest {
             )
         );
         assertThat(graphInfoWithHistogram.database).isEqualTo("some database");
+        assertThat(graphInfoWithHistogram.storage).containsExactlyInAnyOrderEntriesOf(
+            Map.of(
+                "location",
+                "disk",
+                "evictionCount",
+                2L,
+                "reloadCount",
+                1L
+            )
+        );
         assertThat(graphInfoWithHistogram.databaseLocation).isEqualTo("local");
         assertThat(graphInfoWithHistogram.degreeDistribution).containsExactlyInAnyOrderEntriesOf(
             Map.of(
@@ -23,6 +23,7 @@ import org.neo4j.gds.ProcedureCallContextReturnColumns;
 import org.neo4j.gds.applications.ApplicationsFacade;
 import org.neo4j.gds.applications.graphstorecatalog.GraphProjectMemoryUsageService;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.loading.GraphStoreCatalogService;
 import org.neo4j.gds.core.write.ExporterContext;
 import org.neo4j.gds.logging.Log;
 import org.neo4j.gds.procedures.KernelTransactionAccessor;
@@ -57,6 +58,7 @@ class CatalogFacadeProvider {
 
     // Global scoped/ global state/ stateless things
     private final Log log;
+    private final GraphStoreCatalogService graphStoreCatalogService;
 
     // Request scoped things
     private final ExporterBuildersProviderService exporterBuildersProviderService;
@@ -71,11 +73,13 @@ class CatalogFacadeProvider {
      */
     CatalogFacadeProvider(
         Log log,
+        GraphStoreCatalogService graphStoreCatalogService,
         ExporterBuildersProviderService exporterBuildersProviderService,
         TaskRegistryFactoryService taskRegistryFactoryService,
         UserLogServices userLogServices
     ) {
         this.log = log;
+        this.graphStoreCatalogService = graphStoreCatalogService;
 
         this.exporterBuildersProviderService = exporterBuildersProviderService;
         this.taskRegistryFactoryService = taskRegistryFactoryService;
@@ -127,6 +131,7 @@ class CatalogFacadeProvider {
             databaseId,
             graphDatabaseService,
             graphProjectMemoryUsageService,
+            graphStoreCatalogService,
             nodeLabelExporterBuilder,
             nodePropertyExporterBuilder,
             procedureReturnColumns,
@@ -21,6 +21,10 @@ package org.neo4j.gds.procedures.integration;
 
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTemplate;
 import org.neo4j.gds.applications.graphstorecatalog.CatalogBusinessFacade;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.io.file.BinaryGraphStoreSpiller;
+import org.neo4j.gds.core.loading.CatalogMemoryBudget;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.core.utils.mem.GcListenerExtension;
 import org.neo4j.gds.core.utils.progress.ProgressFeatureSettings;
@@ -39,7 +43,10 @@ import org.neo4j.graphdb.config.Configuration;
 import org.neo4j.kernel.api.procedure.GlobalProcedures;
 import org.neo4j.kernel.lifecycle.Lifecycle;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -92,6 +99,32 @@ public final class GraphDataScienceExtensionBuilder {
         this.gcListener = gcListener;
     }
 
+    private static void installCatalogMemoryBudget(Log log, Configuration neo4jConfiguration) {
+        var memoryBudget = neo4jConfiguration.get(GdsSettings.graphCatalogMemoryBudget());
+        if (memoryBudget == null) {
+            log.info("Graph catalog memory budget: disabled");
+            return;
+        }
+
+        var spillLocation = neo4jConfiguration.get(GdsSettings.graphCatalogSpillLocation());
+        try {
+            if (spillLocation == null) {
+                spillLocation = Files.createTempDirectory("gds-graph-catalog");
+            } else {
+                Files.createDirectories(spillLocation);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create the directory for spilled graphs", e);
+        }
+
+        var spiller = new BinaryGraphStoreSpiller(
+            ConcurrencyConfig.DEFAULT_CONCURRENCY,
+            (org.neo4j.logging.Log) log.getNeo4jLog()
+        );
+        GraphStoreCatalog.setMemoryBudget(new CatalogMemoryBudget(memoryBudget, spillLocation, spiller));
+        log.info("Graph catalog memory budget: %d bytes, spilling to %s", memoryBudget, spillLocation);
+    }
+
     /**
      * We want to build a GDS, we receive a few customisations and are able to read configuration,
      * and all the rest of the machinery goes here
@@ -112,6 +145,9 @@ public final class GraphDataScienceExtensionBuilder {
         var useMaxMemoryEstimation = neo4jConfiguration.get(GdsSettings.validateUsingMaxMemoryEstimation());
         log.info("Memory usage guard: " + (useMaxMemoryEstimation ? "maximum" : "minimum") + " estimate");
 
+        // The graph catalog is static, so an optional memory budget is installed in its shared state
+        installCatalogMemoryBudget(log, neo4jConfiguration);
+
         // Task business is initialised from Neo4j configuration
         var taskStoreService = new TaskStoreService(progressTrackingEnabled);
         var taskRegistryFactoryService = new TaskRegistryFactoryService(progressTrackingEnabled, taskStoreService);
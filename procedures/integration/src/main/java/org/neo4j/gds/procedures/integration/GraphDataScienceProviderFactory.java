@@ -85,6 +85,7 @@ final class GraphDataScienceProviderFactory {
     ) {
         var catalogFacadeProvider = new CatalogFacadeProvider(
             log,
+            graphStoreCatalogService,
             exporterBuildersProviderService,
             taskRegistryFactoryService,
             userLogServices
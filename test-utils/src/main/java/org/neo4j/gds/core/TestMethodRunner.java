@@ -40,7 +40,9 @@ public final class TestMethodRunner {
             new TestMethodRunner("runUncompressedUnordered"),
             new TestMethodRunner("runUncompressedOrdered"),
             new TestMethodRunner("runPackedUnordered"),
-            new TestMethodRunner("runPackedOrdered")
+            new TestMethodRunner("runPackedOrdered"),
+            new TestMethodRunner("runOffHeapCompressedUnordered"),
+            new TestMethodRunner("runOffHeapCompressedOrdered")
         );
     }
 
@@ -103,6 +105,16 @@ public final class TestMethodRunner {
         return new TestMethodRunner("runPackedOrdered");
     }
 
+    @TestOnly
+    public static TestMethodRunner runOffHeapCompressedUnordered() {
+        return new TestMethodRunner("runOffHeapCompressedUnordered");
+    }
+
+    @TestOnly
+    public static TestMethodRunner runOffHeapCompressedOrdered() {
+        return new TestMethodRunner("runOffHeapCompressedOrdered");
+    }
+
     @TestOnly
     static <E extends Exception> void runCompressedUnordered(CheckedRunnable<E> code) throws E {
         GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
@@ -138,4 +150,16 @@ public final class TestMethodRunner {
         GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
             GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
     }
+
+    @TestOnly
+    static <E extends Exception> void runOffHeapCompressedUnordered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() ->
+            GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.disableAndRun(code));
+    }
+
+    @TestOnly
+    static <E extends Exception> void runOffHeapCompressedOrdered(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() ->
+            GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
+    }
 }
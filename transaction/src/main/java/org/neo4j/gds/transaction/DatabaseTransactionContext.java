@@ -28,6 +28,8 @@ import org.neo4j.internal.kernel.api.security.SecurityContext;
 import org.neo4j.kernel.impl.api.security.RestrictedAccessMode;
 import org.neo4j.kernel.impl.coreapi.InternalTransaction;
 
+import java.util.Set;
+
 /**
  * Manage transactions by making sure that the correct {@link org.neo4j.internal.kernel.api.security.SecurityContext} is applied.
  */
@@ -81,6 +83,11 @@ public final class DatabaseTransactionContext implements TransactionContext {
         return Neo4jProxy.username(securityContext.subject());
     }
 
+    @Override
+    public Set<String> roles() {
+        return securityContext.roles();
+    }
+
     @Override
     public boolean isGdsAdmin() {
         // this should be the same as the predefined role from enterprise-security
@@ -21,6 +21,8 @@ package org.neo4j.gds.transaction;
 
 import org.neo4j.internal.kernel.api.security.AccessMode;
 
+import java.util.Set;
+
 public enum EmptyTransactionContext implements TransactionContext {
     INSTANCE;
 
@@ -29,6 +31,11 @@ public enum EmptyTransactionContext implements TransactionContext {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Set<String> roles() {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public boolean isGdsAdmin() {
         return false;
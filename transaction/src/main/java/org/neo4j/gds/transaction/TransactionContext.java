@@ -24,6 +24,8 @@ import org.neo4j.internal.kernel.api.security.AccessMode;
 import org.neo4j.kernel.api.KernelTransaction;
 import org.neo4j.kernel.impl.coreapi.InternalTransaction;
 
+import java.util.Set;
+
 public interface TransactionContext {
 
     interface TxConsumer<E extends Exception> {
@@ -51,6 +53,11 @@ public interface TransactionContext {
      */
     String username();
 
+    /**
+     * @return The roles of the user associated with the current {@link org.neo4j.internal.kernel.api.security.SecurityContext}.
+     */
+    Set<String> roles();
+
     /**
      * @return `true` if the user that started the transaction has admin rights
      */
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+/**
+ * The subset of {@code Intersections} that has a vectorized implementation.
+ * Implementations are looked up reflectively, so that modules depending on this one
+ * can be compiled and run without the incubating Vector API.
+ */
+public interface IntersectionKernels {
+
+    boolean isSupported();
+
+    long intersection(long[] targets1, long[] targets2, int len1, int len2);
+
+    double sumSquareDelta(double[] vector1, double[] vector2, int len);
+
+    float sumSquareDelta(float[] vector1, float[] vector2, int len);
+
+    double pearson(double[] vector1, double[] vector2, int len);
+
+    double cosine(double[] vector1, double[] vector2, int len);
+
+    float cosine(float[] vector1, float[] vector2, int len);
+}
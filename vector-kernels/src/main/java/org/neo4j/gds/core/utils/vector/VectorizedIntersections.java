@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementations of the intersection kernels on top of the incubating Vector API.
+ * This class must only be loaded if the {@code jdk.incubator.vector} module is resolved,
+ * {@code Intersections} in core loads it reflectively in that case.
+ */
+public final class VectorizedIntersections implements IntersectionKernels {
+
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    // number of positions scanned linearly before switching to galloping
+    private static final int SCAN_BEFORE_GALLOP = 64;
+
+    public VectorizedIntersections() {}
+
+    /**
+     * On platforms without SIMD registers the preferred species degrades to a single lane,
+     * in which case the scalar implementations are faster.
+     */
+    @Override
+    public boolean isSupported() {
+        return LONG_SPECIES.length() > 1 && DOUBLE_SPECIES.length() > 1 && FLOAT_SPECIES.length() > 1;
+    }
+
+    // assume both arrays are sorted
+    @Override
+    public long intersection(long[] targets1, long[] targets2, int len1, int len2) {
+        if (len2 == 0) return 0;
+        int off2 = 0;
+        long intersection = 0;
+        for (int idx1 = 0; idx1 < len1; idx1++) {
+            long value1 = targets1[idx1];
+            off2 = firstNotSmaller(targets2, off2, len2, value1);
+            if (off2 == len2) return intersection;
+            if (value1 == targets2[off2]) {
+                intersection++;
+                off2++;
+                if (off2 == len2) return intersection;
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns the first index in {@code [from, len)} whose value is not smaller than {@code value}, or {@code len}.
+     * Short distances, as they occur between lists of similar sizes, are fastest with a plain scan.
+     * Longer distances, as they occur between lists of very different sizes, are covered by galloping
+     * over vector sized blocks and resolving the final block with a single vector comparison.
+     */
+    private static int firstNotSmaller(long[] targets, int from, int len, long value) {
+        int scanEnd = Math.min(len, from + SCAN_BEFORE_GALLOP);
+        for (; from < scanEnd; from++) {
+            if (targets[from] >= value) {
+                return from;
+            }
+        }
+        return from == len ? len : gallop(targets, from, len, value);
+    }
+
+    private static int gallop(long[] targets, int from, int len, long value) {
+        int lanes = LONG_SPECIES.length();
+
+        int step = lanes;
+        while (from + step <= len && targets[from + step - 1] < value) {
+            from += step;
+            step <<= 1;
+        }
+
+        // the result is in [from, to], all values before `from` are smaller than `value`
+        int to = Math.min(from + step, len);
+        while (to - from > lanes) {
+            int mid = (from + to) >>> 1;
+            if (targets[mid - 1] < value) {
+                from = mid;
+            } else {
+                to = mid - 1;
+            }
+        }
+        return resolveBlock(targets, from, len, value);
+    }
+
+    /**
+     * Resolves the result within the block starting at {@code from}, given that it is at most {@code lanes} away.
+     */
+    private static int resolveBlock(long[] targets, int from, int len, long value) {
+        if (from + LONG_SPECIES.length() <= len) {
+            // values are sorted, so the lanes smaller than `value` form a prefix of the block
+            return from + LongVector.fromArray(LONG_SPECIES, targets, from).lt(value).trueCount();
+        }
+        while (from < len && targets[from] < value) {
+            from++;
+        }
+        return from;
+    }
+
+    @Override
+    public double sumSquareDelta(double[] vector1, double[] vector2, int len) {
+        var sum = DoubleVector.zero(DOUBLE_SPECIES);
+        int i = 0;
+        int bound = DOUBLE_SPECIES.loopBound(len);
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            var delta = DoubleVector.fromArray(DOUBLE_SPECIES, vector1, i)
+                .sub(DoubleVector.fromArray(DOUBLE_SPECIES, vector2, i));
+            sum = sum.add(delta.mul(delta));
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double delta = vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public float sumSquareDelta(float[] vector1, float[] vector2, int len) {
+        var sum = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        int bound = FLOAT_SPECIES.loopBound(len);
+        for (; i < bound; i += FLOAT_SPECIES.length()) {
+            var delta = FloatVector.fromArray(FLOAT_SPECIES, vector1, i)
+                .sub(FloatVector.fromArray(FLOAT_SPECIES, vector2, i));
+            sum = sum.add(delta.mul(delta));
+        }
+
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            float delta = vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double pearson(double[] vector1, double[] vector2, int len) {
+        var sums1 = DoubleVector.zero(DOUBLE_SPECIES);
+        var sums2 = DoubleVector.zero(DOUBLE_SPECIES);
+        int i = 0;
+        int bound = DOUBLE_SPECIES.loopBound(len);
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            sums1 = sums1.add(DoubleVector.fromArray(DOUBLE_SPECIES, vector1, i));
+            sums2 = sums2.add(DoubleVector.fromArray(DOUBLE_SPECIES, vector2, i));
+        }
+        double vector1Sum = sums1.reduceLanes(VectorOperators.ADD);
+        double vector2Sum = sums2.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            vector1Sum += vector1[i];
+            vector2Sum += vector2[i];
+        }
+
+        double vector1Mean = vector1Sum / len;
+        double vector2Mean = vector2Sum / len;
+
+        var dotProducts = DoubleVector.zero(DOUBLE_SPECIES);
+        var xLengths = DoubleVector.zero(DOUBLE_SPECIES);
+        var yLengths = DoubleVector.zero(DOUBLE_SPECIES);
+        for (i = 0; i < bound; i += DOUBLE_SPECIES.length()) {
+            var vector1Delta = DoubleVector.fromArray(DOUBLE_SPECIES, vector1, i).sub(vector1Mean);
+            var vector2Delta = DoubleVector.fromArray(DOUBLE_SPECIES, vector2, i).sub(vector2Mean);
+
+            dotProducts = dotProducts.add(vector1Delta.mul(vector2Delta));
+            xLengths = xLengths.add(vector1Delta.mul(vector1Delta));
+            yLengths = yLengths.add(vector2Delta.mul(vector2Delta));
+        }
+        double dotProductMinusMean = dotProducts.reduceLanes(VectorOperators.ADD);
+        double xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        double yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double vector1Delta = vector1[i] - vector1Mean;
+            double vector2Delta = vector2[i] - vector2Mean;
+
+            dotProductMinusMean += (vector1Delta * vector2Delta);
+            xLength += vector1Delta * vector1Delta;
+            yLength += vector2Delta * vector2Delta;
+        }
+
+        double result = dotProductMinusMean / Math.sqrt(xLength * yLength);
+        return Double.isNaN(result) ? 0 : result;
+    }
+
+    @Override
+    public double cosine(double[] vector1, double[] vector2, int len) {
+        var dotProducts = DoubleVector.zero(DOUBLE_SPECIES);
+        var xLengths = DoubleVector.zero(DOUBLE_SPECIES);
+        var yLengths = DoubleVector.zero(DOUBLE_SPECIES);
+        int i = 0;
+        int bound = DOUBLE_SPECIES.loopBound(len);
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            var weights1 = DoubleVector.fromArray(DOUBLE_SPECIES, vector1, i);
+            var weights2 = DoubleVector.fromArray(DOUBLE_SPECIES, vector2, i);
+
+            dotProducts = dotProducts.add(weights1.mul(weights2));
+            xLengths = xLengths.add(weights1.mul(weights1));
+            yLengths = yLengths.add(weights2.mul(weights2));
+        }
+
+        double dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        double xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        double yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            double weight1 = vector1[i];
+            double weight2 = vector2[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    @Override
+    public float cosine(float[] vector1, float[] vector2, int len) {
+        var dotProducts = FloatVector.zero(FLOAT_SPECIES);
+        var xLengths = FloatVector.zero(FLOAT_SPECIES);
+        var yLengths = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        int bound = FLOAT_SPECIES.loopBound(len);
+        for (; i < bound; i += FLOAT_SPECIES.length()) {
+            var weights1 = FloatVector.fromArray(FLOAT_SPECIES, vector1, i);
+            var weights2 = FloatVector.fromArray(FLOAT_SPECIES, vector2, i);
+
+            dotProducts = dotProducts.add(weights1.mul(weights2));
+            xLengths = xLengths.add(weights1.mul(weights1));
+            yLengths = yLengths.add(weights2.mul(weights2));
+        }
+
+        float dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        float xLength = xLengths.reduceLanes(VectorOperators.ADD);
+        float yLength = yLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) {
+            float weight1 = vector1[i];
+            float weight2 = vector2[i];
+
+            dotProduct += weight1 * weight2;
+            xLength += weight1 * weight1;
+            yLength += weight2 * weight2;
+        }
+
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vector;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorizedIntersectionsTest {
+
+    private static VectorizedIntersections kernels;
+
+    @BeforeAll
+    static void vectorApiMustBeAvailable() {
+        assumeTrue(
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+            "The Vector API is not available on this JVM"
+        );
+        kernels = new VectorizedIntersections();
+        assumeTrue(kernels.isSupported(), "The platform does not offer SIMD registers");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0",
+        "0, 10",
+        "10, 0",
+        "1, 1",
+        "7, 9",
+        "64, 64",
+        "100, 1000",
+        "3, 10000",
+        "10000, 3",
+        "5000, 5000",
+    })
+    void intersectionShouldMatchMerge(int len1, int len2) {
+        var random = new SplittableRandom(len1 * 31L + len2);
+        for (int run = 0; run < 20; run++) {
+            long maxValue = Math.max(1, 2L * Math.max(len1, len2));
+            long[] targets1 = sortedRandomArray(random, len1, maxValue);
+            long[] targets2 = sortedRandomArray(random, len2, maxValue);
+
+            assertThat(kernels.intersection(targets1, targets2, len1, len2))
+                .as("%s and %s", Arrays.toString(targets1), Arrays.toString(targets2))
+                .isEqualTo(mergeIntersection(targets1, targets2, len1, len2));
+        }
+    }
+
+    @Test
+    void intersectionShouldRespectLengths() {
+        long[] targets1 = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12};
+        long[] targets2 = {2, 4, 6, 8, 10, 12, 14, 16, 18, 20};
+
+        for (int len1 = 0; len1 <= targets1.length; len1++) {
+            for (int len2 = 0; len2 <= targets2.length; len2++) {
+                assertThat(kernels.intersection(targets1, targets2, len1, len2))
+                    .isEqualTo(mergeIntersection(targets1, targets2, len1, len2));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 7, 8, 9, 16, 17, 31, 64, 100, 1000})
+    void doubleKernelsShouldMatchScalarComputation(int len) {
+        var random = new SplittableRandom(len);
+        double[] vector1 = random.doubles(len, -1, 1).toArray();
+        double[] vector2 = random.doubles(len, -1, 1).toArray();
+
+        double dotProduct = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        double sumSquareDelta = 0D;
+        for (int i = 0; i < len; i++) {
+            dotProduct += vector1[i] * vector2[i];
+            xLength += vector1[i] * vector1[i];
+            yLength += vector2[i] * vector2[i];
+            sumSquareDelta += (vector1[i] - vector2[i]) * (vector1[i] - vector2[i]);
+        }
+
+        assertThat(kernels.cosine(vector1, vector2, len))
+            .isCloseTo(dotProduct / Math.sqrt(xLength * yLength), within(1e-9));
+        assertThat(kernels.sumSquareDelta(vector1, vector2, len))
+            .isCloseTo(sumSquareDelta, within(1e-9));
+        assertThat(kernels.pearson(vector1, vector2, len))
+            .isCloseTo(pearson(vector1, vector2, len), within(1e-9));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 7, 8, 9, 16, 17, 31, 64, 100, 1000})
+    void floatKernelsShouldMatchScalarComputation(int len) {
+        var random = new SplittableRandom(len);
+        float[] vector1 = new float[len];
+        float[] vector2 = new float[len];
+        for (int i = 0; i < len; i++) {
+            vector1[i] = (float) random.nextDouble(-1, 1);
+            vector2[i] = (float) random.nextDouble(-1, 1);
+        }
+
+        double dotProduct = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        double sumSquareDelta = 0D;
+        for (int i = 0; i < len; i++) {
+            dotProduct += vector1[i] * vector2[i];
+            xLength += vector1[i] * vector1[i];
+            yLength += vector2[i] * vector2[i];
+            sumSquareDelta += (vector1[i] - vector2[i]) * (vector1[i] - vector2[i]);
+        }
+
+        assertThat(kernels.cosine(vector1, vector2, len))
+            .isCloseTo((float) (dotProduct / Math.sqrt(xLength * yLength)), within(1e-4f));
+        assertThat(kernels.sumSquareDelta(vector1, vector2, len))
+            .isCloseTo((float) sumSquareDelta, within(1e-5f * Math.max(1, len)));
+    }
+
+    @Test
+    void pearsonShouldBeZeroForConstantVectors() {
+        double[] vector1 = new double[17];
+        double[] vector2 = new double[17];
+        Arrays.fill(vector1, 2D);
+        Arrays.fill(vector2, 3D);
+
+        assertThat(kernels.pearson(vector1, vector2, 17)).isEqualTo(0D);
+    }
+
+    private static long[] sortedRandomArray(SplittableRandom random, int length, long maxValue) {
+        long[] values = random.longs(length, 0, maxValue).toArray();
+        Arrays.sort(values);
+        return values;
+    }
+
+    private static long mergeIntersection(long[] targets1, long[] targets2, int len1, int len2) {
+        long intersection = 0;
+        int off1 = 0;
+        int off2 = 0;
+        while (off1 < len1 && off2 < len2) {
+            if (targets1[off1] < targets2[off2]) {
+                off1++;
+            } else if (targets1[off1] > targets2[off2]) {
+                off2++;
+            } else {
+                intersection++;
+                off1++;
+                off2++;
+            }
+        }
+        return intersection;
+    }
+
+    private static double pearson(double[] vector1, double[] vector2, int len) {
+        double mean1 = Arrays.stream(vector1, 0, len).average().orElse(0);
+        double mean2 = Arrays.stream(vector2, 0, len).average().orElse(0);
+        double dotProduct = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        for (int i = 0; i < len; i++) {
+            dotProduct += (vector1[i] - mean1) * (vector2[i] - mean2);
+            xLength += (vector1[i] - mean1) * (vector1[i] - mean1);
+            yLength += (vector2[i] - mean2) * (vector2[i] - mean2);
+        }
+        double result = dotProduct / Math.sqrt(xLength * yLength);
+        return Double.isNaN(result) ? 0 : result;
+    }
+}